@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.Files;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * The file from testdata used for each format. Benchmarks are run with the ealvatag project directory as the working directory.
+ */
+final class BenchmarkFiles {
+  static final String TEST_DATA_DIR = "testdata";
+
+  private static final ImmutableMap<String, String> FILES = ImmutableMap.<String, String>builder()
+                                                                        .put("mp3", "01.mp3")
+                                                                        .put("m4a", "test.m4a")
+                                                                        .put("flac", "test.flac")
+                                                                        .put("ogg", "test.ogg")
+                                                                        .put("wav", "test.wav")
+                                                                        .put("aif", "test119.aif")
+                                                                        .put("dsf", "test122.dsf")
+                                                                        .put("wma", "test1.wma")
+                                                                        .build();
+
+  private BenchmarkFiles() {
+  }
+
+  /**
+   * @param format one of the formats used as a benchmark @Param, named by file extension
+   *
+   * @return the test file for the format
+   */
+  static File get(final String format) {
+    final String name = FILES.get(format);
+    if (name == null) {
+      throw new IllegalArgumentException("No benchmark file for " + format);
+    }
+    final File file = new File(TEST_DATA_DIR, name);
+    if (!file.isFile()) {
+      throw new IllegalStateException(file.getAbsolutePath() + " not found, run from the ealvatag project directory");
+    }
+    return file;
+  }
+
+  /**
+   * @return a temporary copy of the test file for the format, which the caller should delete
+   */
+  static File copy(final String format) throws IOException {
+    final File source = get(format);
+    final File copy = File.createTempFile("ealvatag-jmh", "." + Files.getFileExtension(source.getName()));
+    Files.copy(source, copy);
+    return copy;
+  }
+}
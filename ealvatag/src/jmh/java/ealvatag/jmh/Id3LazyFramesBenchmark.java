@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.ID3v24Frame;
+import ealvatag.tag.id3.ID3v24Frames;
+import ealvatag.tag.id3.ID3v24Tag;
+import ealvatag.tag.id3.framebody.FrameBodyTXXX;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading an mp3 whose ID3v2.4 tag has many frames when only a few fields are used, as when indexing a library, with every frame
+ * decoded as it's read compared to decoding frames when first accessed. Run with the gc profiler (the default for the jmh task) to
+ * compare allocation per read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Id3LazyFramesBenchmark {
+  private static final ReadOptions LAZY_FRAMES = ReadOptions.builder().lazyFrames(true).build();
+
+  /** Number of TXXX frames added to the tag, on top of the few standard fields */
+  @Param({"50", "200"})
+  public int frameCount;
+
+  private File file;
+
+  @Setup public void setUp() throws Exception {
+    file = BenchmarkFiles.copy("mp3");
+    final ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Title");
+    tag.setField(FieldKey.ARTIST, "Artist");
+    tag.setField(FieldKey.ALBUM, "Album");
+    final List<AbstractID3v2Frame> frames = new ArrayList<>(frameCount);
+    for (int i = 0; i < frameCount; i++) {
+      final ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO);
+      frame.setBody(new FrameBodyTXXX(TextEncoding.UTF_8, "Description " + i, "A value long enough to be typical " + i));
+      frames.add(frame);
+    }
+    tag.setFrame(ID3v24Frames.FRAME_ID_USER_DEFINED_INFO, frames);
+    final MP3File mp3File = (MP3File)AudioFileIO.read(file);
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+  }
+
+  @TearDown public void tearDown() {
+    if (!file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  @Benchmark public void readEager(final Blackhole blackhole) throws Exception {
+    readFields(AudioFileIO.read(file).getTag().get(), blackhole);
+  }
+
+  @Benchmark public void readLazy(final Blackhole blackhole) throws Exception {
+    readFields(AudioFileIO.read(file, LAZY_FRAMES).getTag().get(), blackhole);
+  }
+
+  private static void readFields(final Tag tag, final Blackhole blackhole) {
+    blackhole.consume(tag.getFirst(FieldKey.TITLE));
+    blackhole.consume(tag.getFirst(FieldKey.ARTIST));
+    blackhole.consume(tag.getFirst(FieldKey.ALBUM));
+  }
+}
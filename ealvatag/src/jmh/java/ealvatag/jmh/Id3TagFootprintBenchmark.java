@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.id3.ID3v24Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap held by an in-memory corpus of parsed ID3v2.4 tags, as a library scanner might keep. Each iteration parses the corpus and,
+ * after a full gc, prints the heap it retains per tag. Run with the gc profiler (the default for the jmh task) for allocation per
+ * parse.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class Id3TagFootprintBenchmark {
+  @Param({"10000"})
+  public int corpusSize;
+
+  private final List<byte[]> tagBytes = new ArrayList<>();
+  private List<ID3v24Tag> corpus;
+  private long usedBefore;
+
+  @Setup public void setUp() throws Exception {
+    // a few distinct tags so the corpus doesn't share strings
+    for (int i = 0; i < 16; i++) {
+      final ID3v24Tag tag = new ID3v24Tag();
+      tag.setField(FieldKey.TITLE, "Title " + i);
+      tag.setField(FieldKey.ARTIST, "Artist " + i);
+      tag.setField(FieldKey.ALBUM_ARTIST, "Album Artist " + i);
+      tag.setField(FieldKey.ALBUM, "Album " + i);
+      tag.setField(FieldKey.YEAR, "20" + (10 + i));
+      tag.setField(FieldKey.TRACK, Integer.toString(i + 1));
+      tag.setField(FieldKey.TRACK_TOTAL, "16");
+      tag.setField(FieldKey.GENRE, "Rock");
+      tag.setField(FieldKey.COMPOSER, "Composer " + i);
+      tag.setField(FieldKey.COMMENT, "Comment " + i);
+      tag.setField(FieldKey.MUSICBRAINZ_TRACK_ID, "f1e2d3c4-b5a6-4978-8695-a4b3c2d1e0f" + Integer.toHexString(i));
+      tag.setField(FieldKey.MUSICBRAINZ_RELEASEID, "0a1b2c3d-4e5f-4061-8293-a4b5c6d7e8f" + Integer.toHexString(i));
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      tag.write(out);
+      tagBytes.add(out.toByteArray());
+    }
+  }
+
+  @Setup(Level.Iteration) public void measureBefore() {
+    corpus = null;
+    usedBefore = usedHeap();
+  }
+
+  @TearDown(Level.Iteration) public void measureAfter() {
+    final long retained = usedHeap() - usedBefore;
+    System.out.printf("%n%d tags retain %d bytes, %d bytes per tag%n", corpus.size(), retained, retained / corpus.size());
+    corpus = null;
+  }
+
+  @Benchmark public List<ID3v24Tag> parseCorpus() throws Exception {
+    final List<ID3v24Tag> tags = new ArrayList<>(corpusSize);
+    for (int i = 0; i < corpusSize; i++) {
+      tags.add(new ID3v24Tag(ByteBuffer.wrap(tagBytes.get(i % tagBytes.size())), ""));
+    }
+    corpus = tags;
+    return tags;
+  }
+
+  private static long usedHeap() {
+    final Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
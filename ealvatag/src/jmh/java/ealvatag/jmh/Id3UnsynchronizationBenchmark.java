@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import com.google.common.io.ByteStreams;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.ID3v23Frame;
+import ealvatag.tag.id3.ID3v23Tag;
+import ealvatag.tag.id3.ID3v24Frame;
+import ealvatag.tag.id3.ID3v24Frames;
+import ealvatag.tag.id3.ID3v24Tag;
+import ealvatag.tag.id3.framebody.FrameBodyAPIC;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import ealvatag.tag.reference.PictureTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing a tag holding a 2 MB picture which is unsynchronized, as written by older taggers. In a v2.3 tag the whole tag is
+ * unsynchronized, in a v2.4 tag each frame is. The picture is random bytes so has the scattering of $FF bytes a compressed image has.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Id3UnsynchronizationBenchmark {
+  private static final int PICTURE_SIZE = 2 * 1024 * 1024;
+
+  @Param({"v23", "v24"})
+  public String version;
+
+  private boolean unsyncTags;
+  private File file;
+  private AbstractID3v2Tag tag;
+
+  @Setup public void setUp() throws Exception {
+    unsyncTags = TagOptionSingleton.getInstance().isUnsyncTags();
+    TagOptionSingleton.getInstance().setUnsyncTags(true);
+
+    final byte[] picture = new byte[PICTURE_SIZE];
+    new Random(1).nextBytes(picture);
+    final FrameBodyAPIC body = new FrameBodyAPIC(TextEncoding.ISO_8859_1,
+                                                 "image/jpeg",
+                                                 PictureTypes.DEFAULT_ID.byteValue(),
+                                                 "",
+                                                 picture);
+    final AbstractID3v2Frame frame;
+    if ("v23".equals(version)) {
+      tag = new ID3v23Tag();
+      frame = new ID3v23Frame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+    } else {
+      tag = new ID3v24Tag();
+      frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+    }
+    frame.setBody(body);
+    tag.setFrame(frame);
+    tag.setField(FieldKey.TITLE, "Title");
+
+    file = BenchmarkFiles.copy("mp3");
+    final MP3File mp3File = (MP3File)AudioFileIO.read(file);
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+  }
+
+  @TearDown public void tearDown() {
+    TagOptionSingleton.getInstance().setUnsyncTags(unsyncTags);
+    if (file != null && !file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  @Benchmark public Object read() throws Exception {
+    return AudioFileIO.read(file).getTag().get().getFirstArtwork();
+  }
+
+  @Benchmark public void write() throws Exception {
+    tag.write(ByteStreams.nullOutputStream());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import ealvatag.audio.ReadOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of counting every frame for an exact duration compared to the usual estimate, on files of a few hundred megabytes built by
+ * repeating the mp3 test file. After the first iteration the file is in the page cache, so this measures the scan rather than the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Mp3ExactDurationBenchmark {
+  private static final ReadOptions EXACT = ReadOptions.builder().exactDuration(true).build();
+
+  @Param({"256", "512"})
+  public int sizeMb;
+
+  private File file;
+
+  @Setup(Level.Trial) public void setUp() throws IOException {
+    final byte[] mp3 = Files.toByteArray(BenchmarkFiles.get("mp3"));
+    final long size = sizeMb * 1024L * 1024L;
+    file = File.createTempFile("ealvatag-jmh", ".mp3");
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+      for (long written = 0; written < size; written += mp3.length) {
+        out.write(mp3);
+      }
+    }
+  }
+
+  @TearDown(Level.Trial) public void tearDown() {
+    if (!file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  @Benchmark public AudioHeader estimated() throws Exception {
+    return AudioFileIO.read(file).getAudioHeader();
+  }
+
+  @Benchmark public AudioHeader exact() throws Exception {
+    return AudioFileIO.read(file, EXACT).getAudioHeader();
+  }
+}
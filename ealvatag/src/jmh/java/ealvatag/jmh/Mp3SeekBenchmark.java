@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import com.google.common.io.FileWriteMode;
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding the first MP3 frame when it's preceded by junk the reader doesn't recognise, such as a damaged or unsupported tag. The junk
+ * has a sprinkling of sync bytes that aren't followed by a valid header so candidate rejection is measured along with the scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Mp3SeekBenchmark {
+  @Param({"1048576"})
+  public int junkSize;
+
+  private File file;
+
+  @Setup public void setUp() throws IOException {
+    final byte[] junk = new byte[junkSize];
+    new Random(1).nextBytes(junk);
+    for (int i = 0; i < junk.length; i++) {
+      // 0xFF followed by 0x00 never has valid sync bits
+      if (junk[i] == (byte)0xFF) {
+        if (i + 1 < junk.length) {
+          junk[++i] = 0;
+        } else {
+          junk[i] = 0;
+        }
+      }
+    }
+    file = File.createTempFile("ealvatag-jmh", ".mp3");
+    Files.write(junk, file);
+    Files.asByteSink(file, FileWriteMode.APPEND).write(Files.toByteArray(BenchmarkFiles.get("mp3")));
+  }
+
+  @TearDown public void tearDown() {
+    if (file != null && !file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  @Benchmark public AudioHeader readHeaderOnly() throws Exception {
+    return AudioFileIO.readHeaderOnly(file);
+  }
+}
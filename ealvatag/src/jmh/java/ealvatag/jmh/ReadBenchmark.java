@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read throughput per format. Files are served from the page cache after warm up, so this measures parsing rather than I/O. Run with the
+ * gc profiler (the default for the jmh task) to see allocation per read.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReadBenchmark {
+  @Param({"mp3", "m4a", "flac", "ogg", "wav", "aif", "dsf", "wma"})
+  public String format;
+
+  private File file;
+
+  @Setup public void setUp() {
+    file = BenchmarkFiles.get(format);
+  }
+
+  @Benchmark public AudioFile read() throws Exception {
+    return AudioFileIO.read(file);
+  }
+
+  @Benchmark public AudioFile readIgnoreArtwork() throws Exception {
+    return AudioFileIO.readIgnoreArtwork(file);
+  }
+
+  @Benchmark public AudioHeader readHeaderOnly() throws Exception {
+    return AudioFileIO.readHeaderOnly(file);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.jmh;
+
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read, change the title and save, per format. Each thread works on its own copy of the test file. The title alternates between two
+ * values of the same length so the tag size, and so whether the audio has to move, is the same on every save.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteBenchmark {
+  private static final String[] TITLES = {"Benchmark Title A", "Benchmark Title B"};
+
+  @Param({"mp3", "m4a", "flac", "ogg", "wav", "aif", "dsf", "wma"})
+  public String format;
+
+  private File file;
+  private int count;
+
+  @Setup(Level.Trial) public void setUp() throws IOException {
+    file = BenchmarkFiles.copy(format);
+  }
+
+  @TearDown(Level.Trial) public void tearDown() {
+    if (!file.delete()) {
+      file.deleteOnExit();
+    }
+  }
+
+  @Benchmark public void setFieldAndSave() throws Exception {
+    final AudioFile audioFile = AudioFileIO.read(file);
+    final Tag tag = audioFile.getTagOrSetNewDefault();
+    tag.setField(FieldKey.TITLE, TITLES[count++ & 1]);
+    audioFile.save();
+  }
+}
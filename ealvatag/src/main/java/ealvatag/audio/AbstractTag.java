@@ -42,6 +42,7 @@ import ealvatag.tag.Key;
 import ealvatag.tag.Tag;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagFieldSnapshot;
 import ealvatag.tag.TagTextField;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.images.Artwork;
@@ -70,6 +71,13 @@ public abstract class AbstractTag implements TagFieldContainer {
   private static final List<TagField> EMPTY_TAG_FIELD_LIST = ImmutableList.of();
 
   private boolean readOnly;
+  /** Set when the fields may no longer match those last read or saved, see {@link #isDirty()} */
+  private boolean dirty = true;
+  /**
+   * The fields as they were read or last saved, taken when fields are first handed out. Fields handed out may be changed at any time
+   * without the tag knowing, so they're compared with this, see {@link #isDirty()}. Null until fields are handed out
+   */
+  private TagFieldSnapshot cleanFields;
 
   protected AbstractTag(final boolean readOnly) {
     this.readOnly = readOnly;
@@ -123,6 +131,35 @@ public abstract class AbstractTag implements TagFieldContainer {
     readOnly = true;
   }
 
+  @Override public boolean isDirty() {
+    return dirty || (cleanFields != null && !cleanFields.matches(fieldList()));
+  }
+
+  @Override public void setClean() {
+    dirty = false;
+    if (cleanFields != null) {
+      cleanFields = TagFieldSnapshot.of(fieldList());
+    }
+  }
+
+  /**
+   * Subclasses changing the tag other than through {@link #setField(TagField)}, {@link #addField(TagField)} or
+   * {@link #deleteField(String)} call this so the change is saved
+   */
+  protected void setDirty() {
+    dirty = true;
+  }
+
+  /**
+   * Subclasses handing out fields, or lists of them, which may be changed call this. Until then nothing can have changed the
+   * fields without the tag knowing, so a tag which isn't dirty records them as they were read or last saved
+   */
+  protected void setFieldsHandedOut() {
+    if (cleanFields == null) {
+      cleanFields = TagFieldSnapshot.of(fieldList());
+    }
+  }
+
   /**
    * Is this tag empty
    *
@@ -177,17 +214,19 @@ public abstract class AbstractTag implements TagFieldContainer {
    */
   @Override
   public int getFieldCount() {
-    getAll().size();
-    Iterator it = getFields();
     int count = 0;
-    while (it.hasNext()) {
-      count++;
-      it.next();
+    for (List<TagField> listOfFields : fields.values()) {
+      count += listOfFields.size();
     }
     return count;
   }
 
   public List<TagField> getAll() {
+    setFieldsHandedOut();
+    return fieldList();
+  }
+
+  private List<TagField> fieldList() {
     List<TagField> fieldList = new ArrayList<>();
     for (List<TagField> listOfFields : fields.values()) {
       for (TagField next : listOfFields) {
@@ -232,7 +271,9 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   public Tag deleteField(final String id) throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNullOrEmpty(id, CANNOT_BE_NULL_OR_EMPTY, "id");
-    fields.remove(id);
+    if (fields.remove(id) != null) {
+      dirty = true;
+    }
     return this;
   }
 
@@ -281,7 +322,8 @@ public abstract class AbstractTag implements TagFieldContainer {
       return false;
     }
 
-    Iterator it = getFields();
+    dirty = true;
+    Iterator it = fieldIterator();
     while (it.hasNext()) {
       TagField field = (TagField)it.next();
       if (field instanceof TagTextField) {
@@ -302,8 +344,22 @@ public abstract class AbstractTag implements TagFieldContainer {
    */
   protected abstract boolean isAllowedEncoding(Charset enc);
 
+  /**
+   * The fields are handed out to be changed, so from now on they're compared with the fields as last read or saved to tell if the
+   * tag is {@link #isDirty() dirty}
+   */
   @Override
   public Iterator<TagField> getFields() {
+    setFieldsHandedOut();
+    return fieldIterator();
+  }
+
+  /**
+   * As {@link #getFields()} without marking the tag dirty, used internally by the library when writing the tag
+   *
+   * @return an iterator over all the fields
+   */
+  public Iterator<TagField> fieldIterator() {
     final Iterator<Map.Entry<String, List<TagField>>> it = this.fields.entrySet().iterator();
     return new Iterator<TagField>() {
       private Iterator<TagField> fieldsIt;
@@ -337,6 +393,7 @@ public abstract class AbstractTag implements TagFieldContainer {
 
       @Override
       public void remove() {
+        dirty = true;
         fieldsIt.remove();
       }
     };
@@ -344,6 +401,7 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   @Override
   public ImmutableList<TagField> getFields(String id) {
+    setFieldsHandedOut();
     final List<TagField> tagFields = fields.get(id);
     if (tagFields == null) {
       return ImmutableList.of();
@@ -354,6 +412,7 @@ public abstract class AbstractTag implements TagFieldContainer {
 
   @Override
   public Optional<TagField> getFirstField(String id) throws IllegalArgumentException, UnsupportedFieldException {
+    setFieldsHandedOut();
     List<TagField> l = getFieldList(id);
     return l.size() != 0 ? Optional.fromNullable(l.get(0)) : Optional.<TagField>absent();
   }
@@ -363,6 +422,7 @@ public abstract class AbstractTag implements TagFieldContainer {
     if (field == null) {
       return;
     }
+    dirty = true;
 
     // If there is already an existing field with same id
     // and both are TextFields, we replace the first element
@@ -385,6 +445,7 @@ public abstract class AbstractTag implements TagFieldContainer {
     if (field == null) {
       return;
     }
+    dirty = true;
     List<TagField> list = fields.get(field.getId());
 
     // There was no previous item
@@ -404,7 +465,7 @@ public abstract class AbstractTag implements TagFieldContainer {
   public String toString() {
     StringBuilder out = new StringBuilder();
     out.append("Tag content:\n");
-    Iterator it = getFields();
+    Iterator it = fieldIterator();
     while (it.hasNext()) {
       TagField field = (TagField)it.next();
       out.append("\t");
@@ -420,6 +481,7 @@ public abstract class AbstractTag implements TagFieldContainer {
   @Override
   public ImmutableList<TagField> getFields(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+    setFieldsHandedOut();
     return ImmutableList.copyOf(getFieldList(genericKey.name()));
   }
 }
@@ -42,7 +42,16 @@ public interface AudioFile {
   boolean readOnly();
 
   /**
-   * Write the tag contained in this AudioFile in the actual file on the disk
+   * @return true if the tag has been changed, replaced or removed since the file was read or last saved, in which case
+   * {@link #save()} writes it. Otherwise {@link #save()} returns without touching the file
+   *
+   * @see Tag#isDirty()
+   */
+  boolean isDirty();
+
+  /**
+   * Write the tag contained in this AudioFile in the actual file on the disk. Does nothing if the tag hasn't changed, see
+   * {@link #isDirty()}
    *
    * @throws CannotWriteException If the file could not be written/accessed, the extension wasn't recognized, or other IO error occurred.
    */
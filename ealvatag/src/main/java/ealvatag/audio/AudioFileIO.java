@@ -42,10 +42,15 @@ import ealvatag.audio.wav.WavFileReader;
 import ealvatag.audio.wav.WavFileWriter;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.tag.TagException;
+import ealvatag.tag.TagOptionSingleton;
 
 import java.io.File;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 /**
  * The main entry point for the Tag Reading/Writing operations, this class will
@@ -63,6 +68,8 @@ import java.util.Locale;
  */
 @SuppressWarnings("unused") public class AudioFileIO {
 
+    private static final int DEFAULT_MAX_IN_FLIGHT = Runtime.getRuntime().availableProcessors() * 2;
+
     private static AudioFileIO defaultInstance;
     private final ModificationHandler modificationHandler;
     private final ImmutableMap<String, AudioFileReaderFactory> readerFactories;
@@ -125,6 +132,124 @@ import java.util.Locale;
         return instance().readFile(f, true);
     }
 
+    /**
+     * Read the given file as directed by {@code options}
+     *
+     * @param f       The file to read.
+     * @param options controls what is read
+     *
+     * @return The AudioFile with the file tag and the file encoding info.
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+     *                                    read.
+     * @throws TagException               various tag exceptions (to be refactored)
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     */
+    public static AudioFile read(File f, ReadOptions options) throws CannotReadException,
+                                                                     IOException,
+                                                                     TagException,
+                                                                     InvalidAudioFrameException {
+        return instance().readFile(f, options);
+    }
+
+    /**
+     * Read only the audio header of the given file. No tag is parsed and, where the format allows, tag data is skipped without being
+     * read. Much cheaper than {@link #read(File)} when only duration, bit rate, etc. are needed, such as when indexing a library.
+     *
+     * @param f The file to read.
+     *
+     * @return the encoding info of the file
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+     *                                    read.
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     */
+    public static AudioHeader readHeaderOnly(File f) throws CannotReadException, IOException, InvalidAudioFrameException {
+        return instance().readHeader(f);
+    }
+
+    /**
+     * Hash the audio payload of the given file, excluding tags and other metadata, such as to find duplicates however they're tagged.
+     * Only the header is parsed to find the audio, which is then read in large blocks straight into the digest.
+     * <p>
+     * The payload is the audio frames of an MP3 (without ID3v1/ID3v2 tags), the {@code mdat} boxes of an MP4, the frames following the
+     * last metadata block of a FLAC, the {@code data} chunk of a WAV or AIFF, the {@code data} chunk of a DSF, the data and index
+     * objects of an ASF and the audio packets, without page headers, of an Ogg Vorbis file. Real files aren't supported.
+     *
+     * @param f         The file to hash.
+     * @param algorithm a {@link MessageDigest} algorithm, such as "MD5" or "SHA-256"
+     *
+     * @return the hash of the audio payload
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during
+     *                                    the read.
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     * @throws NoSuchAlgorithmException   if {@code algorithm} isn't available
+     */
+    public static byte[] hashAudio(File f, String algorithm) throws CannotReadException,
+                                                                    IOException,
+                                                                    InvalidAudioFrameException,
+                                                                    NoSuchAlgorithmException {
+        final MessageDigest digest = MessageDigest.getInstance(algorithm);
+        digestAudio(f, digest);
+        return digest.digest();
+    }
+
+    /**
+     * Same as {@link #hashAudio(File, String)} but updates {@code digest}, which the caller may reset and reuse across files
+     *
+     * @param f      The file to hash.
+     * @param digest updated with the audio payload
+     *
+     * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during
+     *                                    the read.
+     * @throws java.io.IOException        if error reading
+     * @throws InvalidAudioFrameException if audio frame is corrupted
+     */
+    public static void digestAudio(File f, MessageDigest digest) throws CannotReadException, IOException, InvalidAudioFrameException {
+        instance().getReaderForExtension(Files.getFileExtension(f.getName()).toLowerCase(Locale.ROOT)).digestAudio(f, digest);
+    }
+
+    /**
+     * Read all {@code files} using {@code executor}, with at most 2 reads per available processor in flight at any time. See
+     * {@link #readAll(Iterable, Executor, ReadOptions, int)}
+     *
+     * @param files    the files to read. Iterated lazily on the calling thread
+     * @param executor runs the reads
+     * @param options  controls what is read from each file
+     *
+     * @return an iterator returning a result per file, in completion order
+     */
+    public static Iterator<ReadResult> readAll(Iterable<File> files, Executor executor, ReadOptions options) {
+        return readAll(files, executor, options, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    /**
+     * Read all {@code files} using {@code executor}. Results are returned in completion order, not the order of {@code files}, and a
+     * failure to read one file is reported in its {@link ReadResult} and does not stop the batch.
+     *
+     * Reads are submitted to the executor as the returned iterator is consumed and no more than {@code maxInFlight} reads are ever
+     * outstanding, so the executor's queue does not grow with the size of {@code files}. Readers are shared across threads, the same
+     * as they are for concurrent calls to {@link #read(File)}. The returned iterator is not thread safe and blocks in
+     * {@link Iterator#hasNext()} waiting for the next read to complete.
+     *
+     * @param files       the files to read. Iterated lazily on the thread consuming the results
+     * @param executor    runs the reads
+     * @param options     controls what is read from each file
+     * @param maxInFlight maximum number of reads submitted to {@code executor} and not yet returned. Typically some small multiple of the
+     *                    executor's thread count
+     *
+     * @return an iterator returning a result per file, in completion order
+     *
+     * @throws IllegalArgumentException if {@code maxInFlight} < 1
+     */
+    public static Iterator<ReadResult> readAll(Iterable<File> files, Executor executor, ReadOptions options, int maxInFlight) {
+        return new BatchReader(instance(), files, executor, options, maxInFlight);
+    }
+
     /**
      * Read the tag contained in the given file.
      *
@@ -164,7 +289,7 @@ import java.util.Locale;
                                                             IOException,
                                                             TagException,
                                                             InvalidAudioFrameException {
-        return readAudioFile(f, ext, true);
+        return readAudioFile(f, ext, ReadOptions.IGNORE_ARTWORK);
     }
 
     /**
@@ -184,14 +309,34 @@ import java.util.Locale;
                                                      IOException,
                                                      TagException,
                                                      InvalidAudioFrameException {
-        return readAudioFile(file, Utils.getMagicExtension(file), false);
+        return readAudioFile(file, Utils.getMagicExtension(file), ReadOptions.DEFAULT);
     }
 
     private AudioFile readFile(File file, final boolean ignoreArtwork) throws CannotReadException,
                                                                               IOException,
                                                                               TagException,
                                                                               InvalidAudioFrameException {
-        return readAudioFile(file, Files.getFileExtension(file.getName()), ignoreArtwork);
+        return readAudioFile(file, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+    }
+
+    AudioFile readFile(File file, final ReadOptions options) throws CannotReadException,
+                                                                    IOException,
+                                                                    TagException,
+                                                                    InvalidAudioFrameException {
+        final TagOptionSingleton tagOptions = options.tagOptions();
+        if (tagOptions == null) {
+            return readAudioFile(file, options);
+        }
+        final TagOptionSingleton previous = TagOptionSingleton.setThreadInstance(tagOptions);
+        try {
+            final AudioFile audioFile = readAudioFile(file, options);
+            if (audioFile instanceof AudioFileImpl) {
+                ((AudioFileImpl)audioFile).setTagOptions(tagOptions);
+            }
+            return audioFile;
+        } finally {
+            TagOptionSingleton.setThreadInstance(previous);
+        }
     }
 
     /**
@@ -207,7 +352,12 @@ import java.util.Locale;
 
         AudioFileWriter afw = getWriterForExtension(ext);
 
-        afw.delete(f);
+        final TagOptionSingleton previous = f.applyTagOptions();
+        try {
+            afw.delete(f);
+        } finally {
+            TagOptionSingleton.setThreadInstance(previous);
+        }
     }
 
     private AudioFileWriter getWriterForExtension(final String ext) throws CannotWriteException {
@@ -218,12 +368,23 @@ import java.util.Locale;
         return factory.make().setAudioFileModificationListener(modificationHandler);
     }
 
-    private AudioFile readAudioFile(final File f, final String ext, final boolean ignoreArtwork) throws CannotReadException,
-                                                                                                        IOException,
-                                                                                                        TagException,
-                                                                                                        InvalidAudioFrameException {
+    private AudioFile readAudioFile(final File f, final ReadOptions options) throws CannotReadException,
+                                                                                     IOException,
+                                                                                     TagException,
+                                                                                     InvalidAudioFrameException {
+        return readAudioFile(f, Files.getFileExtension(f.getName()), options);
+    }
+
+    private AudioFile readAudioFile(final File f, final String ext, final ReadOptions options) throws CannotReadException,
+                                                                                                   IOException,
+                                                                                                   TagException,
+                                                                                                   InvalidAudioFrameException {
         final String extension = ext.toLowerCase(Locale.ROOT);
-        return getReaderForExtension(extension).read(f, extension, ignoreArtwork);
+        return getReaderForExtension(extension).read(f, extension, options);
+    }
+
+    private AudioHeader readHeader(final File f) throws CannotReadException, IOException, InvalidAudioFrameException {
+        return getReaderForExtension(Files.getFileExtension(f.getName()).toLowerCase(Locale.ROOT)).readHeader(f);
     }
 
     private AudioFileReader getReaderForExtension(final String ext) throws CannotReadException {
@@ -247,7 +408,12 @@ import java.util.Locale;
         if (afw == null) {
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT, ext);
         }
-        afw.write(audioFile);
+        final TagOptionSingleton previous = audioFile.applyTagOptions();
+        try {
+            afw.write(audioFile);
+        } finally {
+            TagOptionSingleton.setThreadInstance(previous);
+        }
     }
 
     /**
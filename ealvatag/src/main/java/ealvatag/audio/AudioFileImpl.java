@@ -59,6 +59,8 @@ public class AudioFileImpl implements AudioFile {
   protected AudioHeader audioHeader;
   protected TagFieldContainer tag;
   protected String extension;         // we parsed it once to find the reader, so let's store it and not keep parsing
+  protected TagOptionSingleton tagOptions;  // snapshot from ReadOptions, null if reading/writing uses the shared options
+  private TagFieldContainer savedTag;         // the tag as in the file when read or last saved, see isDirty()
 
   /**
    * These constructors are used by the different readers, users should not use them.
@@ -78,6 +80,10 @@ public class AudioFileImpl implements AudioFile {
     this.extension = extension;
     this.audioHeader = audioHeader;
     this.tag = tag;
+    if (tag != null) {
+      tag.setClean();
+    }
+    savedTag = tag;
   }
 
   protected AudioFileImpl(final File file, final String extension) throws FileNotFoundException {
@@ -91,9 +97,24 @@ public class AudioFileImpl implements AudioFile {
     return tag.isReadOnly();
   }
 
+  @Override public boolean isDirty() {
+    return tag != savedTag || (tag != null && tag.isDirty());
+  }
+
   @Override public void save() throws CannotWriteException {
     checkReadOnly();
+    if (!isDirty()) {
+      return;
+    }
     AudioFileIO.instance().writeFile(this);
+    setSaved();
+  }
+
+  private void setSaved() {
+    if (tag != null) {
+      tag.setClean();
+    }
+    savedTag = tag;
   }
 
   private void checkReadOnly() throws CannotWriteException {
@@ -106,11 +127,13 @@ public class AudioFileImpl implements AudioFile {
     checkReadOnly();
     Check.checkArgNotNullOrEmpty(fullPathWithoutExtension, Check.CANNOT_BE_NULL_OR_EMPTY, "fullPathWithoutExtension");
     AudioFileIO.instance().writeFileAs(this, fullPathWithoutExtension);
+    setSaved();
   }
 
   @Override public void deleteFileTag() throws CannotWriteException {
     checkReadOnly();
     AudioFileIO.instance().deleteTag(this);
+    savedTag = null;
   }
 
   @Override public File getFile() {
@@ -125,6 +148,20 @@ public class AudioFileImpl implements AudioFile {
     return extension;
   }
 
+  void setTagOptions(final TagOptionSingleton tagOptions) {
+    this.tagOptions = tagOptions;
+  }
+
+  /**
+   * If this file was read with a {@link TagOptionSingleton#snapshot()} make it current for this thread. The caller must restore the
+   * returned value via {@link TagOptionSingleton#setThreadInstance(TagOptionSingleton)} when done.
+   *
+   * @return options that were previously set for this thread
+   */
+  protected TagOptionSingleton applyTagOptions() {
+    return TagOptionSingleton.setThreadInstance(tagOptions != null ? tagOptions : TagOptionSingleton.getThreadInstance());
+  }
+
   @Override public AudioHeader getAudioHeader() {
     return audioHeader;
   }
@@ -21,6 +21,7 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.audio.io.FileDigester;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.TagException;
@@ -29,6 +30,8 @@ import ealvatag.tag.TagFieldContainer;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /*
  * This abstract class is the skeleton for tag readers. It handles the creation/closing of
@@ -71,16 +74,33 @@ public abstract class AudioFileReader {
     */
   protected abstract TagFieldContainer getTag(RandomAccessFile raf, final boolean ignoreArtwork) throws CannotReadException, IOException;
 
+  /**
+   * Same as {@link #getTag(RandomAccessFile, boolean)} but readers that can skip unwanted fields override this to honour
+   * {@link ReadOptions#fields()}
+   */
+  protected TagFieldContainer getTag(RandomAccessFile raf, final ReadOptions options) throws CannotReadException, IOException {
+    return getTag(raf, options.ignoreArtwork());
+  }
+
   public AudioFile read(File file,
                         final String extension,
                         final boolean ignoreArtwork) throws CannotReadException,
                                                             IOException,
                                                             TagException,
                                                             InvalidAudioFrameException {
+    return read(file, extension, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  public AudioFile read(File file,
+                        final String extension,
+                        final ReadOptions options) throws CannotReadException,
+                                                          IOException,
+                                                          TagException,
+                                                          InvalidAudioFrameException {
     LOG.log(LogLevel.TRACE, ErrorMessage.GENERAL_READ, file);
     try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
       raf.seek(0);
-      return makeAudioFile(raf, file, extension, ignoreArtwork);
+      return makeAudioFile(raf, file, extension, options);
     }
 //        catch (Exception e) {
 //            LOG.log(LogLevel.ERROR, ErrorMessage.GENERAL_READ.getMsg(file.getAbsolutePath()), e);
@@ -88,6 +108,49 @@ public abstract class AudioFileReader {
 //        }
   }
 
+  /**
+   * Read only the audio header, without parsing any tag. Readers should avoid reading tag data at all where the format allows
+   * seeking past it.
+   *
+   * @param file the file to read
+   *
+   * @return the audio header
+   *
+   * @throws CannotReadException        if there is some parsing error
+   * @throws IOException                if there is an error reading from the file
+   * @throws InvalidAudioFrameException if audio frame is corrupted
+   */
+  public AudioHeader readHeader(File file) throws CannotReadException, IOException, InvalidAudioFrameException {
+    LOG.log(LogLevel.TRACE, ErrorMessage.GENERAL_READ, file);
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      return getEncodingInfo(raf);
+    }
+  }
+
+  /**
+   * Update {@code digest} with the audio payload of the file, excluding tags and other metadata, so files holding the same audio hash
+   * the same however they're tagged. By default this is the bytes from {@link AudioHeader#getAudioDataStartPosition()} to {@link
+   * AudioHeader#getAudioDataEndPosition()}. Readers for formats where the audio isn't one contiguous run override this.
+   *
+   * @param file   the file to read
+   * @param digest updated with the audio payload
+   *
+   * @throws CannotReadException        if there is some parsing error or the format doesn't report where the audio is
+   * @throws IOException                if there is an error reading from the file
+   * @throws InvalidAudioFrameException if audio frame is corrupted
+   */
+  public void digestAudio(File file, MessageDigest digest) throws CannotReadException, IOException, InvalidAudioFrameException {
+    final AudioHeader header = readHeader(file);
+    final long start = header.getAudioDataStartPosition();
+    final long end = header.getAudioDataEndPosition();
+    if (start < 0 || end < start) {
+      throw new CannotReadException("Audio data position unknown for %s", file);
+    }
+    try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+      FileDigester.update(channel, start, Math.min(end, channel.size()) - start, digest);
+    }
+  }
+
   /**
    * Put read header and read tag in one method so subclasses aren't forced into the 2 step process, but can optimize how the
    * particular format is read.
@@ -95,7 +158,7 @@ public abstract class AudioFileReader {
    * @param raf           the {@link RandomAccessFile} containing the data
    * @param file          file information
    * @param extension     the file extension that was used to identify the file type
-   * @param ignoreArtwork
+   * @param options       controls what is read from the tag
    *
    * @return an {@link AudioFile} containing the parsed header and tag
    *
@@ -105,9 +168,9 @@ public abstract class AudioFileReader {
   private AudioFile makeAudioFile(final RandomAccessFile raf,
                                   final File file,
                                   final String extension,
-                                  final boolean ignoreArtwork) throws CannotReadException, IOException {
+                                  final ReadOptions options) throws CannotReadException, IOException {
     GenericAudioHeader info = getEncodingInfo(raf);
     raf.seek(0);
-    return new AudioFileImpl(file, extension, info, getTag(raf, ignoreArtwork));
+    return new AudioFileImpl(file, extension, info, getTag(raf, options));
   }
 }
@@ -50,7 +50,7 @@ public abstract class AudioFileReader2 extends AudioFileReader {
  * @exception NoReadPermissionsException if permissions prevent reading of file
  * @exception CannotReadException If anything went bad during the read of this file
  */
-  public AudioFileImpl read(File f, final String extension, final boolean ignoreArtwork)
+  public AudioFileImpl read(File f, final String extension, final ReadOptions options)
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
     LOG.log(DEBUG, ErrorMessage.GENERAL_READ, f);
 
@@ -58,13 +58,20 @@ public abstract class AudioFileReader2 extends AudioFileReader {
       final String absolutePath = f.getAbsolutePath();
       GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
       channel.position(0);
-      return new AudioFileImpl(f, extension, info, getTag(channel, absolutePath, ignoreArtwork));
+      return new AudioFileImpl(f, extension, info, getTag(channel, absolutePath, options));
     } catch (FileNotFoundException e) {
       LOG.log(WARN, e, "Unable to read file: %s", f);
       throw e;
     }
   }
 
+  @Override public AudioHeader readHeader(final File f) throws CannotReadException, IOException, InvalidAudioFrameException {
+    LOG.log(DEBUG, ErrorMessage.GENERAL_READ, f);
+    try (FileChannel channel = new RandomAccessFile(f, "r").getChannel()) {
+      return getEncodingInfo(channel, f.getAbsolutePath());
+    }
+  }
+
   /**
    * Read Encoding Information
    */
@@ -81,6 +88,15 @@ public abstract class AudioFileReader2 extends AudioFileReader {
   protected abstract TagFieldContainer getTag(FileChannel channel, final String fileName, final boolean ignoreArtwork)
       throws CannotReadException, IOException;
 
+  /**
+   * Same as {@link #getTag(FileChannel, String, boolean)} but readers that can skip unwanted fields override this to honour
+   * {@link ReadOptions#fields()}
+   */
+  protected TagFieldContainer getTag(FileChannel channel, final String fileName, final ReadOptions options)
+      throws CannotReadException, IOException {
+    return getTag(channel, fileName, options.ignoreArtwork());
+  }
+
   protected TagFieldContainer getTag(RandomAccessFile file, final boolean ignoreArtwork) throws CannotReadException, IOException {
     throw new UnsupportedOperationException("Old method not used in version 2");
   }
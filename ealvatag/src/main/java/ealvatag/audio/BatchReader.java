@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+
+import java.io.File;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads files on an {@link Executor}, yielding a {@link ReadResult} for each file in completion order.
+ *
+ * Files are pulled from the source lazily and no more than maxInFlight reads are submitted at any time, so iterating a very large
+ * library never queues more than a handful of tasks and the caller's consumption rate naturally throttles the reads. Iteration must
+ * occur on a single thread.
+ */
+final class BatchReader extends AbstractIterator<ReadResult> {
+  private final AudioFileIO audioFileIO;
+  private final Iterator<File> files;
+  private final ReadOptions options;
+  private final CompletionService<ReadResult> completionService;
+  private final int maxInFlight;
+  private int inFlight;
+
+  BatchReader(final AudioFileIO audioFileIO,
+              final Iterable<File> files,
+              final Executor executor,
+              final ReadOptions options,
+              final int maxInFlight) {
+    Preconditions.checkArgument(maxInFlight > 0, "maxInFlight must be > 0");
+    this.audioFileIO = Preconditions.checkNotNull(audioFileIO);
+    this.files = files.iterator();
+    this.options = Preconditions.checkNotNull(options);
+    this.completionService = new ExecutorCompletionService<>(executor);
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override protected ReadResult computeNext() {
+    while (inFlight < maxInFlight && files.hasNext()) {
+      completionService.submit(new ReadCallable(audioFileIO, files.next(), options));
+      inFlight++;
+    }
+    if (inFlight == 0) {
+      return endOfData();
+    }
+    final Future<ReadResult> future;
+    try {
+      future = completionService.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for batch read", e);
+    }
+    inFlight--;
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted waiting for batch read", e);
+    } catch (ExecutionException e) {
+      // ReadCallable catches Exception, so only an Error ends up here
+      final Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error)cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private static class ReadCallable implements Callable<ReadResult> {
+    private final AudioFileIO audioFileIO;
+    private final File file;
+    private final ReadOptions options;
+
+    ReadCallable(final AudioFileIO audioFileIO, final File file, final ReadOptions options) {
+      this.audioFileIO = audioFileIO;
+      this.file = file;
+      this.options = options;
+    }
+
+    @Override public ReadResult call() {
+      try {
+        return ReadResult.success(file, audioFileIO.readFile(file, options));
+      } catch (Exception e) {
+        return ReadResult.failure(file, e);
+      }
+    }
+  }
+}
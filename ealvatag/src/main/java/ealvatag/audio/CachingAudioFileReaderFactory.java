@@ -18,7 +18,8 @@
 package ealvatag.audio;
 
 /**
- * Creates the reader once and doles out the same one
+ * Creates the reader once and doles out the same one. Because the same reader is used by every thread reading that format, readers
+ * made by {@link #doMake()} must be reentrant - no per-read state may be kept in instance or static fields.
  *
  * Created by Eric A. Snell on 1/19/17.
  */
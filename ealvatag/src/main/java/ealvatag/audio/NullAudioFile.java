@@ -41,6 +41,10 @@ public final class NullAudioFile implements AudioFile {
         return true;
     }
 
+    @Override public boolean isDirty() {
+        return false;
+    }
+
     @Override public void save() throws CannotWriteException {}
 
     @Override public void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException {}
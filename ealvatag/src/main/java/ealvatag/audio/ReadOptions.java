@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.collect.Sets;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+
+import java.util.Set;
+
+/**
+ * Immutable set of options controlling how a file is read by {@link AudioFileIO}. Instances are safe to share across threads, which
+ * is how batch reads use them.
+ */
+public final class ReadOptions {
+  /** Read everything, the same as {@link AudioFileIO#read(java.io.File)} */
+  public static final ReadOptions DEFAULT = builder().build();
+
+  /** Same as {@link AudioFileIO#readIgnoreArtwork(java.io.File)} */
+  public static final ReadOptions IGNORE_ARTWORK = builder().ignoreArtwork(true).build();
+
+  /** Leave artwork in the file until it's asked for, see {@link Builder#lazyArtwork(boolean)} */
+  public static final ReadOptions LAZY_ARTWORK = builder().lazyArtwork(true).build();
+
+  private final boolean ignoreArtwork;
+  private final boolean lazyArtwork;
+  private final TagOptionSingleton tagOptions;
+  private final Set<FieldKey> fields;
+  private final boolean exactDuration;
+  private final boolean lazyFrames;
+
+  private ReadOptions(final Builder builder) {
+    this.ignoreArtwork = builder.ignoreArtwork;
+    this.lazyArtwork = builder.lazyArtwork;
+    this.tagOptions = builder.tagOptions;
+    this.fields = builder.fields;
+    this.exactDuration = builder.exactDuration;
+    this.lazyFrames = builder.lazyFrames;
+  }
+
+  /**
+   * @return true if artwork should not be loaded. If the file contains artwork the resulting tag is read-only
+   */
+  public boolean ignoreArtwork() {
+    return ignoreArtwork;
+  }
+
+  /**
+   * @return true if artwork should be read from the file when first asked for rather than when the file is read
+   */
+  public boolean lazyArtwork() {
+    return lazyArtwork;
+  }
+
+  /**
+   * @return the options snapshot used for this read, and for saving the resulting AudioFile, or null to use
+   * {@link TagOptionSingleton#getInstance()}
+   */
+  public TagOptionSingleton tagOptions() {
+    return tagOptions;
+  }
+
+  /**
+   * @return the only fields to be read from the tag, or null to read all fields. If not null the resulting tag is read-only if any
+   * field was skipped
+   */
+  public Set<FieldKey> fields() {
+    return fields;
+  }
+
+  /**
+   * @return true if the duration should be found by counting every frame rather than estimated
+   */
+  public boolean exactDuration() {
+    return exactDuration;
+  }
+
+  /**
+   * @return true if tag frames should be decoded when first accessed rather than when the file is read
+   */
+  public boolean lazyFrames() {
+    return lazyFrames;
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override public String toString() {
+    return "ReadOptions{ignoreArtwork=" + ignoreArtwork +
+        ", lazyArtwork=" + lazyArtwork +
+        ", tagOptions=" + (tagOptions == null ? "shared" : "snapshot") +
+        ", fields=" + (fields == null ? "all" : fields) +
+        ", exactDuration=" + exactDuration +
+        ", lazyFrames=" + lazyFrames + '}';
+  }
+
+  public static final class Builder {
+    private boolean ignoreArtwork;
+    private boolean lazyArtwork;
+    private TagOptionSingleton tagOptions;
+    private Set<FieldKey> fields;
+    private boolean exactDuration;
+    private boolean lazyFrames;
+
+    private Builder() {
+    }
+
+    private Builder(final ReadOptions options) {
+      this.ignoreArtwork = options.ignoreArtwork;
+      this.lazyArtwork = options.lazyArtwork;
+      this.tagOptions = options.tagOptions;
+      this.fields = options.fields;
+      this.exactDuration = options.exactDuration;
+      this.lazyFrames = options.lazyFrames;
+    }
+
+    public Builder ignoreArtwork(final boolean ignoreArtwork) {
+      this.ignoreArtwork = ignoreArtwork;
+      return this;
+    }
+
+    /**
+     * Record where artwork is in the file instead of loading it, and only read it when the artwork is first asked for. Unlike
+     * {@link #ignoreArtwork(boolean)} the tag remains writable: artwork which hasn't been loaded is copied straight from the file when
+     * the tag is saved. The file must not be changed by anything else in the meantime, reading the artwork fails if it has been.
+     * <p>
+     * Supported for ID3v2 (mp3) and flac picture blocks. Other formats read artwork as usual. Ignored if artwork is being ignored.
+     *
+     * @param lazyArtwork true to read artwork when first needed
+     *
+     * @return this builder
+     */
+    public Builder lazyArtwork(final boolean lazyArtwork) {
+      this.lazyArtwork = lazyArtwork;
+      return this;
+    }
+
+    /**
+     * Read, and later save, using a fixed set of tag options instead of whatever {@link TagOptionSingleton#getInstance()} holds at
+     * the time. The options are {@link TagOptionSingleton#snapshot() snapshot} here so later changes to {@code tagOptions} aren't
+     * seen.
+     *
+     * @param tagOptions options to snapshot, null to use the shared options
+     *
+     * @return this builder
+     */
+    public Builder tagOptions(final TagOptionSingleton tagOptions) {
+      this.tagOptions = tagOptions == null ? null : tagOptions.snapshot();
+      return this;
+    }
+
+    /**
+     * Only read the tag fields mapped to {@code fields}. Other fields are skipped over without being decoded, which is much cheaper
+     * when only a few fields are needed, such as when indexing a library. As with {@link #ignoreArtwork(boolean)}, the resulting tag is
+     * read-only if anything was skipped so the missing fields can't be lost on save.
+     * <p>
+     * Supported for ID3v2 (mp3), mp4 and Vorbis comment (ogg, flac) tags. Other formats read all fields.
+     *
+     * @param fields the fields to read, null to read all fields
+     *
+     * @return this builder
+     */
+    public Builder fields(final Set<FieldKey> fields) {
+      this.fields = fields == null ? null : Sets.immutableEnumSet(fields);
+      return this;
+    }
+
+    /**
+     * Find the duration by counting every frame instead of estimating it. MP3 durations come from the Xing or VBRI frame if there is
+     * one, otherwise from the file size and the first frame, which is wrong for variable bitrate files without such a frame. Counting
+     * reads all the audio, so large files are split into regions counted in parallel.
+     * <p>
+     * Supported for mp3, see {@link ealvatag.audio.mp3.MP3AudioHeader#getFrameScan()}. Other formats read the duration as usual.
+     *
+     * @param exactDuration true to count every frame
+     *
+     * @return this builder
+     */
+    public Builder exactDuration(final boolean exactDuration) {
+      this.exactDuration = exactDuration;
+      return this;
+    }
+
+    /**
+     * Keep the bytes of each tag frame as they were read and only decode a frame when it's first accessed through the tag. Reading a
+     * large tag when only a few fields are wanted then costs little more than copying its bytes, and unlike
+     * {@link #fields(Set)} the tag remains writable: frames which were never accessed are written back exactly as they were read.
+     * <p>
+     * Supported for ID3v2 (mp3). Frames which are compressed, encrypted or, in v2.4, unsynchronized are decoded as usual, and a frame
+     * which can't be decoded when accessed is kept as an unsupported frame rather than dropped. Other formats read as usual.
+     *
+     * @param lazyFrames true to decode frames when first accessed
+     *
+     * @return this builder
+     */
+    public Builder lazyFrames(final boolean lazyFrames) {
+      this.lazyFrames = lazyFrames;
+      return this;
+    }
+
+    public ReadOptions build() {
+      return new ReadOptions(this);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+
+import java.io.File;
+
+/**
+ * Outcome of reading a single file during a batch read. Either {@link #getAudioFile()} or {@link #getFailure()} is present, never both.
+ */
+public final class ReadResult {
+  private final File file;
+  private final AudioFile audioFile;
+  private final Exception failure;
+
+  private ReadResult(final File file, final AudioFile audioFile, final Exception failure) {
+    this.file = Preconditions.checkNotNull(file);
+    this.audioFile = audioFile;
+    this.failure = failure;
+  }
+
+  static ReadResult success(final File file, final AudioFile audioFile) {
+    return new ReadResult(file, Preconditions.checkNotNull(audioFile), null);
+  }
+
+  static ReadResult failure(final File file, final Exception failure) {
+    return new ReadResult(file, null, Preconditions.checkNotNull(failure));
+  }
+
+  /**
+   * @return the file that was read
+   */
+  public File getFile() {
+    return file;
+  }
+
+  /**
+   * @return true if the file was read without error
+   */
+  public boolean isSuccess() {
+    return audioFile != null;
+  }
+
+  /**
+   * @return the AudioFile that was read, absent if the read failed
+   */
+  public Optional<AudioFile> getAudioFile() {
+    return Optional.fromNullable(audioFile);
+  }
+
+  /**
+   * @return the exception thrown while reading, absent if the read succeeded. Typically a
+   * {@link ealvatag.audio.exceptions.CannotReadException} or {@link java.io.IOException}
+   */
+  public Optional<Exception> getFailure() {
+    return Optional.fromNullable(failure);
+  }
+
+  @Override public String toString() {
+    return "ReadResult{file=" + file + (isSuccess() ? "" : ", failure=" + failure) + '}';
+  }
+}
@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import com.google.common.base.Enums;
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagException;
+import ealvatag.tag.TagField;
+import ealvatag.tag.UnsupportedFieldException;
+import ealvatag.utils.StandardCharsets;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+
+import static com.ealva.ealvalog.LogLevel.WARN;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A persistent cache of read results for rescanning a library in which few files change between scans. Each entry holds a snapshot of
+ * the {@link AudioHeader} and the text fields of the tag, keyed by canonical path, and is only used if the file still has the length
+ * and modification time it had when it was read.
+ * <p>
+ * On a hit {@link #read(File)} returns a read-only {@link AudioFile} built from the snapshot without opening the file. Its tag holds
+ * every text field of the original tag; artwork and binary fields aren't cached. Fields the file format doesn't support are empty rather
+ * than throwing {@link UnsupportedFieldException}. On a miss the file is read with {@link AudioFileIO#read(File, ReadOptions)}, cached,
+ * and the full, writable, AudioFile is returned.
+ * <p>
+ * The cache is loaded from its store file when built and written back by {@link #flush()} and {@link #close()}. It's safe to use from
+ * multiple threads, such as from {@link AudioFileIO#readAll(Iterable, java.util.concurrent.Executor, ReadOptions)} workers.
+ */
+public final class ScanCache implements Closeable {
+  private static final JLogger LOG = JLoggers.get(ScanCache.class, EalvaTagLog.MARKER);
+
+  private static final int MAGIC = 0x45415343; // "EASC"
+  private static final int VERSION = 2;
+  private static final FieldKey[] FIELD_KEYS = FieldKey.values();
+
+  private final File store;
+  private final ReadOptions readOptions;
+  private final Cache<String, Entry> cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong stale = new AtomicLong();
+
+  private ScanCache(final Builder builder) {
+    store = builder.store;
+    readOptions = builder.readOptions;
+    CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder().recordStats();
+    if (builder.maximumSize >= 0) {
+      cacheBuilder.maximumSize(builder.maximumSize);
+    }
+    if (builder.expireAfterWriteNanos >= 0) {
+      cacheBuilder.expireAfterWrite(builder.expireAfterWriteNanos, TimeUnit.NANOSECONDS);
+    }
+    cache = cacheBuilder.build();
+  }
+
+  /**
+   * @param store file the cache is loaded from and saved to. Created on the first {@link #flush()} if it doesn't exist
+   *
+   * @return a builder for a cache kept in {@code store}
+   */
+  public static Builder builder(final File store) {
+    return new Builder(store);
+  }
+
+  /**
+   * Read {@code file} from the cache if it hasn't changed since it was cached, otherwise from the file itself
+   *
+   * @param file the file to read
+   *
+   * @return a read-only AudioFile if the file was found in the cache, otherwise the result of {@link AudioFileIO#read(File,
+   * ReadOptions)}
+   *
+   * @throws CannotReadException        If the file could not be read, the extension wasn't recognized, or an IO error occurred during the
+   *                                    read.
+   * @throws TagException               various tag exceptions (to be refactored)
+   * @throws IOException                if error reading
+   * @throws InvalidAudioFrameException if audio frame is corrupted
+   */
+  public AudioFile read(final File file) throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
+    final String key = file.getCanonicalPath();
+    final long length = file.length();
+    final long lastModified = file.lastModified();
+    final Entry entry = cache.getIfPresent(key);
+    if (entry != null) {
+      if (entry.length == length && entry.lastModified == lastModified) {
+        hits.incrementAndGet();
+        return new CachedAudioFile(file, entry);
+      }
+      stale.incrementAndGet();
+    }
+    misses.incrementAndGet();
+    final AudioFile audioFile = AudioFileIO.read(file, readOptions);
+    cache.put(key, Entry.of(length, lastModified, audioFile, readOptions.fields()));
+    return audioFile;
+  }
+
+  /**
+   * Remove {@code file} from the cache so the next {@link #read(File)} reads the file, such as after saving it
+   */
+  public void invalidate(final File file) throws IOException {
+    cache.invalidate(file.getCanonicalPath());
+  }
+
+  /**
+   * @return number of entries currently cached
+   */
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * @return number of reads answered from the cache
+   */
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  /**
+   * @return number of reads which had to read the file, including {@link #getStaleCount() stale} entries
+   */
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  /**
+   * @return number of reads which found an entry for a file that had since changed
+   */
+  public long getStaleCount() {
+    return stale.get();
+  }
+
+  /**
+   * @return number of entries evicted due to the size or age limits
+   */
+  public long getEvictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  /**
+   * Write the cache to its store file. The file is replaced only once the new contents have been completely written
+   *
+   * @throws IOException if the store can't be written
+   */
+  public synchronized void flush() throws IOException {
+    cache.cleanUp();
+    final File temp = new File(store.getPath() + ".tmp");
+    try (BufferedSink sink = Okio.buffer(Okio.sink(temp))) {
+      sink.writeInt(MAGIC);
+      sink.writeInt(VERSION);
+      final Map<String, Entry> entries = ImmutableMap.copyOf(cache.asMap());
+      sink.writeInt(entries.size());
+      for (Map.Entry<String, Entry> next : entries.entrySet()) {
+        writeString(sink, next.getKey());
+        next.getValue().write(sink);
+      }
+    }
+    if (!temp.renameTo(store)) {
+      // some platforms won't rename over an existing file, so keep the old store aside until the new one has replaced it
+      final File old = oldStore();
+      if (old.exists() && !old.delete() || store.exists() && !store.renameTo(old)) {
+        throw new IOException("Unable to replace " + store);
+      }
+      if (!temp.renameTo(store)) {
+        if (old.exists() && !old.renameTo(store)) {
+          LOG.log(WARN, "Unable to restore %s from %s", store, old);
+        }
+        throw new IOException("Unable to replace " + store);
+      }
+      if (old.exists() && !old.delete()) {
+        LOG.log(WARN, "Unable to delete %s", old);
+      }
+    }
+  }
+
+  /**
+   * Same as {@link #flush()}
+   */
+  @Override public void close() throws IOException {
+    flush();
+  }
+
+  @Override public String toString() {
+    return "ScanCache{" + store + ", size=" + size() + ", hits=" + hits + ", misses=" + misses + ", stale=" + stale +
+        ", evictions=" + getEvictionCount() + '}';
+  }
+
+  /**
+   * @return where the store is kept while {@link #flush()} replaces it
+   */
+  private File oldStore() {
+    return new File(store.getPath() + ".old");
+  }
+
+  private void load() {
+    // a flush interrupted while replacing the store leaves only the old one
+    final File file = store.exists() ? store : oldStore();
+    if (!file.exists()) {
+      return;
+    }
+    try (BufferedSource source = Okio.buffer(Okio.source(file))) {
+      if (source.readInt() != MAGIC || source.readInt() != VERSION) {
+        LOG.log(WARN, "Ignoring %s, not a scan cache of this version", file);
+        return;
+      }
+      for (int count = source.readInt(); count > 0; count--) {
+        final String key = readString(source);
+        cache.put(key, Entry.read(source));
+      }
+    } catch (IOException | RuntimeException e) {
+      LOG.log(WARN, e, "Unable to load scan cache %s, starting empty", file);
+      cache.invalidateAll();
+    }
+  }
+
+  private static void writeString(final BufferedSink sink, final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    sink.writeInt(bytes.length);
+    sink.write(bytes);
+  }
+
+  private static String readString(final BufferedSource source) throws IOException {
+    return new String(source.readByteArray(source.readInt()), StandardCharsets.UTF_8);
+  }
+
+  public static final class Builder {
+    private final File store;
+    private ReadOptions readOptions = ReadOptions.LAZY_ARTWORK;
+    private long maximumSize = -1;
+    private long expireAfterWriteNanos = -1;
+
+    private Builder(final File store) {
+      this.store = Preconditions.checkNotNull(store);
+    }
+
+    /**
+     * @param readOptions options used to read files not found in the cache. If {@link ReadOptions#fields()} is set only those fields
+     *                    are cached. Defaults to {@link ReadOptions#LAZY_ARTWORK}
+     *
+     * @return this builder
+     */
+    public Builder readOptions(final ReadOptions readOptions) {
+      this.readOptions = Preconditions.checkNotNull(readOptions);
+      return this;
+    }
+
+    /**
+     * @param maximumSize the most entries to keep, the least recently used are evicted first. Unlimited by default
+     *
+     * @return this builder
+     */
+    public Builder maximumSize(final long maximumSize) {
+      Preconditions.checkArgument(maximumSize >= 0, "maximumSize must be >= 0");
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    /**
+     * @param duration how long after an entry is cached it's evicted, even if the file hasn't changed. Never by default. Only time in
+     *                 the running process counts, entries loaded from the store start again
+     * @param unit     unit of {@code duration}
+     *
+     * @return this builder
+     */
+    public Builder expireAfterWrite(final long duration, final TimeUnit unit) {
+      Preconditions.checkArgument(duration >= 0, "duration must be >= 0");
+      this.expireAfterWriteNanos = unit.toNanos(duration);
+      return this;
+    }
+
+    /**
+     * @return a cache loaded from the store file. An unreadable store is logged and ignored
+     */
+    public ScanCache build() {
+      final ScanCache scanCache = new ScanCache(this);
+      scanCache.load();
+      return scanCache;
+    }
+  }
+
+  private static final class Entry {
+    private final long length;
+    private final long lastModified;
+    private final CachedAudioHeader header;
+    private final boolean hasTag;
+    private final EnumMap<FieldKey, List<String>> fields;
+
+    private Entry(final long length,
+                  final long lastModified,
+                  final CachedAudioHeader header,
+                  final boolean hasTag,
+                  final EnumMap<FieldKey, List<String>> fields) {
+      this.length = length;
+      this.lastModified = lastModified;
+      this.header = header;
+      this.hasTag = hasTag;
+      this.fields = fields;
+    }
+
+    static Entry of(final long length, final long lastModified, final AudioFile audioFile, final Set<FieldKey> wanted) {
+      final EnumMap<FieldKey, List<String>> fields = new EnumMap<>(FieldKey.class);
+      final Tag tag = audioFile.getTag().orNull();
+      if (tag != null) {
+        for (FieldKey fieldKey : wanted != null ? wanted : tag.getSupportedFields()) {
+          try {
+            final List<String> values = tag.getAll(fieldKey);
+            if (!values.isEmpty()) {
+              fields.put(fieldKey, ImmutableList.copyOf(values));
+            }
+          } catch (UnsupportedFieldException | IllegalArgumentException e) {
+            // not supported by this format, leave it empty
+          }
+        }
+      }
+      return new Entry(length, lastModified, new CachedAudioHeader(audioFile.getAudioHeader()), tag != null, fields);
+    }
+
+    void write(final BufferedSink sink) throws IOException {
+      sink.writeLong(length);
+      sink.writeLong(lastModified);
+      header.write(sink);
+      sink.writeByte(hasTag ? 1 : 0);
+      sink.writeInt(fields.size());
+      for (Map.Entry<FieldKey, List<String>> next : fields.entrySet()) {
+        // by name, as the order of FieldKey changes as keys are added
+        writeString(sink, next.getKey().name());
+        sink.writeInt(next.getValue().size());
+        for (String value : next.getValue()) {
+          writeString(sink, value);
+        }
+      }
+    }
+
+    static Entry read(final BufferedSource source) throws IOException {
+      final long length = source.readLong();
+      final long lastModified = source.readLong();
+      final CachedAudioHeader header = CachedAudioHeader.read(source);
+      final boolean hasTag = source.readByte() != 0;
+      final EnumMap<FieldKey, List<String>> fields = new EnumMap<>(FieldKey.class);
+      for (int fieldCount = source.readInt(); fieldCount > 0; fieldCount--) {
+        final String name = readString(source);
+        final int valueCount = source.readInt();
+        final List<String> values = new ArrayList<>(valueCount);
+        for (int i = 0; i < valueCount; i++) {
+          values.add(readString(source));
+        }
+        final FieldKey fieldKey = Enums.getIfPresent(FieldKey.class, name).orNull();
+        if (fieldKey != null) {
+          // a key written by a newer version of the library is dropped
+          fields.put(fieldKey, values);
+        }
+      }
+      return new Entry(length, lastModified, header, hasTag, fields);
+    }
+  }
+
+  private static final class CachedAudioHeader implements AudioHeader {
+    private final String encodingType;
+    private final String format;
+    private final int byteRate;
+    private final int bitRate;
+    private final int sampleRate;
+    private final int channelCount;
+    private final int bitsPerSample;
+    private final boolean variableBitRate;
+    private final boolean lossless;
+    private final long audioDataLength;
+    private final long audioDataStartPosition;
+    private final long audioDataEndPosition;
+    private final long noOfSamples;
+    private final long durationNanos;
+    private final double durationAsDouble;
+
+    CachedAudioHeader(final AudioHeader header) {
+      encodingType = header.getEncodingType();
+      format = header.getFormat();
+      byteRate = header.getByteRate();
+      bitRate = header.getBitRate();
+      sampleRate = header.getSampleRate();
+      channelCount = header.getChannelCount();
+      bitsPerSample = header.getBitsPerSample();
+      variableBitRate = header.isVariableBitRate();
+      lossless = header.isLossless();
+      audioDataLength = header.getAudioDataLength();
+      audioDataStartPosition = header.getAudioDataStartPosition();
+      audioDataEndPosition = header.getAudioDataEndPosition();
+      noOfSamples = header.getNoOfSamples();
+      durationNanos = header.getDuration(TimeUnit.NANOSECONDS, false);
+      durationAsDouble = header.getDurationAsDouble();
+    }
+
+    private CachedAudioHeader(final BufferedSource source) throws IOException {
+      encodingType = readString(source);
+      format = readString(source);
+      byteRate = source.readInt();
+      bitRate = source.readInt();
+      sampleRate = source.readInt();
+      channelCount = source.readInt();
+      bitsPerSample = source.readInt();
+      variableBitRate = source.readByte() != 0;
+      lossless = source.readByte() != 0;
+      audioDataLength = source.readLong();
+      audioDataStartPosition = source.readLong();
+      audioDataEndPosition = source.readLong();
+      noOfSamples = source.readLong();
+      durationNanos = source.readLong();
+      durationAsDouble = Double.longBitsToDouble(source.readLong());
+    }
+
+    static CachedAudioHeader read(final BufferedSource source) throws IOException {
+      return new CachedAudioHeader(source);
+    }
+
+    void write(final BufferedSink sink) throws IOException {
+      writeString(sink, encodingType == null ? "" : encodingType);
+      writeString(sink, format == null ? "" : format);
+      sink.writeInt(byteRate);
+      sink.writeInt(bitRate);
+      sink.writeInt(sampleRate);
+      sink.writeInt(channelCount);
+      sink.writeInt(bitsPerSample);
+      sink.writeByte(variableBitRate ? 1 : 0);
+      sink.writeByte(lossless ? 1 : 0);
+      sink.writeLong(audioDataLength);
+      sink.writeLong(audioDataStartPosition);
+      sink.writeLong(audioDataEndPosition);
+      sink.writeLong(noOfSamples);
+      sink.writeLong(durationNanos);
+      sink.writeLong(Double.doubleToLongBits(durationAsDouble));
+    }
+
+    @Override public String getEncodingType() {
+      return encodingType;
+    }
+
+    @Override public int getByteRate() {
+      return byteRate;
+    }
+
+    @Override public int getBitRate() {
+      return bitRate;
+    }
+
+    @Override public long getAudioDataLength() {
+      return audioDataLength;
+    }
+
+    @Override public long getAudioDataStartPosition() {
+      return audioDataStartPosition;
+    }
+
+    @Override public long getAudioDataEndPosition() {
+      return audioDataEndPosition;
+    }
+
+    @Override public int getSampleRate() {
+      return sampleRate;
+    }
+
+    @Override public String getFormat() {
+      return format;
+    }
+
+    @Override public int getChannelCount() {
+      return channelCount;
+    }
+
+    @Override public boolean isVariableBitRate() {
+      return variableBitRate;
+    }
+
+    @Override public long getDuration(final TimeUnit timeUnit, final boolean round) {
+      return round ? Math.round((double)durationNanos / TimeUnit.NANOSECONDS.convert(1, timeUnit))
+                   : timeUnit.convert(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override public double getDurationAsDouble() {
+      return durationAsDouble;
+    }
+
+    @Override public int getBitsPerSample() {
+      return bitsPerSample;
+    }
+
+    @Override public boolean isLossless() {
+      return lossless;
+    }
+
+    @Override public long getNoOfSamples() {
+      return noOfSamples;
+    }
+
+    @Override public String toString() {
+      return "CachedAudioHeader{" + encodingType + ", bitRate=" + bitRate + ", sampleRate=" + sampleRate + ", channels=" + channelCount +
+          ", duration=" + durationAsDouble + '}';
+    }
+  }
+
+  /**
+   * Read-only tag holding the cached text fields
+   */
+  private static final class CachedTag extends GenericTag {
+    private static final ImmutableSet<FieldKey> ALL_FIELDS = ImmutableSet.copyOf(FIELD_KEYS);
+
+    CachedTag(final Map<FieldKey, List<String>> fields) {
+      for (Map.Entry<FieldKey, List<String>> next : fields.entrySet()) {
+        for (String value : next.getValue()) {
+          addField(new GenericTagTextField(next.getKey().name(), value));
+        }
+      }
+      setReadOnly();
+      setClean();
+    }
+
+    @Override public ImmutableSet<FieldKey> getSupportedFields() {
+      return ALL_FIELDS;
+    }
+
+    @Override public TagField createCompilationField(final boolean value) throws UnsupportedFieldException {
+      throw new UnsupportedFieldException("Tag read from a scan cache is read-only");
+    }
+
+    @Override public String toString() {
+      return "CACHED " + super.toString();
+    }
+  }
+
+  private static final class CachedAudioFile implements AudioFile {
+    private final File file;
+    private final AudioHeader header;
+    private final Optional<Tag> tag;
+
+    CachedAudioFile(final File file, final Entry entry) {
+      this.file = file;
+      this.header = entry.header;
+      this.tag = entry.hasTag ? Optional.<Tag>of(new CachedTag(entry.fields)) : Optional.<Tag>absent();
+    }
+
+    @Override public boolean readOnly() {
+      return true;
+    }
+
+    @Override public boolean isDirty() {
+      return false;
+    }
+
+    @Override public void save() throws CannotWriteException {
+      throw new CannotWriteException("%s was read from a scan cache and can't be saved", file);
+    }
+
+    @Override public void saveAs(final String fullPathWithoutExtension) throws IllegalArgumentException, CannotWriteException {
+      throw new CannotWriteException("%s was read from a scan cache and can't be saved", file);
+    }
+
+    @Override public void deleteFileTag() throws CannotWriteException {
+      throw new CannotWriteException("%s was read from a scan cache and can't be saved", file);
+    }
+
+    @Override public File getFile() {
+      return file;
+    }
+
+    @Override public AudioHeader getAudioHeader() {
+      return header;
+    }
+
+    @Override public Optional<Tag> getTag() {
+      return tag;
+    }
+
+    @Override public Tag setNewDefaultTag() throws UnsupportedFileType {
+      throw new UnsupportedFileType(file.getPath() + " was read from a scan cache");
+    }
+
+    @Override public Tag getTagOrSetNewDefault() throws UnsupportedFileType, CannotWriteException {
+      if (tag.isPresent()) {
+        return tag.get();
+      }
+      throw new CannotWriteException("%s was read from a scan cache and can't be saved", file);
+    }
+
+    @Override public Tag getConvertedTagOrSetNewDefault() throws CannotWriteException {
+      return getTagOrSetNewDefault();
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio;
+
+import ealvatag.tag.options.PaddingPolicy;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts, for the life of the process, how often saving metadata fitted in the space the file already had and how often the audio had
+ * to be moved, which for most formats means the whole file is rewritten. A high proportion of moves suggests more padding, see
+ * {@link PaddingPolicy}.
+ * <p>
+ * Safe to use from multiple threads.
+ */
+public final class TagWriteStatistics {
+  /** Kinds of metadata counted separately */
+  public enum Kind {
+    /** ID3v2 tags, in front of MP3 audio or in a WAV, AIFF or DSF chunk */
+    ID3V2,
+    FLAC,
+    MP4
+  }
+
+  private static final AtomicLongArray IN_PLACE = new AtomicLongArray(Kind.values().length);
+  private static final AtomicLongArray MOVED = new AtomicLongArray(Kind.values().length);
+
+  private TagWriteStatistics() {
+  }
+
+  /**
+   * Record a save which fitted in the existing space
+   */
+  public static void recordInPlace(final Kind kind) {
+    IN_PLACE.incrementAndGet(kind.ordinal());
+  }
+
+  /**
+   * Record a save which had to move the audio
+   */
+  public static void recordMoved(final Kind kind) {
+    MOVED.incrementAndGet(kind.ordinal());
+  }
+
+  /**
+   * @return number of saves of {@code kind} which fitted in the existing space
+   */
+  public static long getInPlaceCount(final Kind kind) {
+    return IN_PLACE.get(kind.ordinal());
+  }
+
+  /**
+   * @return number of saves of {@code kind} which had to move the audio
+   */
+  public static long getMovedCount(final Kind kind) {
+    return MOVED.get(kind.ordinal());
+  }
+
+  /**
+   * Set every count back to 0
+   */
+  public static void reset() {
+    for (int i = 0; i < IN_PLACE.length(); i++) {
+      IN_PLACE.set(i, 0);
+      MOVED.set(i, 0);
+    }
+  }
+
+  /**
+   * @return the counts of each kind, for logging
+   */
+  public static String summary() {
+    final StringBuilder builder = new StringBuilder("TagWriteStatistics{");
+    for (Kind kind : Kind.values()) {
+      if (kind.ordinal() > 0) {
+        builder.append(", ");
+      }
+      builder.append(kind).append("=[inPlace=").append(getInPlaceCount(kind)).append(", moved=").append(getMovedCount(kind)).append(']');
+    }
+    return builder.append('}').toString();
+  }
+}
@@ -49,8 +49,10 @@ public class AiffUtil
 
     /**
      * Format a date as text
+     * <p>
+     * Synchronized because SimpleDateFormat is not thread safe
      */
-    public static String formatDate(Date dat)
+    public static synchronized String formatDate(Date dat)
     {
         return dateFmt.format(dat);
     }
@@ -24,6 +24,7 @@ import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.asf.data.AsfHeader;
 import ealvatag.audio.asf.data.AudioStreamChunk;
 import ealvatag.audio.asf.data.MetadataContainer;
@@ -158,6 +159,7 @@ public class AsfFileReader extends AudioFileReader {
             "Some values must have been " + "incorrect for interpretation as asf with wma content.");
       }
       info = getAudioHeader(header);
+      setAudioDataPositions(info, header, raf.length());
     } catch (final Exception e) {
       if (e instanceof IOException) {
         throw (IOException)e;
@@ -207,7 +209,7 @@ public class AsfFileReader extends AudioFileReader {
   }
 
   @Override
-  public AudioFile read(final File f, final String extension, final boolean ignoreArtwork)
+  public AudioFile read(final File f, final String extension, final ReadOptions options)
       throws CannotReadException, IOException, TagException, InvalidAudioFrameException {
     try (InputStream stream = new FullRequestInputStream(new BufferedInputStream(new FileInputStream(f)))) {
       final AsfHeader header = HEADER_READER.read(Utils.readGUID(stream), stream, 0);
@@ -223,8 +225,16 @@ public class AsfFileReader extends AudioFileReader {
         LOG.log(WARN, ErrorMessage.ASF_FILE_HEADER_SIZE_DOES_NOT_MATCH_FILE_SIZE, f, header.getFileHeader().getFileSize(), f.length());
       }
 
-      return new AudioFileImpl(f, extension, getAudioHeader(header), getTag(header));
+      final GenericAudioHeader info = getAudioHeader(header);
+      setAudioDataPositions(info, header, f.length());
+      return new AudioFileImpl(f, extension, info, getTag(header));
     }
   }
 
+  private static void setAudioDataPositions(final GenericAudioHeader info, final AsfHeader header, final long fileLength) {
+    // The header object holds all metadata, the data and index objects follow it
+    info.setAudioDataStartPosition(header.getChunkEnd());
+    info.setAudioDataEndPosition(fileLength);
+  }
+
 }
@@ -45,7 +45,15 @@ public class DsfFileReader extends AudioFileReader2 {
       ByteBuffer fmtChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
       FmtChunk fmt = FmtChunk.readChunkHeader(fmtChunkBuffer);
       if (fmt != null) {
-        return fmt.readChunkData(dsd, fc);
+        GenericAudioHeader audioHeader = fmt.readChunkData(dsd, fc);
+        // The data chunk follows the fmt chunk and its size includes the chunk header
+        long dataChunkStart = fc.position();
+        ByteBuffer dataChunkBuffer = Utils.readFileDataIntoBufferLE(fc, IffHeaderChunk.SIGNATURE_LENGTH + CHUNKSIZE_LENGTH);
+        if (DsfChunkType.DATA.getCode().equals(Utils.readFourBytesAsChars(dataChunkBuffer))) {
+          audioHeader.setAudioDataStartPosition(fc.position());
+          audioHeader.setAudioDataEndPosition(dataChunkStart + dataChunkBuffer.getLong());
+        }
+        return audioHeader;
       } else {
         throw new CannotReadException(fileName + " Not a valid dsf file. Content does not include 'fmt ' chunk");
       }
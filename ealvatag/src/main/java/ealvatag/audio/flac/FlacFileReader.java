@@ -20,6 +20,7 @@ package ealvatag.audio.flac;
 
 import ealvatag.audio.AudioFileReader2;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.tag.TagFieldContainer;
 
@@ -31,8 +32,9 @@ import java.nio.channels.FileChannel;
  */
 public class FlacFileReader extends AudioFileReader2 {
 
-    private FlacInfoReader ir = new FlacInfoReader();
-    private FlacTagReader tr = new FlacTagReader();
+    // Readers are shared across threads (see CachingAudioFileReaderFactory) so these must remain stateless
+    private final FlacInfoReader ir = new FlacInfoReader();
+    private final FlacTagReader tr = new FlacTagReader();
 
     protected GenericAudioHeader getEncodingInfo(FileChannel channel, final String fileName) throws CannotReadException, IOException {
         return ir.read(channel, fileName);
@@ -42,4 +44,10 @@ public class FlacFileReader extends AudioFileReader2 {
             throws CannotReadException, IOException {
         return tr.read(channel, fileName, ignoreArtwork);
     }
+
+    @Override
+    protected TagFieldContainer getTag(FileChannel channel, final String fileName, final ReadOptions options)
+            throws CannotReadException, IOException {
+        return tr.read(channel, fileName, options.ignoreArtwork(), options.fields(), options.lazyArtwork());
+    }
 }
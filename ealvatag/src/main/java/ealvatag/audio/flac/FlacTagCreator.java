@@ -45,7 +45,7 @@ public class FlacTagCreator
   // Logger Object
   public static JLogger LOG = JLoggers.get(FlacTagCreator.class, EalvaTagLog.MARKER);
 
-  //TODO make an option
+  //Used when no TagOptionSingleton padding policy is set
   static final int DEFAULT_PADDING = 4000;
 
   private static final VorbisCommentCreator creator = new VorbisCommentCreator();
@@ -60,7 +60,7 @@ public class FlacTagCreator
       vorbiscomment = creator.convert(flacTag.getVorbisCommentTag());
       tagLength = vorbiscomment.capacity() + MetadataBlockHeader.HEADER_LENGTH;
     }
-    for (MetadataBlockDataPicture image : flacTag.getImages()) {
+    for (MetadataBlockDataPicture image : flacTag.imageList()) {
       tagLength += image.getBytes().limit() + MetadataBlockHeader.HEADER_LENGTH;
     }
 
@@ -70,7 +70,7 @@ public class FlacTagCreator
     MetadataBlockHeader vorbisHeader;
     //If there are other metadata blocks
     if (flacTag.getVorbisCommentTag() != null) {
-      if ((paddingSize > 0) || (flacTag.getImages().size() > 0)) {
+      if ((paddingSize > 0) || (flacTag.imageList().size() > 0)) {
         vorbisHeader = new MetadataBlockHeader(false, BlockType.VORBIS_COMMENT, vorbiscomment.capacity());
       } else {
         vorbisHeader = new MetadataBlockHeader(true, BlockType.VORBIS_COMMENT, vorbiscomment.capacity());
@@ -80,7 +80,7 @@ public class FlacTagCreator
     }
 
     //Images
-    ListIterator<MetadataBlockDataPicture> li = flacTag.getImages().listIterator();
+    ListIterator<MetadataBlockDataPicture> li = flacTag.imageList().listIterator();
     while (li.hasNext()) {
       MetadataBlockDataPicture imageField = li.next();
       MetadataBlockHeader imageHeader;
@@ -27,18 +27,22 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
 import ealvatag.audio.flac.metadatablock.MetadataBlockHeader;
+import ealvatag.audio.io.FileRegion;
 import ealvatag.logging.Hex;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.flac.FlacTag;
 import ealvatag.tag.vorbiscomment.VorbisCommentReader;
 import ealvatag.tag.vorbiscomment.VorbisCommentTag;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Read Flac Tag
@@ -47,10 +51,31 @@ public class FlacTagReader {
   // Logger Object
   public static JLogger LOG = JLoggers.get(FlacTagReader.class, EalvaTagLog.MARKER);
 
-  private VorbisCommentReader vorbisCommentReader = new VorbisCommentReader();
+  private final VorbisCommentReader vorbisCommentReader = new VorbisCommentReader();
 
 
   public FlacTag read(FileChannel fc, final String path, final boolean ignoreArtwork) throws CannotReadException, IOException {
+    return read(fc, path, ignoreArtwork, null);
+  }
+
+  /**
+   * Same as {@link #read(FileChannel, String, boolean)} but only reads {@code fields} from the vorbis comment, null for all. The tag
+   * is read-only if any field was skipped
+   */
+  public FlacTag read(FileChannel fc, final String path, final boolean ignoreArtwork, final Set<FieldKey> fields)
+      throws CannotReadException, IOException {
+    return read(fc, path, ignoreArtwork, fields, false);
+  }
+
+  /**
+   * Same as {@link #read(FileChannel, String, boolean, Set)} but if {@code lazyArtwork} is true the image data of picture blocks is
+   * left in the file at {@code path} until first needed
+   */
+  public FlacTag read(FileChannel fc,
+                      final String path,
+                      final boolean ignoreArtwork,
+                      final Set<FieldKey> fields,
+                      final boolean lazyArtwork) throws CannotReadException, IOException {
     FlacStreamReader flacStream = new FlacStreamReader(fc, path + " ");
     flacStream.findStream();
 
@@ -60,6 +85,7 @@ public class FlacTagReader {
 
     //Seems like we have a valid stream
     boolean containsArtwork = false;
+    FileRegion fileRegion = null;
     boolean isLastBlock = false;
     while (!isLastBlock) {
       LOG.log(TRACE, "%s Looking for MetaBlockHeader at:%d", path, fc.position());
@@ -81,7 +107,7 @@ public class FlacTagReader {
           case VORBIS_COMMENT:
             ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
             fc.read(commentHeaderRawPacket);
-            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false);
+            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false, fields);
             break;
 
           case PICTURE:
@@ -91,7 +117,15 @@ public class FlacTagReader {
               fc.position(fc.position() + mbh.getDataLength());
             } else {
               try {
-                MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
+                MetadataBlockDataPicture mbdp;
+                if (lazyArtwork) {
+                  if (fileRegion == null) {
+                    fileRegion = new FileRegion(new File(path), 0, fc.size());
+                  }
+                  mbdp = new MetadataBlockDataPicture(mbh, fc, fileRegion);
+                } else {
+                  mbdp = new MetadataBlockDataPicture(mbh, fc);
+                }
                 images.add(mbdp);
               } catch (IOException | InvalidFrameException e) {
                 LOG.log(WARN, "%s Unable to read picture metablock, ignoring:%s", path, e.getMessage());
@@ -115,7 +149,7 @@ public class FlacTagReader {
     if (tag == null) {
       tag = VorbisCommentTag.createNewTag();
     }
-    return new FlacTag(tag, images, containsArtwork && ignoreArtwork);
+    return new FlacTag(tag, images, (containsArtwork && ignoreArtwork) || tag.isReadOnly());
   }
 }
 
@@ -24,6 +24,7 @@ import com.ealva.ealvalog.java.JLoggers;
 import static com.ealva.ealvalog.LogLevel.ERROR;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
+import ealvatag.audio.TagWriteStatistics;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.flac.metadatablock.MetadataBlock;
@@ -40,6 +41,7 @@ import ealvatag.tag.Tag;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.flac.FlacTag;
+import ealvatag.tag.options.PaddingPolicy;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -56,6 +58,8 @@ import java.util.concurrent.LinkedBlockingQueue;
 public class FlacTagWriter {
   // Logger Object
   public static JLogger LOG = JLoggers.get(FlacTagWriter.class, EalvaTagLog.MARKER);
+  /** Largest length of the data of a metadata block, its length field is 24 bits */
+  private static final int MAX_BLOCK_DATA_LENGTH = 0xFFFFFF;
   private FlacTagCreator tc = new FlacTagCreator();
 
   /**
@@ -170,6 +174,7 @@ public class FlacTagWriter {
       //adjust padding accordingly need to allow space for padding header if padding required
       if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH)) {
         LOG.log(TRACE, "%s Room to Rewrite", fileName);
+        TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.FLAC);
         //Jump over Id3 (if exists) and flac header
         fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
 
@@ -186,14 +191,17 @@ public class FlacTagWriter {
                 newTagSize,
                 availableRoom,
                 neededRoom - availableRoom);
-        //As we are having to both anyway may as well put in the default padding
+        TagWriteStatistics.recordMoved(TagWriteStatistics.Kind.FLAC);
+        //As we are having to both anyway may as well put in some padding
+        int padding = computePadding(flacStream, neededRoom);
         insertUsingChunks(fileName,
                           tag,
                           fc,
                           blockInfo,
                           flacStream,
-                          neededRoom + FlacTagCreator.DEFAULT_PADDING,
-                          availableRoom);
+                          neededRoom + padding,
+                          availableRoom,
+                          padding);
       }
     } catch (IOException ioe) {
       LOG.log(ERROR, "Cannot write %s %s", fileName, ioe.getMessage());
@@ -202,6 +210,28 @@ public class FlacTagWriter {
   }
 
 
+  /**
+   * @return padding, including its block header, to write after metadata needing {@code neededRoom} bytes when the audio has to be
+   * moved, as decided by {@link TagOptionSingleton#getPaddingPolicy()}
+   */
+  private int computePadding(FlacStreamReader flacStream, int neededRoom) {
+    PaddingPolicy paddingPolicy = TagOptionSingleton.getInstance().getPaddingPolicy();
+    if (paddingPolicy == null) {
+      return FlacTagCreator.DEFAULT_PADDING;
+    }
+    long audioStart = flacStream.getStartOfFlacInFile()
+        + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH
+        + MetadataBlockHeader.HEADER_LENGTH
+        + MetadataBlockDataStreamInfo.STREAM_INFO_DATA_LENGTH
+        + neededRoom;
+    int padding = paddingPolicy.getPadding(audioStart);
+    if (padding <= 0) {
+      return 0;
+    }
+    //Padding is a metadata block so must have room for its header, and its length is 24 bits
+    return Math.min(Math.max(padding, MetadataBlockHeader.HEADER_LENGTH), MetadataBlockHeader.HEADER_LENGTH + MAX_BLOCK_DATA_LENGTH);
+  }
+
   /**
    * Insert metadata into space that is not large enough
    * <p>
@@ -215,7 +245,8 @@ public class FlacTagWriter {
                                  MetadataBlockInfo blockInfo,
                                  FlacStreamReader flacStream,
                                  int neededRoom,
-                                 int availableRoom) throws IOException {
+                                 int availableRoom,
+                                 int padding) throws IOException {
     long originalFileSize = fc.size();
 
     //Find end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for
@@ -252,7 +283,7 @@ public class FlacTagWriter {
     //Jump over Id3 (if exists) and Flac Header
     fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
     writeOtherMetadataBlocks(fc, blockInfo);
-    fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
+    fc.write(tc.convert(tag, padding));
     long writePosition = fc.position();
 
 
@@ -8,6 +8,7 @@ import static com.ealva.ealvalog.LogLevel.TRACE;
 import ealvatag.utils.StandardCharsets;
 import ealvatag.audio.AbstractTag;
 import ealvatag.audio.Utils;
+import ealvatag.audio.io.FileRegion;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.FieldKey;
 import ealvatag.tag.InvalidFrameException;
@@ -15,6 +16,7 @@ import ealvatag.tag.TagField;
 import ealvatag.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
@@ -59,6 +61,8 @@ public class MetadataBlockDataPicture
   private int indexedColouredCount;
   private int lengthOfPictureInBytes;
   private byte[] imageData;
+  //Where imageData is in the file if it has not been read yet
+  private FileRegion imageDataRegion;
 
   // Logger Object
   public static JLogger LOG = JLoggers.get(MetadataBlockDataPicture.class, EalvaTagLog.MARKER);
@@ -130,6 +134,72 @@ public class MetadataBlockDataPicture
 
   }
 
+  /**
+   * Construct picture block by reading everything but the image data from file. The image data is read from {@code fileRegion} when
+   * first needed, see {@link #getImageData()}
+   *
+   * @param header     header of the block, the channel is positioned immediately after it
+   * @param fc         channel to read from, positioned after the block on return
+   * @param fileRegion the part of the file {@code fc} is reading
+   *
+   * @throws IOException           if the block can't be read
+   * @throws InvalidFrameException if the block is corrupt
+   */
+  public MetadataBlockDataPicture(MetadataBlockHeader header, FileChannel fc, FileRegion fileRegion)
+      throws IOException, InvalidFrameException {
+    final long blockEnd = fc.position() + header.getDataLength();
+    try {
+      readAllButImageData(fc, blockEnd);
+      imageDataRegion = fileRegion.slice(fc.position(), lengthOfPictureInBytes);
+    } finally {
+      fc.position(blockEnd);
+    }
+    LOG.log(TRACE, "Read image:%s", this);
+  }
+
+  private void readAllButImageData(FileChannel fc, long blockEnd) throws IOException, InvalidFrameException {
+    //Picture Type, MimeType size
+    ByteBuffer rawdata = readFully(fc, 8, blockEnd);
+    pictureType = rawdata.getInt();
+    if (pictureType >= PictureTypes.getInstanceOf().getSize()) {
+      throw new InvalidFrameException("PictureType was:" + pictureType + "but the maximum allowed is " +
+                                          (PictureTypes.getInstanceOf().getSize() - 1));
+    }
+    int mimeTypeSize = rawdata.getInt();
+
+    //MimeType, Description size
+    rawdata = readFully(fc, mimeTypeSize + 4, blockEnd);
+    mimeType = getString(rawdata, mimeTypeSize, StandardCharsets.ISO_8859_1.name());
+    int descriptionSize = rawdata.getInt();
+
+    //Description, width, height, colour depth, indexed colour count, image data size
+    rawdata = readFully(fc, descriptionSize + 20, blockEnd);
+    description = getString(rawdata, descriptionSize, StandardCharsets.UTF_8.name());
+    width = rawdata.getInt();
+    height = rawdata.getInt();
+    colourDepth = rawdata.getInt();
+    indexedColouredCount = rawdata.getInt();
+    lengthOfPictureInBytes = rawdata.getInt();
+
+    if (lengthOfPictureInBytes < 0 || fc.position() + lengthOfPictureInBytes > blockEnd) {
+      throw new InvalidFrameException("Image size:" + lengthOfPictureInBytes + " larger than picture block");
+    }
+  }
+
+  private static ByteBuffer readFully(FileChannel fc, int length, long limit) throws IOException, InvalidFrameException {
+    if (length < 0 || fc.position() + length > limit) {
+      throw new InvalidFrameException("Field size:" + length + " larger than picture block");
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (fc.read(buffer) < 0) {
+        throw new EOFException("Unable to read required number of databytes required:" + length);
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
   /**
    * Construct new MetadataPicture block
    *
@@ -190,8 +260,8 @@ public class MetadataBlockDataPicture
       baos.write(Utils.getSizeBEInt32(height));
       baos.write(Utils.getSizeBEInt32(colourDepth));
       baos.write(Utils.getSizeBEInt32(indexedColouredCount));
-      baos.write(Utils.getSizeBEInt32(imageData.length));
-      baos.write(imageData);
+      baos.write(Utils.getSizeBEInt32(getImageData().length));
+      baos.write(getImageData());
       return ByteBuffer.wrap(baos.toByteArray());
 
     } catch (IOException ioe) {
@@ -200,6 +270,10 @@ public class MetadataBlockDataPicture
   }
 
   public int getLength() {
+    if (imageDataRegion != null) {
+      return 32 + mimeType.getBytes(StandardCharsets.ISO_8859_1).length + description.getBytes(StandardCharsets.UTF_8).length +
+          lengthOfPictureInBytes;
+    }
     return getBytes().limit();
   }
 
@@ -231,10 +305,32 @@ public class MetadataBlockDataPicture
     return indexedColouredCount;
   }
 
+  /**
+   * Returns the image data, reading it from the file first if this block was read lazily
+   *
+   * @return the image data
+   *
+   * @throws IllegalStateException if the image data can't be read from the file
+   */
   public byte[] getImageData() {
+    if (imageDataRegion != null) {
+      try {
+        imageData = imageDataRegion.read().readByteArray();
+        imageDataRegion = null;
+      } catch (IOException e) {
+        throw new IllegalStateException("Unable to read " + imageDataRegion, e);
+      }
+    }
     return imageData;
   }
 
+  /**
+   * @return true if the image data has been read, false if it's still in the file
+   */
+  public boolean isImageDataLoaded() {
+    return imageDataRegion == null;
+  }
+
   /**
    * @return true if imagedata  is held as a url rather than actually being imagedata
    */
@@ -257,7 +353,7 @@ public class MetadataBlockDataPicture
     return PictureTypes.getInstanceOf().getValue(pictureType) + ":" + mimeType + ":" + description + ":" +
         "width:" + width + ":height:" + height + ":colourdepth:" + colourDepth + ":indexedColourCount:" +
         indexedColouredCount
-        + ":image size in bytes:" + lengthOfPictureInBytes + "/" + imageData.length;
+        + ":image size in bytes:" + lengthOfPictureInBytes + "/" + (imageData == null ? "not loaded" : imageData.length);
   }
 
   /**
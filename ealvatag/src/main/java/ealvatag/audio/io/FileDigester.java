@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+
+/**
+ * Feeds runs of a file into a {@link MessageDigest}. Reads go straight from the channel into a direct buffer, one per thread and reused
+ * for every call, so hashing a large number of files doesn't allocate per file or per read.
+ */
+public final class FileDigester {
+  private static final int BUFFER_SIZE = 256 * 1024;
+
+  private static final ThreadLocal<ByteBuffer> BUFFER = new ThreadLocal<ByteBuffer>() {
+    @Override protected ByteBuffer initialValue() {
+      return ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+  };
+
+  private FileDigester() {
+  }
+
+  /**
+   * Update {@code digest} with {@code byteCount} bytes of the file starting at {@code position}. The channel's position isn't changed.
+   *
+   * @throws EOFException if the file ends before {@code byteCount} bytes are read
+   * @throws IOException  if the file can't be read
+   */
+  public static void update(final FileChannel channel, long position, long byteCount, final MessageDigest digest)
+      throws IOException {
+    if (position < 0 || byteCount < 0) {
+      throw new IndexOutOfBoundsException("position:" + position + " byteCount:" + byteCount);
+    }
+    final ByteBuffer buffer = BUFFER.get();
+    while (byteCount > 0) {
+      buffer.clear();
+      buffer.limit((int)Math.min(BUFFER_SIZE, byteCount));
+      final int read = channel.read(buffer, position);
+      if (read == -1) {
+        throw new EOFException();
+      }
+      buffer.flip();
+      digest.update(buffer);
+      position += read;
+      byteCount -= read;
+    }
+  }
+}
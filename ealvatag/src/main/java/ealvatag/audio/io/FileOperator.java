@@ -24,6 +24,8 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Read and write a target file. Unlike Okio's built-in {@linkplain Okio#source(java.io.File) file
@@ -35,6 +37,8 @@ import java.nio.channels.FileChannel;
  *   <li><strong>Shared channels:</strong> read and write a file channel that's shared between
  *       multiple operators. Note that although the underlying {@code FileChannel} may be shared,
  *       each {@code FileOperator} should not be.
+ *   <li><strong>Prefetch:</strong> fetch a region of the file with a single read, later reads that
+ *       fall within the region are served from memory.
  * </ul>
  */
 @SuppressWarnings("unused")
@@ -44,6 +48,8 @@ public final class FileOperator {
     private final byte[] byteArray = new byte[BUFFER_SIZE];
     private final ByteBuffer byteBuffer = ByteBuffer.wrap(byteArray);
     private final FileChannel fileChannel;
+    private final List<Region> regions = new ArrayList<>(2);
+    private int readCount;
 
     public FileOperator(FileChannel fileChannel) {
         this.fileChannel = fileChannel;
@@ -53,11 +59,65 @@ public final class FileOperator {
         return fileChannel;
     }
 
+    /**
+     * @return the number of reads issued to the file channel, prefetched reads included
+     */
+    public int getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * Read {@code byteCount} bytes from the file at {@code pos} with a single positional read, or as few as the channel allows, and
+     * keep them for later calls to {@link #read(long, Buffer, long)}. A region starting where an earlier one ends extends it. Fewer
+     * bytes are kept if the file ends first.
+     */
+    public void prefetch(long pos, long byteCount) throws IOException {
+        if (pos < 0 || byteCount < 0 || byteCount > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        ByteBuffer prefetched = ByteBuffer.allocate((int) byteCount);
+        while (prefetched.hasRemaining()) {
+            readCount++;
+            if (fileChannel.read(prefetched, pos + prefetched.position()) == -1) {
+                break;
+            }
+        }
+
+        Region region = null;
+        for (Region candidate : regions) {
+            if (candidate.end() == pos) {
+                region = candidate;
+                break;
+            }
+        }
+        if (region == null) {
+            region = new Region(pos);
+            regions.add(region);
+        }
+        region.data.write(prefetched.array(), 0, prefetched.position());
+    }
+
+    /**
+     * @return true if the {@code byteCount} bytes at {@code pos} were prefetched, so {@link #read(long, Buffer, long)} doesn't read them
+     * from the file
+     */
+    public boolean isPrefetched(long pos, long byteCount) {
+        for (Region region : regions) {
+            if (pos >= region.start && pos + byteCount <= region.end()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /** Write {@code byteCount} bytes from {@code source} to the file at {@code pos}. */
     public void write(long pos, Buffer source, long byteCount) throws IOException {
         if (byteCount < 0 || byteCount > source.size()) {
             throw new IndexOutOfBoundsException();
         }
+        // Prefetched bytes may be stale now
+        regions.clear();
 
         while (byteCount > 0L) {
             try {
@@ -89,10 +149,18 @@ public final class FileOperator {
             throw new IndexOutOfBoundsException();
         }
 
+        for (Region region : regions) {
+            if (pos >= region.start && pos + byteCount <= region.end()) {
+                region.data.copyTo(sink, pos - region.start, byteCount);
+                return;
+            }
+        }
+
         while (byteCount > 0L) {
             try {
                 // Read up to byteCount bytes.
                 byteBuffer.limit((int) Math.min(BUFFER_SIZE, byteCount));
+                readCount++;
                 if (fileChannel.read(byteBuffer, pos) == -1) {
                     throw new EOFException();
                 }
@@ -107,4 +175,17 @@ public final class FileOperator {
             }
         }
     }
+
+    private static final class Region {
+        private final long start;
+        private final Buffer data = new Buffer();
+
+        private Region(long start) {
+            this.start = start;
+        }
+
+        private long end() {
+            return start + data.size();
+        }
+    }
 }
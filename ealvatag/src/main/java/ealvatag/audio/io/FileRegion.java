@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.io;
+
+import okio.Buffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * A run of bytes in a file which is read later, if at all, rather than when the file is parsed. Used to load large fields, such as
+ * artwork, on demand.
+ * <p>
+ * The length and modification time of the file are recorded when the first region is created, and {@link #read()} fails if either has
+ * changed since, as the region may no longer hold the same data.
+ */
+public final class FileRegion {
+  private final File file;
+  private final long offset;
+  private final long length;
+  private final long fileLength;
+  private final long lastModified;
+
+  /**
+   * @param file   the file containing the region
+   * @param offset offset of the region from the start of the file
+   * @param length length of the region in bytes
+   */
+  public FileRegion(final File file, final long offset, final long length) {
+    this(file, offset, length, file.length(), file.lastModified());
+  }
+
+  private FileRegion(final File file, final long offset, final long length, final long fileLength, final long lastModified) {
+    if (offset < 0 || length < 0) {
+      throw new IllegalArgumentException("offset:" + offset + " length:" + length);
+    }
+    this.file = file;
+    this.offset = offset;
+    this.length = length;
+    this.fileLength = fileLength;
+    this.lastModified = lastModified;
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public long getOffset() {
+    return offset;
+  }
+
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * @param offset offset of the new region from the start of this region
+   * @param length length of the new region
+   *
+   * @return a region within this one
+   */
+  public FileRegion slice(final long offset, final long length) {
+    if (offset < 0 || length < 0 || offset + length > this.length) {
+      throw new IllegalArgumentException("offset:" + offset + " length:" + length + " not within " + this);
+    }
+    return new FileRegion(file, this.offset + offset, length, fileLength, lastModified);
+  }
+
+  /**
+   * @return a buffer holding the bytes of this region
+   *
+   * @throws IOException if the file can't be read or has been changed since this region was created
+   */
+  public Buffer read() throws IOException {
+    if (file.length() != fileLength || file.lastModified() != lastModified) {
+      throw new IOException(file.getPath() + " changed since it was read");
+    }
+    Buffer buffer = new Buffer();
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      FileChannel channel = raf.getChannel();
+      new FileOperator(channel).read(offset, buffer, length);
+    }
+    return buffer;
+  }
+
+  @Override public String toString() {
+    return "FileRegion{" + file.getPath() + ", offset=" + offset + ", length=" + length + '}';
+  }
+}
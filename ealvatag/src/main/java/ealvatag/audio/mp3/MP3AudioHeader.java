@@ -18,6 +18,7 @@
 package ealvatag.audio.mp3;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.base.Optional;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioHeader;
@@ -36,6 +37,7 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -77,6 +79,7 @@ import java.util.concurrent.TimeUnit;
   private long numberOfFramesEstimate;
   private int bitrate;
   private String encoder = "";
+  private MP3FrameScan frameScan;
 
   private static final int CONVERT_TO_KILOBITS = 1000;
   private static final String TYPE_MP3 = "mp3";
@@ -90,6 +93,11 @@ import java.util.concurrent.TimeUnit;
    * why chosen as a default.
    */
   private final static int FILE_BUFFER_SIZE = 5000;
+  /**
+   * Window read when scanning past the first {@link #FILE_BUFFER_SIZE} bytes without finding a frame
+   */
+  private final static int SCAN_BUFFER_SIZE = 64 * 1024;
+  private final static byte SYNC_BYTE = (byte)MPEGFrameHeader.SYNC_BYTE1;
   private final static int MIN_BUFFER_REMAINING_REQUIRED =
       MPEGFrameHeader.HEADER_SIZE + XingFrame.MAX_BUFFER_SIZE_NEEDED_TO_READ_XING;
   private static final int NO_SECONDS_IN_HOUR = 3600;
@@ -132,8 +140,10 @@ import java.util.concurrent.TimeUnit;
     try {
       while (true) {
         if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
+          // Most files sync in the first FILE_BUFFER_SIZE bytes, so only read larger windows once we're scanning past junk
           buffer.clear();
-          byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
+          final int windowSize = filePointerCount - startByte < FILE_BUFFER_SIZE ? FILE_BUFFER_SIZE : SCAN_BUFFER_SIZE;
+          byteCount = Math.max(Math.min(windowSize, fileSize - filePointerCount), 0);
           fileOperator.read(filePointerCount, buffer, byteCount);
           if (buffer.size() <= MIN_BUFFER_REMAINING_REQUIRED) {
             //No mp3 exists
@@ -141,59 +151,62 @@ import java.util.concurrent.TimeUnit;
           }
         }
 
-        if (MPEGFrameHeader.isMPEGFrame(buffer)) {  // doesn't move buffer position
-          try {
-            LOG.log(TRACE, "Found Possible header at:%s", filePointerCount);
-
-            mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(buffer);  // doesn't move buffer position
-            syncFound = true;
-
-            //if(2==1) use this line when you want to test getting the next frame without using xing
-
-            final Buffer xingFrameBuffer = XingFrame.isXingFrame(buffer.clone(), mp3FrameHeader);
-            if (xingFrameBuffer != null) {
-              LOG.log(TRACE, "Found Possible XingHeader");
-              try {
-                mp3XingFrame = XingFrame.parseXingFrame(xingFrameBuffer);
-                xingFrameBuffer.skip(xingFrameBuffer.size());
-              } catch (InvalidAudioFrameException ex) {
-                // We Ignore because even if Xing Header is corrupted
-                //doesn't mean file is corrupted
-              }
-              break;
-            }
-
-            final Buffer vbriFrameBuffer = VbriFrame.isVbriFrame(buffer.clone());
-            if (vbriFrameBuffer != null) {
-              LOG.log(TRACE, "Found Possible VbriHeader");
-              mp3VbriFrame = VbriFrame.parseVBRIFrame(vbriFrameBuffer);
-              vbriFrameBuffer.skip(vbriFrameBuffer.size());
-              break;
+        // Jump straight to the next possible sync byte rather than testing every position. Candidates must leave enough of the
+        // buffer to check for Xing/VBRI frames, beyond that the window is refilled from the candidate position
+        final long candidateLimit = buffer.size() - MIN_BUFFER_REMAINING_REQUIRED;
+        final long syncIndex = buffer.indexOf(SYNC_BYTE, 0, candidateLimit);
+        if (syncIndex == -1) {
+          buffer.skip(candidateLimit);
+          filePointerCount += candidateLimit;
+          continue;
+        }
+        buffer.skip(syncIndex);
+        filePointerCount += syncIndex;
+
+        // doesn't move buffer position, and headers are shared so rejecting a candidate doesn't allocate
+        final MPEGFrameHeader candidate =
+            MPEGFrameHeader.isMPEGFrame(buffer) ? MPEGFrameHeader.forHeader(MPEGFrameHeader.readHeader(buffer, 0)) : null;
+        if (candidate != null) {
+          LOG.log(TRACE, "Found Possible header at:%s", filePointerCount);
+
+          mp3FrameHeader = candidate;
+          syncFound = true;
+
+          //if(2==1) use this line when you want to test getting the next frame without using xing
+
+          if (XingFrame.isXingFrame(buffer, mp3FrameHeader)) {  // doesn't move buffer position
+            LOG.log(TRACE, "Found Possible XingHeader");
+            try {
+              mp3XingFrame = XingFrame.parseXingFrame(frameData(buffer, XingFrame.getXingOffset(mp3FrameHeader)));
+            } catch (InvalidAudioFrameException ex) {
+              // We Ignore because even if Xing Header is corrupted
+              //doesn't mean file is corrupted
             }
+            break;
+          }
 
-            // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
-            // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
-            // forming a Xing frame header are very remote. On the basis that  most files these days have
-            // Xing headers we do an additional check for when an apparent frame header has been found
-            // but is not followed by a Xing Header:We check the next header this wont impose a large
-            // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
-            // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
-            // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
-            syncFound = isNextFrameValid(filePointerCount, buffer.clone(), fileOperator, fileName);
-            if (syncFound) {
-              break;
-            }
+          if (VbriFrame.isVbriFrame(buffer)) {  // doesn't move buffer position
+            LOG.log(TRACE, "Found Possible VbriHeader");
+            mp3VbriFrame = VbriFrame.parseVBRIFrame(frameData(buffer, VbriFrame.VBRI_OFFSET));
+            break;
+          }
 
-          } catch (InvalidAudioFrameException ex) {
-            // We Ignore because likely to be incorrect sync bits ,
-            // will just continue in loop
+          // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
+          // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
+          // forming a Xing frame header are very remote. On the basis that  most files these days have
+          // Xing headers we do an additional check for when an apparent frame header has been found
+          // but is not followed by a Xing Header:We check the next header this wont impose a large
+          // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
+          // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
+          // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
+          syncFound = isNextFrameValid(filePointerCount, buffer, fileOperator, fileName);
+          if (syncFound) {
+            break;
           }
         }
 
-        buffer.readByte();  // move 1 byte further in
+        buffer.skip(1);  // move 1 byte further in
         filePointerCount++;
-
-
       }
     } catch (EOFException ex) {
       LOG.log(WARN, "Reached end of file without finding sync match", ex);
@@ -215,6 +228,19 @@ import java.util.concurrent.TimeUnit;
     return syncFound;
   }
 
+  /**
+   * Copy of the frame data starting at {@code offset}, for parsing a Xing or VBRI frame. The copy shares segments with the buffer so
+   * no bytes are copied, and the buffer position doesn't change
+   */
+  private static Buffer frameData(final Buffer buffer, final long offset) {
+    final Buffer frameData = new Buffer();
+    buffer.copyTo(frameData, offset, buffer.size() - offset);
+    return frameData;
+  }
+
+  /**
+   * Check the bytes where the frame after the one at the start of {@code bb} should be. {@code bb} isn't changed
+   */
   private boolean isNextFrameValid(long filePointerCount, Buffer bb, FileOperator fileOperator, final String seekFileName)
       throws IOException {
     LOG.log(TRACE, "Checking next frame %s:fpc:%sskipping to:%s",
@@ -223,8 +249,6 @@ import java.util.concurrent.TimeUnit;
             (filePointerCount + mp3FrameHeader.getFrameLength()));
     boolean result = false;
 
-    final long fileSize = fileOperator.getFileChannel().size();
-
     //Our buffer is not large enough to fit in the whole of this frame, something must
     //have gone wrong because frames are not this large, so just return false
     //bad frame header
@@ -236,7 +260,8 @@ import java.util.concurrent.TimeUnit;
     //Check for end of buffer if not enough room get some more
     if (bb.size() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
       LOG.log(DEBUG, "Buffer too small, need to reload, buffer size:%s", bb.size());
-      bb.clear();
+      final long fileSize = fileOperator.getFileChannel().size();
+      bb = new Buffer();
       final long byteCount = Math.max(Math.min(FILE_BUFFER_SIZE, fileSize - filePointerCount), 0);
       fileOperator.read(filePointerCount, bb, byteCount);
       //Not enough left
@@ -247,16 +272,14 @@ import java.util.concurrent.TimeUnit;
       }
     }
 
-    //Position bb to the start of the alleged next frame
-    bb.skip(mp3FrameHeader.getFrameLength());
-    if (MPEGFrameHeader.isMPEGFrame(bb)) {
-      try {
-        MPEGFrameHeader.parseMPEGHeader(bb);
+    //Look at the start of the alleged next frame
+    final long nextFrame = mp3FrameHeader.getFrameLength();
+    if (bb.size() >= nextFrame + MPEGFrameHeader.HEADER_SIZE && MPEGFrameHeader.isMPEGFrame(bb, nextFrame)) {
+      if (MPEGFrameHeader.forHeader(MPEGFrameHeader.readHeader(bb, nextFrame)) != null) {
         LOG.log(DEBUG, "Check next frame confirms is an audio header ");
         result = true;
-      } catch (InvalidAudioFrameException ex) {
+      } else {
         LOG.log(DEBUG, "Check next frame has identified this is not an audio header");
-        result = false;
       }
     } else {
       LOG.log(DEBUG, "isMPEGFrame has identified this is not an audio header");
@@ -300,6 +323,34 @@ import java.util.concurrent.TimeUnit;
 
   }
 
+  /**
+   * Count every frame between the start and end of the audio data, and use the count instead of the Xing or VBRI frame count or the
+   * estimate from the file size. Bitrate becomes the average over all the frames.
+   */
+  void scanFrames(final FileChannel fileChannel) throws IOException {
+    frameScan = MP3FrameScanner.scan(fileChannel, getFirstAudioFrame(), getAudioDataEndPosition(), mp3FrameHeader, timePerFrame);
+    numberOfFrames = frameScan.getFrameCount();
+    setTrackLength();
+    if (frameScan.getFrameCount() > 0) {
+      bitrate = frameScan.getAverageBitRate();
+    }
+  }
+
+  /**
+   * @return the position of the first frame holding audio, after the Xing or VBRI frame if there is one
+   */
+  long getFirstAudioFrame() {
+    return mp3XingFrame != null || mp3VbriFrame != null ? startByte + mp3FrameHeader.getFrameLength() : startByte;
+  }
+
+  /**
+   * @return the result of counting every frame, if the file was read with
+   * {@link ealvatag.audio.ReadOptions.Builder#exactDuration(boolean)}
+   */
+  public Optional<MP3FrameScan> getFrameScan() {
+    return Optional.fromNullable(frameScan);
+  }
+
   /**
    * @return The number of frames within the Audio File, calculated as accurately as possible
    */
@@ -344,7 +395,7 @@ import java.util.concurrent.TimeUnit;
   /**
    * @return the the time each frame contributes to the audio in fractions of seconds
    */
-  private double getTimePerFrame() {
+  double getTimePerFrame() {
     return timePerFrame;
   }
 
@@ -537,18 +588,24 @@ import java.util.concurrent.TimeUnit;
     return 0;
   }
 
+  /**
+   * @return the location set when the file was read, otherwise the start of the first audio frame
+   */
   @Override
   public long getAudioDataStartPosition() {
-    return audioDataStartPosition;
+    return audioDataStartPosition != null ? audioDataStartPosition : getMp3StartByte();
   }
 
   public void setAudioDataStartPosition(Long audioDataStartPosition) {
     this.audioDataStartPosition = audioDataStartPosition;
   }
 
+  /**
+   * @return the location set when the file was read, otherwise -1 as it isn't known
+   */
   @Override
   public long getAudioDataEndPosition() {
-    return audioDataEndPosition;
+    return audioDataEndPosition != null ? audioDataEndPosition : -1;
   }
 
   public void setAudioDataEndPosition(Long audioDataEndPosition) {
@@ -570,6 +627,7 @@ import java.util.concurrent.TimeUnit;
                       .add("numberOfFramesEstimate", numberOfFramesEstimate)
                       .add("bitrate", bitrate)
                       .add("encoder", encoder)
+                      .add("frameScan", frameScan)
                       .toString();
   }
 }
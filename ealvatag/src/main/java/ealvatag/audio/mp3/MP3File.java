@@ -27,6 +27,7 @@ import com.google.common.io.Files;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFileImpl;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.UnsupportedFileType;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
@@ -45,7 +46,9 @@ import ealvatag.tag.TagException;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagNotFoundException;
 import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.AbstractID3v1Tag;
 import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.AudioRelocation;
 import ealvatag.tag.id3.BaseID3Tag;
 import ealvatag.tag.id3.ID3v11Tag;
 import ealvatag.tag.id3.ID3v1Tag;
@@ -88,6 +91,18 @@ public class MP3File extends AudioFileImpl {
   private static final int LOAD_ALL = LOAD_IDV1TAG | LOAD_IDV2TAG | LOAD_LYRICS3;
   private static final JLogger LOG = JLoggers.get(MP3File.class, EalvaTagLog.MARKER);
   private static final int MINIMUM_FILESIZE = 150;
+  /**
+   * Read from the start of the file in one go, enough for most tags without artwork and the first frames after them
+   */
+  private static final int HEAD_SIZE = 64 * 1024;
+  /**
+   * Read after the ID3v2 tag to find the first frame, comfortably more than {@link MP3AudioHeader} looks at
+   */
+  private static final int FIRST_FRAMES_SIZE = 16 * 1024;
+  /**
+   * Read from the end of the file, the ID3v1 tag plus room for the footers of any Lyrics3 or APE tag before it
+   */
+  private static final int TAIL_SIZE = 4 * 1024;
 
   private static AbstractTagDisplayFormatter tagFormatter;
   /**
@@ -107,6 +122,21 @@ public class MP3File extends AudioFileImpl {
    */
   private ID3v1Tag id3v1tag = null;
 
+  /**
+   * The tags as in the file when it was read or last saved, see {@link #isDirty()}
+   */
+  private AbstractID3v2Tag savedId3v2tag;
+  private AbstractLyrics3 savedLyrics3tag;
+  private ID3v1Tag savedId3v1tag;
+
+  /**
+   * Set when the file has an ID3v2 tag appended to its end, found when read or written by a save, which must be removed once a tag
+   * is written in front of the audio
+   */
+  private boolean hasAppendedV2Tag;
+
+  private int readCount;
+
   public static AbstractTagDisplayFormatter getStructureFormatter() {
     return tagFormatter;
   }
@@ -137,48 +167,59 @@ public class MP3File extends AudioFileImpl {
                  final String extension,
                  int loadOptions,
                  boolean ignoreArtwork) throws IOException, TagException, CannotReadException, InvalidAudioFrameException {
+    this(file, extension, loadOptions, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  /**
+   * Creates a new MP3File dataType and parse the tag from the given file
+   * Object, files can be opened read only if required.
+   *
+   * @param file        MP3 file
+   * @param extension   always "mp3"? maybe, but we parsed of the extension to select the reader, so let's pass it in.
+   * @param loadOptions decide what tags to load
+   * @param options     how to read the file, see {@link ReadOptions}
+   *
+   * @throws IOException                on any I/O error
+   * @throws TagException               on any exception generated by this library.
+   * @throws InvalidAudioFrameException error reading frame
+   */
+  public MP3File(File file,
+                 final String extension,
+                 int loadOptions,
+                 ReadOptions options) throws IOException, TagException, CannotReadException, InvalidAudioFrameException {
     super(file, extension);
     try (FileChannel fileChannel = getReadFileChannel(file)) {
       FileOperator fileOperator = new FileOperator(fileChannel);
       long audioStart = 0;
-      Optional<Id3v2Header> v2HeaderOptional = Optional.absent();
-      if ((loadOptions & LOAD_IDV2TAG) != 0) {
-        v2HeaderOptional = getV2Header(fileOperator);
+      // lazy artwork is skipped over in the file, so the rest of the tag is read as it's walked
+      Optional<Id3v2Header> v2HeaderOptional = prefetch(fileOperator, !options.lazyArtwork() || options.ignoreArtwork());
+      if ((loadOptions & LOAD_IDV2TAG) == 0) {
+        v2HeaderOptional = Optional.absent();
       }
       final int v2TagHeaderSize = AbstractID3v2Tag.TAG_HEADER_LENGTH;
+      MP3AudioHeader mp3AudioHeader = findAudioHeader(fileOperator, v2HeaderOptional, file);
       if (v2HeaderOptional.isPresent()) {
-        audioStart = v2HeaderOptional.get().getTagSize() + v2TagHeaderSize;
-        MP3AudioHeader mp3AudioHeader = new MP3AudioHeader(fileOperator, audioStart, file.getPath());
-
-        //If the audio header is not straight after the end of the tag then search from start of file
-        if (audioStart != mp3AudioHeader.getMp3StartByte()) {
-          LOG.log(TRACE, "First header found after tag:%s", mp3AudioHeader);
-          mp3AudioHeader = checkAudioStart(fileOperator, audioStart, mp3AudioHeader, file.getPath());
-          audioStart = mp3AudioHeader.getMp3StartByte();
-        }
-        audioHeader = mp3AudioHeader;
-      } else {
-        audioHeader = new MP3AudioHeader(fileOperator, audioStart, file.getPath());
+        audioStart = mp3AudioHeader.getMp3StartByte();
+      }
+      if (options.exactDuration()) {
+        mp3AudioHeader.scanFrames(fileChannel);
       }
+      audioHeader = mp3AudioHeader;
 
       if (v2HeaderOptional.isPresent()) {
-        final Id3v2Header header = v2HeaderOptional.get();
-        Buffer buffer = new Buffer();
         // TODO: 1/26/17 Remove the "- v2TaqHeaderSize" from the number of bytes read to see about some tag data reading too far
-        fileOperator.read(v2TagHeaderSize, buffer, audioStart - v2TagHeaderSize);
-        switch (header.getMajorVersion()) {
-          case ID3v22Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v22Tag(buffer, header, file.getPath(), ignoreArtwork));
-            break;
-          case ID3v23Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v23Tag(buffer, header, file.getPath(), ignoreArtwork));
-            break;
-          case ID3v24Tag.MAJOR_VERSION:
-            setID3v2Tag(new ID3v24Tag(buffer, header, file.getPath(), ignoreArtwork));
-            break;
+        final Optional<AbstractID3v2Tag> v2Tag =
+            AbstractID3v2Tag.read(fileOperator, file, v2TagHeaderSize, audioStart - v2TagHeaderSize, v2HeaderOptional.get(), options);
+        if (v2Tag.isPresent()) {
+          setID3v2Tag(v2Tag.get());
         }
       }
 
+      //An empty tag at the start may have been left when the tag was appended to the end of the file
+      if ((loadOptions & LOAD_IDV2TAG) != 0 && (id3v2tag == null || id3v2tag.isEmpty())) {
+        readAppendedV2Tag(file, fileOperator, mp3AudioHeader, options);
+      }
+
       //Read v1 tags (if any)
       readV1Tag(file.getPath(), fileOperator, loadOptions);
 
@@ -195,15 +236,131 @@ public class MP3File extends AudioFileImpl {
 
       checkState(!Strings.isNullOrEmpty(extension));
       checkState(audioHeader != null);
+      readCount = fileOperator.getReadCount();
+    }
+    setSaved();
+  }
+
+  /**
+   * @return the number of reads issued to the file while it was opened
+   */
+  @VisibleForTesting
+  int getReadCount() {
+    return readCount;
+  }
+
+  /**
+   * Read only the audio header. An ID3v2 tag is skipped using the size in its header, without reading the tag body, and the end of
+   * the file is not read for ID3v1 tags.
+   *
+   * @param file the mp3 file
+   *
+   * @return the audio header
+   *
+   * @throws IOException                on any I/O error
+   * @throws InvalidAudioFrameException if no audio frame found
+   */
+  static MP3AudioHeader readAudioHeader(final File file) throws IOException, InvalidAudioFrameException {
+    try (FileChannel fileChannel = new RandomAccessFile(file, "r").getChannel()) {
+      FileOperator fileOperator = new FileOperator(fileChannel);
+      return findAudioHeader(fileOperator, prefetch(fileOperator, false), file);
+    }
+  }
+
+  /**
+   * Find the first audio frame, starting after the ID3v2 tag if there is one. The audio data runs from there to the ID3v1 tag, if any,
+   * or the end of the file
+   */
+  private static MP3AudioHeader findAudioHeader(final FileOperator fileOperator,
+                                                final Optional<Id3v2Header> v2HeaderOptional,
+                                                final File file) throws IOException, InvalidAudioFrameException {
+    final MP3AudioHeader mp3AudioHeader = findFirstFrame(fileOperator, v2HeaderOptional, file);
+    final FileChannel fileChannel = fileOperator.getFileChannel();
+    mp3AudioHeader.setAudioDataStartPosition(mp3AudioHeader.getMp3StartByte());
+    mp3AudioHeader.setAudioDataEndPosition(fileChannel.size() - AbstractID3v1Tag.getTagSizeAtEnd(fileOperator));
+    return mp3AudioHeader;
+  }
+
+  private static MP3AudioHeader findFirstFrame(final FileOperator fileOperator,
+                                               final Optional<Id3v2Header> v2HeaderOptional,
+                                               final File file) throws IOException, InvalidAudioFrameException {
+    if (v2HeaderOptional.isPresent()) {
+      long audioStart = v2HeaderOptional.get().getTagSize() + AbstractID3v2Tag.TAG_HEADER_LENGTH;
+      MP3AudioHeader mp3AudioHeader = new MP3AudioHeader(fileOperator, audioStart, file.getPath());
+
+      //If the audio header is not straight after the end of the tag then search from start of file
+      if (audioStart != mp3AudioHeader.getMp3StartByte()) {
+        LOG.log(TRACE, "First header found after tag:%s", mp3AudioHeader);
+        mp3AudioHeader = checkAudioStart(fileOperator, audioStart, mp3AudioHeader, file);
+      }
+      return mp3AudioHeader;
     }
+    return new MP3AudioHeader(fileOperator, 0, file.getPath());
   }
 
-  private Optional<Id3v2Header> getV2Header(final FileOperator fileOperator) throws IOException {
+  /**
+   * Fetch the head and tail of the file up front, so opening it takes two reads rather than one for each structure. This matters on
+   * network file systems where every read is a round trip. The head covers the ID3v2 header and the first frames after the tag, and
+   * the tail covers the ID3v1 tag. Later reads through {@code fileOperator} are served from these regions when they fall within
+   * them. A tag larger than {@link #HEAD_SIZE} takes one more read.
+   *
+   * @param includeTagBody true to fetch the whole ID3v2 tag, false to fetch only the first frames after it
+   *
+   * @return the ID3v2 tag header, if there is one
+   */
+  private static Optional<Id3v2Header> prefetch(final FileOperator fileOperator, final boolean includeTagBody) throws IOException {
+    final long fileSize = fileOperator.getFileChannel().size();
+    long prefetchedEnd = Math.min(HEAD_SIZE, fileSize);
+    fileOperator.prefetch(0, prefetchedEnd);
+
+    final Optional<Id3v2Header> v2HeaderOptional = getV2Header(fileOperator);
+    if (v2HeaderOptional.isPresent()) {
+      final long audioStart = v2HeaderOptional.get().getTagSize() + AbstractID3v2Tag.TAG_HEADER_LENGTH;
+      final long framesEnd = Math.min(audioStart + FIRST_FRAMES_SIZE, fileSize);
+      if (framesEnd > prefetchedEnd) {
+        final long framesStart = includeTagBody ? prefetchedEnd : Math.max(prefetchedEnd, audioStart);
+        fileOperator.prefetch(framesStart, framesEnd - framesStart);
+        prefetchedEnd = framesEnd;
+      }
+    }
+
+    final long tailStart = Math.max(prefetchedEnd, fileSize - TAIL_SIZE);
+    if (tailStart < fileSize) {
+      fileOperator.prefetch(tailStart, fileSize - tailStart);
+    }
+    return v2HeaderOptional;
+  }
+
+  private static Optional<Id3v2Header> getV2Header(final FileOperator fileOperator) throws IOException {
     Buffer buffer = new Buffer();
     fileOperator.read(0, buffer, AbstractID3v2Tag.TAG_HEADER_LENGTH);
     return AbstractID3v2Tag.getHeader(buffer);
   }
 
+  /**
+   * Read an ID3v2.4 tag appended to the end of the file, if there is one, and end the audio data where it starts
+   */
+  private void readAppendedV2Tag(final File file,
+                                 final FileOperator fileOperator,
+                                 final MP3AudioHeader mp3AudioHeader,
+                                 final ReadOptions options) throws IOException, TagException {
+    final long tagStart = ID3v24Tag.findAppendedTag(fileOperator);
+    if (tagStart < 0) {
+      return;
+    }
+    hasAppendedV2Tag = true;
+    LOG.log(DEBUG, "Reading appended ID3v2 tag at:%s", tagStart);
+    final Buffer buffer = new Buffer();
+    fileOperator.read(tagStart, buffer, AbstractID3v2Tag.TAG_HEADER_LENGTH);
+    final Id3v2Header header = AbstractID3v2Tag.getHeader(buffer).get();
+    final long bodyStart = tagStart + AbstractID3v2Tag.TAG_HEADER_LENGTH;
+    final Optional<AbstractID3v2Tag> v2Tag = AbstractID3v2Tag.read(fileOperator, file, bodyStart, header.getTagSize(), header, options);
+    if (v2Tag.isPresent()) {
+      setID3v2Tag(v2Tag.get());
+    }
+    mp3AudioHeader.setAudioDataEndPosition(tagStart);
+  }
+
   private void readV1Tag(String fileName, FileOperator newFile, int loadOptions) throws IOException {
     if ((loadOptions & LOAD_IDV1TAG) != 0) {
       LOG.log(DEBUG, "Attempting to read id3v1tags");
@@ -230,10 +387,11 @@ public class MP3File extends AudioFileImpl {
    * Regets the audio header starting from start of file, and write appropriate logging to indicate
    * potential problem to user.
    */
-  private MP3AudioHeader checkAudioStart(final FileOperator fileOperator,
-                                         long startByte,
-                                         MP3AudioHeader firstHeaderAfterTag,
-                                         final String filePath) throws IOException, InvalidAudioFrameException {
+  private static MP3AudioHeader checkAudioStart(final FileOperator fileOperator,
+                                                long startByte,
+                                                MP3AudioHeader firstHeaderAfterTag,
+                                                final File file) throws IOException, InvalidAudioFrameException {
+    final String filePath = file.getPath();
     MP3AudioHeader headerOne;
     MP3AudioHeader headerTwo;
 
@@ -272,7 +430,7 @@ public class MP3File extends AudioFileImpl {
       //and the start of the first audio found then we stick with the original header as more likely that
       // currentHeader
       //DataInputStream not really a header
-      if (isFilePortionNull((int)startByte, (int)firstHeaderAfterTag.getMp3StartByte())) {
+      if (isFilePortionNull(file, (int)startByte, (int)firstHeaderAfterTag.getMp3StartByte())) {
         return firstHeaderAfterTag;
       }
 
@@ -309,7 +467,7 @@ public class MP3File extends AudioFileImpl {
    *
    * @throws IOException if read error
    */
-  private boolean isFilePortionNull(int startByte, int endByte) throws IOException {
+  private static boolean isFilePortionNull(File file, int startByte, int endByte) throws IOException {
     LOG.log(TRACE, "Checking file portion:%s:%s", Hex.asHex(startByte), Hex.asHex(endByte));
     FileInputStream fis = null;
     FileChannel fc = null;
@@ -442,84 +600,6 @@ public class MP3File extends AudioFileImpl {
     this.id3v1tag = (ID3v1Tag)id3v1tag;
   }
 
-//  /**
-//   * Calculates hash with given algorithm. Buffer size is 32768 byte.
-//   * Hash is calculated EXCLUDING meta-data, like id3v1 or id3v2
-//   *
-//   * @param algorithm options MD5,SHA-1,SHA-256
-//   *
-//   * @return hash value in byte
-//   *
-//   */
-//
-//  public byte[] getHash(String algorithm) throws NoSuchAlgorithmException, InvalidAudioFrameException, IOException {
-//    return getHash(algorithm, 32768);
-//  }
-
-//  /**
-//   * Calculates hash with algorithm "MD5", "SHA-1" or SHA-256".
-//   * Hash is calculated EXCLUDING meta-data, like id3v1 or id3v2
-//   *
-//   * @return byte[] hash value in byte
-//   *
-//   */
-//  @SuppressWarnings({"SameParameterValue", "ResultOfMethodCallIgnored"})
-//  private byte[] getHash(String algorithm, int bufferSize)
-//      throws InvalidAudioFrameException, IOException, NoSuchAlgorithmException {
-//    File mp3File = getFile();
-//    long startByte = getMP3StartByte(mp3File);
-//
-//    int id3v1TagSize = 0;
-//    if (hasID3v1Tag()) {
-//      ID3v1Tag id1tag = getID3v1Tag();
-//      id3v1TagSize = id1tag.getSize();
-//    }
-//
-//    InputStream inStream = new FileInputStream(mp3File);
-//
-//    byte[] buffer = new byte[bufferSize];
-//
-//    MessageDigest digest = MessageDigest.getInstance(algorithm);
-//
-//    inStream.skip(startByte);
-//
-//    int read;
-//    long totalSize = mp3File.length() - startByte - id3v1TagSize;
-//    int pointer = buffer.length;
-//
-//    while (pointer <= totalSize) {
-//
-//      read = inStream.read(buffer);
-//
-//      digest.update(buffer, 0, read);
-//      pointer += buffer.length;
-//    }
-//    read = inStream.read(buffer, 0, (int)totalSize - pointer + buffer.length);
-//    digest.update(buffer, 0, read);
-//
-//    return digest.digest();
-//  }
-
-//  /**
-//   * Used by tags when writing to calculate the location of the music file
-//   *
-//   *  @return the location within the file that the audio starts
-//   */
-//  private long getMP3StartByte(File file) throws InvalidAudioFrameException, IOException {
-//    try (FileChannel fileChannel = getReadFileChannel(file)) {
-//      FileOperator fileOperator = new FileOperator(fileChannel);
-//      //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-//      long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-//
-//      MP3AudioHeader audioHeader = new MP3AudioHeader(fileOperator, startByte, file.getPath());
-//      if (startByte != audioHeader.getMp3StartByte()) {
-//        LOG.log(LogLevel.TRACE, "First header found after tag:" + audioHeader);
-//        audioHeader = checkAudioStart(fileOperator, startByte, audioHeader, file.getPath());
-//      }
-//      return audioHeader.getMp3StartByte();
-//    }
-//  }
-
   /**
    * Returns true if this datatype contains an <code>Id3v1</code> tag
    *
@@ -550,28 +630,6 @@ public class MP3File extends AudioFileImpl {
     id3v1tag = new ID3v11Tag(mp3tag);
   }
 
-//  /**
-//   * Calculates hash with given buffer size.
-//   * Hash is calculated EXCLUDING meta-data, like id3v1 or id3v2
-//   *
-//   * @return byte[] hash value in byte
-//   *
-//   */
-//  public byte[] getHash(int buffer) throws NoSuchAlgorithmException, InvalidAudioFrameException, IOException {
-//    return getHash("MD5", buffer);
-//  }
-
-//  /**
-//   * Calculates hash with algorithm "MD5". Buffer size is 32768 byte.
-//   * Hash is calculated EXCLUDING meta-data, like id3v1 or id3v2
-//   *
-//   * @return byte[] hash value.
-//   *
-//   */
-//  public byte[] getHash() throws NoSuchAlgorithmException, InvalidAudioFrameException, IOException {
-//    return getHash("MD5", 32768);
-//  }
-
   /**
    * Sets the <code>ID3v2</code> tag for this dataType. A new
    * <code>ID3v2_4</code> dataType is created from the argument and then used
@@ -650,31 +708,68 @@ public class MP3File extends AudioFileImpl {
     raf.close();
     if (mp3tag instanceof ID3v1Tag) {
       id3v1tag = null;
+      savedId3v1tag = null;
     }
 
     if (mp3tag instanceof AbstractID3v2Tag) {
       id3v2tag = null;
+      savedId3v2tag = null;
+    }
+  }
+
+  /**
+   * Overridden to consider the ID3v1, ID3v2 and Lyrics3 tags, all of which are written by {@link #saveMp3()}
+   */
+  @Override public boolean isDirty() {
+    return id3v2tag != savedId3v2tag || lyrics3tag != savedLyrics3tag || id3v1tag != savedId3v1tag ||
+        (id3v2tag != null && id3v2tag.isDirty()) ||
+        (id3v1tag != null && id3v1tag.isDirty());
+  }
+
+  /**
+   * Record the tags as matching the file
+   */
+  private void setSaved() {
+    if (id3v2tag != null) {
+      id3v2tag.setClean();
+    }
+    if (id3v1tag != null) {
+      id3v1tag.setClean();
     }
+    savedId3v2tag = id3v2tag;
+    savedLyrics3tag = lyrics3tag;
+    savedId3v1tag = id3v1tag;
   }
 
+  /**
+   * Saves the tags if they have changed since the file was read or last saved, see {@link #isDirty()}
+   */
   public void save() throws CannotWriteException {
+    if (!isDirty()) {
+      return;
+    }
+    final TagOptionSingleton previous = applyTagOptions();
     try {
       saveMp3();
     } catch (UnableToModifyFileException umfe) {
       throw new NoWritePermissionsException(umfe);
     } catch (IOException | TagException ioe) {
       throw new CannotWriteException(ioe);
+    } finally {
+      TagOptionSingleton.setThreadInstance(previous);
     }
   }
 
   /**
-   * Saves the tags in this dataType to the file referred to by this dataType.
+   * Saves the tags in this dataType to the file referred to by this dataType. Unlike {@link #save()} the tags are written even
+   * if they haven't changed.
    *
    * @throws IOException  on any I/O error
    * @throws TagException on any exception generated by this library.
    */
   public void saveMp3() throws IOException, TagException {
     saveMp3(this.file);
+    setSaved();
   }
 
   /**
@@ -695,6 +790,13 @@ public class MP3File extends AudioFileImpl {
     //Checks before starting write
     precheck(file);
 
+    // complete moving the audio if saving a larger tag was interrupted, see TagOptionSingleton.setId3v2MoveAudioInPlace
+    final long movedAudioStart = AudioRelocation.recover(file);
+    if (movedAudioStart > 0) {
+      final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader)this.getAudioHeader();
+      mp3AudioHeader.setMp3StartByte(Math.max(mp3AudioHeader.getMp3StartByte(), movedAudioStart));
+    }
+
     RandomAccessFile rfile = null;
     try {
       //ID3v2 Tag
@@ -704,6 +806,10 @@ public class MP3File extends AudioFileImpl {
           (new ID3v24Tag()).delete(rfile);
           (new ID3v23Tag()).delete(rfile);
           (new ID3v22Tag()).delete(rfile);
+          if (hasAppendedV2Tag) {
+            ID3v24Tag.removeAppendedTag(rfile.getChannel());
+            hasAppendedV2Tag = false;
+          }
           LOG.log(TRACE, "Deleting ID3v2 tag:%s", file);
           rfile.close();
         } else {
@@ -715,7 +821,13 @@ public class MP3File extends AudioFileImpl {
             LOG.log(TRACE, "New mp3 start byte: %s", newMp3StartByte);
             mp3AudioHeader.setMp3StartByte(newMp3StartByte);
           }
-
+          // the tag in front of the audio is read in preference to one at the end, so one left at the end is now stale
+          if (hasAppendedV2Tag && !id3v2tag.isAppended()) {
+            rfile = new RandomAccessFile(file, "rw");
+            ID3v24Tag.removeAppendedTag(rfile.getChannel());
+            rfile.close();
+          }
+          hasAppendedV2Tag = id3v2tag.isAppended();
         }
       }
       rfile = new RandomAccessFile(file, "rw");
@@ -2,7 +2,9 @@ package ealvatag.audio.mp3;
 
 import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileReader;
+import ealvatag.audio.AudioHeader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
 import ealvatag.tag.TagException;
@@ -25,11 +27,15 @@ public class MP3FileReader extends AudioFileReader {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
 
-    public AudioFile read(File f, final String extension, final boolean ignoreArtwork) throws IOException,
-                                                                                              TagException,
-                                                                                              CannotReadException,
-                                                                                              InvalidAudioFrameException {
-        return new MP3File(f, extension, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, ignoreArtwork);
+    public AudioFile read(File f, final String extension, final ReadOptions options) throws IOException,
+                                                                                            TagException,
+                                                                                            CannotReadException,
+                                                                                            InvalidAudioFrameException {
+        return new MP3File(f, extension, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, options);
+    }
+
+    @Override public AudioHeader readHeader(final File file) throws CannotReadException, IOException, InvalidAudioFrameException {
+        return MP3File.readAudioHeader(file);
     }
 
 }
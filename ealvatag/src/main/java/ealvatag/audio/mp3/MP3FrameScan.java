@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * The result of counting every frame of an MP3, see {@link ealvatag.audio.ReadOptions.Builder#exactDuration(boolean)}. Any Xing or
+ * VBRI frame is not counted as it holds no audio.
+ */
+public final class MP3FrameScan {
+  private static final int CONVERT_TO_KILOBITS = 1000;
+  private static final int CONVERTS_BYTE_TO_BITS = 8;
+
+  private final long frameCount;
+  private final long audioByteCount;
+  private final long sampleCount;
+  private final double duration;
+
+  MP3FrameScan(final long frameCount, final long audioByteCount, final double timePerFrame, final int sampleRate) {
+    this.frameCount = frameCount;
+    this.audioByteCount = audioByteCount;
+    this.duration = frameCount * timePerFrame;
+    this.sampleCount = Math.round(duration * sampleRate);
+  }
+
+  /**
+   * @return the number of audio frames
+   */
+  public long getFrameCount() {
+    return frameCount;
+  }
+
+  /**
+   * @return the total size of the audio frames, not including junk between them
+   */
+  public long getAudioByteCount() {
+    return audioByteCount;
+  }
+
+  /**
+   * @return the number of samples per channel
+   */
+  public long getSampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * @return duration in seconds
+   */
+  public double getDuration() {
+    return duration;
+  }
+
+  /**
+   * @return average bitrate in kbps over all the frames, 0 if there are none
+   */
+  public int getAverageBitRate() {
+    return duration > 0 ? (int)((audioByteCount * CONVERTS_BYTE_TO_BITS) / (duration * CONVERT_TO_KILOBITS)) : 0;
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("frameCount", frameCount)
+                      .add("audioByteCount", audioByteCount)
+                      .add("sampleCount", sampleCount)
+                      .add("duration", duration)
+                      .toString();
+  }
+}
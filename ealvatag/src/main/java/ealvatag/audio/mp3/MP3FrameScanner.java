@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Counts every frame in the audio data by walking from one frame header to the next. Large files are split into regions which are
+ * walked in parallel, each region finding its first frame by looking for a run of consecutive headers.
+ * <p>
+ * The result is the same as walking the whole file in order. Where junk or damage breaks the chain of frames the walk resynchronises at
+ * the next run of headers. If a region didn't start on the frame its predecessor ended on, it is walked again from that frame.
+ */
+final class MP3FrameScanner {
+  /**
+   * Regions are at least this large so the cost of finding the first frame is small compared to walking the rest
+   */
+  static final long MIN_REGION_SIZE = 8 * 1024 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Headers that must follow one another for a position to count as a frame when resynchronising
+   */
+  private static final int SYNC_FRAMES = 3;
+
+  /**
+   * Header bits that can't change from one frame to the next: sync, version, layer and sampling rate. The protection bit isn't
+   * included as whether a frame has a CRC is up to each frame.
+   */
+  private static final int CONSTANT_HEADER_MASK = 0xFFFE0C00;
+
+  /**
+   * Told about each frame as a file is walked in order
+   */
+  interface FrameVisitor {
+    /**
+     * @param frameNumber the number of the frame, counting from 0
+     * @param position    where the frame starts in the file
+     */
+    void visit(long frameNumber, long position);
+  }
+
+  private static final class PoolHolder {
+    static final ForkJoinPool POOL = new ForkJoinPool();
+  }
+
+  private final FileChannel channel;
+  private final long end;
+  private final int constantHeaderBits;
+
+  private MP3FrameScanner(final FileChannel channel, final long end, final MPEGFrameHeader firstHeader) {
+    this.channel = channel;
+    this.end = end;
+    this.constantHeaderBits = firstHeader.getHeader() & CONSTANT_HEADER_MASK;
+  }
+
+  /**
+   * Count the frames from {@code start}, which must be the start of a frame, to {@code end}
+   *
+   * @param firstHeader   the first frame, later frames must have the same version, layer and sampling rate
+   * @param timePerFrame  seconds of audio per frame
+   */
+  static MP3FrameScan scan(final FileChannel channel,
+                           final long start,
+                           final long end,
+                           final MPEGFrameHeader firstHeader,
+                           final double timePerFrame) throws IOException {
+    final long regionSize = Math.max(MIN_REGION_SIZE, (end - start) / (PoolHolder.POOL.getParallelism() * 4));
+    return scan(channel, start, end, firstHeader, timePerFrame, regionSize);
+  }
+
+  static MP3FrameScan scan(final FileChannel channel,
+                           final long start,
+                           final long end,
+                           final MPEGFrameHeader firstHeader,
+                           final double timePerFrame,
+                           final long regionSize) throws IOException {
+    final MP3FrameScanner scanner = new MP3FrameScanner(channel, end, firstHeader);
+    final List<RegionScan> regions = new ArrayList<>();
+    if (end - start <= regionSize) {
+      regions.add(scanner.walk(start, end, true, null));
+    } else {
+      final List<ForkJoinTask<RegionScan>> tasks = new ArrayList<>();
+      for (long regionStart = start; regionStart < end; regionStart += regionSize) {
+        tasks.add(PoolHolder.POOL.submit(scanner.region(regionStart, Math.min(regionStart + regionSize, end), regionStart == start)));
+      }
+      try {
+        for (ForkJoinTask<RegionScan> task : tasks) {
+          regions.add(task.get());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted counting frames");
+      } catch (ExecutionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof IOException) {
+          throw (IOException)cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error)cause;
+        }
+        throw new IllegalStateException(cause);
+      } finally {
+        for (ForkJoinTask<RegionScan> task : tasks) {
+          task.cancel(false);
+        }
+      }
+    }
+
+    long frameCount = 0;
+    long audioByteCount = 0;
+    long next = start;
+    for (RegionScan region : regions) {
+      final RegionScan counted = region.firstFrame == next ? region : scanner.walk(next, region.end, true, null);
+      frameCount += counted.frameCount;
+      audioByteCount += counted.byteCount;
+      next = counted.next;
+    }
+    return new MP3FrameScan(frameCount, audioByteCount, timePerFrame, firstHeader.getSamplingRate());
+  }
+
+  /**
+   * Walk the frames from {@code start}, which must be the start of a frame, to {@code end} in order on the calling thread, telling
+   * {@code visitor} about each one
+   */
+  static MP3FrameScan walk(final FileChannel channel,
+                           final long start,
+                           final long end,
+                           final MPEGFrameHeader firstHeader,
+                           final double timePerFrame,
+                           final FrameVisitor visitor) throws IOException {
+    final RegionScan walked = new MP3FrameScanner(channel, end, firstHeader).walk(start, end, true, visitor);
+    return new MP3FrameScan(walked.frameCount, walked.byteCount, timePerFrame, firstHeader.getSamplingRate());
+  }
+
+  private Callable<RegionScan> region(final long regionStart, final long regionEnd, final boolean synced) {
+    return new Callable<RegionScan>() {
+      @Override public RegionScan call() throws IOException {
+        return walk(regionStart, regionEnd, synced, null);
+      }
+    };
+  }
+
+  /**
+   * Walk the frames starting in {@code [regionStart, regionEnd)}. The last frame may end after {@code regionEnd}
+   *
+   * @param synced  true if {@code regionStart} is known to be the start of a frame
+   * @param visitor told about each frame, may be null
+   */
+  private RegionScan walk(final long regionStart, final long regionEnd, final boolean synced, final FrameVisitor visitor)
+      throws IOException {
+    final Window window = new Window();
+    long position = synced ? regionStart : resync(window, regionStart, regionEnd);
+    final long firstFrame = position;
+    long frameCount = 0;
+    long byteCount = 0;
+    while (position < regionEnd) {
+      final int frameLength = frameLength(window, position);
+      if (frameLength > 0) {
+        if (visitor != null) {
+          visitor.visit(frameCount, position);
+        }
+        frameCount++;
+        byteCount += frameLength;
+        position += frameLength;
+      } else {
+        position = resync(window, position + 1, regionEnd);
+      }
+    }
+    return new RegionScan(firstFrame, position, regionEnd, frameCount, byteCount);
+  }
+
+  /**
+   * @return the first position from {@code from} where {@link #SYNC_FRAMES} frames follow one another, or run to the end of the audio.
+   * {@code regionEnd} if there isn't one in the region.
+   */
+  private long resync(final Window window, final long from, final long regionEnd) throws IOException {
+    for (long candidate = from; candidate < regionEnd; candidate++) {
+      long position = candidate;
+      int frames = 0;
+      int frameLength;
+      while (frames < SYNC_FRAMES && position < end && (frameLength = frameLength(window, position)) > 0) {
+        frames++;
+        position += frameLength;
+      }
+      if (frames == SYNC_FRAMES || (frames > 0 && position == end)) {
+        return candidate;
+      }
+    }
+    return regionEnd;
+  }
+
+  /**
+   * @return the length of the frame at {@code position}, or 0 if there isn't a frame there matching the first one
+   */
+  private int frameLength(final Window window, final long position) throws IOException {
+    if (position + MPEGFrameHeader.HEADER_SIZE > end) {
+      return 0;
+    }
+    final int header = window.getInt(position);
+    if ((header & CONSTANT_HEADER_MASK) != constantHeaderBits) {
+      return 0;
+    }
+    final MPEGFrameHeader frameHeader = MPEGFrameHeader.forHeader(header);
+    if (frameHeader == null || position + frameHeader.getFrameLength() > end) {
+      return 0;
+    }
+    return frameHeader.getFrameLength();
+  }
+
+  /**
+   * A window of the file, one per walk so regions can be read concurrently
+   */
+  private final class Window {
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long start = -1;
+
+    int getInt(final long position) throws IOException {
+      if (start < 0 || position < start || position + MPEGFrameHeader.HEADER_SIZE > start + buffer.limit()) {
+        fill(position);
+      }
+      return buffer.getInt((int)(position - start));
+    }
+
+    private void fill(final long position) throws IOException {
+      buffer.clear();
+      buffer.limit((int)Math.min(BUFFER_SIZE, end - position));
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) == -1) {
+          throw new IOException("File ended at " + (position + buffer.position()) + " before the end of the audio at " + end);
+        }
+      }
+      buffer.flip();
+      start = position;
+    }
+  }
+
+  private static final class RegionScan {
+    final long firstFrame;
+    final long next;
+    final long end;
+    final long frameCount;
+    final long byteCount;
+
+    RegionScan(final long firstFrame, final long next, final long end, final long frameCount, final long byteCount) {
+      this.firstFrame = firstFrame;
+      this.next = next;
+      this.end = end;
+      this.frameCount = frameCount;
+      this.byteCount = byteCount;
+    }
+  }
+}
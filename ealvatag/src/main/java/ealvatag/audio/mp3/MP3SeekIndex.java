@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.audio.mp3;
+
+import com.google.common.base.MoreObjects;
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import okio.BufferedSink;
+import okio.BufferedSource;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Byte positions of MP3 frames sampled at a fixed interval, for seeking a stream to a time without reading the audio before it. Each
+ * entry is the first frame starting at or after a multiple of the interval. Lookups are a binary search of the entries.
+ * <p>
+ * The index is built by walking every frame, as the Xing table of contents is only accurate to a percentage of the file and doesn't
+ * land on frame boundaries. An index can be written alongside other cached data and read back, {@link #isCurrent(File)} tells whether
+ * the file has changed since.
+ */
+public final class MP3SeekIndex {
+  private static final int MAGIC = 0x45415358; // "EASX"
+  private static final int VERSION = 1;
+  private static final double MILLIS_IN_A_SECOND = 1000;
+  /** Entries allocated up front, over an hour at 1 second intervals. More are added as the frames are walked */
+  private static final int MAX_INITIAL_ENTRIES = 4096;
+
+  private final long fileLength;
+  private final long lastModified;
+  private final int intervalMillis;
+  private final double timePerFrame;
+  private final long frameCount;
+  private final long[] frameNumbers;
+  private final long[] positions;
+
+  private MP3SeekIndex(final long fileLength,
+                       final long lastModified,
+                       final int intervalMillis,
+                       final double timePerFrame,
+                       final long frameCount,
+                       final long[] frameNumbers,
+                       final long[] positions) {
+    this.fileLength = fileLength;
+    this.lastModified = lastModified;
+    this.intervalMillis = intervalMillis;
+    this.timePerFrame = timePerFrame;
+    this.frameCount = frameCount;
+    this.frameNumbers = frameNumbers;
+    this.positions = positions;
+  }
+
+  /**
+   * Walk every frame of {@code file} and record the position of a frame every {@code intervalMillis}
+   *
+   * @param file           the mp3 file
+   * @param intervalMillis time between entries, must be positive
+   *
+   * @return the index
+   *
+   * @throws IOException                on any I/O error
+   * @throws InvalidAudioFrameException if no audio frame found
+   */
+  public static MP3SeekIndex build(final File file, final int intervalMillis) throws IOException, InvalidAudioFrameException {
+    checkArgument(intervalMillis > 0, "intervalMillis must be positive: %s", intervalMillis);
+    final long fileLength = file.length();
+    final long lastModified = file.lastModified();
+    final MP3AudioHeader header = MP3File.readAudioHeader(file);
+    final double timePerFrame = header.getTimePerFrame();
+    final EntryCollector entries = new EntryCollector(timePerFrame, intervalMillis, header.getNumberOfFrames());
+    try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+      final MP3FrameScan scan = MP3FrameScanner.walk(channel,
+                                                     header.getFirstAudioFrame(),
+                                                     header.getAudioDataEndPosition(),
+                                                     header.mp3FrameHeader,
+                                                     timePerFrame,
+                                                     entries);
+      return new MP3SeekIndex(fileLength,
+                              lastModified,
+                              intervalMillis,
+                              timePerFrame,
+                              scan.getFrameCount(),
+                              Arrays.copyOf(entries.frameNumbers, entries.size),
+                              Arrays.copyOf(entries.positions, entries.size));
+    }
+  }
+
+  /**
+   * Read an index written by {@link #writeTo(BufferedSink)}
+   *
+   * @throws IOException if the source can't be read or doesn't hold an index
+   */
+  public static MP3SeekIndex readFrom(final BufferedSource source) throws IOException {
+    if (source.readInt() != MAGIC || source.readInt() != VERSION) {
+      throw new IOException("Not an MP3 seek index");
+    }
+    final long fileLength = source.readLong();
+    final long lastModified = source.readLong();
+    final int intervalMillis = source.readInt();
+    final double timePerFrame = Double.longBitsToDouble(source.readLong());
+    final long frameCount = source.readLong();
+    final int size = source.readInt();
+    final long[] frameNumbers = new long[size];
+    final long[] positions = new long[size];
+    for (int i = 0; i < size; i++) {
+      frameNumbers[i] = source.readLong();
+      positions[i] = source.readLong();
+    }
+    return new MP3SeekIndex(fileLength, lastModified, intervalMillis, timePerFrame, frameCount, frameNumbers, positions);
+  }
+
+  public void writeTo(final BufferedSink sink) throws IOException {
+    sink.writeInt(MAGIC);
+    sink.writeInt(VERSION);
+    sink.writeLong(fileLength);
+    sink.writeLong(lastModified);
+    sink.writeInt(intervalMillis);
+    sink.writeLong(Double.doubleToLongBits(timePerFrame));
+    sink.writeLong(frameCount);
+    sink.writeInt(positions.length);
+    for (int i = 0; i < positions.length; i++) {
+      sink.writeLong(frameNumbers[i]);
+      sink.writeLong(positions[i]);
+    }
+  }
+
+  /**
+   * @return true if {@code file} has the same length and modification time as the file the index was built from
+   */
+  public boolean isCurrent(final File file) {
+    return file.length() == fileLength && file.lastModified() == lastModified;
+  }
+
+  /**
+   * @return the entry to seek to for {@code timeMillis}, the last entry starting at or before it. 0 for times before the first entry
+   * and the last entry for times after the end of the audio.
+   */
+  public int getEntry(final long timeMillis) {
+    if (positions.length == 0) {
+      throw new IllegalStateException("Index has no frames");
+    }
+    final long frameNumber = (long)Math.floor(Math.max(0, timeMillis) / MILLIS_IN_A_SECOND / timePerFrame);
+    final int index = Arrays.binarySearch(frameNumbers, frameNumber);
+    return index >= 0 ? index : Math.max(0, -index - 2);
+  }
+
+  /**
+   * @return the byte position of the frame to start from to play from {@code timeMillis}
+   */
+  public long getPosition(final long timeMillis) {
+    return positions[getEntry(timeMillis)];
+  }
+
+  /**
+   * @return the number of entries
+   */
+  public int getEntryCount() {
+    return positions.length;
+  }
+
+  /**
+   * @return the byte position of the frame for {@code entry}
+   */
+  public long getEntryPosition(final int entry) {
+    return positions[entry];
+  }
+
+  /**
+   * @return the number, counting from 0, of the frame for {@code entry}
+   */
+  public long getEntryFrameNumber(final int entry) {
+    return frameNumbers[entry];
+  }
+
+  /**
+   * @return the time the frame for {@code entry} starts, which may be a little after the multiple of the interval it was recorded for
+   */
+  public long getEntryTimeMillis(final int entry) {
+    return Math.round(frameNumbers[entry] * timePerFrame * MILLIS_IN_A_SECOND);
+  }
+
+  public int getIntervalMillis() {
+    return intervalMillis;
+  }
+
+  /**
+   * @return the number of audio frames in the file
+   */
+  public long getFrameCount() {
+    return frameCount;
+  }
+
+  @Override public String toString() {
+    return MoreObjects.toStringHelper(this)
+                      .add("intervalMillis", intervalMillis)
+                      .add("timePerFrame", timePerFrame)
+                      .add("frameCount", frameCount)
+                      .add("entryCount", positions.length)
+                      .toString();
+  }
+
+  private static final class EntryCollector implements MP3FrameScanner.FrameVisitor {
+    private final double timePerFrame;
+    private final double intervalSeconds;
+    private long[] frameNumbers;
+    private long[] positions;
+    private int size;
+
+    EntryCollector(final double timePerFrame, final int intervalMillis, final long expectedFrameCount) {
+      this.timePerFrame = timePerFrame;
+      this.intervalSeconds = intervalMillis / MILLIS_IN_A_SECOND;
+      // the frame count comes from the file's Xing or VBRI header, which can't be trusted to size the arrays
+      final int expectedSize = (int)Math.max(0, Math.min(MAX_INITIAL_ENTRIES - 1, expectedFrameCount * timePerFrame / intervalSeconds)) + 1;
+      frameNumbers = new long[expectedSize];
+      positions = new long[expectedSize];
+    }
+
+    @Override public void visit(final long frameNumber, final long position) {
+      // compare frame times rather than accumulate, so there's no drift over long files
+      if (frameNumber * timePerFrame >= size * intervalSeconds) {
+        if (size == positions.length) {
+          frameNumbers = Arrays.copyOf(frameNumbers, size * 2);
+          positions = Arrays.copyOf(positions, size * 2);
+        }
+        frameNumbers[size] = frameNumber;
+        positions[size] = position;
+        size++;
+      }
+    }
+  }
+}
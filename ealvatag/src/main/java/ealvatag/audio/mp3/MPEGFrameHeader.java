@@ -43,8 +43,6 @@ public class MPEGFrameHeader {
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
 
     /**
      * Constants for MPEG Version
@@ -82,101 +80,102 @@ public class MPEGFrameHeader {
     public final static int LAYER_III_SLOT_SIZE = 1;
 
     /**
-     * Bit Rates, the setBitrate varies for different Version and Layer
+     * Bit Rates in kbps, the setBitrate varies for different Version and Layer. Indexed by the bitrate bits of the third byte
+     * combined with the ID and layer bits of the second, 0 where the combination is invalid
      */
-    private static final Map<Integer, Integer> bitrateMap = new HashMap<Integer, Integer>();
+    private static final int[] BITRATE = new int[256];
 
     static {
         // MPEG-1, Layer I (E)
-        bitrateMap.put(0x1E, 32);
-        bitrateMap.put(0x2E, 64);
-        bitrateMap.put(0x3E, 96);
-        bitrateMap.put(0x4E, 128);
-        bitrateMap.put(0x5E, 160);
-        bitrateMap.put(0x6E, 192);
-        bitrateMap.put(0x7E, 224);
-        bitrateMap.put(0x8E, 256);
-        bitrateMap.put(0x9E, 288);
-        bitrateMap.put(0xAE, 320);
-        bitrateMap.put(0xBE, 352);
-        bitrateMap.put(0xCE, 384);
-        bitrateMap.put(0xDE, 416);
-        bitrateMap.put(0xEE, 448);
+        BITRATE[0x1E] = 32;
+        BITRATE[0x2E] = 64;
+        BITRATE[0x3E] = 96;
+        BITRATE[0x4E] = 128;
+        BITRATE[0x5E] = 160;
+        BITRATE[0x6E] = 192;
+        BITRATE[0x7E] = 224;
+        BITRATE[0x8E] = 256;
+        BITRATE[0x9E] = 288;
+        BITRATE[0xAE] = 320;
+        BITRATE[0xBE] = 352;
+        BITRATE[0xCE] = 384;
+        BITRATE[0xDE] = 416;
+        BITRATE[0xEE] = 448;
         // MPEG-1, Layer II (C)
-        bitrateMap.put(0x1C, 32);
-        bitrateMap.put(0x2C, 48);
-        bitrateMap.put(0x3C, 56);
-        bitrateMap.put(0x4C, 64);
-        bitrateMap.put(0x5C, 80);
-        bitrateMap.put(0x6C, 96);
-        bitrateMap.put(0x7C, 112);
-        bitrateMap.put(0x8C, 128);
-        bitrateMap.put(0x9C, 160);
-        bitrateMap.put(0xAC, 192);
-        bitrateMap.put(0xBC, 224);
-        bitrateMap.put(0xCC, 256);
-        bitrateMap.put(0xDC, 320);
-        bitrateMap.put(0xEC, 384);
+        BITRATE[0x1C] = 32;
+        BITRATE[0x2C] = 48;
+        BITRATE[0x3C] = 56;
+        BITRATE[0x4C] = 64;
+        BITRATE[0x5C] = 80;
+        BITRATE[0x6C] = 96;
+        BITRATE[0x7C] = 112;
+        BITRATE[0x8C] = 128;
+        BITRATE[0x9C] = 160;
+        BITRATE[0xAC] = 192;
+        BITRATE[0xBC] = 224;
+        BITRATE[0xCC] = 256;
+        BITRATE[0xDC] = 320;
+        BITRATE[0xEC] = 384;
         // MPEG-1, Layer III (A)
-        bitrateMap.put(0x1A, 32);
-        bitrateMap.put(0x2A, 40);
-        bitrateMap.put(0x3A, 48);
-        bitrateMap.put(0x4A, 56);
-        bitrateMap.put(0x5A, 64);
-        bitrateMap.put(0x6A, 80);
-        bitrateMap.put(0x7A, 96);
-        bitrateMap.put(0x8A, 112);
-        bitrateMap.put(0x9A, 128);
-        bitrateMap.put(0xAA, 160);
-        bitrateMap.put(0xBA, 192);
-        bitrateMap.put(0xCA, 224);
-        bitrateMap.put(0xDA, 256);
-        bitrateMap.put(0xEA, 320);
+        BITRATE[0x1A] = 32;
+        BITRATE[0x2A] = 40;
+        BITRATE[0x3A] = 48;
+        BITRATE[0x4A] = 56;
+        BITRATE[0x5A] = 64;
+        BITRATE[0x6A] = 80;
+        BITRATE[0x7A] = 96;
+        BITRATE[0x8A] = 112;
+        BITRATE[0x9A] = 128;
+        BITRATE[0xAA] = 160;
+        BITRATE[0xBA] = 192;
+        BITRATE[0xCA] = 224;
+        BITRATE[0xDA] = 256;
+        BITRATE[0xEA] = 320;
         // MPEG-2, Layer I (6)
-        bitrateMap.put(0x16, 32);
-        bitrateMap.put(0x26, 48);
-        bitrateMap.put(0x36, 56);
-        bitrateMap.put(0x46, 64);
-        bitrateMap.put(0x56, 80);
-        bitrateMap.put(0x66, 96);
-        bitrateMap.put(0x76, 112);
-        bitrateMap.put(0x86, 128);
-        bitrateMap.put(0x96, 144);
-        bitrateMap.put(0xA6, 160);
-        bitrateMap.put(0xB6, 176);
-        bitrateMap.put(0xC6, 192);
-        bitrateMap.put(0xD6, 224);
-        bitrateMap.put(0xE6, 256);
+        BITRATE[0x16] = 32;
+        BITRATE[0x26] = 48;
+        BITRATE[0x36] = 56;
+        BITRATE[0x46] = 64;
+        BITRATE[0x56] = 80;
+        BITRATE[0x66] = 96;
+        BITRATE[0x76] = 112;
+        BITRATE[0x86] = 128;
+        BITRATE[0x96] = 144;
+        BITRATE[0xA6] = 160;
+        BITRATE[0xB6] = 176;
+        BITRATE[0xC6] = 192;
+        BITRATE[0xD6] = 224;
+        BITRATE[0xE6] = 256;
         // MPEG-2, Layer II (4)
-        bitrateMap.put(0x14, 8);
-        bitrateMap.put(0x24, 16);
-        bitrateMap.put(0x34, 24);
-        bitrateMap.put(0x44, 32);
-        bitrateMap.put(0x54, 40);
-        bitrateMap.put(0x64, 48);
-        bitrateMap.put(0x74, 56);
-        bitrateMap.put(0x84, 64);
-        bitrateMap.put(0x94, 80);
-        bitrateMap.put(0xA4, 96);
-        bitrateMap.put(0xB4, 112);
-        bitrateMap.put(0xC4, 128);
-        bitrateMap.put(0xD4, 144);
-        bitrateMap.put(0xE4, 160);
+        BITRATE[0x14] = 8;
+        BITRATE[0x24] = 16;
+        BITRATE[0x34] = 24;
+        BITRATE[0x44] = 32;
+        BITRATE[0x54] = 40;
+        BITRATE[0x64] = 48;
+        BITRATE[0x74] = 56;
+        BITRATE[0x84] = 64;
+        BITRATE[0x94] = 80;
+        BITRATE[0xA4] = 96;
+        BITRATE[0xB4] = 112;
+        BITRATE[0xC4] = 128;
+        BITRATE[0xD4] = 144;
+        BITRATE[0xE4] = 160;
         // MPEG-2, Layer III (2)
-        bitrateMap.put(0x12, 8);
-        bitrateMap.put(0x22, 16);
-        bitrateMap.put(0x32, 24);
-        bitrateMap.put(0x42, 32);
-        bitrateMap.put(0x52, 40);
-        bitrateMap.put(0x62, 48);
-        bitrateMap.put(0x72, 56);
-        bitrateMap.put(0x82, 64);
-        bitrateMap.put(0x92, 80);
-        bitrateMap.put(0xA2, 96);
-        bitrateMap.put(0xB2, 112);
-        bitrateMap.put(0xC2, 128);
-        bitrateMap.put(0xD2, 144);
-        bitrateMap.put(0xE2, 160);
+        BITRATE[0x12] = 8;
+        BITRATE[0x22] = 16;
+        BITRATE[0x32] = 24;
+        BITRATE[0x42] = 32;
+        BITRATE[0x52] = 40;
+        BITRATE[0x62] = 48;
+        BITRATE[0x72] = 56;
+        BITRATE[0x82] = 64;
+        BITRATE[0x92] = 80;
+        BITRATE[0xA2] = 96;
+        BITRATE[0xB2] = 112;
+        BITRATE[0xC2] = 128;
+        BITRATE[0xD2] = 144;
+        BITRATE[0xE2] = 160;
     }
 
     /**
@@ -237,56 +236,32 @@ public class MPEGFrameHeader {
     }
 
     /**
-     * Sampling Rate in Hz
+     * Sampling Rate in Hz, indexed by version and then the frequency bits, 0 where invalid
      */
-    private static final Map<Integer, Map<Integer, Integer>> samplingRateMap = new HashMap<Integer, Map<Integer, Integer>>();
-    private static final Map<Integer, Integer> samplingV1Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplingV2Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplingV25Map = new HashMap<Integer, Integer>();
+    private static final int[][] SAMPLING_RATE = new int[4][];
 
     static {
-        samplingV1Map.put(0, 44100);
-        samplingV1Map.put(1, 48000);
-        samplingV1Map.put(2, 32000);
-
-        samplingV2Map.put(0, 22050);
-        samplingV2Map.put(1, 24000);
-        samplingV2Map.put(2, 16000);
-
-        samplingV25Map.put(0, 11025);
-        samplingV25Map.put(1, 12000);
-        samplingV25Map.put(2, 8000);
-
-        samplingRateMap.put(VERSION_1, samplingV1Map);
-        samplingRateMap.put(VERSION_2, samplingV2Map);
-        samplingRateMap.put(VERSION_2_5, samplingV25Map);
+        SAMPLING_RATE[VERSION_1] = new int[]{44100, 48000, 32000, 0};
+        SAMPLING_RATE[VERSION_2] = new int[]{22050, 24000, 16000, 0};
+        SAMPLING_RATE[VERSION_2_5] = new int[]{11025, 12000, 8000, 0};
     }
 
-    /* Samples Per Frame */
-    private static final Map<Integer, Map<Integer, Integer>> samplesPerFrameMap = new HashMap<Integer, Map<Integer, Integer>>();
-    private static final Map<Integer, Integer> samplesPerFrameV1Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplesPerFrameV2Map = new HashMap<Integer, Integer>();
-    private static final Map<Integer, Integer> samplesPerFrameV25Map = new HashMap<Integer, Integer>();
+    /* Samples Per Frame, indexed by layer, the same for every version */
+    private static final int[] SAMPLES_PER_FRAME = new int[4];
 
     static {
-        samplesPerFrameV1Map.put(LAYER_I, 384);
-        samplesPerFrameV1Map.put(LAYER_II, 1152);
-        samplesPerFrameV1Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV2Map.put(LAYER_I, 384);
-        samplesPerFrameV2Map.put(LAYER_II, 1152);
-        samplesPerFrameV2Map.put(LAYER_III, 1152);
-
-        samplesPerFrameV25Map.put(LAYER_I, 384);
-        samplesPerFrameV25Map.put(LAYER_II, 1152);
-        samplesPerFrameV25Map.put(LAYER_III, 1152);
-
-        samplesPerFrameMap.put(VERSION_1, samplesPerFrameV1Map);
-        samplesPerFrameMap.put(VERSION_2, samplesPerFrameV2Map);
-        samplesPerFrameMap.put(VERSION_2_5, samplesPerFrameV25Map);
-
+        SAMPLES_PER_FRAME[LAYER_I] = 384;
+        SAMPLES_PER_FRAME[LAYER_II] = 1152;
+        SAMPLES_PER_FRAME[LAYER_III] = 1152;
     }
 
+    /**
+     * Parsed headers, interned by header value. Most files only use a handful of distinct headers (one per bitrate, with and
+     * without padding) so scanning a file finds nearly all of them here. Headers are immutable so slots are read and replaced
+     * without locking, a racing thread at worst parses a header again.
+     */
+    private static final int CACHE_BITS = 10;
+    private static final MPEGFrameHeader[] CACHE = new MPEGFrameHeader[1 << CACHE_BITS];
 
     private static final int SCALE_BY_THOUSAND = 1000;
     private static final int LAYER_I_FRAME_SIZE_COEFFICIENT = 12;
@@ -359,78 +334,85 @@ public class MPEGFrameHeader {
     private static final int MASK_MP3_EMPHASIS = FileConstants.BIT1 | FileConstants.BIT0;
 
 
-    private byte[] mpegBytes;
+    /**
+     * The four header bytes, big endian
+     */
+    private final int header;
 
     /**
      * The version of this MPEG frame (see the constants)
      */
-    private int version;
+    private final int version;
 
-    private String versionAsString;
+    private final String versionAsString;
 
     /**
      * Contains the mpeg layer of this frame (see constants)
      */
-    private int layer;
+    private final int layer;
 
-    private String layerAsString;
+    private final String layerAsString;
     /**
      * Bitrate of this frame
      */
-    private Integer bitRate;
+    private final Integer bitRate;
 
     /**
      * Channel Mode of this Frame (see constants)
      */
-    private int channelMode;
+    private final int channelMode;
 
     /**
      * Channel Mode of this Frame As English String
      */
-    private String channelModeAsString;
+    private final String channelModeAsString;
 
     /**
      * Emphasis of this frame
      */
-    private int emphasis;
+    private final int emphasis;
 
     /**
      * Emphasis mode string
      */
-    private String emphasisAsString;
+    private final String emphasisAsString;
 
     /**
      * Mode Extension
      */
-    private String modeExtension;
+    private final String modeExtension;
 
     /**
      * Flag indicating if this frame has padding byte
      */
-    private boolean isPadding;
+    private final boolean isPadding;
 
     /**
      * Flag indicating if this frame contains copyrighted material
      */
-    private boolean isCopyrighted;
+    private final boolean isCopyrighted;
 
     /**
      * Flag indicating if this frame contains original material
      */
-    private boolean isOriginal;
+    private final boolean isOriginal;
 
     /**
      * Flag indicating if this frame is protected
      */
-    private boolean isProtected;
+    private final boolean isProtected;
 
 
     /**
      * Flag indicating if this frame is private
      */
-    private boolean isPrivate;
+    private final boolean isPrivate;
+
+    private final Integer samplingRate;
 
-    private Integer samplingRate;
+    private final int noOfSamples;
+
+    private final int frameLength;
 
 
     /**
@@ -447,142 +429,10 @@ public class MPEGFrameHeader {
     }
 
     /**
-     * Gets the copyrighted attribute of the MPEGFrame object
-     */
-    private void setCopyrighted() {
-        isCopyrighted = (mpegBytes[BYTE_4] & MASK_MP3_COPY) != 0;
-    }
-
-
-    /**
-     * Set the version of this frame as an int value (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setVersion() throws InvalidAudioFrameException {
-        //MPEG Version
-        version = (byte)((mpegBytes[BYTE_2] & MASK_MP3_VERSION) >> 3);
-        versionAsString = mpegVersionMap.get(version);
-        if (versionAsString == null) {
-            throw new InvalidAudioFrameException("Invalid mpeg version");
-        }
-    }
-
-    /**
-     * Sets the original attribute of the MPEGFrame object
-     */
-    private void setOriginal() {
-        isOriginal = (mpegBytes[BYTE_4] & MASK_MP3_HOME) != 0;
-    }
-
-    /**
-     * Sets the protected attribute of the MPEGFrame object
-     */
-    private void setProtected() {
-        isProtected = (mpegBytes[BYTE_2] & MASK_MP3_PROTECTION) == 0x00;
-    }
-
-    /**
-     * Sets the private attribute of the MPEGFrame object
-     */
-    private void setPrivate() {
-        isPrivate = (mpegBytes[BYTE_3] & MASK_MP3_PRIVACY) != 0;
-    }
-
-    /**
-     * Get the setBitrate of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setBitrate() throws InvalidAudioFrameException {
-        /* BitRate, get by checking header setBitrate bits and MPEG Version and Layer */
-        int bitRateIndex = mpegBytes[BYTE_3] & MASK_MP3_BITRATE | mpegBytes[BYTE_2] & MASK_MP3_ID | mpegBytes[BYTE_2] & MASK_MP3_LAYER;
-
-        bitRate = bitrateMap.get(bitRateIndex);
-        if (bitRate == null) {
-            throw new InvalidAudioFrameException("Invalid bitrate");
-        }
-    }
-
-
-    /**
-     * Set the Mpeg channel mode of this frame as a constant (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setChannelMode() throws InvalidAudioFrameException {
-        channelMode = (mpegBytes[BYTE_4] & MASK_MP3_MODE) >>> 6;
-        channelModeAsString = modeMap.get(channelMode);
-        if (channelModeAsString == null) {
-            throw new InvalidAudioFrameException("Invalid channel mode");
-        }
-    }
-
-    /**
-     * Get the setEmphasis mode of this frame in a string representation
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setEmphasis() throws InvalidAudioFrameException {
-        emphasis = mpegBytes[BYTE_4] & MASK_MP3_EMPHASIS;
-        emphasisAsString = emphasisMap.get(emphasis);
-        if (getEmphasisAsString() == null) {
-            throw new InvalidAudioFrameException("Invalid emphasis");
-        }
-    }
-
-
-    /**
-     * Set whether this frame uses padding bytes
-     */
-    private void setPadding() {
-        isPadding = (mpegBytes[BYTE_3] & MASK_MP3_PADDING) != 0;
-    }
-
-
-    /**
-     * Get the layer version of this frame as a constant int value (see constants)
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setLayer() throws InvalidAudioFrameException {
-        layer = (mpegBytes[BYTE_2] & MASK_MP3_LAYER) >>> 1;
-        layerAsString = mpegLayerMap.get(layer);
-        if (layerAsString == null) {
-            throw new InvalidAudioFrameException("Invalid Layer");
-        }
-    }
-
-
-    /**
-     * Sets the string representation of the mode extension of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
+     * @return the four header bytes, big endian
      */
-    private void setModeExtension() throws InvalidAudioFrameException {
-        int index = (mpegBytes[BYTE_4] & MASK_MP3_MODE_EXTENSION) >> 4;
-        if (layer == LAYER_III) {
-            modeExtension = modeExtensionLayerIIIMap.get(index);
-            if (getModeExtension() == null) {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        } else {
-            modeExtension = modeExtensionMap.get(index);
-            if (getModeExtension() == null) {
-                throw new InvalidAudioFrameException("Invalid Mode Extension");
-            }
-        }
-    }
-
-    /**
-     * set the sampling rate in Hz of this frame
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
-     */
-    private void setSamplingRate() throws InvalidAudioFrameException {
-        //Frequency
-        int index = (mpegBytes[BYTE_3] & MASK_MP3_FREQUENCY) >>> 2;
-        Map<Integer, Integer> samplingRateMapForVersion = samplingRateMap.get(version);
-        if (samplingRateMapForVersion == null) {
-            throw new InvalidAudioFrameException("Invalid version");
-        }
-        samplingRate = samplingRateMapForVersion.get(index);
-        if (samplingRate == null) {
-            throw new InvalidAudioFrameException("Invalid sampling rate");
-        }
+    int getHeader() {
+        return header;
     }
 
     /**
@@ -647,15 +497,20 @@ public class MPEGFrameHeader {
         return samplingRate;
     }
 
-    /*
+    /**
      * Gets this frame length in bytes, value should always be rounded down to the nearest byte (not rounded up)
-     *
+     */
+    public int getFrameLength() {
+        return frameLength;
+    }
+
+    /*
      * Calculation is Bitrate (scaled to bps) divided by sampling frequency (in Hz), The larger the bitrate the larger
      * the frame but the more samples per second the smaller the value, also have to take into account frame padding
      * Have to multiple by a coefficient constant depending upon the layer it is encoded in,
 
      */
-    public int getFrameLength() {
+    private int calculateFrameLength() {
         switch (version) {
             case VERSION_2:
             case VERSION_2_5:
@@ -715,7 +570,6 @@ public class MPEGFrameHeader {
      * @return
      */
     public int getNoOfSamples() {
-        Integer noOfSamples = samplesPerFrameMap.get(version).get(layer);
         return noOfSamples;
     }
 
@@ -758,59 +612,127 @@ public class MPEGFrameHeader {
 
 
     /**
-     * Hide Constructor
-     * @throws ealvatag.audio.exceptions.InvalidAudioFrameException
+     * Decode a header already known to be valid, see {@link #forHeader(int)}
+     *
+     * @param header the four header bytes, big endian
      */
-    private MPEGFrameHeader() throws InvalidAudioFrameException {
+    private MPEGFrameHeader(final int header) {
+        this.header = header;
+        final int byte2 = byteAt(header, BYTE_2);
+        final int byte3 = byteAt(header, BYTE_3);
+        final int byte4 = byteAt(header, BYTE_4);
+
+        version = (byte2 & MASK_MP3_VERSION) >> 3;
+        versionAsString = mpegVersionMap.get(version);
+        layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        layerAsString = mpegLayerMap.get(layer);
+        bitRate = BITRATE[bitRateIndex(byte2, byte3)];
+        samplingRate = SAMPLING_RATE[version][(byte3 & MASK_MP3_FREQUENCY) >>> 2];
+        noOfSamples = SAMPLES_PER_FRAME[layer];
+        isProtected = (byte2 & MASK_MP3_PROTECTION) == 0x00;
+        isPadding = (byte3 & MASK_MP3_PADDING) != 0;
+        isPrivate = (byte3 & MASK_MP3_PRIVACY) != 0;
+        channelMode = (byte4 & MASK_MP3_MODE) >>> 6;
+        channelModeAsString = modeMap.get(channelMode);
+        final int modeExtensionIndex = (byte4 & MASK_MP3_MODE_EXTENSION) >> 4;
+        if (layer == LAYER_III) {
+            modeExtension = modeExtensionLayerIIIMap.get(modeExtensionIndex);
+        } else {
+            modeExtension = modeExtensionMap.get(modeExtensionIndex);
+        }
+        isCopyrighted = (byte4 & MASK_MP3_COPY) != 0;
+        isOriginal = (byte4 & MASK_MP3_HOME) != 0;
+        emphasis = byte4 & MASK_MP3_EMPHASIS;
+        emphasisAsString = emphasisMap.get(emphasis);
+        frameLength = calculateFrameLength();
+    }
 
+    private static int byteAt(final int header, final int index) {
+        return (header >>> ((HEADER_SIZE - 1 - index) * 8)) & 0xFF;
+    }
+
+    private static int bitRateIndex(final int byte2, final int byte3) {
+        return byte3 & MASK_MP3_BITRATE | byte2 & MASK_MP3_ID | byte2 & MASK_MP3_LAYER;
+    }
+
+    /**
+     * Version, layer, bitrate and sampling rate are the only fields with invalid values, the channel mode, mode extension and
+     * emphasis tables cover every value. Checked against the primitive tables so rejecting a candidate doesn't allocate
+     */
+    private static boolean isValid(final int header) {
+        final int byte2 = byteAt(header, BYTE_2);
+        final int byte3 = byteAt(header, BYTE_3);
+        final int version = (byte2 & MASK_MP3_VERSION) >> 3;
+        final int layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        return SAMPLING_RATE[version] != null
+                && SAMPLES_PER_FRAME[layer] != 0
+                && BITRATE[bitRateIndex(byte2, byte3)] != 0
+                && SAMPLING_RATE[version][(byte3 & MASK_MP3_FREQUENCY) >>> 2] != 0;
     }
 
     /**
-     * Try and create a new MPEG frame with the given byte array and decodes its contents
-     * If decoding header causes a problem it is not a valid header
+     * Get the header for the given header bytes, every valid header value maps to a single shared instance while it stays cached
      *
-     * @param b the array of bytes representing this mpeg frame
-     * @throws InvalidAudioFrameException if does not match expected format
-     */
-    private MPEGFrameHeader(byte[] b) throws InvalidAudioFrameException {
-        mpegBytes = b;
-        setBitrate();
-        setVersion();
-        setLayer();
-        setProtected();
-        setSamplingRate();
-        setPadding();
-        setPrivate();
-        setChannelMode();
-        setModeExtension();
-        setCopyrighted();
-        setOriginal();
-        setEmphasis();
-    }
-
-    /**
-     * Parse the MPEGFrameHeader of an MP3File, file pointer returns at end of the frame header
+     * @param header the four header bytes, big endian
+     * @return the header, or null if the bytes aren't a valid header
+     */
+    static MPEGFrameHeader forHeader(final int header) {
+        final int slot = (header * 0x9E3779B9) >>> (32 - CACHE_BITS);
+        final MPEGFrameHeader cached = CACHE[slot];
+        if (cached != null && cached.header == header) {
+            return cached;
+        }
+        if (!isValid(header)) {
+            return null;
+        }
+        final MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
+        CACHE[slot] = frameHeader;
+        return frameHeader;
+    }
+
+    /**
+     * @return the four header bytes at {@code offset} in the buffer, big endian. The buffer position doesn't change
+     */
+    static int readHeader(final Buffer buffer, final long offset) {
+        return (buffer.getByte(offset) & 0xFF) << 24
+                | (buffer.getByte(offset + 1) & 0xFF) << 16
+                | (buffer.getByte(offset + 2) & 0xFF) << 8
+                | (buffer.getByte(offset + 3) & 0xFF);
+    }
+
+    private static MPEGFrameHeader parseMPEGHeader(final int header) throws InvalidAudioFrameException {
+        final MPEGFrameHeader frameHeader = forHeader(header);
+        if (frameHeader == null) {
+            throw new InvalidAudioFrameException("Invalid mpeg frame header:%08X", header);
+        }
+        return frameHeader;
+    }
+
+    /**
+     * Parse the MPEGFrameHeader of an MP3File, the buffer position doesn't change
      *
      * @param bb the byte buffer containing the header
      * @return
      * @throws InvalidAudioFrameException if there is no header at this point
      */
     static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException {
-        int position = bb.position();
-        bb.get(header, 0, HEADER_SIZE);
-        bb.position(position);
-        MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
-
-        return frameHeader;
+        final int position = bb.position();
+        return parseMPEGHeader((bb.get(position) & 0xFF) << 24
+                                       | (bb.get(position + 1) & 0xFF) << 16
+                                       | (bb.get(position + 2) & 0xFF) << 8
+                                       | (bb.get(position + 3) & 0xFF));
     }
 
 
     static MPEGFrameHeader parseMPEGHeader(final Buffer buffer) throws EOFException, InvalidAudioFrameException {
-        byte[] headerBytes = new byte[HEADER_SIZE];
-        for (int i = 0, size = Math.min(headerBytes.length, HEADER_SIZE); i < size; i++) {
-            headerBytes[i] = buffer.getByte(i);
-        }
-        return new MPEGFrameHeader(headerBytes);
+        return parseMPEGHeader(buffer, 0);
+    }
+
+    /**
+     * Parse the MPEGFrameHeader at {@code offset} in the buffer, the buffer position doesn't change
+     */
+    static MPEGFrameHeader parseMPEGHeader(final Buffer buffer, final long offset) throws EOFException, InvalidAudioFrameException {
+        return parseMPEGHeader(readHeader(buffer, offset));
     }
 
     /**
@@ -856,20 +778,25 @@ public class MPEGFrameHeader {
                 " isVariableBitRate" +
                 this.isVariableBitRate() +
                 " header as binary:" +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_1]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)byteAt(header, BYTE_1)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_2]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)byteAt(header, BYTE_2)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_3]) +
+                AbstractTagDisplayFormatter.displayAsBinary((byte)byteAt(header, BYTE_3)) +
                 " " +
-                AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_4]);
+                AbstractTagDisplayFormatter.displayAsBinary((byte)byteAt(header, BYTE_4));
     }
 
     static boolean isMPEGFrame(final Buffer bb) {
-        int position = 0;
+        return isMPEGFrame(bb, 0);
+    }
+
+    /**
+     * @return true if the bytes at {@code position} in the buffer look like a frame header, the buffer position doesn't change
+     */
+    static boolean isMPEGFrame(final Buffer bb, final long position) {
         return (((bb.getByte(position) & SYNC_BYTE1) == SYNC_BYTE1)
                 && ((bb.getByte(position + 1) & SYNC_BYTE2) == SYNC_BYTE2)
                 && ((bb.getByte(position + 2) & SYNC_BIT_ANDSAMPING_BYTE3) != SYNC_BIT_ANDSAMPING_BYTE3));
     }
 }
-
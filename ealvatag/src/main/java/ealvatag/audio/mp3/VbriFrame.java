@@ -5,11 +5,11 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.logging.EalvaTagLog;
 import okio.Buffer;
+import okio.ByteString;
 
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
 import java.io.EOFException;
-import java.util.Arrays;
 
 /**
  * Vrbi Frame
@@ -44,7 +44,7 @@ public class VbriFrame {
   private static final JLogger LOG = JLoggers.get(VbriFrame.class, EalvaTagLog.MARKER);
 
   //The offset into frame
-  private static final int VBRI_OFFSET = MPEGFrameHeader.HEADER_SIZE + 32;
+  static final int VBRI_OFFSET = MPEGFrameHeader.HEADER_SIZE + 32;
 
   //    private static final int VBRI_HEADER_BUFFER_SIZE = 120; //TODO this is just a guess, not right
   private static final int VBRI_IDENTIFIER_BUFFER_SIZE = 4;
@@ -65,6 +65,7 @@ public class VbriFrame {
    * Identifier
    */
   private static final byte[] VBRI_VBR_ID = {'V', 'B', 'R', 'I'};
+  private static final ByteString VBRI_VBR_ID_STRING = ByteString.of(VBRI_VBR_ID);
 
   private boolean vbr = false;
   private int frameCount = -1;
@@ -114,19 +115,19 @@ public class VbriFrame {
     return new VbriFrame(header);
   }
 
-  static Buffer isVbriFrame(Buffer buffer) throws EOFException {
-    buffer.skip(VBRI_OFFSET);
-
-    //Check Identifier
-    byte[] identifier = new byte[VBRI_IDENTIFIER_BUFFER_SIZE];
-    for (int i = 0; i < identifier.length; i++) {
-      identifier[i] = buffer.getByte(i);
-    }
-    if ((!Arrays.equals(identifier, VBRI_VBR_ID))) {
-      return null;
+  /**
+   * Check for a VBRI Frame identifier without moving the buffer position
+   *
+   * @param buffer positioned at the start of the frame header
+   *
+   * @return true if the frame contains a VBRI Frame, which starts at {@link #VBRI_OFFSET}
+   */
+  static boolean isVbriFrame(final Buffer buffer) {
+    if (buffer.rangeEquals(VBRI_OFFSET, VBRI_VBR_ID_STRING)) {
+      LOG.log(TRACE, "Found VBRI Frame");
+      return true;
     }
-    LOG.log(TRACE, "Found VBRI Frame");
-    return buffer;
+    return false;
   }
 
   final boolean isVbr() {
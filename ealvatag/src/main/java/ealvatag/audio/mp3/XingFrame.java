@@ -6,6 +6,7 @@ import ealvatag.audio.exceptions.InvalidAudioFrameException;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.utils.ArrayUtil;
 import okio.Buffer;
+import okio.ByteString;
 
 import static com.ealva.ealvalog.LogLevel.INFO;
 import static com.ealva.ealvalog.LogLevel.TRACE;
@@ -70,6 +71,9 @@ public class XingFrame {
    */
   private static final byte[] XING_CBR_ID = {'I', 'n', 'f', 'o'};
 
+  private static final ByteString XING_VBR_ID_STRING = ByteString.of(XING_VBR_ID);
+  private static final ByteString XING_CBR_ID_STRING = ByteString.of(XING_CBR_ID);
+
 
   private boolean vbr = false;
   private boolean isFrameCountEnabled = false;
@@ -182,37 +186,35 @@ public class XingFrame {
     return new XingFrame(buffer);
   }
 
-  static Buffer isXingFrame(Buffer buffer, MPEGFrameHeader mpegFrameHeader) throws EOFException {
-
-    //Get to Start of where Xing Frame Should be ( we dont know if it is one at this point)
+  /**
+   * @return offset from the start of the frame header to where a Xing Frame would start, which depends on the MPEG version and channel
+   * mode
+   */
+  static int getXingOffset(final MPEGFrameHeader mpegFrameHeader) {
     if (mpegFrameHeader.getVersion() == MPEGFrameHeader.VERSION_1) {
-      if (mpegFrameHeader.getChannelMode() == MPEGFrameHeader.MODE_MONO) {
-        buffer.skip(MPEG_VERSION_1_MODE_MONO_OFFSET);
-      } else {
-        buffer.skip(MPEG_VERSION_1_MODE_STEREO_OFFSET);
-      }
+      return mpegFrameHeader.getChannelMode() == MPEGFrameHeader.MODE_MONO ? MPEG_VERSION_1_MODE_MONO_OFFSET
+                                                                            : MPEG_VERSION_1_MODE_STEREO_OFFSET;
     }
     //MPEGVersion 2 and 2.5
-    else {
-      if (mpegFrameHeader.getChannelMode() == MPEGFrameHeader.MODE_MONO) {
-        buffer.skip(MPEG_VERSION_2_MODE_MONO_OFFSET);
-      } else {
-        buffer.skip(MPEG_VERSION_2_MODE_STEREO_OFFSET);
-      }
-    }
-
-    //Create header from here
+    return mpegFrameHeader.getChannelMode() == MPEGFrameHeader.MODE_MONO ? MPEG_VERSION_2_MODE_MONO_OFFSET
+                                                                          : MPEG_VERSION_2_MODE_STEREO_OFFSET;
+  }
 
-    //Check Identifier
-    byte[] identifier = new byte[XING_IDENTIFIER_BUFFER_SIZE];
-    for (int i = 0; i < identifier.length; i++) {
-      identifier[i] = buffer.getByte(i);
-    }
-    if ((!Arrays.equals(identifier, XING_VBR_ID)) && (!Arrays.equals(identifier, XING_CBR_ID))) {
-      return null;
+  /**
+   * Check for a Xing Frame identifier without moving the buffer position
+   *
+   * @param buffer          positioned at the start of the frame header
+   * @param mpegFrameHeader the parsed frame header
+   *
+   * @return true if the frame contains a Xing Frame, which starts at {@link #getXingOffset(MPEGFrameHeader)}
+   */
+  static boolean isXingFrame(final Buffer buffer, final MPEGFrameHeader mpegFrameHeader) {
+    final int offset = getXingOffset(mpegFrameHeader);
+    if (buffer.rangeEquals(offset, XING_VBR_ID_STRING) || buffer.rangeEquals(offset, XING_CBR_ID_STRING)) {
+      LOG.log(TRACE, "Found Xing Frame");
+      return true;
     }
-    LOG.log(TRACE, "Found Xing Frame");
-    return buffer;
+    return false;
   }
 
   final boolean isVbr() {
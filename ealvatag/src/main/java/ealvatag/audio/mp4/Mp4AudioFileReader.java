@@ -22,13 +22,18 @@ import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.audio.AudioFile;
 import ealvatag.audio.AudioFileImpl;
 import ealvatag.audio.AudioFileReader;
+import ealvatag.audio.AudioHeader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.io.FileDigester;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.audio.mp4.atom.Mp4FtypBox;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.utils.StandardCharsets;
 import okio.BufferedSource;
 import okio.Okio;
 
@@ -39,6 +44,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.Set;
 
 /**
  * Reads an Mp4 and parses it into an AudioFile
@@ -102,6 +111,7 @@ import java.io.RandomAccessFile;
  */
 public class Mp4AudioFileReader extends AudioFileReader {
   private static final JLogger LOG = JLoggers.get(Mp4AudioFileReader.class, EalvaTagLog.MARKER);
+  private static final int LARGE_SIZE_LENGTH = 8;
 
   // Almost a complete rewrite from the original which artificially separated header from tag parsing. This was causing the entire moov
   // box to be read into memory TWICE! I have seen this larger than 500KB in my own music library. That's opening a file, reading 500KB
@@ -117,9 +127,62 @@ public class Mp4AudioFileReader extends AudioFileReader {
     throw new UnsupportedOperationException("");
   }
 
-  public AudioFile read(final File file,
-                        final String extension,
-                        final boolean ignoreArtwork) throws CannotReadException, FileNotFoundException {
+  @Override public AudioFile read(final File file,
+                                  final String extension,
+                                  final ReadOptions options) throws CannotReadException, FileNotFoundException {
+    final Mp4MoovBox moovBox = readMoovBox(file, options.ignoreArtwork(), false, options.fields());
+    return new AudioFileImpl(file, extension, moovBox.getAudioHeader(), moovBox.getMp4Tag());
+  }
+
+  /**
+   * Only the boxes needed for the audio header are parsed, the udta/meta boxes holding the tag are skipped.
+   */
+  @Override public AudioHeader readHeader(final File file) throws CannotReadException, FileNotFoundException {
+    return readMoovBox(file, true, true, null).getAudioHeader();
+  }
+
+  /**
+   * Digest the data of the top level mdat boxes. Only box headers are read to find them, the moov box holding the tag is skipped.
+   */
+  @Override public void digestAudio(final File file, final MessageDigest digest) throws CannotReadException, IOException {
+    try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+      final long fileSize = channel.size();
+      final ByteBuffer header = ByteBuffer.allocate(Mp4BoxHeader.HEADER_LENGTH + LARGE_SIZE_LENGTH);
+      final byte[] id = new byte[Mp4BoxHeader.IDENTIFIER_LENGTH];
+      boolean foundMdat = false;
+      long position = 0;
+      while (position + Mp4BoxHeader.HEADER_LENGTH <= fileSize) {
+        header.clear();
+        channel.read(header, position);
+        header.flip();
+        long boxSize = header.getInt() & 0xFFFFFFFFL;
+        header.get(id);
+        int headerSize = Mp4BoxHeader.HEADER_LENGTH;
+        if (boxSize == 1 && header.remaining() >= LARGE_SIZE_LENGTH) {
+          boxSize = header.getLong();
+          headerSize += LARGE_SIZE_LENGTH;
+        } else if (boxSize == 0) {
+          boxSize = fileSize - position;
+        }
+        if (boxSize < headerSize) {
+          throw new CannotReadException("Invalid box size %d at %d in %s", boxSize, position, file);
+        }
+        if (Mp4AtomIdentifier.MDAT.getFieldName().equals(new String(id, StandardCharsets.ISO_8859_1))) {
+          FileDigester.update(channel, position + headerSize, Math.min(boxSize, fileSize - position) - headerSize, digest);
+          foundMdat = true;
+        }
+        position += boxSize;
+      }
+      if (!foundMdat) {
+        throw new CannotReadException("No mdat box in %s", file);
+      }
+    }
+  }
+
+  private Mp4MoovBox readMoovBox(final File file,
+                                 final boolean ignoreArtwork,
+                                 final boolean headerOnly,
+                                 final Set<FieldKey> fields) throws CannotReadException, FileNotFoundException {
     try (BufferedSource bufferedSource = Okio.buffer(Okio.source(file))) {
       Mp4FtypBox mp4FtypBox = new Mp4FtypBox(bufferedSource);
       LOG.log(DEBUG, "%s", mp4FtypBox);
@@ -130,8 +193,7 @@ public class Mp4AudioFileReader extends AudioFileReader {
         bufferedSource.skip(boxHeader.getDataLength());
         boxHeader = new Mp4BoxHeader(bufferedSource);
       }
-      Mp4MoovBox moovBox = new Mp4MoovBox(boxHeader, bufferedSource, mp4FtypBox, file.length(), ignoreArtwork);
-      return new AudioFileImpl(file, extension, moovBox.getAudioHeader(), moovBox.getMp4Tag());
+      return new Mp4MoovBox(boxHeader, bufferedSource, mp4FtypBox, file.length(), ignoreArtwork, headerOnly, fields);
     } catch (FileNotFoundException e) {
       throw e;
     } catch (IOException e) {
@@ -26,6 +26,7 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.TagField;
 import ealvatag.tag.mp4.Mp4FieldKey;
 import ealvatag.tag.mp4.Mp4NonStandardFieldKey;
@@ -51,6 +52,7 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.Set;
 
 /**
  * Represents an mp4 trak box
@@ -63,15 +65,20 @@ public class Mp4IlstBox {
   public Mp4IlstBox(final Mp4BoxHeader ilstBoxHeader,
                     final BufferedSource bufferedSource,
                     final Mp4Tag mp4Tag,
-                    final boolean ignoreArtwork) throws IOException, CannotReadException {
+                    final boolean ignoreArtwork,
+                    final Set<FieldKey> fields) throws IOException, CannotReadException {
     Preconditions.checkArgument(Mp4AtomIdentifier.ILST.matches(ilstBoxHeader.getId()));
+    final Set<String> atomIds = fields == null ? null : Mp4Tag.getAtomIdsForFields(fields);
 
     int dataSize = ilstBoxHeader.getDataLength();
     while (dataSize >= Mp4BoxHeader.HEADER_LENGTH) {
       Mp4BoxHeader childHeader = new Mp4BoxHeader(bufferedSource);
       final int dataLength = childHeader.getDataLength();
       if (dataLength > 0) {        //Header with no data #JAUDIOTAGGER-463
-        if (Mp4TagReverseDnsField.IDENTIFIER.equals(childHeader.getId())) {  //Reverse Dns Atom
+        if (atomIds != null && !atomIds.contains(childHeader.getId())) {
+          mp4Tag.markReadOnly();
+          bufferedSource.skip(dataLength);
+        } else if (Mp4TagReverseDnsField.IDENTIFIER.equals(childHeader.getId())) {  //Reverse Dns Atom
           handleReverseDns(mp4Tag,
                            childHeader,
                            ByteBuffer.wrap(bufferedSource.readByteArray(dataLength)));
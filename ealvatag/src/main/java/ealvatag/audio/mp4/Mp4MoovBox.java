@@ -24,11 +24,13 @@ import ealvatag.audio.mp4.atom.Mp4FtypBox;
 import ealvatag.audio.mp4.atom.Mp4MetaBox;
 import ealvatag.audio.mp4.atom.Mp4MvhdBox;
 import ealvatag.logging.ErrorMessage;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.mp4.Mp4Tag;
 import okio.BufferedSource;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Represents an mp4 moov box
@@ -40,13 +42,24 @@ public class Mp4MoovBox {
     private final Mp4AudioHeader audioHeader;
     private final Mp4Tag mp4Tag;
     private final boolean ignoreArtwork;
+    private final boolean headerOnly;
+    private final Set<FieldKey> fields;
 
+    /**
+     * @param headerOnly if true only the boxes needed for the audio header are parsed. The udta and meta boxes are skipped and the
+     *                   tag is left empty
+     * @param fields     only read these fields into the tag, null for all
+     */
     Mp4MoovBox(final Mp4BoxHeader moovBoxHeader,
                final BufferedSource bufferedSource,
                final Mp4FtypBox mp4FtypBox,
                final long fileLength,
-               final boolean ignoreArtwork) throws CannotReadException, IOException {
+               final boolean ignoreArtwork,
+               final boolean headerOnly,
+               final Set<FieldKey> fields) throws CannotReadException, IOException {
         this.ignoreArtwork = ignoreArtwork;
+        this.headerOnly = headerOnly;
+        this.fields = fields;
         Preconditions.checkArgument(Mp4AtomIdentifier.MOOV.matches(moovBoxHeader.getId()));
         boxHeader = moovBoxHeader;
         audioHeader = new Mp4AudioHeader(fileLength);
@@ -71,7 +84,8 @@ public class Mp4MoovBox {
 
         int dataSize = boxHeader.getDataLength();
 
-        if (TagOptionSingleton.getInstance().shouldReadAheadMp4()) {
+        // the tag is often most of the moov box, don't pull it all in if it's going to be skipped
+        if (!headerOnly && TagOptionSingleton.getInstance().shouldReadAheadMp4()) {
             bufferedSource.require(dataSize);
         }
 
@@ -86,16 +100,24 @@ public class Mp4MoovBox {
                     trak = new Mp4TrakBox(childBoxHeader, bufferedSource, audioHeader, trak != null);
                     break;
                 case UDTA:
-                    udta = new Mp4UdtaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    if (headerOnly) {
+                        bufferedSource.skip(childBoxHeader.getDataLength());
+                    } else {
+                        udta = new Mp4UdtaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork, fields);
+                    }
                     break;
                 case META:
-                    meta = new Mp4MetaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    if (headerOnly) {
+                        bufferedSource.skip(childBoxHeader.getDataLength());
+                    } else {
+                        meta = new Mp4MetaBox(childBoxHeader, bufferedSource, mp4Tag, ignoreArtwork, fields);
+                    }
                     break;
                 default:
                     bufferedSource.skip(childBoxHeader.getDataLength());
             }
 
-            if (meta != null && udta != null && trak != null && mvhd != null) {
+            if (trak != null && mvhd != null && (headerOnly || (meta != null && udta != null))) {
                 done = true;
             }
 
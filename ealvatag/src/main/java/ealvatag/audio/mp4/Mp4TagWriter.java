@@ -20,6 +20,7 @@ package ealvatag.audio.mp4;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.TagWriteStatistics;
 import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.exceptions.CannotWriteException;
 import ealvatag.audio.mp4.atom.Mp4BoxHeader;
@@ -33,6 +34,7 @@ import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.mp4.Mp4Tag;
 import ealvatag.tag.mp4.Mp4TagCreator;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.utils.tree.DefaultMutableTreeNode;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
@@ -473,11 +475,13 @@ public class Mp4TagWriter {
     //The easiest option since no difference in the size of the metadata so all we have to do is
     //create a new file identical to first file but with replaced ilst
     if (sizeOfExistingIlstAtom == sizeRequiredByNewIlstAtom) {
+      TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.MP4);
       writeMetadataSameSize(fileReadChannel, fileWriteChannel, ilstHeader, newIlstData, neroTagsHeader);
     }
     //.. we just need to increase the size of the free atom below the meta atom, and replace the metadata
     //no other changes necessary and total file size remains the same
     else if (sizeOfExistingIlstAtom > sizeRequiredByNewIlstAtom) {
+      TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.MP4);
       writeOldMetadataLargerThanNewMetadata(fileReadChannel,
                                             fileWriteChannel,
                                             moovHeader,
@@ -495,6 +499,7 @@ public class Mp4TagWriter {
     else {
       int additionalSpaceRequiredForMetadata = sizeRequiredByNewIlstAtom - sizeOfExistingIlstAtom;
       if (additionalSpaceRequiredForMetadata <= (sizeOfExistingMetaLevelFreeAtom - Mp4BoxHeader.HEADER_LENGTH)) {
+        TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.MP4);
         writeNewMetadataLargerButCanUseFreeAtom(
             fileReadChannel,
             fileWriteChannel,
@@ -546,6 +551,19 @@ public class Mp4TagWriter {
               positionOfTopLevelFreeAtom,
               additionalMetaSizeThatWontFitWithinMetaAtom);
         } else {
+          //As mdat is having to move anyway leave a free atom after the ilst so later saves can use it
+          if (isMdatMoved(sizeOfExistingTopLevelFreeAtom,
+                          topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                          additionalMetaSizeThatWontFitWithinMetaAtom,
+                          moovHeader,
+                          mdatHeader)) {
+            int padding = computePadding(moovHeader.getFileEndPos() + additionalMetaSizeThatWontFitWithinMetaAtom);
+            if (padding > 0) {
+              LOG.log(DEBUG, "Writing:Option 5.3;Adding free atom:%s", padding);
+              newIlstData = appendFreeAtom(newIlstData, padding);
+              additionalMetaSizeThatWontFitWithinMetaAtom += padding;
+            }
+          }
           writeHaveExistingMetadata(udtaHeader,
                                     metaHeader,
                                     fileReadChannel,
@@ -823,6 +841,21 @@ public class Mp4TagWriter {
     Mp4BoxHeader udtaHeader = new Mp4BoxHeader(Mp4AtomIdentifier.UDTA.getFieldName());
     udtaHeader.setLength(Mp4BoxHeader.HEADER_LENGTH + metaBox.getHeader().getLength());
 
+    //As mdat is having to move anyway leave a free atom after the ilst so later saves can use it
+    if (isMdatMoved(sizeOfExistingTopLevelFreeAtom,
+                    topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                    udtaHeader.getLength(),
+                    moovHeader,
+                    mdatHeader)) {
+      int padding = computePadding(endOfMoov + udtaHeader.getLength());
+      if (padding > 0) {
+        LOG.log(DEBUG, "Writing:Option 5.1;Adding free atom:%s", padding);
+        newIlstData = appendFreeAtom(newIlstData, padding);
+        metaBox = Mp4MetaBox.createiTunesStyleMetaBox(hdlrBox.getHeader().getLength() + newIlstData.limit());
+        udtaHeader.setLength(Mp4BoxHeader.HEADER_LENGTH + metaBox.getHeader().getLength());
+      }
+    }
+
     boolean isMdatDataMoved = adjustStcosIfNoSuitableTopLevelAtom(sizeOfExistingTopLevelFreeAtom,
                                                                   topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
                                                                   udtaHeader.getLength(),
@@ -913,6 +946,22 @@ public class Mp4TagWriter {
 
     int increaseInSizeOfUdtaAtom = udtaHeader.getDataLength() - existingUdtaDataLength;
 
+    //As mdat is having to move anyway leave a free atom after the ilst so later saves can use it
+    if (isMdatMoved(sizeOfExistingTopLevelFreeAtom,
+                    topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                    increaseInSizeOfUdtaAtom,
+                    moovHeader,
+                    mdatHeader)) {
+      int padding = computePadding(endOfMoov + increaseInSizeOfUdtaAtom);
+      if (padding > 0) {
+        LOG.log(DEBUG, "Writing:Option 5.2;Adding free atom:%s", padding);
+        newIlstData = appendFreeAtom(newIlstData, padding);
+        metaBox = Mp4MetaBox.createiTunesStyleMetaBox(hdlrBox.getHeader().getLength() + newIlstData.limit());
+        udtaHeader.setLength(Mp4BoxHeader.HEADER_LENGTH + metaBox.getHeader().getLength() + existingUdtaDataLength);
+        increaseInSizeOfUdtaAtom = udtaHeader.getDataLength() - existingUdtaDataLength;
+      }
+    }
+
     boolean isMdatDataMoved = adjustStcosIfNoSuitableTopLevelAtom(sizeOfExistingTopLevelFreeAtom,
                                                                   topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
                                                                   increaseInSizeOfUdtaAtom,
@@ -1109,21 +1158,67 @@ public class Mp4TagWriter {
                                                       List<Mp4StcoBox> stcos,
                                                       Mp4BoxHeader moovHeader,
                                                       Mp4BoxHeader mdatHeader) {
-    //We don't bother using the top level free atom coz not big enough anyway, we need to adjust offsets
-    //by the amount mdat is going to be shifted as long as mdat is after moov
-    if (mdatHeader.getFilePos() > moovHeader.getFilePos()) {
-      //Edit stco atoms within moov header, if the free atom comes after mdat OR
-      //(there is not enough space in the top level free atom
-      //or special case (of not matching exactly the free atom plus header so could remove free atom completely)
-      if ((!topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata) ||
-          ((topLevelFreeSize - Mp4BoxHeader.HEADER_LENGTH < additionalSizeRequired)
-              && (topLevelFreeSize != additionalSizeRequired))) {
-        for (final Mp4StcoBox stoc : stcos) {
-          stoc.adjustOffsets(additionalSizeRequired);
-        }
-        return true;
+    if (isMdatMoved(topLevelFreeSize, topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata, additionalSizeRequired, moovHeader,
+                    mdatHeader)) {
+      TagWriteStatistics.recordMoved(TagWriteStatistics.Kind.MP4);
+      for (final Mp4StcoBox stoc : stcos) {
+        stoc.adjustOffsets(additionalSizeRequired);
       }
+      return true;
     }
+    TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.MP4);
     return false;
   }
+
+  /**
+   * @return {@code true}, if the {@code mdat} (audio) will be shifted further down to fit in {@code additionalSizeRequired} more bytes
+   * of metadata
+   */
+  private boolean isMdatMoved(int topLevelFreeSize,
+                              boolean topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata,
+                              int additionalSizeRequired,
+                              Mp4BoxHeader moovHeader,
+                              Mp4BoxHeader mdatHeader) {
+    //We don't bother using the top level free atom coz not big enough anyway, we need to adjust offsets
+    //by the amount mdat is going to be shifted as long as mdat is after moov
+    //Edit stco atoms within moov header, if the free atom comes after mdat OR
+    //(there is not enough space in the top level free atom
+    //or special case (of not matching exactly the free atom plus header so could remove free atom completely)
+    return mdatHeader.getFilePos() > moovHeader.getFilePos() &&
+        ((!topLevelFreeAtomComesBeforeMdatAtomAndAfterMetadata) ||
+            ((topLevelFreeSize - Mp4BoxHeader.HEADER_LENGTH < additionalSizeRequired)
+                && (topLevelFreeSize != additionalSizeRequired)));
+  }
+
+  /**
+   * @param moovEnd where the {@code moov} atom will end without padding
+   *
+   * @return size, including header, of the {@code free} atom to leave after the {@code ilst} atom, 0 for none, as decided by
+   * {@link TagOptionSingleton#getPaddingPolicy()}
+   */
+  private int computePadding(long moovEnd) {
+    PaddingPolicy paddingPolicy = TagOptionSingleton.getInstance().getPaddingPolicy();
+    if (paddingPolicy == null) {
+      return 0;
+    }
+    int padding = paddingPolicy.getPadding(moovEnd);
+    if (padding <= 0) {
+      return 0;
+    }
+    return Math.max(padding, Mp4BoxHeader.HEADER_LENGTH);
+  }
+
+  /**
+   * @return {@code ilstData} followed by a {@code free} atom of {@code freeSize} bytes, including its header
+   */
+  private ByteBuffer appendFreeAtom(ByteBuffer ilstData, int freeSize) {
+    Mp4FreeBox freeBox = new Mp4FreeBox(freeSize - Mp4BoxHeader.HEADER_LENGTH);
+    ByteBuffer result = ByteBuffer.allocate(ilstData.limit() + freeSize);
+    ilstData.rewind();
+    result.put(ilstData);
+    result.put(freeBox.getHeader().getHeaderData());
+    result.put(freeBox.getData());
+    result.flip();
+    return result;
+  }
 }
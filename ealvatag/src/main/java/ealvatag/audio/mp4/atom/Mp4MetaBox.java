@@ -5,11 +5,13 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.mp4.Mp4AtomIdentifier;
 import ealvatag.audio.mp4.Mp4IlstBox;
 import ealvatag.logging.ErrorMessage;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.mp4.Mp4Tag;
 import okio.BufferedSource;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Set;
 
 /**
  * This MP4 MetaBox is the parent of metadata, it usually contains four bytes of data
@@ -31,7 +33,8 @@ public class Mp4MetaBox extends AbstractMp4Box {
     public Mp4MetaBox(final Mp4BoxHeader metaBoxHeader,
                       final BufferedSource bufferedSource,
                       final Mp4Tag mp4Tag,
-                      final boolean ignoreArtwork)
+                      final boolean ignoreArtwork,
+                      final Set<FieldKey> fields)
             throws IOException, CannotReadException {
         Preconditions.checkArgument(Mp4AtomIdentifier.META.matches(metaBoxHeader.getId()));
 
@@ -46,7 +49,7 @@ public class Mp4MetaBox extends AbstractMp4Box {
             Mp4BoxHeader childHeader = new Mp4BoxHeader(bufferedSource);
             switch (childHeader.getIdentifier()) {
                 case ILST:
-                    ilstBox = new Mp4IlstBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork);
+                    ilstBox = new Mp4IlstBox(childHeader, bufferedSource, mp4Tag, ignoreArtwork, fields);
                     break;
                 default:
                     bufferedSource.skip(childHeader.getDataLength());
@@ -20,7 +20,9 @@ package ealvatag.audio.ogg;
 
 import ealvatag.audio.AudioFileReader;
 import ealvatag.audio.GenericAudioHeader;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.exceptions.CannotReadException;
+import ealvatag.audio.io.FileDigester;
 import ealvatag.audio.ogg.util.OggInfoReader;
 import ealvatag.audio.ogg.util.OggPageHeader;
 import ealvatag.tag.TagFieldContainer;
@@ -29,6 +31,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
 
 /**
  * Read Ogg File Tag and Encoding information
@@ -36,8 +40,9 @@ import java.io.RandomAccessFile;
  * Only implemented for ogg files containing a vorbis stream with vorbis comments
  */
 public class OggFileReader extends AudioFileReader {
-  private OggInfoReader ir;
-  private OggVorbisTagReader vtr;
+  // Readers are shared across threads (see CachingAudioFileReaderFactory) so these must remain stateless
+  private final OggInfoReader ir;
+  private final OggVorbisTagReader vtr;
 
   public OggFileReader() {
     ir = new OggInfoReader();
@@ -52,6 +57,31 @@ public class OggFileReader extends AudioFileReader {
     return vtr.read(raf);
   }
 
+  @Override protected TagFieldContainer getTag(final RandomAccessFile raf, final ReadOptions options)
+      throws CannotReadException, IOException {
+    return vtr.read(raf, options.fields());
+  }
+
+  /**
+   * Digest the packet data following the Setup Header. Page headers are skipped as their sequence numbers and checksums change when a
+   * differently sized comment header is written.
+   */
+  @Override public void digestAudio(final File file, final MessageDigest digest) throws CannotReadException, IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      final FileChannel channel = raf.getChannel();
+      final OggVorbisTagReader.OggVorbisHeaderSizes headerSizes = vtr.readOggVorbisHeaderSizes(raf);
+      // Packets after the setup header on its page are audio
+      FileDigester.update(channel, headerSizes.getSetupHeaderEndPosition(), headerSizes.getExtraPacketDataSize(), digest);
+      raf.seek(headerSizes.getSetupHeaderEndPosition() + headerSizes.getExtraPacketDataSize());
+      final long length = raf.length();
+      while (raf.getFilePointer() < length) {
+        OggPageHeader pageHeader = OggPageHeader.read(raf);
+        FileDigester.update(channel, raf.getFilePointer(), pageHeader.getPageLength(), digest);
+        raf.seek(raf.getFilePointer() + pageHeader.getPageLength());
+      }
+    }
+  }
+
   /**
    * Return count Ogg Page header, count starts from zero
    * <p>
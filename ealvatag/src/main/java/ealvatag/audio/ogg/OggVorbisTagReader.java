@@ -28,6 +28,7 @@ import ealvatag.audio.ogg.util.VorbisHeader;
 import ealvatag.audio.ogg.util.VorbisPacketType;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
 import ealvatag.tag.TagFieldContainer;
 import ealvatag.tag.vorbiscomment.VorbisCommentReader;
 import ealvatag.tag.vorbiscomment.VorbisCommentTag;
@@ -40,6 +41,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Read Vorbis Comment Tag within ogg
@@ -49,7 +51,7 @@ import java.util.List;
 public class OggVorbisTagReader {
   private static JLogger LOG = JLoggers.get(OggVorbisTagReader.class, EalvaTagLog.MARKER);
 
-  private VorbisCommentReader vorbisCommentReader;
+  private final VorbisCommentReader vorbisCommentReader;
 
   public OggVorbisTagReader() {
     vorbisCommentReader = new VorbisCommentReader();
@@ -69,11 +71,19 @@ public class OggVorbisTagReader {
    * @throws IOException
    */
   public TagFieldContainer read(RandomAccessFile raf) throws CannotReadException, IOException {
+    return read(raf, null);
+  }
+
+  /**
+   * Same as {@link #read(RandomAccessFile)} but only reads {@code fields}, null for all. The tag is read-only if any field was
+   * skipped
+   */
+  public TagFieldContainer read(RandomAccessFile raf, final Set<FieldKey> fields) throws CannotReadException, IOException {
     LOG.log(DEBUG, "Starting to read ogg vorbis tag from file:");
     byte[] rawVorbisCommentData = readRawPacketData(raf);
 
     //Begin tag reading
-    VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true);
+    VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true, fields);
     LOG.log(DEBUG, "CompletedReadCommentTag");
     return tag;
   }
@@ -567,10 +577,14 @@ public class OggVorbisTagReader {
       }
     }
 
+    //Now at the end of the setup header packet data
+    long setupHeaderEndPosition = raf.getFilePointer();
+
     //Reset filepointer to location that it was in at start of method
     raf.seek(filepointer);
     return new OggVorbisHeaderSizes(commentHeaderStartPosition,
                                     setupHeaderStartPosition,
+                                    setupHeaderEndPosition,
                                     commentHeaderSize,
                                     setupHeaderSize,
                                     extraPackets);
@@ -583,18 +597,21 @@ public class OggVorbisTagReader {
   public static class OggVorbisHeaderSizes {
     private long commentHeaderStartPosition;
     private long setupHeaderStartPosition;
+    private long setupHeaderEndPosition;
     private int commentHeaderSize;
     private int setupHeaderSize;
     private List<OggPageHeader.PacketStartAndLength> packetList;
 
     OggVorbisHeaderSizes(long commentHeaderStartPosition,
                          long setupHeaderStartPosition,
+                         long setupHeaderEndPosition,
                          int commentHeaderSize,
                          int setupHeaderSize,
                          List<OggPageHeader.PacketStartAndLength> packetList) {
       this.packetList = packetList;
       this.commentHeaderStartPosition = commentHeaderStartPosition;
       this.setupHeaderStartPosition = setupHeaderStartPosition;
+      this.setupHeaderEndPosition = setupHeaderEndPosition;
       this.commentHeaderSize = commentHeaderSize;
       this.setupHeaderSize = setupHeaderSize;
     }
@@ -641,6 +658,13 @@ public class OggVorbisTagReader {
       return setupHeaderStartPosition;
     }
 
+    /**
+     * @return the position in the file just after the last byte of the Setup Header, where any extra packets on the same page start
+     */
+    public long getSetupHeaderEndPosition() {
+      return setupHeaderEndPosition;
+    }
+
     public List<OggPageHeader.PacketStartAndLength> getExtraPacketList() {
       return packetList;
     }
@@ -28,11 +28,16 @@ package ealvatag.audio.ogg.util;
  * @version 19 d�cembre 2003
  */
 public class OggCRCFactory {
-    private static long[] crc_lookup = new long[256];
-    private static boolean init = false;
+    private static final long[] crc_lookup = new long[256];
 
+    static {
+        init();
+    }
 
-    public static void init() {
+    /**
+     * Builds the lookup table. Done once during class initialization so the table is safely published to all threads
+     */
+    private static void init() {
         for (int i = 0; i < 256; i++) {
             long r = i << 24;
 
@@ -46,7 +51,6 @@ public class OggCRCFactory {
 
             crc_lookup[i] = (r);
         }
-        init = true;
     }
 
 
@@ -55,11 +59,6 @@ public class OggCRCFactory {
     }
 
     public static byte[] computeCRC(byte[] data) {
-
-        if (!init) {
-            init();
-        }
-
         long crc_reg = 0;
 
         for (byte aData : data) {
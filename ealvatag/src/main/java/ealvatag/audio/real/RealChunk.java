@@ -61,6 +61,10 @@ public class RealChunk {
 		return PROP.equals(id);
 	}
 
+	public boolean isDATA() {
+		return DATA.equals(id);
+	}
+
 	public byte[] getBytes() {
 		return bytes;
 	}
@@ -40,10 +40,27 @@ public class RealFileReader extends AudioFileReader
             rv.setBitRate((int) avgBitRate);
             rv.setPreciseLength(duration);
             rv.setVariableBitRate(maxBitRate != avgBitRate);
+            setAudioDataPositions(raf, rv, dataOffset);
         }
         return rv;
     }
 
+    /**
+     * The audio is the packets of the DATA chunk, which the PROP chunk gives the offset of. Metadata is in the CONT chunk.
+     */
+    private void setAudioDataPositions(RandomAccessFile raf, GenericAudioHeader header, long dataOffset)
+            throws IOException, CannotReadException
+    {
+        raf.seek(dataOffset);
+        final RealChunk data = RealChunk.readChunk(raf);
+        if (!data.isDATA())
+        {
+            throw new CannotReadException("Corrupt file: RealAudio DATA chunk not found at position " + dataOffset);
+        }
+        header.setAudioDataStartPosition(dataOffset);
+        header.setAudioDataEndPosition(dataOffset + data.getSize());
+    }
+
     private RealChunk findPropChunk(RandomAccessFile raf) throws IOException, CannotReadException
     {
         final RealChunk rmf = RealChunk.readChunk(raf);
@@ -50,6 +50,7 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -460,7 +461,11 @@ public class WavTagWriter {
       WavInfoTag wif = tag.getInfoTag();
 
       //Write the Info chunks
-      List<TagField> fields = wif.getAll();
+      List<TagField> fields = new ArrayList<>();
+      Iterator<TagField> it = wif.fieldIterator();
+      while (it.hasNext()) {
+        fields.add(it.next());
+      }
       Collections.sort(fields, new InfoFieldWriterOrderComparator());
       for (TagField nextField : fields) {
         TagTextField next = (TagTextField)nextField;
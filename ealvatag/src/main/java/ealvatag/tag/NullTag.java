@@ -41,6 +41,10 @@ public final class NullTag implements Tag {
     return true;
   }
 
+  @Override public boolean isDirty() {
+    return false;
+  }
+
   @Override public ImmutableSet<FieldKey> getSupportedFields() {
     return ImmutableSet.of();
   }
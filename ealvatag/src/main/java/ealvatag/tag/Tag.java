@@ -63,6 +63,18 @@ public interface Tag {
    */
   boolean isReadOnly();
 
+  /**
+   * Whether this tag may have changed since it was read or last saved. Setting, adding or deleting fields or artwork and changing the
+   * encoding are tracked. Fields and frames can be changed directly once they're handed out, such as from
+   * {@link #getFields(FieldKey)} or {@link #getFirstField(FieldKey)}, so from then on they're compared with the fields as read or
+   * last saved. Reading values as strings doesn't hand out fields.
+   * <p>
+   * {@link ealvatag.audio.AudioFile#save()} doesn't write the file if its tag isn't dirty.
+   *
+   * @return true if this tag has, or may have, changed since it was read or saved. A newly created tag is dirty
+   */
+  boolean isDirty();
+
   /**
    * Get all the {@link FieldKey}s this tag supports
    *
@@ -42,4 +42,11 @@ public interface TagFieldContainer extends Tag {
      */
     void addField(TagField field) throws FieldDataInvalidException;
 
+    /**
+     * Mark the tag as matching the file, used internally by the library once the tag has been read or saved
+     *
+     * @see #isDirty()
+     */
+    void setClean();
+
 }
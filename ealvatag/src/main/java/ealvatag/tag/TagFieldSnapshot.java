@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The fields of a tag, and their raw content, at one point in time. Fields handed out by a tag may be changed without the tag
+ * knowing, so the tag compares its fields with a snapshot taken when it was read or last saved to tell if it's dirty. Used internally
+ * by the library.
+ */
+public final class TagFieldSnapshot {
+  private final List<TagField> fields;
+  /** The raw content of each of {@link #fields}, null where it couldn't be had */
+  private final List<byte[]> contents;
+
+  private TagFieldSnapshot(final List<TagField> fields, final List<byte[]> contents) {
+    this.fields = fields;
+    this.contents = contents;
+  }
+
+  public static TagFieldSnapshot of(final List<? extends TagField> fields) {
+    final List<byte[]> contents = new ArrayList<>(fields.size());
+    for (int i = 0, size = fields.size(); i < size; i++) {
+      contents.add(rawContent(fields.get(i)));
+    }
+    return new TagFieldSnapshot(new ArrayList<TagField>(fields), contents);
+  }
+
+  /**
+   * @return true if {@code fields} are the same fields, in the same order and with the same raw content, as when this snapshot was
+   * taken. A field whose raw content can't be had doesn't match
+   */
+  public boolean matches(final List<? extends TagField> fields) {
+    if (fields.size() != this.fields.size()) {
+      return false;
+    }
+    for (int i = 0, size = fields.size(); i < size; i++) {
+      final TagField field = fields.get(i);
+      if (field != this.fields.get(i)) {
+        return false;
+      }
+      final byte[] content = rawContent(field);
+      if (content == null || !Arrays.equals(content, contents.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Nullable private static byte[] rawContent(final TagField field) {
+    try {
+      return field.getRawContent();
+    } catch (UnsupportedEncodingException | RuntimeException e) {
+      return null;
+    }
+  }
+}
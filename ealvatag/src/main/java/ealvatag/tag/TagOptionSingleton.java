@@ -20,6 +20,7 @@
  */
 package ealvatag.tag;
 
+import ealvatag.audio.TagWriteStatistics;
 import ealvatag.audio.wav.WavOptions;
 import ealvatag.audio.wav.WavSaveOptions;
 import ealvatag.audio.wav.WavSaveOrder;
@@ -31,29 +32,35 @@ import ealvatag.tag.id3.framebody.ID3v24FrameBody;
 import ealvatag.tag.id3.valuepair.TextEncoding;
 import ealvatag.tag.lyrics3.Lyrics3v2Fields;
 import ealvatag.tag.options.PadNumberOption;
+import ealvatag.tag.options.PaddingPolicy;
+import ealvatag.tag.options.ProportionalPaddingPolicy;
 import ealvatag.tag.reference.GenreTypes;
 import ealvatag.tag.reference.ID3V2Version;
 import ealvatag.tag.reference.Languages;
 import ealvatag.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
 import ealvatag.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
 import ealvatag.utils.Check;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 @SuppressWarnings("unused")
 public class TagOptionSingleton {
 
-  private static ConcurrentMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<>();
   private static String DEFAULT = "default";
-  private static String defaultOptions = DEFAULT;
+  private static volatile String defaultOptions = DEFAULT;
+  /** Cached result of getInstance(defaultOptions) so the common lookup is a single volatile read */
+  private static volatile TagOptionSingleton defaultInstance;
+  /** Options explicitly supplied for the read or write currently running on a thread. See {@link #setThreadInstance} */
+  private static final ThreadLocal<TagOptionSingleton> threadInstance = new ThreadLocal<>();
 
-  private static final Lock tagOptionTableLock = new ReentrantLock();
+  /** If true this is a snapshot and all setters throw */
+  private final boolean frozen;
 
   private boolean isWriteWavForTwonky = false;
   private WavOptions wavOptions = WavOptions.READ_ID3_ONLY;
@@ -134,6 +141,23 @@ public class TagOptionSingleton {
    * ID3v2 tag padding. Defaults to false.
    */
   private boolean id3v2PaddingWillShorten = false;
+  /**
+   * When an ID3v2 tag no longer fits in front of the MP3 audio, move the audio further into the same file rather than copy the file.
+   * Defaults to false.
+   */
+  private boolean id3v2MoveAudioInPlace = false;
+  /**
+   * Journal moving the MP3 audio in place so a move interrupted by a crash can be completed. Defaults to true.
+   */
+  private boolean id3v2MoveAudioJournaled = true;
+  /**
+   * When an ID3v2.4 tag no longer fits in front of the MP3 audio, write it at the end of the file with a footer. Defaults to false.
+   */
+  private boolean id3v2AppendTagWhenNoRoom = false;
+  /**
+   * Padding left after metadata which no longer fits in front of the audio. Null, the default, keeps each format's fixed padding.
+   */
+  @Nullable private PaddingPolicy paddingPolicy = null;
   /**
    * if we should save any fields of the ID3v2 tag or not. Defaults to true.
    */
@@ -173,6 +197,10 @@ public class TagOptionSingleton {
    * problems than it solves
    */
   private boolean unsyncTags = false;
+  /**
+   * ID3v2.3 and v2.4 frame bodies of at least this many bytes are compressed when written, 0 to never compress
+   */
+  private int id3v2FrameCompressionThreshold = 0;
   /**
    * iTunes needlessly writes null terminators at the end for TextEncodedStringSizeTerminated values,
    * if this option is enabled these characters are removed
@@ -267,24 +295,35 @@ public class TagOptionSingleton {
     return getInstance().getID3V2Version().makeTag();
   }
 
+  /**
+   * Get the options in effect for the calling thread. This is the snapshot passed to {@link #setThreadInstance(TagOptionSingleton)},
+   * if any, otherwise the instance for the current {@link #getInstanceKey()}. Does not lock.
+   *
+   * @return current options
+   */
   public static TagOptionSingleton getInstance() {
-    return getInstance(defaultOptions);
+    final TagOptionSingleton threadOptions = threadInstance.get();
+    if (threadOptions != null) {
+      return threadOptions;
+    }
+    TagOptionSingleton instance = defaultInstance;
+    if (instance == null) {
+      instance = getInstance(defaultOptions);
+      defaultInstance = instance;
+    }
+    return instance;
   }
 
   public static TagOptionSingleton getInstance(String instanceKey) {
-    tagOptionTableLock.lock();
-    try {
-      TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
-
+    TagOptionSingleton tagOptions = tagOptionTable.get(instanceKey);
+    if (tagOptions == null) {
+      final TagOptionSingleton newOptions = new TagOptionSingleton();
+      tagOptions = tagOptionTable.putIfAbsent(instanceKey, newOptions);
       if (tagOptions == null) {
-        tagOptions = new TagOptionSingleton();
-        tagOptionTable.put(instanceKey, tagOptions);
+        tagOptions = newOptions;
       }
-
-      return tagOptions;
-    } finally {
-      tagOptionTableLock.unlock();
     }
+    return tagOptions;
   }
 
   public static String getInstanceKey() {
@@ -293,6 +332,32 @@ public class TagOptionSingleton {
 
   public void setInstanceKey(String instanceKey) {
     TagOptionSingleton.defaultOptions = instanceKey;
+    defaultInstance = getInstance(instanceKey);
+  }
+
+  /**
+   * @return the options set via {@link #setThreadInstance(TagOptionSingleton)} for the calling thread, null if none
+   */
+  public static TagOptionSingleton getThreadInstance() {
+    return threadInstance.get();
+  }
+
+  /**
+   * Make {@code options} the result of {@link #getInstance()} on the calling thread, typically a {@link #snapshot()} passed to a read
+   * or write. Always restore the returned value in a finally block.
+   *
+   * @param options options to use on this thread, null to revert to the shared instance
+   *
+   * @return the options previously set for this thread, may be null
+   */
+  public static TagOptionSingleton setThreadInstance(final TagOptionSingleton options) {
+    final TagOptionSingleton previous = threadInstance.get();
+    if (options == null) {
+      threadInstance.remove();
+    } else {
+      threadInstance.set(options);
+    }
+    return previous;
   }
 
   /**
@@ -300,14 +365,97 @@ public class TagOptionSingleton {
    * values
    */
   private TagOptionSingleton() {
+    frozen = false;
     setToDefault();
   }
 
+  private TagOptionSingleton(final TagOptionSingleton source) {
+    frozen = true;
+    isWriteWavForTwonky = source.isWriteWavForTwonky;
+    wavOptions = source.wavOptions;
+    wavSaveOptions = source.wavSaveOptions;
+    wavSaveOrder = source.wavSaveOrder;
+    vorbisAlbumArtistSaveOptions = source.vorbisAlbumArtistSaveOptions;
+    vorbisAlbumArtistReadOptions = source.vorbisAlbumArtistReadOptions;
+    language = source.language;
+    filenameTagSave = source.filenameTagSave;
+    id3v1Save = source.id3v1Save;
+    id3v1SaveAlbum = source.id3v1SaveAlbum;
+    id3v1SaveArtist = source.id3v1SaveArtist;
+    id3v1SaveComment = source.id3v1SaveComment;
+    id3v1SaveGenre = source.id3v1SaveGenre;
+    id3v1SaveTitle = source.id3v1SaveTitle;
+    id3v1SaveTrack = source.id3v1SaveTrack;
+    id3v1SaveYear = source.id3v1SaveYear;
+    id3v2PaddingCopyTag = source.id3v2PaddingCopyTag;
+    id3v2PaddingWillShorten = source.id3v2PaddingWillShorten;
+    id3v2MoveAudioInPlace = source.id3v2MoveAudioInPlace;
+    id3v2MoveAudioJournaled = source.id3v2MoveAudioJournaled;
+    id3v2AppendTagWhenNoRoom = source.id3v2AppendTagWhenNoRoom;
+    paddingPolicy = source.paddingPolicy;
+    id3v2Save = source.id3v2Save;
+    lyrics3KeepEmptyFieldIfRead = source.lyrics3KeepEmptyFieldIfRead;
+    lyrics3Save = source.lyrics3Save;
+    lyrics3SaveEmptyField = source.lyrics3SaveEmptyField;
+    originalSavedAfterAdjustingID3v2Padding = source.originalSavedAfterAdjustingID3v2Padding;
+    timeStampFormat = source.timeStampFormat;
+    numberMP3SyncFrame = source.numberMP3SyncFrame;
+    unsyncTags = source.unsyncTags;
+    id3v2FrameCompressionThreshold = source.id3v2FrameCompressionThreshold;
+    removeTrailingTerminatorOnWrite = source.removeTrailingTerminatorOnWrite;
+    id3v23DefaultTextEncoding = source.id3v23DefaultTextEncoding;
+    id3v24DefaultTextEncoding = source.id3v24DefaultTextEncoding;
+    id3v24UnicodeTextEncoding = source.id3v24UnicodeTextEncoding;
+    resetTextEncodingForExistingFrames = source.resetTextEncodingForExistingFrames;
+    truncateTextWithoutErrors = source.truncateTextWithoutErrors;
+    padNumbers = source.padNumbers;
+    padNumberTotalLength = source.padNumberTotalLength;
+    isAndroid = source.isAndroid;
+    isAPICDescriptionITunesCompatible = source.isAPICDescriptionITunesCompatible;
+    isEncodeUTF16BomAsLittleEndian = source.isEncodeUTF16BomAsLittleEndian;
+    playerCompatability = source.playerCompatability;
+    writeChunkSize = source.writeChunkSize;
+    isWriteMp4GenresAsText = source.isWriteMp4GenresAsText;
+    isWriteMp3GenresAsText = source.isWriteMp3GenresAsText;
+    id3v2Version = source.id3v2Version;
+    checkIsWritable = source.checkIsWritable;
+    preserveFileIdentity = source.preserveFileIdentity;
+    readAheadMp4 = source.readAheadMp4;
+    keywordMap = new HashMap<>();
+    for (Class<? extends ID3v24FrameBody> key : source.keywordMap.keySet()) {
+      keywordMap.put(key, new LinkedList<>(source.keywordMap.get(key)));
+    }
+    lyrics3SaveFieldMap = new HashMap<>(source.lyrics3SaveFieldMap);
+    parenthesisMap = new HashMap<>(source.parenthesisMap);
+    replaceWordMap = new HashMap<>(source.replaceWordMap);
+  }
+
+  /**
+   * Get an immutable copy of these options. Reads and writes given a snapshot (see {@link ealvatag.audio.ReadOptions}) are not
+   * affected by later changes to the shared options made on other threads.
+   *
+   * @return a copy of the current options whose setters throw {@link IllegalStateException}
+   */
+  public TagOptionSingleton snapshot() {
+    return frozen ? this : new TagOptionSingleton(this);
+  }
+
+  public boolean isSnapshot() {
+    return frozen;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) {
+      throw new IllegalStateException("Options snapshot cannot be modified");
+    }
+  }
+
   public WavOptions getWavOptions() {
     return wavOptions;
   }
 
   public void setWavOptions(WavOptions wavOptions) {
+    checkNotFrozen();
     this.wavOptions = wavOptions;
   }
 
@@ -316,6 +464,7 @@ public class TagOptionSingleton {
   }
 
   public void setWavSaveOptions(WavSaveOptions wavSaveOptions) {
+    checkNotFrozen();
     this.wavSaveOptions = wavSaveOptions;
   }
 
@@ -324,6 +473,7 @@ public class TagOptionSingleton {
   }
 
   public void setWavSaveOrder(WavSaveOrder wavSaveOrder) {
+    checkNotFrozen();
     this.wavSaveOrder = wavSaveOrder;
   }
 
@@ -332,10 +482,12 @@ public class TagOptionSingleton {
   }
 
   public void setVorbisAlbumArtistSaveOptions(VorbisAlbumArtistSaveOptions vorbisAlbumArtistSaveOptions) {
+    checkNotFrozen();
     this.vorbisAlbumArtistSaveOptions = vorbisAlbumArtistSaveOptions;
   }
 
   public void setVorbisAlbumArtistReadOptions(VorbisAlbumArtistReadOptions vorbisAlbumArtistReadOptions) {
+    checkNotFrozen();
     this.vorbisAlbumArtistReadOptions = vorbisAlbumArtistReadOptions;
   }
 
@@ -348,6 +500,7 @@ public class TagOptionSingleton {
   }
 
   public void setFilenameTagSave(boolean filenameTagSave) {
+    checkNotFrozen();
     this.filenameTagSave = filenameTagSave;
   }
 
@@ -356,6 +509,7 @@ public class TagOptionSingleton {
   }
 
   public void setID3V2Version(ID3V2Version id3v2Version) {
+    checkNotFrozen();
     Check.checkArgNotNull(id3v2Version);
     this.id3v2Version = id3v2Version;
   }
@@ -365,6 +519,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1Save(boolean id3v1Save) {
+    checkNotFrozen();
     this.id3v1Save = id3v1Save;
   }
 
@@ -373,6 +528,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveAlbum(boolean id3v1SaveAlbum) {
+    checkNotFrozen();
     this.id3v1SaveAlbum = id3v1SaveAlbum;
   }
 
@@ -381,6 +537,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveArtist(boolean id3v1SaveArtist) {
+    checkNotFrozen();
     this.id3v1SaveArtist = id3v1SaveArtist;
   }
 
@@ -389,6 +546,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveComment(boolean id3v1SaveComment) {
+    checkNotFrozen();
     this.id3v1SaveComment = id3v1SaveComment;
   }
 
@@ -397,6 +555,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveGenre(boolean id3v1SaveGenre) {
+    checkNotFrozen();
     this.id3v1SaveGenre = id3v1SaveGenre;
   }
 
@@ -405,6 +564,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveTitle(boolean id3v1SaveTitle) {
+    checkNotFrozen();
     this.id3v1SaveTitle = id3v1SaveTitle;
   }
 
@@ -413,6 +573,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveTrack(boolean id3v1SaveTrack) {
+    checkNotFrozen();
     this.id3v1SaveTrack = id3v1SaveTrack;
   }
 
@@ -421,6 +582,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v1SaveYear(boolean id3v1SaveYear) {
+    checkNotFrozen();
     this.id3v1SaveYear = id3v1SaveYear;
   }
 
@@ -429,6 +591,7 @@ public class TagOptionSingleton {
   }
 
   public void setId3v2PaddingCopyTag(boolean id3v2PaddingCopyTag) {
+    checkNotFrozen();
     this.id3v2PaddingCopyTag = id3v2PaddingCopyTag;
   }
 
@@ -437,14 +600,111 @@ public class TagOptionSingleton {
   }
 
   public void setId3v2PaddingWillShorten(boolean id3v2PaddingWillShorten) {
+    checkNotFrozen();
     this.id3v2PaddingWillShorten = id3v2PaddingWillShorten;
   }
 
+  /**
+   * @return true if the audio of an MP3 is moved within the file when a larger ID3v2 tag is saved
+   *
+   * @see #setId3v2MoveAudioInPlace(boolean)
+   */
+  public boolean isId3v2MoveAudioInPlace() {
+    return id3v2MoveAudioInPlace;
+  }
+
+  /**
+   * When a saved ID3v2 tag no longer fits in front of the audio of an MP3, by default a new file is made holding the tag followed by a
+   * copy of the audio, which then replaces the original. For a large file, such as a long mix or an audiobook, that's a rewrite of
+   * the whole file and needs as much free space again. If set the file is extended instead and the audio is moved further into it,
+   * a chunk at a time from the end, see {@link #getWriteChunkSize()}.
+   * <p>
+   * Until the move completes the file isn't valid, so by default the move is journaled, see {@link #setId3v2MoveAudioJournaled(boolean)}.
+   *
+   * @param id3v2MoveAudioInPlace true to move the audio within the file
+   */
+  public void setId3v2MoveAudioInPlace(boolean id3v2MoveAudioInPlace) {
+    checkNotFrozen();
+    this.id3v2MoveAudioInPlace = id3v2MoveAudioInPlace;
+  }
+
+  /**
+   * @return true if moving the audio of an MP3 in place is journaled
+   *
+   * @see #setId3v2MoveAudioJournaled(boolean)
+   */
+  public boolean isId3v2MoveAudioJournaled() {
+    return id3v2MoveAudioJournaled;
+  }
+
+  /**
+   * Journal moving the audio of an MP3 in place, see {@link #setId3v2MoveAudioInPlace(boolean)}. Each chunk is saved to a journal beside
+   * the file, and forced to disk, before it's moved. If the move is interrupted the next save of the file completes it, see
+   * {@link ealvatag.tag.id3.AudioRelocation#recover(java.io.File)}. This costs two forced writes per chunk and a journal the size of two
+   * chunks.
+   *
+   * @param id3v2MoveAudioJournaled true to journal moving the audio
+   */
+  public void setId3v2MoveAudioJournaled(boolean id3v2MoveAudioJournaled) {
+    checkNotFrozen();
+    this.id3v2MoveAudioJournaled = id3v2MoveAudioJournaled;
+  }
+
+  /**
+   * @return true if an ID3v2.4 tag which doesn't fit in front of the audio of an MP3 is written at the end of the file
+   *
+   * @see #setId3v2AppendTagWhenNoRoom(boolean)
+   */
+  public boolean isId3v2AppendTagWhenNoRoom() {
+    return id3v2AppendTagWhenNoRoom;
+  }
+
+  /**
+   * ID3v2.4 allows a tag to be appended to the end of a file, identified by a footer. If set, an ID3v2.4 tag which doesn't fit in front
+   * of the audio of an MP3 is written at the end of the file, before any ID3v1 tag, so the audio isn't moved and saving costs the size
+   * of the tag rather than the size of the file. The tag in front of the audio is emptied, leaving its space as padding for a later
+   * save, and a tag which fits in front again is written there and the appended tag removed. Takes precedence over
+   * {@link #setId3v2MoveAudioInPlace(boolean)}.
+   * <p>
+   * Appended tags aren't read by some other software, so this is off by default. They are always read by this library.
+   *
+   * @param id3v2AppendTagWhenNoRoom true to append a v2.4 tag which doesn't fit in front of the audio
+   */
+  public void setId3v2AppendTagWhenNoRoom(boolean id3v2AppendTagWhenNoRoom) {
+    checkNotFrozen();
+    this.id3v2AppendTagWhenNoRoom = id3v2AppendTagWhenNoRoom;
+  }
+
+  /**
+   * @return the policy deciding the padding left when metadata grows past the space in front of the audio, or null if each format uses
+   * its fixed padding
+   *
+   * @see #setPaddingPolicy(PaddingPolicy)
+   */
+  @Nullable public PaddingPolicy getPaddingPolicy() {
+    return paddingPolicy;
+  }
+
+  /**
+   * When an ID3v2 tag, FLAC metadata or an MP4 {@code ilst} atom grows past the space available and the audio has to be moved, the
+   * policy decides how much padding to leave for later saves, for example {@link ProportionalPaddingPolicy}. Null, the default, keeps
+   * the fixed padding of each format: 100 bytes for ID3v2, 4000 bytes for FLAC and none for MP4.
+   * <p>
+   * How often saves fit and how often the audio is moved is counted by {@link TagWriteStatistics}.
+   *
+   * @param paddingPolicy the policy, or null for each format's fixed padding
+   */
+  public void setPaddingPolicy(@Nullable PaddingPolicy paddingPolicy) {
+    checkNotFrozen();
+    this.paddingPolicy = paddingPolicy;
+  }
+
   public boolean isId3v2Save() {
     return id3v2Save;
   }
 
   public void setId3v2Save(boolean id3v2Save) {
+    checkNotFrozen();
     this.id3v2Save = id3v2Save;
   }
 
@@ -471,6 +731,7 @@ public class TagOptionSingleton {
    * @see #shouldReadAheadMp4()
    */
   public void setReadAheadMp4(final boolean readAheadMp4) {
+    checkNotFrozen();
     this.readAheadMp4 = readAheadMp4;
   }
 
@@ -499,6 +760,7 @@ public class TagOptionSingleton {
    * @param lang language ID, [ISO-639-2] ISO/FDIS 639-2 definition
    */
   public void setLanguage(String lang) {
+    checkNotFrozen();
     if (Languages.getInstanceOf().containsKey(lang)) {
       language = lang;
     }
@@ -509,6 +771,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead) {
+    checkNotFrozen();
     this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
   }
 
@@ -517,6 +780,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3Save(boolean lyrics3Save) {
+    checkNotFrozen();
     this.lyrics3Save = lyrics3Save;
   }
 
@@ -525,6 +789,7 @@ public class TagOptionSingleton {
   }
 
   public void setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField) {
+    checkNotFrozen();
     this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
   }
 
@@ -535,6 +800,7 @@ public class TagOptionSingleton {
    * @param save true if you want to save this specific Lyrics3 field.
    */
   public void setLyrics3SaveField(String id, boolean save) {
+    checkNotFrozen();
     this.lyrics3SaveFieldMap.put(id, save);
   }
 
@@ -579,6 +845,7 @@ public class TagOptionSingleton {
    * @param numberMP3SyncFrame number of MP3 frames to sync
    */
   public void setNumberMP3SyncFrame(int numberMP3SyncFrame) {
+    checkNotFrozen();
     this.numberMP3SyncFrame = numberMP3SyncFrame;
   }
 
@@ -599,6 +866,7 @@ public class TagOptionSingleton {
   }
 
   public void setOriginalSavedAfterAdjustingID3v2Padding(boolean originalSavedAfterAdjustingID3v2Padding) {
+    checkNotFrozen();
     this.originalSavedAfterAdjustingID3v2Padding = originalSavedAfterAdjustingID3v2Padding;
   }
 
@@ -627,6 +895,7 @@ public class TagOptionSingleton {
    * @param tsf the new default time stamp format
    */
   public void setTimeStampFormat(byte tsf) {
+    checkNotFrozen();
     if ((tsf == 1) || (tsf == 2)) {
       timeStampFormat = tsf;
     }
@@ -636,6 +905,7 @@ public class TagOptionSingleton {
    *
    */
   public void setToDefault() {
+    checkNotFrozen();
     isWriteWavForTwonky = false;
     wavOptions = WavOptions.READ_ID3_UNLESS_ONLY_INFO;
     wavSaveOptions = WavSaveOptions.SAVE_BOTH;
@@ -651,6 +921,10 @@ public class TagOptionSingleton {
     id3v1SaveYear = true;
     id3v2PaddingCopyTag = true;
     id3v2PaddingWillShorten = false;
+    id3v2MoveAudioInPlace = false;
+    id3v2MoveAudioJournaled = true;
+    id3v2AppendTagWhenNoRoom = false;
+    paddingPolicy = null;
     id3v2Save = true;
     language = "eng";
     lyrics3KeepEmptyFieldIfRead = false;
@@ -662,6 +936,7 @@ public class TagOptionSingleton {
     replaceWordMap = new HashMap<>();
     timeStampFormat = 2;
     unsyncTags = false;
+    id3v2FrameCompressionThreshold = 0;
     removeTrailingTerminatorOnWrite = true;
     id3v23DefaultTextEncoding = TextEncoding.ISO_8859_1;
     id3v24DefaultTextEncoding = TextEncoding.ISO_8859_1;
@@ -797,9 +1072,32 @@ public class TagOptionSingleton {
    * @param unsyncTags set whether tags are  unsynchronized when written if contain bit pattern that could be mistaken for audio marker
    */
   public void setUnsyncTags(boolean unsyncTags) {
+    checkNotFrozen();
     this.unsyncTags = unsyncTags;
   }
 
+  /**
+   * @return the size at which ID3v2.3 and v2.4 frame bodies are compressed when written, 0 if frames are never compressed
+   */
+  public int getId3v2FrameCompressionThreshold() {
+    return id3v2FrameCompressionThreshold;
+  }
+
+  /**
+   * Compress ID3v2.3 and v2.4 frame bodies of at least {@code threshold} bytes when written, such as long lyrics or large private
+   * frames. Artwork frames, which hold already compressed images, encrypted and grouped frames are never compressed, nor is a frame
+   * which compressing doesn't make smaller. Compressed frames aren't read by some other software so this is off by default.
+   *
+   * @param threshold the smallest frame body to compress, 0 to never compress
+   */
+  public void setId3v2FrameCompressionThreshold(int threshold) {
+    checkNotFrozen();
+    if (threshold < 0) {
+      throw new IllegalArgumentException("threshold:" + threshold);
+    }
+    this.id3v2FrameCompressionThreshold = threshold;
+  }
+
   /**
    * Do we remove unnecessary trailing null characters on write
    *
@@ -813,6 +1111,7 @@ public class TagOptionSingleton {
    * Remove unnecessary trailing null characters on write
    */
   public void setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite) {
+    checkNotFrozen();
     this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
   }
 
@@ -829,6 +1128,7 @@ public class TagOptionSingleton {
    * UTF16 will always be used because that is the only valid option for v23/v22
    */
   public void setId3v23DefaultTextEncoding(byte id3v23DefaultTextEncoding) {
+    checkNotFrozen();
     if ((id3v23DefaultTextEncoding == TextEncoding.ISO_8859_1) || (id3v23DefaultTextEncoding == TextEncoding.UTF_16)) {
       this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
     }
@@ -847,6 +1147,7 @@ public class TagOptionSingleton {
    * but by changing this value you could always used UTF8 for example whether you needed to or not
    */
   public void setId3v24DefaultTextEncoding(byte id3v24DefaultTextEncoding) {
+    checkNotFrozen();
     if ((id3v24DefaultTextEncoding == TextEncoding.ISO_8859_1) ||
         (id3v24DefaultTextEncoding == TextEncoding.UTF_16) ||
         (id3v24DefaultTextEncoding == TextEncoding.UTF_16BE) ||
@@ -869,6 +1170,7 @@ public class TagOptionSingleton {
    * because this encoding is understand by all ID3 versions
    */
   public void setId3v24UnicodeTextEncoding(byte id3v24UnicodeTextEncoding) {
+    checkNotFrozen();
     if ((id3v24UnicodeTextEncoding == TextEncoding.UTF_16) ||
         (id3v24UnicodeTextEncoding == TextEncoding.UTF_16BE) ||
         (id3v24UnicodeTextEncoding == TextEncoding.UTF_8)) {
@@ -891,6 +1193,7 @@ public class TagOptionSingleton {
    * the frame.
    */
   public void setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames) {
+    checkNotFrozen();
     this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
   }
 
@@ -899,6 +1202,7 @@ public class TagOptionSingleton {
   }
 
   public void setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors) {
+    checkNotFrozen();
     this.truncateTextWithoutErrors = truncateTextWithoutErrors;
   }
 
@@ -907,6 +1211,7 @@ public class TagOptionSingleton {
   }
 
   public void setPadNumbers(boolean padNumbers) {
+    checkNotFrozen();
     this.padNumbers = padNumbers;
   }
 
@@ -915,6 +1220,7 @@ public class TagOptionSingleton {
   }
 
   public void setAndroid(boolean android) {
+    checkNotFrozen();
     isAndroid = android;
   }
 
@@ -927,6 +1233,7 @@ public class TagOptionSingleton {
   }
 
   public void setPlayerCompatability(int playerCompatability) {
+    checkNotFrozen();
     this.playerCompatability = playerCompatability;
   }
 
@@ -939,6 +1246,7 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian) {
+    checkNotFrozen();
     isEncodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
   }
 
@@ -952,6 +1260,7 @@ public class TagOptionSingleton {
   }
 
   public void setWriteChunkSize(long writeChunkSize) {
+    checkNotFrozen();
     this.writeChunkSize = writeChunkSize;
   }
 
@@ -964,6 +1273,7 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setWriteMp4GenresAsText(boolean writeMp4GenresAsText) {
+    checkNotFrozen();
     isWriteMp4GenresAsText = writeMp4GenresAsText;
   }
 
@@ -976,6 +1286,7 @@ public class TagOptionSingleton {
   }
 
   public void setWriteMp3GenresAsText(boolean writeMp3GenresAsText) {
+    checkNotFrozen();
     isWriteMp3GenresAsText = writeMp3GenresAsText;
   }
 
@@ -987,6 +1298,7 @@ public class TagOptionSingleton {
   }
 
   public void setPadNumberTotalLength(PadNumberOption padNumberTotalLength) {
+    checkNotFrozen();
     this.padNumberTotalLength = padNumberTotalLength;
   }
 
@@ -998,6 +1310,7 @@ public class TagOptionSingleton {
   }
 
   public void setAPICDescriptionITunesCompatible(boolean APICDescriptionITunesCompatible) {
+    checkNotFrozen();
     isAPICDescriptionITunesCompatible = APICDescriptionITunesCompatible;
   }
 
@@ -1010,6 +1323,7 @@ public class TagOptionSingleton {
   }
 
   public void setCheckIsWritable(boolean checkIsWritable) {
+    checkNotFrozen();
     this.checkIsWritable = checkIsWritable;
   }
 
@@ -1038,6 +1352,7 @@ public class TagOptionSingleton {
    * @see #isPreserveFileIdentity()
    */
   @SuppressWarnings("SameParameterValue") public void setPreserveFileIdentity(final boolean preserveFileIdentity) {
+    checkNotFrozen();
     this.preserveFileIdentity = preserveFileIdentity;
   }
 
@@ -1046,6 +1361,7 @@ public class TagOptionSingleton {
   }
 
   @SuppressWarnings("SameParameterValue") public void setWriteWavForTwonky(boolean isWriteWavForTwonky) {
+    checkNotFrozen();
     this.isWriteWavForTwonky = isWriteWavForTwonky;
   }
 }
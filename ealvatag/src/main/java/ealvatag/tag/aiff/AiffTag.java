@@ -33,6 +33,8 @@ public class AiffTag implements TagFieldContainer, Id3SupportingTag {
   private boolean isIncorrectlyAlignedTag = false;
   private boolean isExistingId3Tag = false;
   private AbstractID3v2Tag id3Tag;
+  /** Set when {@link #id3Tag} is replaced */
+  private boolean dirty = true;
 
   public AiffTag() {
   }
@@ -41,6 +43,17 @@ public class AiffTag implements TagFieldContainer, Id3SupportingTag {
     return id3Tag.isReadOnly();
   }
 
+  @Override public boolean isDirty() {
+    return dirty || (id3Tag != null && id3Tag.isDirty());
+  }
+
+  @Override public void setClean() {
+    dirty = false;
+    if (id3Tag != null) {
+      id3Tag.setClean();
+    }
+  }
+
   public AiffTag(AbstractID3v2Tag t) {
     id3Tag = t;
   }
@@ -65,6 +78,7 @@ public class AiffTag implements TagFieldContainer, Id3SupportingTag {
    */
   public void setID3Tag(AbstractID3v2Tag t) {
     id3Tag = t;
+    dirty = true;
   }
 
   @Override public ImmutableSet<FieldKey> getSupportedFields() {
@@ -555,7 +555,7 @@ public final class AsfTag extends AbstractTag {
 
   public boolean hasField(FieldKey genericKey) {
     AsfFieldKey mp4FieldKey = getAsfFieldKey(genericKey);
-    return getFields(mp4FieldKey.getFieldName()).size() != 0;
+    return getFieldList(mp4FieldKey.getFieldName()).size() != 0;
   }
 
   @Override
@@ -623,7 +623,7 @@ public final class AsfTag extends AbstractTag {
   }
 
   public boolean hasField(AsfFieldKey asfFieldKey) {
-    return getFields(asfFieldKey.getFieldName()).size() != 0;
+    return getFieldList(asfFieldKey.getFieldName()).size() != 0;
   }
 
   /**
@@ -28,6 +28,7 @@ import static ealvatag.utils.Check.checkVarArg0NotNull;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -41,6 +42,13 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
   private VorbisCommentTag tag = null;
   private List<MetadataBlockDataPicture> images = new ArrayList<>();
   private final boolean readOnly;
+  /** Set when the images may have changed, changes to the vorbis comment are tracked by the {@link VorbisCommentTag} */
+  private boolean dirty = true;
+  /**
+   * The images as they were read or last saved, taken when images are first handed out, or null until they are. The list of images
+   * handed out may be changed without this tag knowing, so it's compared with this. The images themselves can't be changed.
+   */
+  private List<MetadataBlockDataPicture> cleanImages;
 
   public FlacTag() {
     this(VorbisCommentTag.createNewTag(), new ArrayList<MetadataBlockDataPicture>(), false);
@@ -56,13 +64,55 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
     return readOnly;
   }
 
+  @Override public boolean isDirty() {
+    return dirty || (cleanImages != null && imagesChanged()) || (tag != null && tag.isDirty());
+  }
+
+  private boolean imagesChanged() {
+    if (images.size() != cleanImages.size()) {
+      return true;
+    }
+    for (int i = 0, size = images.size(); i < size; i++) {
+      if (images.get(i) != cleanImages.get(i)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override public void setClean() {
+    dirty = false;
+    if (cleanImages != null) {
+      cleanImages = new ArrayList<>(images);
+    }
+    if (tag != null) {
+      tag.setClean();
+    }
+  }
+
   /**
    * @return images
    */
   public List<MetadataBlockDataPicture> getImages() {
+    setImagesHandedOut();
     return images;
   }
 
+  private void setImagesHandedOut() {
+    if (cleanImages == null) {
+      cleanImages = new ArrayList<>(images);
+    }
+  }
+
+  /**
+   * As {@link #getImages()} without marking the tag dirty, used internally by the library when writing the tag
+   *
+   * @return an unmodifiable view of the images
+   */
+  public List<MetadataBlockDataPicture> imageList() {
+    return Collections.unmodifiableList(images);
+  }
+
   /**
    * @return the vorbis tag (this is what handles text metadata)
    */
@@ -101,6 +151,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
   public Tag deleteField(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     if (genericKey.equals(FieldKey.COVER_ART)) {
+      dirty = true;
       images.clear();
     } else {
       tag.deleteField(genericKey);
@@ -111,6 +162,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
   public Tag deleteField(final String id) throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNullOrEmpty(id, CANNOT_BE_NULL_OR_EMPTY, "id");
     if (id.equals(FieldKey.COVER_ART.name())) {
+      dirty = true;
       images.clear();
     } else {
       tag.deleteField(id);
@@ -120,6 +172,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
 
   public ImmutableList<TagField> getFields(String id) {
     if (id.equals(FieldKey.COVER_ART.name())) {
+      setImagesHandedOut();
       ImmutableList.Builder<TagField> builder = ImmutableList.builder();
       builder.addAll(images);
       return builder.build();
@@ -131,6 +184,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
   public ImmutableList<TagField> getFields(FieldKey genericKey)
       throws IllegalArgumentException, UnsupportedFieldException {
     if (genericKey.equals(FieldKey.COVER_ART)) {
+      setImagesHandedOut();
       ImmutableList.Builder<TagField> builder = ImmutableList.builder();
       builder.addAll(images);
       return builder.build();
@@ -187,6 +241,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
 
   public Optional<TagField> getFirstField(String id) throws IllegalArgumentException, UnsupportedFieldException {
     if (FieldKey.COVER_ART.name().equals(id)) {
+      setImagesHandedOut();
       if (images.size() > 0) {
         return Optional.<TagField>fromNullable(images.get(0));
       } else {
@@ -323,6 +378,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
    */
   public void setField(TagField field) throws FieldDataInvalidException {
     if (field instanceof MetadataBlockDataPicture) {
+      dirty = true;
       if (images.size() == 0) {
         images.add(0, (MetadataBlockDataPicture)field);
       } else {
@@ -335,6 +391,7 @@ public class FlacTag implements Tag, ContainsVorbisCommentField {
 
   public void addField(TagField field) throws FieldDataInvalidException {
     if (field instanceof MetadataBlockDataPicture) {
+      dirty = true;
       images.add((MetadataBlockDataPicture)field);
     } else {
       tag.addField(field);
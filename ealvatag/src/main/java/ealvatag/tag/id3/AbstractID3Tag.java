@@ -39,6 +39,26 @@ public abstract class AbstractID3Tag extends BaseID3Tag {
     //when processing many files
     protected String loggingFilename = "";
 
+    /**
+     * Set when the tag may no longer match the one last read or saved, see {@link ealvatag.tag.Tag#isDirty()}
+     */
+    private boolean dirty = true;
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void setClean() {
+        dirty = false;
+    }
+
+    /**
+     * Mark the tag as changed so it's written when the file is saved
+     */
+    protected void setDirty() {
+        dirty = true;
+    }
+
     /**
      * Get full version
      */
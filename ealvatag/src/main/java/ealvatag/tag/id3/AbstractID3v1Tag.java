@@ -26,7 +26,9 @@ package ealvatag.tag.id3;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.logging.EalvaTagLog;
+import okio.Buffer;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static com.ealva.ealvalog.LogLevel.ERROR;
@@ -103,6 +105,54 @@ abstract public class AbstractID3v1Tag extends AbstractID3Tag {
     return (Arrays.equals(buffer, TAG_ID));
   }
 
+  /**
+   * Size of the v1 or v11 tag at the end of a file, if any
+   *
+   * @param fc the file to check
+   *
+   * @return {@link #TAG_LENGTH} if the file ends with a tag, otherwise 0
+   *
+   * @throws IOException if there was a problem accessing the file
+   */
+  public static int getTagSizeAtEnd(FileChannel fc) throws IOException {
+    final long size = fc.size();
+    if (size < TAG_LENGTH) {
+      return 0;
+    }
+    ByteBuffer byteBuffer = ByteBuffer.allocate(FIELD_TAGID_LENGTH);
+    fc.read(byteBuffer, size - TAG_LENGTH);
+    byteBuffer.flip();
+    return byteBuffer.remaining() == FIELD_TAGID_LENGTH && seekForV1OrV11Tag(byteBuffer) ? TAG_LENGTH : 0;
+  }
+
+  /**
+   * Size of the v1 or v11 tag at the end of a file, if any, read through {@code fileOperator} so a prefetched tail is used
+   *
+   * @param fileOperator the file to check
+   *
+   * @return {@link #TAG_LENGTH} if the file ends with a tag, otherwise 0
+   *
+   * @throws IOException if there was a problem accessing the file
+   */
+  public static int getTagSizeAtEnd(FileOperator fileOperator) throws IOException {
+    final long size = fileOperator.getFileChannel().size();
+    if (size < TAG_LENGTH) {
+      return 0;
+    }
+    final Buffer buffer = new Buffer();
+    fileOperator.read(size - TAG_LENGTH, buffer, FIELD_TAGID_LENGTH);
+    return seekForV1OrV11Tag(ByteBuffer.wrap(buffer.readByteArray())) ? TAG_LENGTH : 0;
+  }
+
+  /**
+   * @return the last {@link #TAG_LENGTH} bytes of the file, where a v1 or v11 tag would be
+   */
+  static ByteBuffer readTagAtEnd(FileOperator fileOperator) throws IOException {
+    final Buffer buffer = new Buffer();
+    fileOperator.read(fileOperator.getFileChannel().size() - TAG_LENGTH, buffer, TAG_LENGTH);
+    return ByteBuffer.wrap(buffer.readByteArray());
+  }
+
   /**
    * Delete tag from file
    * Looks for tag and if found lops it off the file.
@@ -25,6 +25,7 @@ import static com.ealva.ealvalog.LogLevel.INFO;
 import static com.ealva.ealvalog.LogLevel.TRACE;
 import static com.ealva.ealvalog.LogLevel.WARN;
 
+import ealvatag.audio.io.FileRegion;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.InvalidDataTypeException;
@@ -41,10 +42,9 @@ import ealvatag.tag.id3.framebody.FrameIdentifierException;
 import ealvatag.tag.id3.framebody.Id3FrameBodyFactories;
 import ealvatag.tag.id3.valuepair.TextEncoding;
 import ealvatag.utils.EqualsUtil;
+import ealvatag.utils.StandardCharsets;
 import okio.Buffer;
-import okio.BufferedSource;
-import okio.InflaterSource;
-import okio.Okio;
+import okio.ByteString;
 import org.jetbrains.annotations.Nullable;
 
 import static ealvatag.tag.id3.ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE;
@@ -57,7 +57,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
-import java.util.zip.Inflater;
+import java.util.Set;
 
 /**
  * This abstract class is each frame header inside a ID3v2 tag.
@@ -73,6 +73,11 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
   static final String TYPE_FRAME = "frame";
   static final String TYPE_FRAME_SIZE = "frameSize";
   static final String UNSUPPORTED_ID = "Unsupported";
+  /**
+   * A compressed frame claiming to decompress to more than this many times its size is taken to be corrupt when read, so frames
+   * which compress better than this are written uncompressed
+   */
+  static final int MAX_COMPRESSION_RATIO = 100;
 
   //Frame identifier
   protected @Nullable String identifier = "";
@@ -85,6 +90,20 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
   //when processing many files
   protected String loggingFilename = "";
 
+  //Where the body is in the file if it has not been read yet, see setLazyBody
+  private @Nullable FileRegion lazyBodyRegion;
+  //The body as read from the tag if it has not been decoded yet, see setLazyBody
+  private @Nullable Buffer lazyBodyBytes;
+  private @Nullable String lazyBodyId;
+  //The bytes the body was decoded from, until the body is handed out and may be changed, see readBodyKeepingOriginal
+  private @Nullable Buffer originalBody;
+  //Set once the body has been handed out by getBody or replaced, after which it may be changed without this frame knowing
+  private boolean bodyHandedOut;
+  //The body as it was read or last saved, once the body has been handed out, see isBodyChanged
+  private @Nullable ByteString cleanBody;
+  //The body as last written after it was handed out, which becomes cleanBody once the tag has been saved
+  private @Nullable ByteString writtenBody;
+
   /**
    * @return size in bytes of the frameid field
    */
@@ -323,6 +342,271 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return frameBody;
   }
 
+  /**
+   * Leave the body in the file, reading it when first needed. The frame body must not be unsynchronized, compressed or encrypted
+   *
+   * @param bodyId id used to read the body, see {@link #readBody(String, Buffer, int)}
+   * @param body   where the body is in the file
+   */
+  void setLazyBody(String bodyId, FileRegion body) {
+    lazyBodyRegion = body;
+    lazyBodyId = bodyId;
+    frameBody = null;
+  }
+
+  /**
+   * Move the body out of {@code buffer} without decoding it, so it's decoded when first needed. The frame body must not be
+   * unsynchronized, compressed or encrypted
+   *
+   * @param bodyId   id used to read the body, see {@link #readBody(String, Buffer, int)}
+   * @param buffer   positioned at the start of the body
+   * @param bodySize size of the body
+   */
+  void setLazyBody(String bodyId, Buffer buffer, int bodySize) throws EOFException {
+    buffer.require(bodySize);
+    lazyBodyBytes = new Buffer();
+    // moves whole segments rather than copying them
+    buffer.read(lazyBodyBytes, bodySize);
+    lazyBodyId = bodyId;
+    frameBody = null;
+  }
+
+  /**
+   * @return true if the body has been read and decoded, false if it's still in the file or hasn't been decoded yet
+   */
+  public boolean isBodyLoaded() {
+    return lazyBodyRegion == null && lazyBodyBytes == null;
+  }
+
+  /**
+   * Returns the body, reading it from the file first if this frame was read lazily. As the body may then be changed, the frame is
+   * no longer written from the bytes it was read from, see {@link #hasOriginalBody()}
+   *
+   * @return the body datatype
+   *
+   * @throws IllegalStateException if the body can't be read from the file
+   */
+  @Override public AbstractTagFrameBody getBody() {
+    final AbstractTagFrameBody body = peekBody();
+    if (!bodyHandedOut) {
+      bodyHandedOut = true;
+      cleanBody = originalBody != null ? originalBody.snapshot() : null;
+      originalBody = null;
+    }
+    return body;
+  }
+
+  /**
+   * As {@link #getBody()}, but for callers which only read the body, so the frame is still written from the bytes it was read from.
+   * A body read lazily keeps the bytes it's decoded from for that.
+   *
+   * @throws IllegalStateException if the body can't be read from the file
+   */
+  @Override AbstractTagFrameBody peekBody() {
+    if (lazyBodyBytes != null) {
+      final Buffer bytes = lazyBodyBytes;
+      decodeLazyBody();
+      originalBody = bytes;
+    } else if (lazyBodyRegion != null) {
+      try {
+        final Buffer bytes = lazyBodyRegion.read();
+        final Buffer original = bytes.clone();
+        loadBody(bytes);
+        originalBody = original;
+      } catch (IOException | InvalidTagException e) {
+        throw new IllegalStateException(loggingFilename + ":Unable to read " + lazyBodyRegion, e);
+      }
+    }
+    return frameBody;
+  }
+
+  /**
+   * @return the body if it has been read and decoded, otherwise null. Unlike {@link #getBody()} this never reads from the file
+   */
+  @Nullable AbstractTagFrameBody getBodyIfLoaded() {
+    return frameBody;
+  }
+
+  @Override public void setBody(AbstractTagFrameBody frameBody) {
+    lazyBodyRegion = null;
+    lazyBodyBytes = null;
+    lazyBodyId = null;
+    originalBody = null;
+    bodyHandedOut = true;
+    cleanBody = null;
+    writtenBody = null;
+    super.setBody(frameBody);
+  }
+
+  /**
+   * Decode the body from {@code buffer}, keeping the bytes it was decoded from. Until the body is handed out by {@link #getBody()} or
+   * replaced, the frame is written from those bytes rather than by encoding the body again. The copy shares {@code buffer}'s
+   * segments rather than copying them.
+   */
+  AbstractID3v2FrameBody readBodyKeepingOriginal(String identifier, Buffer buffer, int frameSize) throws InvalidTagException {
+    final Buffer original = new Buffer();
+    buffer.copyTo(original, 0, Math.min(frameSize, buffer.size()));
+    final AbstractID3v2FrameBody body = readBody(identifier, buffer, frameSize);
+    originalBody = original;
+    return body;
+  }
+
+  /**
+   * @return true if the body is unchanged since it was read, and is written from the bytes it was read from. False once the body has
+   * been handed out by {@link #getBody()} or replaced
+   */
+  public boolean hasOriginalBody() {
+    return originalBody != null;
+  }
+
+  /**
+   * The original bytes are only written if encoding the body again wouldn't change its text encoding, which happens when the encoding
+   * isn't valid for this version of frame or the options say to reset it
+   */
+  private boolean writesOriginalBody() {
+    if (originalBody == null) {
+      return false;
+    }
+    return !changesTextEncoding(frameBody.getTextEncoding());
+  }
+
+  /**
+   * Like {@link #writesOriginalBody()}, the bytes kept by {@link #setLazyBody(String, Buffer, int)} are only written back if encoding
+   * the body again wouldn't change its text encoding. A body with a text encoding starts with it, so it's checked without decoding
+   * the body, and the body is decoded if the encoding would change.
+   */
+  private boolean writesLazyBodyBytes() {
+    if (lazyBodyBytes == null) {
+      return false;
+    }
+    if (lazyBodyBytes.size() > 0 && changesTextEncoding(lazyBodyBytes.getByte(0))) {
+      decodeLazyBody();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * A body which has been handed out by {@link #getBody()} or replaced is compared with the bytes it was read or last saved as, so
+   * it's encoded as saving it would, which may change its text encoding as {@link #writeBody(ByteArrayOutputStream)} does
+   *
+   * @return true if the body would not be written as it was read or last saved
+   */
+  boolean isBodyChanged() {
+    if (!bodyHandedOut) {
+      return false;
+    }
+    if (cleanBody == null || frameBody == null) {
+      return true;
+    }
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((AbstractID3v2FrameBody)frameBody).write(out);
+    return !cleanBody.equals(ByteString.of(out.toByteArray()));
+  }
+
+  /**
+   * Called once the tag has been read or saved, so from now on a body which has been handed out is compared with the bytes it was
+   * last saved as
+   */
+  void setBodyClean() {
+    if (writtenBody != null) {
+      cleanBody = writtenBody;
+      writtenBody = null;
+    }
+  }
+
+  private boolean changesTextEncoding(final byte textEncoding) {
+    return ID3TextEncodingConversion.getTextEncoding(this, textEncoding) != textEncoding;
+  }
+
+  /**
+   * @return size of the body, without reading it from the file. It's decoded if it must be encoded again to be written
+   */
+  int getBodySize() {
+    if (writesLazyBodyBytes()) {
+      return (int)lazyBodyBytes.size();
+    }
+    if (writesOriginalBody()) {
+      return (int)originalBody.size();
+    }
+    return lazyBodyRegion != null ? (int)lazyBodyRegion.getLength() : frameBody.getSize();
+  }
+
+  /**
+   * Write the body to {@code bodyOutputStream}. A body which hasn't been decoded, or hasn't been changed, is written as it was read,
+   * unless its text encoding must change, see {@link #writesOriginalBody()}. A body which is still in the file is copied across
+   * without being decoded and re-encoded. It's then read from the copied bytes so this frame doesn't refer to a file which is about
+   * to be rewritten.
+   */
+  void writeBody(ByteArrayOutputStream bodyOutputStream) {
+    if (lazyBodyRegion != null && copyLazyBodyRegion(bodyOutputStream)) {
+      return;
+    }
+    final Buffer bytes = writesLazyBodyBytes() ? lazyBodyBytes : writesOriginalBody() ? originalBody : null;
+    if (bytes != null) {
+      try {
+        bytes.copyTo(bodyOutputStream);
+      } catch (IOException e) {
+        throw new RuntimeException(e); // not possible writing to memory
+      }
+    } else {
+      ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+      if (bodyHandedOut) {
+        writtenBody = ByteString.of(bodyOutputStream.toByteArray());
+      }
+    }
+  }
+
+  /**
+   * Read the body from the file, copying it to {@code bodyOutputStream} unless its text encoding must change
+   *
+   * @return true if the body was copied, false if it must be encoded again
+   */
+  private boolean copyLazyBodyRegion(ByteArrayOutputStream bodyOutputStream) {
+    try {
+      final Buffer buffer = lazyBodyRegion.read();
+      final boolean copy = buffer.size() == 0 || !changesTextEncoding(buffer.getByte(0));
+      if (copy) {
+        buffer.copyTo(bodyOutputStream);
+      }
+      loadBody(buffer);
+      return copy;
+    } catch (IOException | InvalidTagException e) {
+      throw new IllegalStateException(loggingFilename + ":Unable to copy " + lazyBodyRegion, e);
+    }
+  }
+
+  private void loadBody(Buffer buffer) throws InvalidTagException {
+    frameBody = toVersionBody(readBody(lazyBodyId, buffer, (int)buffer.size()));
+    lazyBodyRegion = null;
+    lazyBodyBytes = null;
+    lazyBodyId = null;
+  }
+
+  /**
+   * Decode the body kept by {@link #setLazyBody(String, Buffer, int)}. A body which can't be decoded is kept as
+   * {@link FrameBodyUnsupported} so its bytes are written back unchanged, where reading the frame eagerly would have dropped it.
+   */
+  private void decodeLazyBody() {
+    final Buffer bytes = lazyBodyBytes;
+    try {
+      loadBody(bytes.clone());
+    } catch (InvalidTagException e) {
+      LOG.log(WARN, "%s:Unable to decode %s, keeping it unchanged", loggingFilename, lazyBodyId, e);
+      frameBody = new FrameBodyUnsupported(lazyBodyId, bytes.snapshot().toByteArray());
+      frameBody.setHeader(this);
+      lazyBodyBytes = null;
+      lazyBodyId = null;
+    }
+  }
+
+  /**
+   * @return {@code frameBody}, or a body wrapping it if it's not valid for this version of frame
+   */
+  AbstractID3v2FrameBody toVersionBody(AbstractID3v2FrameBody frameBody) {
+    return frameBody;
+  }
+
   AbstractID3v2FrameBody readBody(String identifier, Buffer buffer, int frameSize) throws InvalidTagException {
     // Stop using reflection. Frame types added/changed rarely. Performance penalty for no good reason.
     AbstractID3v2FrameBody frameBody;
@@ -364,9 +648,12 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     if (frameIdSize > buffer.size()) {
       return "";
     }
-    identifier = buffer.readString(frameIdSize, Charset.defaultCharset());
+    identifier = KnownFrameIds.read(buffer, frameIdSize);
+    if (identifier == null) {
+      identifier = buffer.readString(frameIdSize, Charset.defaultCharset());
+    }
 
-    if (identifier.isEmpty()) {
+    if (identifier.isEmpty() || isPadding(identifier.getBytes(StandardCharsets.ISO_8859_1))) {
       throw new PaddingException(loggingFilename + ":only padding found");
     }
 
@@ -457,7 +744,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
 
 
   public boolean isEmpty() {
-    AbstractTagFrameBody body = this.getBody();
+    AbstractTagFrameBody body = this.peekBody();
     if (body == null) {
       return true;
     }
@@ -473,16 +760,6 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return encodingFlags;
   }
 
-  static Buffer decompressPartOfBuffer(Buffer source, int frameSize, final int decompressedFrameSize)
-      throws IOException, InvalidFrameException {
-    final Buffer sink = new Buffer();
-    source.readFully(sink, frameSize);
-    Buffer result = new Buffer();
-    final BufferedSource inflaterSource = Okio.buffer(new InflaterSource(sink, new Inflater()));
-    inflaterSource.readFully(result, decompressedFrameSize);
-    return result;
-  }
-
   public class StatusFlags {
     static final String TYPE_FLAGS = "statusFlags";
 
@@ -601,7 +878,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    * @return Content
    */
   public String getContent() {
-    return getBody().getUserFriendlyValue();
+    return peekBody().getUserFriendlyValue();
   }
 
   /**
@@ -610,7 +887,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
    * @return Charset encoding.
    */
   public Charset getEncoding() {
-    final byte textEncoding = this.getBody().getTextEncoding();
+    final byte textEncoding = this.peekBody().getTextEncoding();
     return TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
   }
 
@@ -628,6 +905,40 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     return isArtworkFrameId(identifier);
   }
 
+  /**
+   * The body of a frame which is not wanted is skipped rather than decoded, and the frame is not added to the tag
+   *
+   * @param identifier    the frame id as read from the file
+   * @param ignoreArtwork true if artwork frames are not wanted
+   * @param frameIds      ids of the wanted frames, null if all frames are wanted
+   *
+   * @return true if the frame should be skipped
+   */
+  static boolean isSkippedFrameId(final String identifier, final boolean ignoreArtwork, @Nullable final Set<String> frameIds) {
+    return (ignoreArtwork && isArtworkFrameId(identifier)) || (frameIds != null && !frameIds.contains(identifier));
+  }
+
+  /**
+   * The body to write compressed, if compression is enabled, see {@link TagOptionSingleton#getId3v2FrameCompressionThreshold()}
+   *
+   * @param body            the frame body as it would be written uncompressed
+   * @param sizeFieldLength the length of the decompressed size written ahead of compressed data
+   *
+   * @return the compressed body, or null if the body is below the threshold, is artwork, compressing doesn't make the frame smaller
+   * or makes it so small it would be rejected when read, see {@link #MAX_COMPRESSION_RATIO}
+   */
+  @Nullable byte[] compressBodyForWrite(final byte[] body, final int sizeFieldLength) {
+    final int threshold = TagOptionSingleton.getInstance().getId3v2FrameCompressionThreshold();
+    if (threshold <= 0 || body.length < threshold || isArtworkFrameId(identifier)) {
+      return null;
+    }
+    final byte[] compressed = ID3Compression.compress(body, body.length - sizeFieldLength - 1);
+    if (compressed != null && body.length > MAX_COMPRESSION_RATIO * (sizeFieldLength + compressed.length)) {
+      return null;
+    }
+    return compressed;
+  }
+
   static boolean isArtworkFrameId(final String identifier) {
     switch (Strings.nullToEmpty(identifier)) {
       case FRAME_ID_ATTACHED_PICTURE:
@@ -27,10 +27,13 @@ import static com.ealva.ealvalog.LogLevel.WARN;
 
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.TagWriteStatistics;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.UnableToCreateFileException;
 import ealvatag.audio.exceptions.UnableToModifyFileException;
 import ealvatag.audio.exceptions.UnableToRenameFileException;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.FileSystemMessage;
@@ -39,8 +42,10 @@ import ealvatag.tag.FieldDataInvalidException;
 import ealvatag.tag.FieldKey;
 import ealvatag.tag.InvalidFrameException;
 import ealvatag.tag.Tag;
+import ealvatag.tag.TagException;
 import ealvatag.tag.TagField;
 import ealvatag.tag.TagFieldContainer;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.UnsupportedFieldException;
 import ealvatag.tag.datatype.DataTypes;
 import ealvatag.tag.datatype.Pair;
@@ -67,9 +72,11 @@ import ealvatag.tag.id3.valuepair.ID3NumberTotalFields;
 import ealvatag.tag.id3.valuepair.StandardIPLSKey;
 import ealvatag.tag.images.Artwork;
 import ealvatag.tag.images.ArtworkFactory;
+import ealvatag.tag.options.PaddingPolicy;
 import ealvatag.tag.reference.Languages;
 import ealvatag.utils.Check;
 import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
 
 import static ealvatag.logging.ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING;
 import static ealvatag.utils.Check.CANNOT_BE_NULL;
@@ -90,6 +97,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -98,12 +106,12 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.TreeSet;
 
 
@@ -134,6 +142,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 //    protected static final int FIELD_TAG_FLAG_POS = 5;
 //    protected static final int FIELD_TAG_SIZE_POS = 6;
   private static final int TAG_SIZE_INCREMENT = 100;
+  /** Largest size, including the header, the 28 bit syncsafe size in the header can describe */
+  private static final int MAX_TAG_SIZE = TAG_HEADER_LENGTH + 0x0FFFFFFF;
+  /** Zeros shared by every tag write, padding larger than this is written from several views of it */
+  private static final ByteBuffer PADDING = ByteBuffer.allocateDirect(64 * 1024).asReadOnlyBuffer();
   /**
    * Holds the ids of invalid duplicate frames
    */
@@ -158,18 +170,34 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   //The max size we try to write in one go to avoid out of memory errors (10mb)
   private static final long MAXIMUM_WRITABLE_CHUNK_SIZE = 10000000;
   /**
-   * Map of all frames for this tag
+   * Map of all frames for this tag, see {@link FrameStore}
+   *
+   * @deprecated use {@link #getFrameMap()}. This was declared as a {@link HashMap}, which the frames are no longer held in, so code
+   * compiled against an earlier version which reads this field must be recompiled
    */
-  public HashMap<String, Object> frameMap = null;
+  @Deprecated
+  public Map<String, Object> frameMap = null;
   /**
    * Map of all encrypted frames, these cannot be unencrypted by ealvatag
    */
-  HashMap<String, Object> encryptedFrameMap = null;
+  Map<String, Object> encryptedFrameMap = null;
   String duplicateFrameId = "";
   int duplicateBytes = 0;
   int emptyFrameBytes = 0;
   int fileReadSize = 0;
   int invalidFrames = 0;
+  /** The {@link #frameMap} and its {@link FrameStore#getChangeCount()} when last marked clean, see {@link #isDirty()} */
+  private Map<String, Object> cleanFrameMap;
+  private int cleanChangeCount;
+  /** False until {@link #setClean()} is first called, which for a tag read from a file is straight after reading it */
+  private boolean beenClean;
+  /**
+   * The frames as they were read or last saved, taken when frames or fields are first handed out, or null until they are. Handed out
+   * frames may be changed without the tag knowing, so they're compared with these, see {@link #isDirty()}
+   */
+  private List<AbstractID3v2Frame> cleanFrames;
+  /** Set when the tag was last written to the end of the file, after the audio, rather than in front of it */
+  boolean appended;
   //Start location of this chunk
   //TODO currently only used by ID3 embedded into Wav/Aiff but shoudl be extended to mp3s
   private Long startLocationInFile = null;
@@ -177,10 +205,47 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   private Long endLocationInFile = null;
 
   public static Optional<Id3v2Header> getHeader(Buffer buffer) throws EOFException {
+    return getHeader(buffer, TAG_ID);
+  }
+
+  /**
+   * Read the ID3v2 tag with {@code header} from {@code file}. If {@code options} ask for lazy artwork, the artwork is left in the file
+   * and skipped over rather than read, see {@link Id3v2TagBody}
+   *
+   * @param bodyStart  where the tag body, which follows the header, starts in the file
+   * @param bodyLength the number of bytes of the tag body to read
+   * @param options    how to read the tag
+   *
+   * @return the tag, or absent if {@code header} is of a version this library doesn't read
+   */
+  public static Optional<AbstractID3v2Tag> read(final FileOperator fileOperator,
+                                                final File file,
+                                                final long bodyStart,
+                                                final long bodyLength,
+                                                final Id3v2Header header,
+                                                final ReadOptions options) throws IOException, TagException {
+    final Id3v2TagBody body =
+        Id3v2TagBody.read(fileOperator, file, bodyStart, bodyLength, header, options.lazyArtwork() && !options.ignoreArtwork());
+    switch (header.getMajorVersion()) {
+      case ID3v22Tag.MAJOR_VERSION:
+        return Optional.<AbstractID3v2Tag>of(new ID3v22Tag(body, header, file.getPath(), options));
+      case ID3v23Tag.MAJOR_VERSION:
+        return Optional.<AbstractID3v2Tag>of(new ID3v23Tag(body, header, file.getPath(), options));
+      case ID3v24Tag.MAJOR_VERSION:
+        return Optional.<AbstractID3v2Tag>of(new ID3v24Tag(body, header, file.getPath(), options));
+      default:
+        return Optional.absent();
+    }
+  }
+
+  /**
+   * @param identifier {@link #TAG_ID} for a header, {@link ID3v24Tag#FOOTER_ID} for a v2.4 footer, which is laid out the same
+   */
+  static Optional<Id3v2Header> getHeader(Buffer buffer, byte[] identifier) throws EOFException {
     buffer.require(10);
 
-    for (int i = 0; i < TAG_ID.length; i++) {
-      if (buffer.readByte() != TAG_ID[i]) {
+    for (int i = 0; i < identifier.length; i++) {
+      if (buffer.readByte() != identifier[i]) {
         return Optional.absent();
       }
     }
@@ -358,8 +423,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   //TODO Copy Encrypted frames needs implementing
   void copyFrames(AbstractID3v2Tag copyObject) {
-    frameMap = new LinkedHashMap<>();
-    encryptedFrameMap = new LinkedHashMap<>();
+    frameMap = new FrameStore();
+    encryptedFrameMap = new FrameStore();
 
     //Copy Frames that are a valid 2.4 type
     for (Object o1 : copyObject.frameMap.keySet()) {
@@ -463,6 +528,17 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 //    return false;
 //  }
 
+  /**
+   * Returns the frames of this tag by id. A value is a frame, a list of frames for an id which may occur more than once, or an
+   * {@link AggregatedFrame}. Frames are held in the order their ids were first added.
+   *
+   * @return the map of frames, which changes as this tag does
+   */
+  public Map<String, Object> getFrameMap() {
+    setFieldsHandedOut();
+    return frameMap;
+  }
+
   /**
    * Return whether tag has frame with this identifier
    * <p>
@@ -491,6 +567,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   //TODO:This method is problematic because sometimes it returns a list and sometimes a frame, we need to
   //replace with two separate methods as in the tag interface.
   public Object getFrame(String identifier) {
+    setFieldsHandedOut();
     return frameMap.get(identifier);
   }
 
@@ -520,6 +597,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * exist with the same identifier it will return a list containing all the frames with this identifier
    */
   public Object getEncryptedFrame(String identifier) {
+    setFieldsHandedOut();
     return encryptedFrameMap.get(identifier);
   }
 
@@ -534,11 +612,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   //TODO needs to ensure do not addField an invalid frame for this tag
   //TODO what happens if already contains a list with this ID
   public void setFrame(AbstractID3v2Frame frame) {
+    setDirty();
     frameMap.put(frame.getIdentifier(), frame);
   }
 
   private List<TagField> getModifiableFieldList(String id) {
-    Object o = getFrame(id);
+    Object o = frameMap.get(id);
     if (o == null) {
       return Lists.newArrayList();
     } else if (o instanceof List) {
@@ -559,8 +638,95 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     return frameMap.size() == 0;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * {@link #frameMap} is public so as well as the changes made through this class a frame put into or removed from it, or the map
+   * being replaced, is seen. Once frames or fields have been handed out the frames are also compared with those last read or saved,
+   * which sees frames added to or removed from a list held in the map, and frames whose body has been changed, see
+   * {@link AbstractID3v2Frame#isBodyChanged()}.
+   */
+  @Override public boolean isDirty() {
+    return super.isDirty() ||
+        frameMap != cleanFrameMap ||
+        !(frameMap instanceof FrameStore) ||
+        ((FrameStore)frameMap).getChangeCount() != cleanChangeCount ||
+        (cleanFrames != null && framesChanged());
+  }
+
+  private boolean framesChanged() {
+    final List<AbstractID3v2Frame> frames = frameList();
+    if (frames.size() != cleanFrames.size()) {
+      return true;
+    }
+    for (int i = 0, size = frames.size(); i < size; i++) {
+      final AbstractID3v2Frame frame = frames.get(i);
+      if (frame != cleanFrames.get(i) || frame.isBodyChanged()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Subclasses handing out frames or fields, or lists of them, which may be changed call this. Until then nothing can have changed
+   * the frames without the tag knowing, so a tag which isn't dirty records them as they were read or last saved
+   */
+  protected void setFieldsHandedOut() {
+    if (cleanFrames == null) {
+      cleanFrames = frameList();
+    }
+  }
+
+  /**
+   * @return every frame in {@link #frameMap}, including those in lists and aggregated frames
+   */
+  private List<AbstractID3v2Frame> frameList() {
+    final List<AbstractID3v2Frame> frames = new ArrayList<>();
+    for (Object value : frameMap.values()) {
+      if (value instanceof AbstractID3v2Frame) {
+        frames.add((AbstractID3v2Frame)value);
+      } else if (value instanceof AggregatedFrame) {
+        frames.addAll(((AggregatedFrame)value).getFrames());
+      } else if (value instanceof List) {
+        for (Object frame : (List<?>)value) {
+          if (frame instanceof AbstractID3v2Frame) {
+            frames.add((AbstractID3v2Frame)frame);
+          }
+        }
+      }
+    }
+    return frames;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Duplicate, empty and invalid frames are dropped when a tag is read, so the first call, made once the tag has been read, is
+   * ignored if there were any. The tag stays dirty and saving it removes them from the file.
+   */
+  @Override public void setClean() {
+    final boolean afterRead = !beenClean;
+    beenClean = true;
+    if (afterRead && (duplicateBytes > 0 || emptyFrameBytes > 0 || invalidFrames > 0)) {
+      return;
+    }
+    super.setClean();
+    cleanFrameMap = frameMap;
+    if (frameMap instanceof FrameStore) {
+      cleanChangeCount = ((FrameStore)frameMap).getChangeCount();
+    }
+    final List<AbstractID3v2Frame> frames = frameList();
+    for (int i = 0, size = frames.size(); i < size; i++) {
+      frames.get(i).setBodyClean();
+    }
+    if (cleanFrames != null) {
+      cleanFrames = frames;
+    }
+  }
+
   public boolean hasField(FieldKey genericKey) {
-    return getFirstField(checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey")).isPresent();
+    return !fieldsOf(checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey")).isEmpty();
   }
 
   /**
@@ -576,7 +742,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * Count number of frames/fields in this tag
    */
   public int getFieldCount() {
-    Iterator<TagField> it = getFields();
+    Iterator<TagField> it = fieldIterator();
     int count = 0;
 
     //Done this way because it.hasNext() incorrectly counts empty list
@@ -620,7 +786,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * If the value is a String it returns that, otherwise returns a summary of the fields information
    */
   public String getFirst(String identifier) throws IllegalArgumentException, UnsupportedFieldException {
-    AbstractID3v2Frame frame = (AbstractID3v2Frame)getFirstField(identifier).orNull();
+    AbstractID3v2Frame frame = (AbstractID3v2Frame)firstFieldOf(identifier).orNull();
     if (frame == null) {
       return "";
     }
@@ -628,7 +794,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   private String getTextValueForFrame(AbstractID3v2Frame frame) {
-    return frame.getBody().getUserFriendlyValue();
+    return frame.peekBody().getUserFriendlyValue();
   }
 
   @Override public Optional<String> getValue(final FieldKey genericKey) throws IllegalArgumentException {
@@ -640,15 +806,15 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
     //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
     if (ID3NumberTotalFields.isNumber(genericKey) || ID3NumberTotalFields.isTotal(genericKey)) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       if (fields.size() > 0) {
         //Should only be one frame so ignore index value, and we ignore multiple values within the frame
         //it would make no sense if it existed.
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
         if (ID3NumberTotalFields.isNumber(genericKey)) {
-          return Optional.of(((AbstractFrameBodyNumberTotal)frame.getBody()).getNumberAsText());
+          return Optional.of(((AbstractFrameBodyNumberTotal)frame.peekBody()).getNumberAsText());
         } else if (ID3NumberTotalFields.isTotal(genericKey)) {
-          return Optional.of(((AbstractFrameBodyNumberTotal)frame.getBody()).getTotalAsText());
+          return Optional.of(((AbstractFrameBodyNumberTotal)frame.peekBody()).getTotalAsText());
         }
       } else {
         return Optional.absent();
@@ -656,10 +822,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     } else if (genericKey == FieldKey.RATING) {
       //Special Case, TODO may be possible to put into doGetValueAtIndex but getUserFriendlyValue in POPMGFrameBody
       //is implemented different to what we would need.
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       if (fields != null && fields.size() > index) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(index);
-        return Optional.of(String.valueOf(((FrameBodyPOPM)frame.getBody()).getRating()));
+        return Optional.of(String.valueOf(((FrameBodyPOPM)frame.peekBody()).getRating()));
       } else {
         return Optional.absent();
       }
@@ -676,24 +842,24 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     //Special case here because the generic key to frameid/subid mapping is identical for trackno versus tracktotal
     //and discno versus disctotal so we have to handle here, also want to ignore index parameter.
     List<String> values = new ArrayList<>();
-    List<TagField> fields = getFields(genericKey);
+    List<TagField> fields = fieldsOf(genericKey);
 
     if (ID3NumberTotalFields.isNumber(genericKey)) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(((AbstractFrameBodyNumberTotal)frame.getBody()).getNumberAsText());
+        values.add(((AbstractFrameBodyNumberTotal)frame.peekBody()).getNumberAsText());
       }
       return values;
     } else if (ID3NumberTotalFields.isTotal(genericKey)) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(((AbstractFrameBodyNumberTotal)frame.getBody()).getTotalAsText());
+        values.add(((AbstractFrameBodyNumberTotal)frame.peekBody()).getTotalAsText());
       }
       return values;
     } else if (genericKey == FieldKey.RATING) {
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        values.add(String.valueOf(((FrameBodyPOPM)frame.getBody()).getRating()));
+        values.add(String.valueOf(((FrameBodyPOPM)frame.peekBody()).getRating()));
       }
       return values;
     } else {
@@ -703,6 +869,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 
   public Tag deleteField(final FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+    setDirty();
     FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
 
     switch (genericKey) {
@@ -763,7 +930,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @return count of fields
    */
   public int getFieldCountIncludingSubValues() {
-    Iterator<TagField> it = getFields();
+    Iterator<TagField> it = fieldIterator();
     int count = 0;
 
     //Done this way because it.hasNext() incorrectly counts empty list
@@ -773,9 +940,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         TagField next = it.next();
         if (next instanceof AbstractID3v2Frame) {
           AbstractID3v2Frame frame = (AbstractID3v2Frame)next;
-          if ((frame.getBody() instanceof AbstractFrameBodyTextInfo) &&
-              !(frame.getBody() instanceof FrameBodyTXXX)) {
-            AbstractFrameBodyTextInfo frameBody = (AbstractFrameBodyTextInfo)frame.getBody();
+          if ((frame.peekBody() instanceof AbstractFrameBodyTextInfo) &&
+              !(frame.peekBody() instanceof FrameBodyTXXX)) {
+            AbstractFrameBodyTextInfo frameBody = (AbstractFrameBodyTextInfo)frame.peekBody();
             count += frameBody.getNumberOfValues();
             continue;
           }
@@ -827,16 +994,24 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   public ImmutableList<TagField> getFields(FieldKey genericKey)
       throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+    setFieldsHandedOut();
+    return fieldsOf(genericKey);
+  }
+
+  /**
+   * As {@link #getFields(FieldKey)} without marking the tag dirty, used when reading values
+   */
+  protected ImmutableList<TagField> fieldsOf(FieldKey genericKey) throws UnsupportedFieldException {
     FrameAndSubId formatKey = getFrameAndSubIdFromGenericKey(genericKey);
 
     //Get list of frames that this uses, as we are going to remove entries we don't want take a copy
-    ImmutableList<TagField> list = getFields(formatKey.getFrameId());
+    ImmutableList<TagField> list = fieldsOf(formatKey.getFrameId());
     ImmutableList.Builder<TagField> filteredList = ImmutableList.builder();
     String subFieldId = formatKey.getSubId();
 
     if (subFieldId != null) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof FrameBodyTXXX) {
           if (((FrameBodyTXXX)next).getDescription().equals(formatKey.getSubId())) {
             filteredList.add(tagfield);
@@ -875,7 +1050,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       return filteredList.build();
     } else if (ID3NumberTotalFields.isNumber(genericKey)) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof AbstractFrameBodyNumberTotal) {
           if (((AbstractFrameBodyNumberTotal)next).getNumber() != null) {
             filteredList.add(tagfield);
@@ -885,7 +1060,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       return filteredList.build();
     } else if (ID3NumberTotalFields.isTotal(genericKey)) {
       for (TagField tagfield : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)tagfield).peekBody();
         if (next instanceof AbstractFrameBodyNumberTotal) {
           if (((AbstractFrameBodyNumberTotal)next).getTotal() != null) {
             filteredList.add(tagfield);
@@ -902,6 +1077,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @return iterator of all fields, multiple values for the same Id (e.g multiple TXXX frames) count as separate fields
    */
   public Iterator<TagField> getFields() {
+    setFieldsHandedOut();
+    return fieldIterator();
+  }
+
+  private Iterator<TagField> fieldIterator() {
     //Iterator of each different frameId in this tag
     final Iterator<Map.Entry<String, Object>> it = this.frameMap.entrySet().iterator();
 
@@ -981,13 +1161,19 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       }
 
       public void remove() {
+        setDirty();
         fieldsIt.remove();
       }
     };
   }
 
   public ImmutableList<TagField> getFields(String id) {
-    Object o = getFrame(id);
+    setFieldsHandedOut();
+    return fieldsOf(id);
+  }
+
+  ImmutableList<TagField> fieldsOf(String id) {
+    Object o = frameMap.get(id);
     if (o == null) {
       return ImmutableList.of();
     } else if (o instanceof List) {
@@ -1005,7 +1191,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @return tag field or null if doesn't exist
    */
   public Optional<TagField> getFirstField(String identifier) throws IllegalArgumentException, UnsupportedFieldException {
-    Object object = getFrame(identifier);
+    setFieldsHandedOut();
+    return firstFieldOf(identifier);
+  }
+
+  private Optional<TagField> firstFieldOf(String identifier) {
+    Object object = frameMap.get(identifier);
     if (object instanceof List) {
       //noinspection unchecked
       return Optional.of(((List<TagField>)object).get(0));
@@ -1111,11 +1302,42 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 
   protected abstract FrameAndSubId getFrameAndSubIdFromGenericKey(FieldKey genericKey) throws UnsupportedFieldException;
 
+  /**
+   * Get the ids of the frames to read when only {@code fields} are wanted. Frames with a sub id, such as TXXX, are all read as the
+   * sub id is in the frame body
+   *
+   * @param fields the wanted fields, null for all
+   *
+   * @return the ids, in this version of the tag, of frames that may hold {@code fields}. Null if {@code fields} is null
+   */
+  Set<String> getFrameIdsForFields(final Set<FieldKey> fields) {
+    if (fields == null) {
+      return null;
+    }
+    final Set<String> frameIds = new HashSet<>();
+    for (FieldKey fieldKey : fields) {
+      try {
+        frameIds.add(getFrameAndSubIdFromGenericKey(fieldKey).getFrameId());
+      } catch (UnsupportedFieldException e) {
+        LOG.log(DEBUG, "%s not supported by %s", fieldKey, getIdentifier());
+      }
+    }
+    return frameIds;
+  }
+
+  /**
+   * @return how to read the frames of this tag as {@code options} ask
+   */
+  FrameReadOptions frameReadOptions(final ReadOptions options) {
+    return new FrameReadOptions(options.ignoreArtwork(), getFrameIdsForFields(options.fields()), options.lazyFrames());
+  }
+
   public void setField(TagField field) throws FieldDataInvalidException {
     if ((!(field instanceof AbstractID3v2Frame)) && (!(field instanceof AggregatedFrame))) {
       throw new FieldDataInvalidException(
           "Field " + field + " is not of type AbstractID3v2Frame nor AggregatedFrame");
     }
+    setDirty();
 
     if (field instanceof AbstractID3v2Frame) {
       AbstractID3v2Frame newFrame = (AbstractID3v2Frame)field;
@@ -1159,6 +1381,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       throw new FieldDataInvalidException(
           "Field " + field + " is not of type AbstractID3v2Frame or AggregatedFrame");
     }
+    setDirty();
 
     if (field instanceof AbstractID3v2Frame) {
       AbstractID3v2Frame frame = (AbstractID3v2Frame)field;
@@ -1190,7 +1413,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * than creating a new frame for these special cases
    */
   private void addNewFrameOrAddField(List<TagField> list,
-                                     HashMap frameMap,
+                                     Map frameMap,
                                      AbstractID3v2Frame existingFrame,
                                      AbstractID3v2Frame frame) {
     ArrayList<TagField> mergedList = new ArrayList<>();
@@ -1260,7 +1483,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * Add another frame to the map
    */
   private void addNewFrameToMap(List<TagField> list,
-                                HashMap frameMap,
+                                Map frameMap,
                                 AbstractID3v2Frame existingFrame,
                                 AbstractID3v2Frame frame) {
     if (list.size() == 0) {
@@ -1373,6 +1596,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   public void setFrame(String identifier, List<AbstractID3v2Frame> multiFrame) {
     LOG.log(TRACE, "Adding %s frames for %s", multiFrame.size(), identifier);
+    setDirty();
     frameMap.put(identifier, multiFrame);
   }
 
@@ -1388,6 +1612,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @return an iterator of all the frames starting with a particular identifier
    */
   public Iterator getFrameOfType(String identifier) {
+    setFieldsHandedOut();
     Iterator<String> iterator = frameMap.keySet().iterator();
     HashSet<Object> result = new HashSet<>();
     String key;
@@ -1414,6 +1639,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   public void removeFrame(String identifier) {
     LOG.log(TRACE, "Removing frame with identifier:%s", identifier);
+    setDirty();
     frameMap.remove(identifier);
   }
 
@@ -1464,6 +1690,17 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   public abstract long write(File file, long audioStartByte) throws IOException;
 
+  /**
+   * A tag in front of the audio is read in preference to one appended to the end of the file, so once a tag has been written in front
+   * of the audio, a tag which was appended is stale. Removing it is left to the caller, which knows whether the file has one.
+   *
+   * @return true if this tag was last written to the end of the file, after the audio, see
+   * {@link TagOptionSingleton#setId3v2AppendTagWhenNoRoom(boolean)}
+   */
+  public boolean isAppended() {
+    return appended;
+  }
+
   /**
    * Write tag to output stream
    */
@@ -1523,12 +1760,65 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   /**
-   * Write paddings byte to the channel
+   * Write the tag header, frames and padding, with a single gathering write if the channel supports it
+   */
+  static void writeTag(WritableByteChannel channel, ByteBuffer headerBuffer, TagBodyOutputStream body, int padding)
+      throws IOException {
+    final ByteBuffer[] bodyBuffers = body.buffers();
+    final ByteBuffer[] paddingBuffers = paddingBuffers(padding);
+    final ByteBuffer[] buffers = new ByteBuffer[1 + bodyBuffers.length + paddingBuffers.length];
+    buffers[0] = headerBuffer;
+    System.arraycopy(bodyBuffers, 0, buffers, 1, bodyBuffers.length);
+    System.arraycopy(paddingBuffers, 0, buffers, 1 + bodyBuffers.length, paddingBuffers.length);
+    writeFully(channel, buffers);
+  }
+
+  /**
+   * @return views of the shared zeros totalling {@code padding} bytes
+   */
+  private static ByteBuffer[] paddingBuffers(int padding) {
+    final int capacity = PADDING.capacity();
+    final ByteBuffer[] buffers = new ByteBuffer[padding > 0 ? (padding + capacity - 1) / capacity : 0];
+    for (int i = 0; i < buffers.length; i++) {
+      buffers[i] = PADDING.duplicate();
+      buffers[i].limit(Math.min(capacity, padding - i * capacity));
+    }
+    return buffers;
+  }
+
+  static void writeFully(WritableByteChannel channel, ByteBuffer[] buffers) throws IOException {
+    if (channel instanceof GatheringByteChannel) {
+      long remaining = 0;
+      for (ByteBuffer buffer : buffers) {
+        remaining += buffer.remaining();
+      }
+      while (remaining > 0) {
+        remaining -= ((GatheringByteChannel)channel).write(buffers);
+      }
+    } else {
+      for (ByteBuffer buffer : buffers) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+    }
+  }
+
+  /**
+   * v2.2 and v2.3 tags may be unsynchronized as a whole
+   *
+   * @return {@code body} unsynchronized if the options allow it and it contains anything which could be mistaken for an audio frame,
+   * else null
    */
-  void writePadding(WritableByteChannel channel, int padding) throws IOException {
-    if (padding > 0) {
-      channel.write(ByteBuffer.wrap(new byte[padding]));
+  static @Nullable TagBodyOutputStream unsynchronizedBody(TagBodyOutputStream body) {
+    if (!TagOptionSingleton.getInstance().isUnsyncTags()) {
+      return null;
+    }
+    final byte[] bodyByteBuffer = body.toByteArray();
+    if (!ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer)) {
+      return null;
     }
+    return TagBodyOutputStream.of(ID3Unsynchronization.unsynchronize(bodyByteBuffer));
   }
 
   /**
@@ -1542,15 +1832,20 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * This method determines the total tag size taking into account
    * the preferredSize and the min size required for new tag. For mp3
    * preferred size is the location of the audio, for other formats
-   * preferred size is the size of the existing tag
+   * preferred size is the size of the existing tag. The outcome is counted
+   * by {@link TagWriteStatistics}.
    */
   int calculateTagSize(int tagSize, int preferredSize) {
     // We can fit in the tag so no adjustments required
     if (tagSize <= preferredSize) {
+      TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.ID3V2);
       return preferredSize;
     }
     // There is not enough room as we need to move the audio file we might as well increase it more than necessary for future changes
-    return tagSize + TAG_SIZE_INCREMENT;
+    TagWriteStatistics.recordMoved(TagWriteStatistics.Kind.ID3V2);
+    final PaddingPolicy paddingPolicy = TagOptionSingleton.getInstance().getPaddingPolicy();
+    final long padding = paddingPolicy != null ? paddingPolicy.getPadding(tagSize) : TAG_SIZE_INCREMENT;
+    return (int)Math.max(tagSize, Math.min(tagSize + padding, MAX_TAG_SIZE));
   }
 
   /**
@@ -1582,7 +1877,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    */
   void writeBufferToFile(File file,
                          ByteBuffer headerBuffer,
-                         byte[] bodyByteBuffer,
+                         TagBodyOutputStream body,
                          int padding,
                          int sizeIncPadding,
                          long audioStartLocation) throws IOException {
@@ -1590,7 +1885,10 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     FileLock fileLock = null;
 
     //We need to adjust location of audio file if true
-    if (sizeIncPadding > audioStartLocation) {
+    final boolean moveAudio = sizeIncPadding > audioStartLocation;
+    final TagOptionSingleton options = TagOptionSingleton.getInstance();
+    final boolean moveAudioInPlace = moveAudio && options.isId3v2MoveAudioInPlace();
+    if (moveAudio && !moveAudioInPlace) {
       LOG.log(TRACE, "Adjusting Padding");
       adjustPadding(file, sizeIncPadding, audioStartLocation);
     }
@@ -1598,30 +1896,18 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     try {
       fc = new RandomAccessFile(file, "rw").getChannel();
       fileLock = getFileLockForWriting(fc, file.getPath());
-      fc.write(headerBuffer);
-      fc.write(ByteBuffer.wrap(bodyByteBuffer));
-      fc.write(ByteBuffer.wrap(new byte[padding]));
-    } catch (FileNotFoundException fe) {
-      LOG.log(ERROR, loggingFilename + fe.getMessage(), fe);
-      if (fe.getMessage().contains(FileSystemMessage.ACCESS_IS_DENIED.getMsg()) ||
-          fe.getMessage().contains(FileSystemMessage.PERMISSION_DENIED.getMsg())) {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-        throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-      } else {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
-        throw new UnableToCreateFileException(String.format(Locale.getDefault(),
-                                                            ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING,
-                                                            file));
+      if (moveAudioInPlace) {
+        LOG.log(TRACE, "Moving audio in place");
+        AudioRelocation.move(file, fc, audioStartLocation, sizeIncPadding, options.isId3v2MoveAudioJournaled());
       }
-    } catch (IOException ioe) {
-      LOG.log(ERROR, loggingFilename + ioe.getMessage(), ioe);
-      if (ioe.getMessage().equals(FileSystemMessage.ACCESS_IS_DENIED.getMsg())) {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-        throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-      } else {
-        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
-        throw new UnableToCreateFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
+      writeTag(fc, headerBuffer, body, padding);
+      appended = false;
+      if (moveAudioInPlace && options.isId3v2MoveAudioJournaled()) {
+        fc.force(true);
+        AudioRelocation.deleteJournal(file);
       }
+    } catch (IOException ioe) {
+      throw writeFailure(file, ioe);
     } finally {
       if (fc != null) {
         if (fileLock != null) {
@@ -1632,6 +1918,33 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     }
   }
 
+  /**
+   * Log a failure to open or write {@code file} and return the exception to throw for it
+   */
+  IOException writeFailure(File file, IOException ioe) {
+    if (ioe instanceof FileNotFoundException) {
+      LOG.log(ERROR, loggingFilename + ioe.getMessage(), ioe);
+      if (ioe.getMessage().contains(FileSystemMessage.ACCESS_IS_DENIED.getMsg()) ||
+          ioe.getMessage().contains(FileSystemMessage.PERMISSION_DENIED.getMsg())) {
+        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
+        return new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
+      } else {
+        LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file);
+        return new UnableToCreateFileException(String.format(Locale.getDefault(),
+                                                             ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING,
+                                                             file));
+      }
+    }
+    LOG.log(ERROR, loggingFilename + ioe.getMessage(), ioe);
+    if (FileSystemMessage.ACCESS_IS_DENIED.getMsg().equals(ioe.getMessage())) {
+      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
+      return new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
+    } else {
+      LOG.log(ERROR, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
+      return new UnableToCreateFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING, file.getParentFile());
+    }
+  }
+
   /**
    * Is this tag equivalent to another
    *
@@ -1658,7 +1971,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @throws java.nio.channels.OverlappingFileLockException if already locked by another thread in the same VM, we dont catch this because
    *                                                        indicates a programming error
    */
-  private FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
+  FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
     LOG.log(TRACE, "locking fileChannel for %s", filePath);
     FileLock fileLock;
     try {
@@ -1682,6 +1995,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * @return and iterator of the frmaes/list of multi value frames
    */
   public Iterator iterator() {
+    setFieldsHandedOut();
     return frameMap.values().iterator();
   }
 
@@ -1928,7 +2242,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * Add frame to the frame map
    */
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyEncrypted) {
+    if (next.getBodyIfLoaded() instanceof FrameBodyEncrypted) {
       loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
     } else {
       loadFrameIntoSpecifiedMap(frameMap, frameId, next);
@@ -1937,14 +2251,22 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 
   //TODO is this a special field?
 
+  /**
+   * @deprecated the frame maps are no longer {@link HashMap}s, use {@link #loadFrameIntoSpecifiedMap(Map, String, AbstractID3v2Frame)}
+   */
+  @Deprecated
+  protected void loadFrameIntoSpecifiedMap(HashMap<String, Object> map, String frameId, AbstractID3v2Frame next) {
+    loadFrameIntoSpecifiedMap((Map<String, Object>)map, frameId, next);
+  }
+
   /**
    * Decides what to with the frame that has just been read from file.
    * If the frame is an allowable duplicate frame and is a duplicate we add all
-   * frames into an ArrayList and add the ArrayList to the HashMap. if not allowed
+   * frames into an ArrayList and add the ArrayList to the map. if not allowed
    * to be duplicate we store the number of bytes in the duplicateBytes variable and discard
    * the frame itself.
    */
-  protected void loadFrameIntoSpecifiedMap(HashMap<String, Object> map, String frameId, AbstractID3v2Frame next) {
+  protected void loadFrameIntoSpecifiedMap(Map<String, Object> map, String frameId, AbstractID3v2Frame next) {
     if ((ID3v24Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
         (ID3v23Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
         (ID3v22Frames.getInstanceOf().isMultipleAllowed(frameId))) {
@@ -2020,12 +2342,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
    * <p>Currently Write all frames, defaults to the order in which they were loaded, newly
    * created frames will be at end of tag.
    *
-   * @return ByteBuffer Contains all the frames written within the tag ready for writing to file
+   * @return all the frames written within the tag ready for writing to file
    *
    * @throws IOException if write error
    */
-  ByteArrayOutputStream writeFramesToBuffer() throws IOException {
-    ByteArrayOutputStream bodyBuffer = new ByteArrayOutputStream();
+  TagBodyOutputStream writeFramesToBuffer() throws IOException {
+    TagBodyOutputStream bodyBuffer = new TagBodyOutputStream();
     writeFramesToBufferStream(frameMap, bodyBuffer);
     writeFramesToBufferStream(encryptedFrameMap, bodyBuffer);
     return bodyBuffer;
@@ -2116,9 +2438,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
 
     if (formatKey.getSubId() != null) {
       //Get list of frames that this uses
-      List<TagField> list = getFields(formatKey.getFrameId());
+      List<TagField> list = fieldsOf(formatKey.getFrameId());
       for (final TagField aList : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).peekBody();
 
         if (next instanceof FrameBodyTXXX) {
           if (((FrameBodyTXXX)next).getDescription().equals(formatKey.getSubId())) {
@@ -2156,9 +2478,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         ((formatKey.getGenericKey() == FieldKey.PERFORMER) ||
             (formatKey.getGenericKey() == FieldKey.INVOLVED_PERSON))
         ) {
-      List<TagField> list = getFields(formatKey.getFrameId());
+      List<TagField> list = fieldsOf(formatKey.getFrameId());
       for (final TagField aList : list) {
-        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).getBody();
+        AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).peekBody();
         if (next instanceof AbstractFrameBodyPairs) {
           for (Pair entry : ((AbstractFrameBodyPairs)next).getPairing().getMapping()) {
             if (!StandardIPLSKey.isKey(entry.getKey())) {
@@ -2176,12 +2498,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
     }
     //Simple 1 to 1 mapping
     else {
-      List<TagField> list = getFields(formatKey.getFrameId());
+      List<TagField> list = fieldsOf(formatKey.getFrameId());
       for (TagField next : list) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)next;
         if (frame != null) {
-          if (frame.getBody() instanceof AbstractFrameBodyTextInfo) {
-            AbstractFrameBodyTextInfo fb = (AbstractFrameBodyTextInfo)frame.getBody();
+          if (frame.peekBody() instanceof AbstractFrameBodyTextInfo) {
+            AbstractFrameBodyTextInfo fb = (AbstractFrameBodyTextInfo)frame.peekBody();
             values.addAll(fb.getValues());
           } else {
             values.add(getTextValueForFrame(frame));
@@ -2261,7 +2583,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       if (total.length() == 0) {
         doDeleteTagField(formatKey);
       } else {
-        AbstractID3v2Frame frame = (AbstractID3v2Frame)this.getFrame(formatKey.getFrameId());
+        AbstractID3v2Frame frame = (AbstractID3v2Frame)frameMap.get(formatKey.getFrameId());
         AbstractFrameBodyNumberTotal frameBody = (AbstractFrameBodyNumberTotal)frame.getBody();
         frameBody.setNumber(0);
       }
@@ -2270,7 +2592,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
       if (number.length() == 0) {
         doDeleteTagField(formatKey);
       } else {
-        AbstractID3v2Frame frame = (AbstractID3v2Frame)this.getFrame(formatKey.getFrameId());
+        AbstractID3v2Frame frame = (AbstractID3v2Frame)frameMap.get(formatKey.getFrameId());
         AbstractFrameBodyNumberTotal frameBody = (AbstractFrameBodyNumberTotal)frame.getBody();
         frameBody.setTotal(0);
       }
@@ -2278,6 +2600,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   void doDeleteTagField(FrameAndSubId formatKey) throws UnsupportedFieldException {
+    setDirty();
     if (formatKey.getSubId() != null) {
       //Get list of frames that this uses
       List<TagField> list = getModifiableFieldList(formatKey.getFrameId());
@@ -2355,7 +2678,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
         ((formatKey.getGenericKey() == FieldKey.PERFORMER) ||
             (formatKey.getGenericKey() == FieldKey.INVOLVED_PERSON))
         ) {
-      List<TagField> list = getFields(formatKey.getFrameId());
+      List<TagField> list = fieldsOf(formatKey.getFrameId());
       for (final TagField aList : list) {
         AbstractTagFrameBody next = ((AbstractID3v2Frame)aList).getBody();
         if (next instanceof AbstractFrameBodyPairs) {
@@ -2385,7 +2708,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   public String toString() {
     final StringBuilder out = new StringBuilder();
     out.append("Tag content:\n");
-    final Iterator<TagField> it = getFields();
+    final Iterator<TagField> it = fieldIterator();
     while (it.hasNext()) {
       final TagField field = it.next();
       out.append("\t");
@@ -2446,11 +2769,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements TagFiel
   }
 
   public List<Artwork> getArtworkList() throws UnsupportedFieldException {
-    List<TagField> coverartList = getFields(FieldKey.COVER_ART);
+    List<TagField> coverartList = fieldsOf(FieldKey.COVER_ART);
     List<Artwork> artworkList = new ArrayList<>(coverartList.size());
 
     for (TagField next : coverartList) {
-      AbstractArtworkFrameBody coverArt = (AbstractArtworkFrameBody)((AbstractID3v2Frame)next).getBody();
+      AbstractArtworkFrameBody coverArt = (AbstractArtworkFrameBody)((AbstractID3v2Frame)next).peekBody();
       Artwork artwork = ArtworkFactory.getNew();
       artwork.setMimeType(coverArt.getMimeType());
       artwork.setPictureType(coverArt.getPictureType());
@@ -43,7 +43,7 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
      * @param copyObject
      */
     public AbstractTagFrame(AbstractTagFrame copyObject) {
-        this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(copyObject.frameBody);
+        this.frameBody = (AbstractTagFrameBody)ID3Tags.copyObject(copyObject.getBody());
         this.frameBody.setHeader(this);
     }
 
@@ -68,6 +68,15 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
         return this.frameBody;
     }
 
+    /**
+     * Returns the body for callers which only read it, such as the tag reading a value
+     *
+     * @return the body datatype
+     */
+    AbstractTagFrameBody peekBody() {
+        return this.frameBody;
+    }
+
     /**
      * Returns true if this datatype and it's body is a subset of the argument.
      * This datatype is a subset if the argument is the same class.
@@ -80,15 +89,17 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
             return false;
         }
 
-        if ((frameBody == null) && (((AbstractTagFrame)obj).frameBody == null)) {
+        AbstractTagFrameBody body = peekBody();
+        AbstractTagFrameBody objBody = ((AbstractTagFrame)obj).peekBody();
+        if ((body == null) && (objBody == null)) {
             return true;
         }
 
-        if ((frameBody == null) || (((AbstractTagFrame)obj).frameBody == null)) {
+        if ((body == null) || (objBody == null)) {
             return false;
         }
 
-        return frameBody.isSubsetOf(((AbstractTagFrame)obj).frameBody);
+        return body.isSubsetOf(objBody);
 
     }
 
@@ -111,12 +122,12 @@ public abstract class AbstractTagFrame extends AbstractTagItem {
 
         AbstractTagFrame that = (AbstractTagFrame)obj;
         return Objects.equal(this.getIdentifier(), that.getIdentifier()) &&
-                        Objects.equal(this.frameBody, that.frameBody);
+                        Objects.equal(this.peekBody(), that.peekBody());
 
     }
 
     @Override
     public String toString() {
-        return getBody().toString();
+        return peekBody().toString();
     }
 }
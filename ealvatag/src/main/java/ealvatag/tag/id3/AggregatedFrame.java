@@ -49,7 +49,7 @@ public class AggregatedFrame implements TagTextField
      */
     public Charset getEncoding()
     {
-        final byte textEncoding = frames.iterator().next().getBody().getTextEncoding();
+        final byte textEncoding = frames.iterator().next().peekBody().getTextEncoding();
         return TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
     }
 
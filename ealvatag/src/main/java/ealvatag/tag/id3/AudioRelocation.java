@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import static com.ealva.ealvalog.LogLevel.DEBUG;
+import static com.ealva.ealvalog.LogLevel.WARN;
+
+import com.ealva.ealvalog.java.JLogger;
+import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.logging.EalvaTagLog;
+import ealvatag.logging.ErrorMessage;
+import ealvatag.tag.TagOptionSingleton;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Moves the audio following an ID3v2 tag further into the same file, so a tag which has outgrown the space in front of the audio can
+ * be written without copying the whole file to a temporary file, see {@link TagOptionSingleton#isId3v2MoveAudioInPlace()}.
+ * <p>
+ * The audio is moved a chunk at a time starting at the end of the file, so a chunk is never written over audio which hasn't yet been
+ * moved. A journaled move saves each chunk in a journal beside the file before writing it, so a move interrupted by a crash can be
+ * completed by {@link #recover(File)}, which saving the file does before writing anything else. The journal holds no more than two
+ * chunks, never a second copy of the file.
+ */
+public final class AudioRelocation {
+  private static final JLogger LOG = JLoggers.get(AudioRelocation.class, EalvaTagLog.MARKER);
+
+  private static final String JOURNAL_SUFFIX = ".id3move";
+  private static final long JOURNAL_MAGIC = 0x6561_6C76_6D6F_7665L; // "ealvmove"
+  /** magic, audio start, new audio start, original length, chunk size and the first bytes of the file */
+  private static final int JOURNAL_HEADER_LENGTH = 8 + 8 + 8 + 8 + 4 + AbstractID3v2Tag.TAG_HEADER_LENGTH;
+  /** sequence, end of the chunk's source, chunk length and checksum, followed by the chunk */
+  private static final int RECORD_HEADER_LENGTH = 8 + 8 + 4 + 8;
+  private static final int RECORD_END = 8;
+  private static final int RECORD_COUNT = 16;
+  private static final int RECORD_CHECKSUM = 20;
+  private static final int JOURNAL_SLOTS = 2;
+  private static final int FLAGS_POSITION = 5;
+  private static final int SIZE_POSITION = 6;
+
+  private AudioRelocation() {
+  }
+
+  /**
+   * Move everything from {@code audioStart} to the end of the file so it begins at {@code newAudioStart}, leaving the file longer by
+   * the difference. The bytes before {@code newAudioStart} are left for the caller to write the tag over. If journaled, the journal
+   * is left in place until the caller has written the tag, forced the channel and called {@link #deleteJournal(File)}.
+   */
+  static void move(File file, FileChannel channel, long audioStart, long newAudioStart, boolean journaled) throws IOException {
+    final long length = channel.size();
+    final ByteBuffer buffer = ByteBuffer.allocate(chunkSize(length - audioStart));
+    LOG.log(DEBUG, "Moving %s bytes of audio from %s to %s in %s", length - audioStart, audioStart, newAudioStart, file);
+    if (!journaled) {
+      move(channel, audioStart, length, newAudioStart - audioStart, buffer, null, 0);
+      return;
+    }
+
+    final ByteBuffer tagHeader = ByteBuffer.allocate(AbstractID3v2Tag.TAG_HEADER_LENGTH);
+    readFully(channel, tagHeader, 0);
+    tagHeader.flip();
+    try (FileChannel journal = new RandomAccessFile(journalFile(file), "rw").getChannel()) {
+      final ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_LENGTH);
+      header.putLong(JOURNAL_MAGIC)
+            .putLong(audioStart)
+            .putLong(newAudioStart)
+            .putLong(length)
+            .putInt(buffer.capacity())
+            .put(tagHeader)
+            .flip();
+      writeFully(journal, header, 0);
+      journal.force(true);
+      move(channel, audioStart, length, newAudioStart - audioStart, buffer, journal, 0);
+    }
+  }
+
+  /**
+   * Delete the journal of a completed move, once the tag has been written in front of the audio
+   */
+  static void deleteJournal(File file) {
+    final File journal = journalFile(file);
+    if (journal.exists() && !journal.delete()) {
+      LOG.log(WARN, "Unable to delete %s", journal);
+    }
+  }
+
+  /**
+   * Complete a journaled move of the audio in {@code file} which was interrupted, such as by a crash, before the new tag was written.
+   * The audio is left at the position it was being moved to, and if the original tag is still in front of it the space between them
+   * becomes padding of that tag. A file with no journal is left alone, and isn't opened for writing.
+   * <p>
+   * The file is locked as it is when a tag is written, so a move still being made by another writer isn't mistaken for an interrupted
+   * one.
+   *
+   * @param file the audio file
+   *
+   * @return the position the audio was moved to, 0 if the interrupted move hadn't started, or -1 if there was no interrupted move
+   *
+   * @throws IOException if the journal or file can't be read, the file can't be written or another writer has it locked
+   */
+  public static long recover(File file) throws IOException {
+    final File journalFile = journalFile(file);
+    if (!journalFile.exists()) {
+      return -1;
+    }
+    final long newAudioStart;
+    try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+      final FileLock fileLock = lockForWriting(channel, file);
+      try {
+        // the writer holds the lock for the whole move, so a journal still here once locked is from one which was interrupted
+        if (!journalFile.exists()) {
+          return -1;
+        }
+        newAudioStart = recover(file, journalFile, channel);
+      } finally {
+        if (fileLock != null) {
+          fileLock.release();
+        }
+      }
+    }
+    deleteJournal(file);
+    return newAudioStart;
+  }
+
+  private static long recover(File file, File journalFile, FileChannel channel) throws IOException {
+    LOG.log(WARN, "Completing interrupted move of audio in %s", file);
+    try (FileChannel journal = new RandomAccessFile(journalFile, "rw").getChannel()) {
+      final ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_LENGTH);
+      if (journal.read(header, 0) < JOURNAL_HEADER_LENGTH || header.getLong(0) != JOURNAL_MAGIC) {
+        // the journal is written and forced before anything is moved
+        LOG.log(DEBUG, "Move of audio in %s hadn't started", file);
+        return 0;
+      }
+      header.position(8);
+      final long audioStart = header.getLong();
+      final long newAudioStart = header.getLong();
+      final long delta = newAudioStart - audioStart;
+      long end = header.getLong();
+      final ByteBuffer buffer = ByteBuffer.allocate(header.getInt());
+      final ByteBuffer tagHeader = header.slice();
+
+      final ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+      final long sequence = readLatestRecord(journal, recordHeader, buffer);
+      if (sequence >= 0) {
+        // the chunk may or may not have been written, writing it again is harmless as the journal holds its contents
+        end = recordHeader.getLong(RECORD_END) - recordHeader.getInt(RECORD_COUNT);
+        writeFully(channel, buffer, end + delta);
+        channel.force(false);
+      }
+      // still journaled, the rest of the move could be interrupted too
+      move(channel, audioStart, end, delta, buffer, journal, sequence + 1);
+      padOriginalTag(channel, tagHeader, audioStart, newAudioStart);
+      channel.force(true);
+      return newAudioStart;
+    }
+  }
+
+  /**
+   * Lock the file as {@link AbstractID3v2Tag#getFileLockForWriting(FileChannel, String)} does
+   *
+   * @return the lock, or null if locking isn't supported on this platform
+   */
+  @Nullable private static FileLock lockForWriting(FileChannel channel, File file) throws IOException {
+    final FileLock fileLock;
+    try {
+      fileLock = channel.tryLock();
+    } catch (IOException | Error exception) {  // see AbstractID3v2Tag.getFileLockForWriting
+      return null;
+    }
+    if (fileLock == null) {
+      throw new IOException(String.format(Locale.getDefault(), ErrorMessage.GENERAL_WRITE_FAILED_FILE_LOCKED, file.getPath()));
+    }
+    return fileLock;
+  }
+
+  private static File journalFile(File file) {
+    return new File(file.getPath() + JOURNAL_SUFFIX);
+  }
+
+  private static int chunkSize(long audioLength) {
+    return (int)Math.max(1, Math.min(TagOptionSingleton.getInstance().getWriteChunkSize(), audioLength));
+  }
+
+  /**
+   * Move [{@code start}, {@code end}) on by {@code delta}, last chunk first
+   */
+  private static void move(FileChannel channel,
+                           long start,
+                           long end,
+                           long delta,
+                           ByteBuffer buffer,
+                           @Nullable FileChannel journal,
+                           long sequence) throws IOException {
+    final ByteBuffer recordHeader = ByteBuffer.allocate(RECORD_HEADER_LENGTH);
+    while (end > start) {
+      final int count = (int)Math.min(buffer.capacity(), end - start);
+      final long chunkStart = end - count;
+      buffer.clear().limit(count);
+      readFully(channel, buffer, chunkStart);
+      buffer.flip();
+      if (journal != null) {
+        recordHeader.clear();
+        recordHeader.putLong(sequence).putLong(end).putInt(count);
+        recordHeader.putLong(checksum(recordHeader, buffer)).flip();
+        // alternate between slots so the previous record survives if this one is torn
+        final long slot = slotPosition(sequence % JOURNAL_SLOTS, buffer.capacity());
+        writeFully(journal, recordHeader, slot);
+        writeFully(journal, buffer.duplicate(), slot + RECORD_HEADER_LENGTH);
+        journal.force(false);
+        sequence++;
+      }
+      writeFully(channel, buffer, chunkStart + delta);
+      if (journal != null) {
+        channel.force(false);
+      }
+      end = chunkStart;
+    }
+  }
+
+  /**
+   * Read the latest intact journal record, its header into {@code recordHeader} and its chunk into {@code buffer}
+   *
+   * @return the record's sequence number, or -1 if there is no intact record
+   */
+  private static long readLatestRecord(FileChannel journal, ByteBuffer recordHeader, ByteBuffer buffer) throws IOException {
+    long latestSequence = -1;
+    int latestSlot = -1;
+    for (int i = 0; i < JOURNAL_SLOTS; i++) {
+      if (readRecord(journal, i, recordHeader, buffer) && recordHeader.getLong(0) > latestSequence) {
+        latestSequence = recordHeader.getLong(0);
+        latestSlot = i;
+      }
+    }
+    if (latestSlot >= 0 && latestSlot != JOURNAL_SLOTS - 1) {
+      // the buffer holds a later slot
+      readRecord(journal, latestSlot, recordHeader, buffer);
+    }
+    return latestSequence;
+  }
+
+  private static boolean readRecord(FileChannel journal, int slot, ByteBuffer recordHeader, ByteBuffer buffer) throws IOException {
+    final long position = slotPosition(slot, buffer.capacity());
+    recordHeader.clear();
+    if (journal.read(recordHeader, position) < RECORD_HEADER_LENGTH) {
+      return false;
+    }
+    final int count = recordHeader.getInt(RECORD_COUNT);
+    if (count <= 0 || count > buffer.capacity()) {
+      return false;
+    }
+    buffer.clear().limit(count);
+    if (journal.read(buffer, position + RECORD_HEADER_LENGTH) < count) {
+      return false;
+    }
+    buffer.flip();
+    return checksum(recordHeader, buffer) == recordHeader.getLong(RECORD_CHECKSUM);
+  }
+
+  private static long checksum(ByteBuffer recordHeader, ByteBuffer buffer) {
+    final CRC32 crc = new CRC32();
+    crc.update(recordHeader.array(), 0, RECORD_CHECKSUM);
+    crc.update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    return crc.getValue();
+  }
+
+  private static long slotPosition(long slot, int chunkSize) {
+    return JOURNAL_HEADER_LENGTH + slot * (RECORD_HEADER_LENGTH + chunkSize);
+  }
+
+  /**
+   * If the tag the file started with is still in place, zero the bytes left between the old and new audio positions and make them its
+   * padding. Otherwise the new tag was being written, which already ends where the audio now starts.
+   */
+  private static void padOriginalTag(FileChannel channel, ByteBuffer tagHeader, long audioStart, long newAudioStart)
+      throws IOException {
+    final ByteBuffer current = ByteBuffer.allocate(AbstractID3v2Tag.TAG_HEADER_LENGTH);
+    readFully(channel, current, 0);
+    current.flip();
+    if (!current.equals(tagHeader)) {
+      return;
+    }
+    final ByteBuffer zeros = ByteBuffer.allocate((int)Math.min(64 * 1024, newAudioStart - audioStart));
+    for (long position = audioStart; position < newAudioStart; position += zeros.capacity()) {
+      zeros.clear().limit((int)Math.min(zeros.capacity(), newAudioStart - position));
+      writeFully(channel, zeros, position);
+    }
+    final byte[] id = AbstractID3v2Tag.TAG_ID;
+    final boolean isId3 = current.get(0) == id[0] && current.get(1) == id[1] && current.get(2) == id[2];
+    // a v2.4 footer must follow the frames directly, so such a tag can't be given padding
+    final boolean hasFooter = current.get(3) == ID3v24Tag.MAJOR_VERSION && (current.get(FLAGS_POSITION) & FileConstants.BIT4) != 0;
+    if (isId3 && !hasFooter) {
+      writeFully(channel,
+                 ByteBuffer.wrap(ID3SyncSafeInteger.valueToBuffer((int)(newAudioStart - AbstractID3v2Tag.TAG_HEADER_LENGTH))),
+                 SIZE_POSITION);
+    }
+  }
+
+  private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      final int read = channel.read(buffer, position);
+      if (read < 0) {
+        throw new EOFException("Reading " + buffer.remaining() + " bytes at " + position);
+      }
+      position += read;
+    }
+  }
+
+  private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+  }
+}
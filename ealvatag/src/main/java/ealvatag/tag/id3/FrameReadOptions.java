@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+package ealvatag.tag.id3;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+
+/**
+ * How the frames of an ID3v2 tag are read, from the {@link ealvatag.audio.ReadOptions} the tag is read with
+ */
+final class FrameReadOptions {
+  static final FrameReadOptions ALL = new FrameReadOptions(false, null, false);
+  static final FrameReadOptions IGNORE_ARTWORK = new FrameReadOptions(true, null, false);
+
+  /** Skip the body of artwork frames */
+  final boolean ignoreArtwork;
+  /** Ids of the frames whose body should be read, null for all. The body of any other frame is skipped */
+  final @Nullable Set<String> frameIds;
+  /** Keep the body of each frame undecoded until it's first needed */
+  final boolean lazyBodies;
+
+  FrameReadOptions(final boolean ignoreArtwork,
+                   @Nullable final Set<String> frameIds,
+                   final boolean lazyBodies) {
+    this.ignoreArtwork = ignoreArtwork;
+    this.frameIds = frameIds;
+    this.lazyBodies = lazyBodies;
+  }
+
+  static FrameReadOptions of(final boolean ignoreArtwork) {
+    return ignoreArtwork ? IGNORE_ARTWORK : ALL;
+  }
+
+  /**
+   * @return true if the body of the frame with {@code identifier} should be skipped
+   */
+  boolean isSkipped(final String identifier) {
+    return AbstractID3v2Frame.isSkippedFrameId(identifier, ignoreArtwork, frameIds);
+  }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The frames of a tag by id, iterated in the order ids were first added. A value is a frame, a list of frames for an id which may occur
+ * more than once, or an {@link AggregatedFrame}.
+ * <p>
+ * Ids are held packed into ints, see {@link PackedFrameId}, in an array alongside arrays of the keys and values. A tag has few distinct
+ * ids, so finding one is a scan of a short int array, and there's no hash table or entry object per id as there is in a
+ * {@link java.util.LinkedHashMap}. Keys which can't be packed, such as {@link TyerTdatAggregatedFrame#ID_TYER_TDAT}, are compared as
+ * strings.
+ */
+final class FrameStore extends AbstractMap<String, Object> {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int[] ids = new int[0];
+  private String[] keys = new String[0];
+  private Object[] values = new Object[0];
+  private int size;
+  private int modCount;
+  /** Counts every change, including replacing a value, unlike {@link #modCount} which only counts changes to the ids */
+  private int changeCount;
+
+  private Set<String> keySet;
+  private Collection<Object> valueCollection;
+  private Set<Entry<String, Object>> entrySet;
+
+  @Override public int size() {
+    return size;
+  }
+
+  @Override public boolean containsKey(final Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override public Object get(final Object key) {
+    final int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override public Object put(final String key, final Object value) {
+    final int packed = PackedFrameId.pack(key);
+    final int index = indexOf(packed, key);
+    if (index >= 0) {
+      final Object previous = values[index];
+      values[index] = value;
+      changeCount++;
+      return previous;
+    }
+    if (size == ids.length) {
+      final int capacity = size == 0 ? INITIAL_CAPACITY : size + (size >> 1);
+      ids = Arrays.copyOf(ids, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    ids[size] = packed;
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    modCount++;
+    changeCount++;
+    return null;
+  }
+
+  @Override public Object remove(final Object key) {
+    final int index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    final Object previous = values[index];
+    removeAt(index);
+    return previous;
+  }
+
+  @Override public void clear() {
+    Arrays.fill(keys, 0, size, null);
+    Arrays.fill(values, 0, size, null);
+    size = 0;
+    modCount++;
+    changeCount++;
+  }
+
+  @Override public Set<String> keySet() {
+    if (keySet == null) {
+      keySet = new AbstractSet<String>() {
+        @Override public Iterator<String> iterator() {
+          return new IndexIterator<String>() {
+            @Override String get(final int index) {
+              return keys[index];
+            }
+          };
+        }
+
+        @Override public int size() {
+          return size;
+        }
+
+        @Override public boolean contains(final Object o) {
+          return containsKey(o);
+        }
+      };
+    }
+    return keySet;
+  }
+
+  @Override public Collection<Object> values() {
+    if (valueCollection == null) {
+      valueCollection = new AbstractCollection<Object>() {
+        @Override public Iterator<Object> iterator() {
+          return new IndexIterator<Object>() {
+            @Override Object get(final int index) {
+              return values[index];
+            }
+          };
+        }
+
+        @Override public int size() {
+          return size;
+        }
+      };
+    }
+    return valueCollection;
+  }
+
+  @Override public Set<Entry<String, Object>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new AbstractSet<Entry<String, Object>>() {
+        @Override public Iterator<Entry<String, Object>> iterator() {
+          return new IndexIterator<Entry<String, Object>>() {
+            @Override Entry<String, Object> get(final int index) {
+              return new StoreEntry(index);
+            }
+          };
+        }
+
+        @Override public int size() {
+          return size;
+        }
+      };
+    }
+    return entrySet;
+  }
+
+  private int indexOf(final Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    return indexOf(PackedFrameId.pack((String)key), (String)key);
+  }
+
+  private int indexOf(final int packed, final String key) {
+    if (packed != PackedFrameId.NOT_PACKED) {
+      for (int i = 0; i < size; i++) {
+        if (ids[i] == packed) {
+          return i;
+        }
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        if (ids[i] == PackedFrameId.NOT_PACKED && keys[i].equals(key)) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  private void removeAt(final int index) {
+    final int moved = size - index - 1;
+    System.arraycopy(ids, index + 1, ids, index, moved);
+    System.arraycopy(keys, index + 1, keys, index, moved);
+    System.arraycopy(values, index + 1, values, index, moved);
+    size--;
+    keys[size] = null;
+    values[size] = null;
+    modCount++;
+    changeCount++;
+  }
+
+  /**
+   * @return a count which changes whenever a value is put, replaced or removed. Changes within a list of frames aren't seen
+   */
+  int getChangeCount() {
+    return changeCount;
+  }
+
+  /**
+   * Iterates in insertion order, supporting remove
+   */
+  private abstract class IndexIterator<T> implements Iterator<T> {
+    private int next;
+    private int last = -1;
+    private int expectedModCount = modCount;
+
+    abstract T get(int index);
+
+    @Override public boolean hasNext() {
+      // a removal can leave next at the end, ending the iteration before next() could see it
+      checkModCount();
+      return next < size;
+    }
+
+    @Override public T next() {
+      checkModCount();
+      if (next >= size) {
+        throw new NoSuchElementException();
+      }
+      last = next++;
+      return get(last);
+    }
+
+    @Override public void remove() {
+      if (last < 0) {
+        throw new IllegalStateException();
+      }
+      checkModCount();
+      removeAt(last);
+      next = last;
+      last = -1;
+      expectedModCount = modCount;
+    }
+
+    private void checkModCount() {
+      if (modCount != expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+    }
+  }
+
+  /**
+   * An entry which reads and writes through to the store
+   */
+  private final class StoreEntry implements Map.Entry<String, Object> {
+    private final int index;
+
+    StoreEntry(final int index) {
+      this.index = index;
+    }
+
+    @Override public String getKey() {
+      return keys[index];
+    }
+
+    @Override public Object getValue() {
+      return values[index];
+    }
+
+    @Override public Object setValue(final Object value) {
+      final Object previous = values[index];
+      values[index] = value;
+      changeCount++;
+      return previous;
+    }
+
+    @Override public boolean equals(final Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      final Map.Entry<?, ?> that = (Map.Entry<?, ?>)o;
+      return getKey().equals(that.getKey()) && (getValue() == null ? that.getValue() == null : getValue().equals(that.getValue()));
+    }
+
+    @Override public int hashCode() {
+      return getKey().hashCode() ^ (getValue() == null ? 0 : getValue().hashCode());
+    }
+
+    @Override public String toString() {
+      return getKey() + "=" + getValue();
+    }
+  }
+}
@@ -4,24 +4,44 @@ import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
 import ealvatag.logging.EalvaTagLog;
 import ealvatag.tag.InvalidFrameException;
+import okio.Buffer;
+import okio.InflaterSource;
+import org.jetbrains.annotations.Nullable;
 
 import static com.ealva.ealvalog.LogLevel.DEBUG;
 import static ealvatag.logging.ErrorMessage.ID3_UNABLE_TO_DECOMPRESS_FRAME;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 import java.util.zip.Inflater;
 
 /**
  * compresses frame data
  * <p>
  * Is currently required for V23Frames and V24Frames
+ * <p>
+ * An {@link Inflater} and {@link Deflater} are kept per thread and reset after each frame, rather than made for each frame and left
+ * holding native memory until they're finalized.
  */
-//TODO also need to support compress framedata
 @SuppressWarnings("Duplicates") class ID3Compression {
   private static JLogger LOG = JLoggers.get(ID3Compression.class, EalvaTagLog.MARKER);
 
+  private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+    @Override protected Inflater initialValue() {
+      return new Inflater();
+    }
+  };
+
+  private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+    @Override protected Deflater initialValue() {
+      return new Deflater();
+    }
+  };
+
   /**
    * Decompress realFrameSize bytes to decompressedFrameSize bytes and return as ByteBuffer
    */
@@ -41,11 +61,11 @@ import java.util.zip.Inflater;
     byteBuffer.get(input, 0, realFrameSize);
     byteBuffer.position(position);
 
-    Inflater decompresser = new Inflater();
+    Inflater decompresser = INFLATER.get();
     decompresser.setInput(input);
     try {
       int inflatedTo = decompresser.inflate(result);
-      LOG.log(DEBUG, "%s:Decompressed to %s bytes", inflatedTo);
+      LOG.log(DEBUG, "%s:Decompressed to %s bytes", filename, inflatedTo);
     } catch (DataFormatException dfe) {
       LOG.log(DEBUG, "Unable to decompress this frame:%s", identifier, dfe);
 
@@ -53,40 +73,70 @@ import java.util.zip.Inflater;
       byteBuffer.position(byteBuffer.position() + realFrameSize);
       throw new InvalidFrameException(String.format(Locale.getDefault(), ID3_UNABLE_TO_DECOMPRESS_FRAME, identifier, filename),
                                       dfe);
+    } finally {
+      decompresser.reset();
     }
-    decompresser.end();
     return ByteBuffer.wrap(result);
   }
 
-//  protected static Buffer uncompress(String identifier,
-//                                     String filename,
-//                                     Buffer byteBuffer,
-//                                     int decompressedFrameSize,
-//                                     int realFrameSize) throws InvalidFrameException {
-//    LOG.log(LogLevel.DEBUG, "%s:About to decompress %s bytes, expect result to be:%s bytes", filename, realFrameSize,
-// decompressedFrameSize);
-//    // Decompress the bytes into this buffer, size initialized from header field
-//    byte[] result = new byte[decompressedFrameSize];
-//    byte[] input = new byte[realFrameSize];
-//
-//    byteBuffer.read(input, 0, realFrameSize);
-//
-//    Inflater decompresser = new Inflater();
-//    decompresser.setInput(input);
-//    try {
-//      int inflatedTo = decompresser.inflate(result);
-//      LOG.log(LogLevel.DEBUG, filename + ":Decompressed to " + inflatedTo + " bytes");
-//    } catch (DataFormatException dfe) {
-//      LOG.log(LogLevel.DEBUG, "Unable to decompress this frame:" + identifier, dfe);
-//
-//      //Update position of main buffer, so no attempt is made to reread these bytes
-////            byteBuffer.position(byteBuffer.position() + realFrameSize);
-//      throw new InvalidFrameException(exceptionMsg(ID3_UNABLE_TO_DECOMPRESS_FRAME, identifier, filename),
-//                                      dfe);
-//    }
-//    decompresser.end();
-//    final Buffer decompressedBuffer = new Buffer();
-//    decompressedBuffer.write(result);
-//    return decompressedBuffer;
-//  }
+  /**
+   * Decompress {@code realFrameSize} bytes from the head of {@code buffer}, which are always consumed. The bytes are inflated straight
+   * into the segments of the returned buffer, without an intermediate array.
+   */
+  static Buffer uncompress(String identifier,
+                           String filename,
+                           Buffer buffer,
+                           int decompressedFrameSize,
+                           int realFrameSize) throws InvalidFrameException {
+    LOG.log(DEBUG, "%s:About to decompress %s bytes, expect result to be:%s bytes", filename, realFrameSize, decompressedFrameSize);
+    final Buffer compressed = new Buffer();
+    final Buffer result = new Buffer();
+    final Inflater inflater = INFLATER.get();
+    try {
+      buffer.readFully(compressed, realFrameSize);
+      // not closed, closing the source would end the inflater
+      final InflaterSource inflaterSource = new InflaterSource(compressed, inflater);
+      while (result.size() < decompressedFrameSize) {
+        if (inflaterSource.read(result, decompressedFrameSize - result.size()) == -1) {
+          throw new IOException("Decompressed to " + result.size() + " bytes");
+        }
+      }
+    } catch (IOException e) {
+      LOG.log(DEBUG, "Unable to decompress this frame:%s", identifier, e);
+      throw new InvalidFrameException(String.format(Locale.getDefault(), ID3_UNABLE_TO_DECOMPRESS_FRAME, identifier, filename), e);
+    } finally {
+      inflater.reset();
+    }
+    return result;
+  }
+
+  /**
+   * Compress the body of a frame
+   *
+   * @param data      the frame body
+   * @param maxLength the largest result worth having
+   *
+   * @return the compressed data, or null if it would be longer than {@code maxLength}
+   */
+  static @Nullable byte[] compress(byte[] data, int maxLength) {
+    if (maxLength <= 0) {
+      return null;
+    }
+    final Deflater deflater = DEFLATER.get();
+    try {
+      deflater.setInput(data);
+      deflater.finish();
+      final byte[] output = new byte[maxLength];
+      int length = 0;
+      while (!deflater.finished() && length < maxLength) {
+        length += deflater.deflate(output, length, maxLength - length);
+      }
+      if (!deflater.finished()) {
+        return null;
+      }
+      return Arrays.copyOf(output, length);
+    } finally {
+      deflater.reset();
+    }
+  }
 }
@@ -7,8 +7,6 @@ import ealvatag.logging.EalvaTagLog;
 
 import static com.ealva.ealvalog.LogLevel.TRACE;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 
 /**
@@ -55,40 +53,48 @@ class ID3Unsynchronization {
    * @return a unsynchronized representation of the source
    */
   static byte[] unsynchronize(byte[] abySource) {
-    ByteArrayInputStream input = new ByteArrayInputStream(abySource);
-    ByteArrayOutputStream output = new ByteArrayOutputStream(abySource.length);
+    final int length = abySource.length;
+    // if we needed to unsynchronize anything, and this tag ends with 0xff, we have to append a zero byte,
+    // which will be removed on de-unsynchronization later
+    final boolean endsWithFF = length > 0 && abySource[length - 1] == (byte)MPEGFrameHeader.SYNC_BYTE1;
+    final byte[] output = new byte[length + countUnsynchronizationBytes(abySource) + (endsWithFF ? 1 : 0)];
+
+    // copy the runs between the points a zero is inserted in bulk, the output is already zeroed
+    int runStart = 0;
+    int to = 0;
+    for (int i = 0; i < length - 1; i++) {
+      if (isUnsynchronizationPoint(abySource, i)) {
+        LOG.log(TRACE, "Writing unsynchronisation bit at:%s", i + 1);
+        final int run = i + 1 - runStart;
+        System.arraycopy(abySource, runStart, output, to, run);
+        to += run + 1;
+        runStart = i + 1;
+      }
+    }
+    System.arraycopy(abySource, runStart, output, to, length - runStart);
+    return output;
+  }
 
+  private static int countUnsynchronizationBytes(byte[] abySource) {
     int count = 0;
-    while (input.available() > 0) {
-      int firstByte = input.read();
-      count++;
-      output.write(firstByte);
-      if ((firstByte & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-        // if byte is $FF, we must check the following byte if there is one
-        if (input.available() > 0) {
-          input.mark(1);  // remember where we were, if we don't need to unsynchronize
-          int secondByte = input.read();
-          if ((secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Writing unsynchronisation bit at:%s", count);
-            output.write(0);
-
-          } else if (secondByte == 0) {
-            // we need to unsynchronize here
-            LOG.log(TRACE, "Inserting zero unsynchronisation bit at:%s", count);
-            output.write(0);
-          }
-          input.reset();
-        }
+    for (int i = 0; i < abySource.length - 1; i++) {
+      if (isUnsynchronizationPoint(abySource, i)) {
+        count++;
       }
     }
-    // if we needed to unsynchronize anything, and this tag ends with 0xff, we have to append a zero byte,
-    // which will be removed on de-unsynchronization later
-    if ((abySource[abySource.length - 1] & MPEGFrameHeader.SYNC_BYTE1) == MPEGFrameHeader.SYNC_BYTE1) {
-      LOG.log(TRACE, "Adding unsynchronisation bit at end of stream");
-      output.write(0);
+    return count;
+  }
+
+  /**
+   * @return true if the byte at {@code i} is $FF and the following byte must be preceded by a $00, being either a possible false sync
+   * or an existing $00
+   */
+  private static boolean isUnsynchronizationPoint(byte[] abySource, int i) {
+    if (abySource[i] != (byte)MPEGFrameHeader.SYNC_BYTE1) {
+      return false;
     }
-    return output.toByteArray();
+    final int secondByte = abySource[i + 1] & 0xFF;
+    return (secondByte & MPEGFrameHeader.SYNC_BYTE2) == MPEGFrameHeader.SYNC_BYTE2 || secondByte == 0;
   }
 
 
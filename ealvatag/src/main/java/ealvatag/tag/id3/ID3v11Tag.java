@@ -54,7 +54,6 @@ import static ealvatag.utils.Check.checkArgNotNull;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -216,15 +215,8 @@ public class ID3v11Tag extends ID3v1Tag {
   }
 
   public ID3v11Tag(FileOperator fileOperator, String loggingFilename) throws TagNotFoundException, IOException {
-    FileChannel fc = fileOperator.getFileChannel();
     setLoggingFilename(loggingFilename);
-    ByteBuffer byteBuffer = ByteBuffer.allocate(TAG_LENGTH);
-
-    fc.position(fc.size() - TAG_LENGTH);
-
-    fc.read(byteBuffer);
-    byteBuffer.flip();
-    read(byteBuffer);
+    read(readTagAtEnd(fileOperator));
 
   }
 
@@ -233,6 +225,7 @@ public class ID3v11Tag extends ID3v1Tag {
    */
   public void setComment(String comment) {
     checkArgNotNull(comment);
+    setDirty();
     this.comment = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
   }
 
@@ -251,6 +244,7 @@ public class ID3v11Tag extends ID3v1Tag {
    */
 
   public void setTrack(String trackValue) {
+    setDirty();
     int trackAsInt;
     //Try and convert String representation of track into an integer
     try {
@@ -55,7 +55,6 @@ import static ealvatag.utils.Check.checkVarArg0NotNull;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
-import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collections;
@@ -157,15 +156,8 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
   }
 
   public ID3v1Tag(FileOperator fileOperator, String loggingFilename) throws TagNotFoundException, IOException {
-    FileChannel fileChannel = fileOperator.getFileChannel();
     setLoggingFilename(loggingFilename);
-    ByteBuffer byteBuffer;
-
-    fileChannel.position(fileChannel.size() - TAG_LENGTH);
-    byteBuffer = ByteBuffer.allocate(TAG_LENGTH);
-    fileChannel.read(byteBuffer);
-    byteBuffer.flip();
-    read(byteBuffer);
+    read(readTagAtEnd(fileOperator));
   }
 
   public void read(ByteBuffer byteBuffer) throws TagNotFoundException {
@@ -345,6 +337,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    */
   public void setAlbum(String album) {
     checkArgNotNull(album);
+    setDirty();
     this.album = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
   }
 
@@ -365,6 +358,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    */
   public void setArtist(String artist) {
     checkArgNotNull(artist);
+    setDirty();
     this.artist = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
   }
 
@@ -386,6 +380,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    */
   public void setComment(String comment) {
     checkArgNotNull(comment);
+    setDirty();
     this.comment = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
   }
 
@@ -412,6 +407,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    */
   public void setGenre(String genreVal) {
     checkArgNotNull(genreVal);
+    setDirty();
     Integer genreID = GenreTypes.getInstanceOf().getIdForValue(genreVal);
     if (genreID != null) {
       this.genre = genreID.byteValue();
@@ -439,6 +435,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    */
   public void setTitle(String title) {
     checkArgNotNull(title);
+    setDirty();
     this.title = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
   }
 
@@ -459,6 +456,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements TagFieldContainer {
    * Set year
    */
   public void setYear(String year) {
+    setDirty();
     this.year = ID3Tags.truncate(year, FIELD_YEAR_LENGTH);
   }
 
@@ -253,8 +253,22 @@ import java.util.NoSuchElementException;
   }
 
   public ID3v22Frame(Buffer buffer, String loggingFilename, final boolean ignoreArtwork) throws InvalidTagException, EOFException {
+    this(buffer, loggingFilename, FrameReadOptions.of(ignoreArtwork));
+  }
+
+  ID3v22Frame(Buffer buffer, String loggingFilename, final FrameReadOptions options) throws InvalidTagException, EOFException {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    read(buffer, options);
+  }
+
+  /**
+   * Creates a frame whose body was left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v22Frame(Id3v2TagBody.LazyFrame frame, String loggingFilename) {
+    setLoggingFilename(loggingFilename);
+    identifier = frame.identifier;
+    frameSize = frame.frameSize;
+    setLazyBody(bodyId(identifier), frame.body);
   }
 
   /**
@@ -274,7 +288,7 @@ import java.util.NoSuchElementException;
    * @return int size of frame
    */
   public int getSize() {
-    return frameBody.getSize() + getFrameHeaderSize();
+    return getBodySize() + getFrameHeaderSize();
   }
 
   @Override
@@ -342,6 +356,10 @@ import java.util.NoSuchElementException;
   }
 
   public void read(Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, EOFException {
+    read(buffer, FrameReadOptions.of(ignoreArtwork));
+  }
+
+  private void read(Buffer buffer, final FrameReadOptions options) throws InvalidTagException, EOFException {
     final String fileName = loggingFilename;
     try {
       String identifier = readIdentifier(buffer);
@@ -365,33 +383,20 @@ import java.util.NoSuchElementException;
 
       LOG.log(DEBUG, "Frame Size Is:%s", frameSize);
 
-      //Convert v2.2 to v2.4 id just for reading the data
-      String id = ID3Tags.convertFrameID22To24(identifier);
-      if (id == null) {
-        //OK,it may be convertable to a v.3 id even though not valid v.4
-        id = ID3Tags.convertFrameID22To23(identifier);
-        if (id == null) {
-          // Is it a valid v22 identifier so should be able to find a
-          // frame body for it.
-          if (ID3Tags.isID3v22FrameIdentifier(identifier)) {
-            id = identifier;
-          }
-          // Unknown so will be created as FrameBodyUnsupported
-          else {
-            id = UNSUPPORTED_ID;
-          }
-        }
-      }
+      String id = bodyId(identifier);
       LOG.log(DEBUG, "Identifier was:%s reading using:%s", identifier, id);
 
-      if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(id)) {
+      if ((options.ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(id)) ||
+          AbstractID3v2Frame.isSkippedFrameId(identifier, false, options.frameIds)) {
         buffer.skip(frameSize);
         frameBody = null;
+      } else if (options.lazyBodies) {
+        setLazyBody(id, buffer, frameSize);
       } else {
         Buffer frameBodyBuffer = new Buffer();
         buffer.readFully(frameBodyBuffer, frameSize); // maybe do this in other frame versions? Not very expensive
 
-        frameBody = readBody(id, frameBodyBuffer, frameSize);
+        frameBody = readBodyKeepingOriginal(id, frameBodyBuffer, frameSize);
       }
     } catch (RuntimeException e) {
       LOG.log(DEBUG, "Unexpected :%s - %s", Strings.nullToEmpty(identifier), fileName, e);
@@ -401,6 +406,30 @@ import java.util.NoSuchElementException;
     }
   }
 
+  /**
+   * @return the id to read the body of the frame with {@code identifier}
+   */
+  private static String bodyId(final String identifier) {
+    //Convert v2.2 to v2.4 id just for reading the data
+    String id = ID3Tags.convertFrameID22To24(identifier);
+    if (id == null) {
+      //OK,it may be convertable to a v.3 id even though not valid v.4
+      id = ID3Tags.convertFrameID22To23(identifier);
+      if (id == null) {
+        // Is it a valid v22 identifier so should be able to find a
+        // frame body for it.
+        if (ID3Tags.isID3v22FrameIdentifier(identifier)) {
+          id = identifier;
+        }
+        // Unknown so will be created as FrameBodyUnsupported
+        else {
+          id = UNSUPPORTED_ID;
+        }
+      }
+    }
+    return id;
+  }
+
   /**
    * Read Frame Size, which has to be decoded
    */
@@ -447,12 +476,12 @@ import java.util.NoSuchElementException;
 
     //Write Frame Body Data
     ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    writeBody(bodyOutputStream);
 
     //Write Frame Header
     //Write Frame ID must adjust can only be 3 bytes long
     headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, getFrameIdSize());
-    encodeSize(headerBuffer, frameBody.getSize());
+    encodeSize(headerBuffer, bodyOutputStream.size());
 
     //Add header to the Byte Array Output Stream
     try {
@@ -501,7 +530,7 @@ import java.util.NoSuchElementException;
   public void createStructure() {
     MP3File.getStructureFormatter().openHeadingElement(TYPE_FRAME, getIdentifier());
     MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
-    frameBody.createStructure();
+    peekBody().createStructure();
     MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
   }
 
@@ -19,6 +19,7 @@ import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableSet;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -61,7 +62,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -151,9 +151,22 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     this.read(buffer);
   }
 
-  public ID3v22Tag(Buffer buffer, Id3v2Header header, String loggingFilename, final boolean ignoreArtwork) throws TagException {
+  public ID3v22Tag(final Buffer buffer,
+                   final Id3v2Header header,
+                   final String loggingFilename,
+                   final boolean ignoreArtwork) throws TagException {
+    this(Id3v2TagBody.of(buffer), header, loggingFilename, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  /**
+   * @param body the frames of the tag, with any artwork left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v22Tag(final Id3v2TagBody body,
+            final Id3v2Header header,
+            final String loggingFilename,
+            final ReadOptions options) throws TagException {
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(body, header, options);
   }
 
   /**
@@ -225,11 +238,11 @@ public class ID3v22Tag extends AbstractID3v2Tag {
 
   public List<String> getAll(FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       List<String> convertedGenres = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
 
         for (String next : body.getValues()) {
           convertedGenres.add(FrameBodyTCON.convertID3v22GenreToGeneric(next));
@@ -244,10 +257,10 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
         return Optional.of(FrameBodyTCON.convertID3v22GenreToGeneric(body.getValues().get(index)));
       }
       return Optional.absent();
@@ -257,7 +270,7 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   }
 
   @Override public int getFieldCount(final Key genericKey) throws IllegalArgumentException, UnsupportedFieldException {
-    return getFields(genericKey.name()).size();
+    return fieldsOf(genericKey.name()).size();
   }
 
   public TagField createField(FieldKey genericKey, String... values) throws IllegalArgumentException,
@@ -286,24 +299,24 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     // Write Body Buffer
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+    TagBodyOutputStream body = writeFramesToBuffer();
 
     // Unsynchronize if option enabled and unsync required
-    unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
-        ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+    TagBodyOutputStream unsynchronized = unsynchronizedBody(body);
+    unsynchronization = unsynchronized != null;
     if (isUnsynchronization()) {
-      bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%d", loggingFilename, bodyByteBuffer.length);
+      body = unsynchronized;
+      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%d", loggingFilename, body.size());
     }
 
-    int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int)audioStartLocation);
-    int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+    int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, (int)audioStartLocation);
+    int padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
     LOG.log(DEBUG, "%s:Current audiostart:%d", loggingFilename, audioStartLocation);
     LOG.log(DEBUG, "%s:Size including padding:%d", loggingFilename, sizeIncPadding);
     LOG.log(DEBUG, "%s:Padding:%d", loggingFilename, padding);
 
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size());
+    writeBufferToFile(file, headerBuffer, body, padding, sizeIncPadding, audioStartLocation);
     return sizeIncPadding;
   }
 
@@ -314,27 +327,25 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
     LOG.log(DEBUG, "%s Writing tag to channel", loggingFilename);
 
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%d", loggingFilename, bodyByteBuffer.length);
+    TagBodyOutputStream body = writeFramesToBuffer();
+    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%d", loggingFilename, body.size());
 
     //Unsynchronize if option enabled and unsync required
-    unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
-        ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+    TagBodyOutputStream unsynchronized = unsynchronizedBody(body);
+    unsynchronization = unsynchronized != null;
     if (isUnsynchronization()) {
-      bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%d", loggingFilename, bodyByteBuffer.length);
+      body = unsynchronized;
+      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%d", loggingFilename, body.size());
     }
 
     int padding = 0;
     if (currentTagSize > 0) {
-      int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, currentTagSize);
-      padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+      int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, currentTagSize);
+      padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
     }
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size());
 
-    channel.write(headerBuffer);
-    channel.write(ByteBuffer.wrap(bodyByteBuffer));
-    writePadding(channel, padding);
+    writeTag(channel, headerBuffer, body, padding);
   }
 
   public boolean equals(Object obj) {
@@ -349,8 +360,10 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   }
 
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyTCON) {
-      ((FrameBodyTCON)next.getBody()).setV23Format();
+    //Genre is decoded now even if the frame was read lazily, so it's converted as soon as it's read
+    final AbstractTagFrameBody body = ID3v22Frames.FRAME_ID_V2_GENRE.equals(frameId) ? next.peekBody() : next.getBodyIfLoaded();
+    if (body instanceof FrameBodyTCON) {
+      ((FrameBodyTCON)body).setV23Format();
     }
     super.loadFrameIntoMap(frameId, next);
   }
@@ -494,40 +507,59 @@ public class ID3v22Tag extends AbstractID3v2Tag {
   }
 
   public void read(Buffer buffer, final Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+    read(Id3v2TagBody.of(buffer), header, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  private void read(final Id3v2TagBody body,
+                    final Id3v2Header header,
+                    final ReadOptions options) throws TagException {
     try {
       readHeaderFlags(header.getFlags());
 
       int size = header.getTagSize();
 
-      Buffer bufferWithoutHeader = buffer;
+      Id3v2TagBody bodyWithoutHeader = body;
       //We need to synchronize the buffer
       if (unsynchronization) {
-        bufferWithoutHeader = Id3SynchronizingSink.synchronizeBuffer(buffer);
+        bodyWithoutHeader = Id3v2TagBody.of(Id3SynchronizingSink.synchronizeBuffer(body.firstRun()));
       }
 
-      readFrames(bufferWithoutHeader, size, ignoreArtwork);
+      readFrames(bodyWithoutHeader, size, frameReadOptions(options));
       LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
     } catch (IOException e) {
       throw new TagNotFoundException(getIdentifier() + " error reading tag", e);
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Id3v2TagBody body, int size, final FrameReadOptions frameOptions) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
     LOG.log(TRACE, "Frame data is size:%s", size);
+    for (int i = 0; i < body.runs.size(); i++) {
+      readFrames(body.runs.get(i), frameOptions);
+      if (i < body.lazyFrames.size()) {
+        addFrame(new ID3v22Frame(body.lazyFrames.get(i), loggingFilename), frameOptions);
+      }
+    }
+  }
+
+  private void addFrame(ID3v22Frame frame, final FrameReadOptions frameOptions) {
+    if (frameOptions.isSkipped(frame.getIdentifier())) {
+      setReadOnly();
+    } else {
+      loadFrameIntoMap(frame.getIdentifier(), frame);
+    }
+  }
+
+  private void readFrames(Buffer buffer, final FrameReadOptions frameOptions) {
 
     // Read the frames until got to up to the size as specified in header or until
     // we hit an invalid frame identifier or padding
     while (buffer.size() > 0) {
       final String logName = loggingFilename;
       try {
-        ID3v22Frame next = new ID3v22Frame(buffer, logName, ignoreArtwork);
-        if (next.isArtworkFrame() && ignoreArtwork) {
-          setReadOnly();
-        } else {
-          loadFrameIntoMap(next.getIdentifier(), next);
-        }
+        ID3v22Frame next = new ID3v22Frame(buffer, logName, frameOptions);
+        addFrame(next, frameOptions);
       } catch (PaddingException ex) {
         //Found Padding, no more frames
         LOG.log(DEBUG, "Found padding with %s remaining. %s", buffer.size(), logName);
@@ -565,10 +597,10 @@ public class ID3v22Tag extends AbstractID3v2Tag {
 
   private void ensureFrameMapsAndClear() {
     if (frameMap == null) {
-      frameMap = new LinkedHashMap<>();
+      frameMap = new FrameStore();
     }
     if (encryptedFrameMap == null) {
-      encryptedFrameMap = new LinkedHashMap<>();
+      encryptedFrameMap = new FrameStore();
     }
 
     frameMap.clear();
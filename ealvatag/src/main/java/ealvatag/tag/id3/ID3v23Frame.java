@@ -267,8 +267,24 @@ import java.util.NoSuchElementException;
 
   public ID3v23Frame(final Buffer buffer, final String loggingFilename, final boolean ignoreArtwork)
       throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, FrameReadOptions.of(ignoreArtwork));
+  }
+
+  ID3v23Frame(final Buffer buffer, final String loggingFilename, final FrameReadOptions options) throws InvalidTagException, IOException {
+    setLoggingFilename(loggingFilename);
+    read(buffer, options);
+  }
+
+  /**
+   * Creates a frame whose body was left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v23Frame(Id3v2TagBody.LazyFrame frame, String loggingFilename) {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    identifier = frame.identifier;
+    frameSize = frame.frameSize;
+    statusFlags = new StatusFlags(frame.statusFlags);
+    encodingFlags = new EncodingFlags(frame.encodingFlags);
+    setLazyBody(ID3Tags.convertFrameID23To24(identifier), frame.body);
   }
 
   /**
@@ -288,7 +304,7 @@ import java.util.NoSuchElementException;
    * @return int frame size
    */
   public int getSize() {
-    return frameBody.getSize() + ID3v23Frame.FRAME_HEADER_SIZE;
+    return getBodySize() + ID3v23Frame.FRAME_HEADER_SIZE;
   }
 
   /**
@@ -411,7 +427,7 @@ import java.util.NoSuchElementException;
     }
 
     if (((EncodingFlags)encodingFlags).isCompression()) {
-      if (decompressedFrameSize > (100 * frameSize)) {
+      if (decompressedFrameSize > (MAX_COMPRESSION_RATIO * frameSize)) {
         throw new InvalidFrameException(identifier +
                                             " is invalid frame, frame size " +
                                             frameSize +
@@ -462,7 +478,7 @@ import java.util.NoSuchElementException;
     }
   }
 
-  private void read(final Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+  private void read(final Buffer buffer, final FrameReadOptions options) throws InvalidTagException, IOException {
     final String fileName = loggingFilename;
     try {
       String identifier = readIdentifier(buffer);
@@ -546,7 +562,7 @@ import java.util.NoSuchElementException;
       }
 
       if (((EncodingFlags)encodingFlags).isCompression()) {
-        if (decompressedFrameSize > (100 * frameSize)) {
+        if (decompressedFrameSize > (MAX_COMPRESSION_RATIO * frameSize)) {
           throw new InvalidFrameException(identifier +
                                               " is invalid frame, frame size " +
                                               frameSize +
@@ -563,13 +579,19 @@ import java.util.NoSuchElementException;
         throw new InvalidFrameException(identifier + " is invalid frame, realframeSize is:" + realFrameSize);
       }
 
-      if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(frameId)) {
+      if ((options.ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(frameId)) ||
+          AbstractID3v2Frame.isSkippedFrameId(identifier, false, options.frameIds)) {
         buffer.skip(realFrameSize);
         frameBody = null;
+      } else if (options.lazyBodies &&
+          !((EncodingFlags)encodingFlags).isCompression() &&
+          !((EncodingFlags)encodingFlags).isEncryption()) {
+        setLazyBody(frameId, buffer, realFrameSize);
       } else {
         //Read the body data
         if (((EncodingFlags)encodingFlags).isCompression()) {
-          final Buffer decompressBuffer = AbstractID3v2Frame.decompressPartOfBuffer(buffer, realFrameSize, decompressedFrameSize);
+          final Buffer decompressBuffer =
+              ID3Compression.uncompress(identifier, fileName, buffer, decompressedFrameSize, realFrameSize);
           if (((EncodingFlags)encodingFlags).isEncryption()) {
             frameBody = readEncryptedBody(frameId, decompressBuffer, decompressedFrameSize);
           } else {
@@ -578,7 +600,7 @@ import java.util.NoSuchElementException;
         } else if (((EncodingFlags)encodingFlags).isEncryption()) {
           frameBody = readEncryptedBody(identifier, buffer, frameSize);
         } else {
-          frameBody = readBody(frameId, buffer, realFrameSize);
+          frameBody = readBodyKeepingOriginal(frameId, buffer, realFrameSize);
         }
         //TODO code seems to assume that if the frame created is not a v23FrameBody
         //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
@@ -596,6 +618,10 @@ import java.util.NoSuchElementException;
     }
   }
 
+  @Override AbstractID3v2FrameBody toVersionBody(final AbstractID3v2FrameBody frameBody) {
+    return frameBody instanceof ID3v23FrameBody ? frameBody : new FrameBodyDeprecated(frameBody);
+  }
+
   /**
    * Write the frame to bufferOutputStream
    */
@@ -607,16 +633,23 @@ import java.util.NoSuchElementException;
 
     //Write Frame Body Data
     ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    writeBody(bodyOutputStream);
+    byte[] body = bodyOutputStream.toByteArray();
+
+    //Compress if enabled, compressed data follows the decompressed size. Not done with encryption or grouping, which come between
+    final byte[] compressedBody = ((EncodingFlags)encodingFlags).isEncryption() || ((EncodingFlags)encodingFlags).isGrouping()
+                                  ? null
+                                  : compressBodyForWrite(body, FRAME_COMPRESSION_UNCOMPRESSED_SIZE);
+
     //Write Frame Header write Frame ID
     if (getIdentifier().length() == 3) {
       identifier = identifier + ' ';
     }
     headerBuffer.put(getIdentifier().getBytes(StandardCharsets.ISO_8859_1), 0, FRAME_ID_SIZE);
     //Write Frame Size
-    int size = frameBody.getSize();
+    int size = compressedBody != null ? FRAME_COMPRESSION_UNCOMPRESSED_SIZE + compressedBody.length : body.length;
     LOG.log(INFO, "Frame Size Is:" + size);
-    headerBuffer.putInt(frameBody.getSize());
+    headerBuffer.putInt(size);
 
     //Write the Flags
     //Status Flags:leave as they were when we read
@@ -625,14 +658,23 @@ import java.util.NoSuchElementException;
     //Remove any non standard flags
     ((EncodingFlags)encodingFlags).unsetNonStandardFlags();
 
-    //Unset Compression flag if previously set because we uncompress previously compressed frames on write.
-    ((EncodingFlags)encodingFlags).unsetCompression();
+    //Previously compressed frames are decompressed on read, so only compressed if they are again
+    if (compressedBody != null) {
+      ((EncodingFlags)encodingFlags).setCompression();
+    } else {
+      ((EncodingFlags)encodingFlags).unsetCompression();
+    }
     headerBuffer.put(encodingFlags.getFlags());
 
     try {
       //Add header to the Byte Array Output Stream
       tagBuffer.write(headerBuffer.array());
 
+      if (compressedBody != null) {
+        tagBuffer.write(ByteBuffer.allocate(FRAME_COMPRESSION_UNCOMPRESSED_SIZE).putInt(body.length).array());
+        body = compressedBody;
+      }
+
       if (((EncodingFlags)encodingFlags).isEncryption()) {
         tagBuffer.write(encryptionMethod);
       }
@@ -642,7 +684,7 @@ import java.util.NoSuchElementException;
       }
 
       //Add body to the Byte Array Output Stream
-      tagBuffer.write(bodyOutputStream.toByteArray());
+      tagBuffer.write(body);
     } catch (IOException ioe) {
       //This could never happen coz not writing to file, so convert to RuntimeException
       throw new RuntimeException(ioe);
@@ -885,7 +927,7 @@ import java.util.NoSuchElementException;
     MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
     statusFlags.createStructure();
     encodingFlags.createStructure();
-    frameBody.createStructure();
+    peekBody().createStructure();
     MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
   }
 
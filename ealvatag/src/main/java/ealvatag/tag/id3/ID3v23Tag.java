@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.ReadOptions;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -70,10 +71,10 @@ import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Represents an ID3v2.3 tag.
@@ -197,9 +198,22 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     this.read(buffer);
   }
 
-  public ID3v23Tag(Buffer buffer, Id3v2Header header, String loggingFilename, final boolean ignoreArtwork) throws TagException {
+  public ID3v23Tag(final Buffer buffer,
+                   final Id3v2Header header,
+                   final String loggingFilename,
+                   final boolean ignoreArtwork) throws TagException {
+    this(Id3v2TagBody.of(buffer), header, loggingFilename, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  /**
+   * @param body the frames of the tag, with any artwork left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v23Tag(final Id3v2TagBody body,
+            final Id3v2Header header,
+            final String loggingFilename,
+            final ReadOptions options) throws TagException {
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(body, header, options);
   }
 
   public int getCrc32() {
@@ -291,7 +305,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   }
 
   @Override public int getFieldCount(final Key genericKey) throws IllegalArgumentException, UnsupportedFieldException {
-    return getFields(genericKey.name()).size();
+    return fieldsOf(genericKey.name()).size();
   }
 
   /**
@@ -300,18 +314,16 @@ public class ID3v23Tag extends AbstractID3v2Tag {
    * Overridden because YEAR key can be served by TDAT, TYER or special aggreagted frame
    */
   @Override
-  public ImmutableList<TagField> getFields(FieldKey genericKey)
-      throws IllegalArgumentException, UnsupportedFieldException {
-    checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+  protected ImmutableList<TagField> fieldsOf(FieldKey genericKey) throws UnsupportedFieldException {
     if (genericKey == FieldKey.YEAR) {
-      AggregatedFrame af = (AggregatedFrame)getFrame(TyerTdatAggregatedFrame.ID_TYER_TDAT);
+      AggregatedFrame af = (AggregatedFrame)frameMap.get(TyerTdatAggregatedFrame.ID_TYER_TDAT);
       if (af != null) {
         return ImmutableList.<TagField>of(af);
       } else {
-        return super.getFields(genericKey);
+        return super.fieldsOf(genericKey);
       }
     } else {
-      return super.getFields(genericKey);
+      return super.fieldsOf(genericKey);
     }
   }
 
@@ -323,11 +335,11 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   @Override
   public List<String> getAll(FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       List<String> convertedGenres = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
 
         for (String next : body.getValues()) {
           convertedGenres.add(FrameBodyTCON.convertID3v23GenreToGeneric(next));
@@ -335,7 +347,7 @@ public class ID3v23Tag extends AbstractID3v2Tag {
       }
       return convertedGenres;
     } else if (genericKey == FieldKey.YEAR) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       List<String> results = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         for (TagField next : fields) {
@@ -353,17 +365,17 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     if (genericKey == FieldKey.YEAR) {
-      AggregatedFrame af = (AggregatedFrame)getFrame(TyerTdatAggregatedFrame.ID_TYER_TDAT);
+      AggregatedFrame af = (AggregatedFrame)frameMap.get(TyerTdatAggregatedFrame.ID_TYER_TDAT);
       if (af != null) {
         return Optional.of(af.getContent());
       } else {
         return super.getValue(genericKey, index);
       }
     } else if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
         return Optional.of(FrameBodyTCON.convertID3v23GenreToGeneric(body.getValues().get(index)));
       }
       return Optional.absent();
@@ -465,25 +477,25 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     //Write Body Buffer
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%s", loggingFilename, bodyByteBuffer.length);
+    TagBodyOutputStream body = writeFramesToBuffer();
+    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%s", loggingFilename, body.size());
 
     // Unsynchronize if option enabled and unsync required
-    unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
-        ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+    TagBodyOutputStream unsynchronized = unsynchronizedBody(body);
+    unsynchronization = unsynchronized != null;
     if (isUnsynchronized()) {
-      bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%s", loggingFilename, bodyByteBuffer.length);
+      body = unsynchronized;
+      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%s", loggingFilename, body.size());
     }
 
-    int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int)audioStartLocation);
-    int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+    int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, (int)audioStartLocation);
+    int padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
     LOG.log(DEBUG, "%s:Current audiostart:%s", loggingFilename, audioStartLocation);
     LOG.log(DEBUG, "%s:Size including padding:%s", loggingFilename, sizeIncPadding);
     LOG.log(DEBUG, "%s:Padding:%s", loggingFilename, padding);
 
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size());
+    writeBufferToFile(file, headerBuffer, body, padding, sizeIncPadding, audioStartLocation);
     return sizeIncPadding;
   }
 
@@ -494,28 +506,26 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
     LOG.log(DEBUG, loggingFilename + ":Writing tag to channel");
 
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%s", loggingFilename, bodyByteBuffer.length);
+    TagBodyOutputStream body = writeFramesToBuffer();
+    LOG.log(DEBUG, "%s:bodybytebuffer:sizebeforeunsynchronisation:%s", loggingFilename, body.size());
 
     // Unsynchronize if option enabled and unsync required
-    unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
-        ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+    TagBodyOutputStream unsynchronized = unsynchronizedBody(body);
+    unsynchronization = unsynchronized != null;
     if (isUnsynchronized()) {
-      bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%s", loggingFilename, bodyByteBuffer.length);
+      body = unsynchronized;
+      LOG.log(DEBUG, "%s:bodybytebuffer:sizeafterunsynchronisation:%s", loggingFilename, body.size());
     }
 
     int padding = 0;
     if (currentTagSize > 0) {
-      int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, currentTagSize);
-      padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+      int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, currentTagSize);
+      padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
       LOG.log(DEBUG, "%s:Padding:%s", loggingFilename, padding);
     }
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size());
 
-    channel.write(headerBuffer);
-    channel.write(ByteBuffer.wrap(bodyByteBuffer));
-    writePadding(channel, padding);
+    writeTag(channel, headerBuffer, body, padding);
   }
 
   public boolean equals(Object obj) {
@@ -553,13 +563,15 @@ public class ID3v23Tag extends AbstractID3v2Tag {
   }
 
   protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next) {
-    if (next.getBody() instanceof FrameBodyTCON) {
-      ((FrameBodyTCON)next.getBody()).setV23Format();
+    //Genre is decoded now even if the frame was read lazily, so it's converted as soon as it's read
+    final AbstractTagFrameBody body = ID3v23Frames.FRAME_ID_V3_GENRE.equals(frameId) ? next.peekBody() : next.getBodyIfLoaded();
+    if (body instanceof FrameBodyTCON) {
+      ((FrameBodyTCON)body).setV23Format();
     }
     super.loadFrameIntoMap(frameId, next);
   }
 
-  protected void loadFrameIntoSpecifiedMap(HashMap<String, Object> map, String frameId, AbstractID3v2Frame frame) {
+  protected void loadFrameIntoSpecifiedMap(Map<String, Object> map, String frameId, AbstractID3v2Frame frame) {
     if (!(frameId.equals(ID3v23Frames.FRAME_ID_V3_TYER)) && !(frameId.equals(ID3v23Frames.FRAME_ID_V3_TDAT))) {
       super.loadFrameIntoSpecifiedMap(map, frameId, frame);
       return;
@@ -664,6 +676,18 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     return new FrameAndSubId(genericKey, id3v23FieldKey.getFrameId(), id3v23FieldKey.getSubId());
   }
 
+  /**
+   * Overridden because YEAR is read from the TYER, TDAT and TIME frames combined
+   */
+  @Override Set<String> getFrameIdsForFields(final Set<FieldKey> fields) {
+    final Set<String> frameIds = super.getFrameIdsForFields(fields);
+    if (frameIds != null && frameIds.contains(ID3v23Frames.FRAME_ID_V3_TYER)) {
+      frameIds.add(ID3v23Frames.FRAME_ID_V3_TDAT);
+      frameIds.add(ID3v23Frames.FRAME_ID_V3_TIME);
+    }
+    return frameIds;
+  }
+
   /**
    * @return textual tag identifier
    */
@@ -865,7 +889,9 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
   }
 
-  private void read(Buffer buffer, Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+  private void read(final Id3v2TagBody body,
+                    final Id3v2Header header,
+                    final ReadOptions options) throws TagException {
     try {
       readHeaderFlags(header.getFlags());
 
@@ -873,16 +899,16 @@ public class ID3v23Tag extends AbstractID3v2Tag {
       LOG.log(DEBUG, ErrorMessage.ID_TAG_SIZE, loggingFilename, size);
 
       if (extended) {
-        readExtendedHeader(buffer);
+        readExtendedHeader(body.firstRun());
       }
 
-      Buffer bufferWithoutHeader = buffer;
+      Id3v2TagBody bodyWithoutHeader = body;
       //We need to synchronize the buffer
       if (isUnsynchronized()) {
-        bufferWithoutHeader = Id3SynchronizingSink.synchronizeBuffer(buffer);
+        bodyWithoutHeader = Id3v2TagBody.of(Id3SynchronizingSink.synchronizeBuffer(body.firstRun()));
       }
 
-      readFrames(bufferWithoutHeader, size, ignoreArtwork);
+      readFrames(bodyWithoutHeader, size, frameReadOptions(options));
       LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
     } catch (IOException e) {
       throw new TagNotFoundException(getIdentifier() + " error reading tag", e);
@@ -949,21 +975,34 @@ public class ID3v23Tag extends AbstractID3v2Tag {
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Id3v2TagBody body, int size, final FrameReadOptions frameOptions) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
     LOG.log(TRACE, "Frame data is size:%s", size);
+    for (int i = 0; i < body.runs.size(); i++) {
+      readFrames(body.runs.get(i), frameOptions);
+      if (i < body.lazyFrames.size()) {
+        addFrame(new ID3v23Frame(body.lazyFrames.get(i), loggingFilename), frameOptions);
+      }
+    }
+  }
+
+  private void addFrame(ID3v23Frame frame, final FrameReadOptions frameOptions) {
+    if (frameOptions.isSkipped(frame.getIdentifier())) {
+      setReadOnly();
+    } else {
+      loadFrameIntoMap(frame.getIdentifier(), frame);
+    }
+  }
+
+  private void readFrames(Buffer buffer, final FrameReadOptions frameOptions) {
 
     // Read the frames until got to up to the size as specified in header or until
     // we hit an invalid frame identifier or padding
     while (buffer.size() > 0) {
       try {
-        ID3v23Frame next = new ID3v23Frame(buffer, loggingFilename, ignoreArtwork);
-        if (next.isArtworkFrame() && ignoreArtwork) {
-          setReadOnly();
-        } else {
-          loadFrameIntoMap(next.getIdentifier(), next);
-        }
+        ID3v23Frame next = new ID3v23Frame(buffer, loggingFilename, frameOptions);
+        addFrame(next, frameOptions);
       } catch (PaddingException ex) {
         //Found Padding, no more frames
         LOG.log(DEBUG, "Found padding with %s remaining. %s", buffer.size(), loggingFilename);
@@ -1001,10 +1040,10 @@ public class ID3v23Tag extends AbstractID3v2Tag {
 
   private void ensureFrameMapsAndClear() {
     if (frameMap == null) {
-      frameMap = new LinkedHashMap<>();
+      frameMap = new FrameStore();
     }
     if (encryptedFrameMap == null) {
-      encryptedFrameMap = new LinkedHashMap<>();
+      encryptedFrameMap = new FrameStore();
     }
 
     frameMap.clear();
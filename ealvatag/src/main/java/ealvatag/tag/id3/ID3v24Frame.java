@@ -288,11 +288,31 @@ import java.util.NoSuchElementException;
   }
 
   public ID3v24Frame(Buffer buffer, String loggingFilename, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+    this(buffer, loggingFilename, FrameReadOptions.of(ignoreArtwork));
+  }
+
+  ID3v24Frame(Buffer buffer, String loggingFilename, final FrameReadOptions options) throws InvalidTagException, IOException {
+    setLoggingFilename(loggingFilename);
+    read(buffer, options);
+  }
+
+  /**
+   * Creates a frame whose body was left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v24Frame(Id3v2TagBody.LazyFrame frame, String loggingFilename) {
     setLoggingFilename(loggingFilename);
-    read(buffer, ignoreArtwork);
+    identifier = frame.identifier;
+    frameSize = frame.frameSize;
+    statusFlags = new StatusFlags(frame.statusFlags);
+    encodingFlags = new EncodingFlags(frame.encodingFlags);
+    setLazyBody(identifier, frame.body);
   }
 
   public void read(Buffer buffer, final boolean ignoreArtwork) throws InvalidTagException, IOException {
+    read(buffer, FrameReadOptions.of(ignoreArtwork));
+  }
+
+  private void read(Buffer buffer, final FrameReadOptions options) throws InvalidTagException, IOException {
     long sizeBeforeRead = buffer.size();
     final String fileName = loggingFilename;
     try {
@@ -336,9 +356,14 @@ import java.util.NoSuchElementException;
       int realFrameSize = frameSize - extraHeaderBytesCount;
 
       try {
-        if (ignoreArtwork && AbstractID3v2Frame.isArtworkFrameId(identifier)) {
+        if (options.isSkipped(identifier)) {
           buffer.skip(realFrameSize);
           frameBody = null;
+        } else if (options.lazyBodies &&
+            !((EncodingFlags)encodingFlags).isUnsynchronised() &&
+            !((EncodingFlags)encodingFlags).isCompression() &&
+            !((EncodingFlags)encodingFlags).isEncryption()) {
+          setLazyBody(identifier, buffer, realFrameSize);
         } else {
           //Read the body data
           Buffer frameBodyBuffer = buffer;
@@ -357,7 +382,7 @@ import java.util.NoSuchElementException;
 
 
           if (((EncodingFlags)encodingFlags).isCompression()) {
-            frameBodyBuffer = decompressPartOfBuffer(frameBodyBuffer, syncSize, dataLengthSize);
+            frameBodyBuffer = ID3Compression.uncompress(identifier, fileName, frameBodyBuffer, dataLengthSize, syncSize);
             if (((EncodingFlags)encodingFlags).isEncryption()) {
               frameBody = readEncryptedBody(identifier, frameBodyBuffer, dataLengthSize);
             } else {
@@ -366,7 +391,7 @@ import java.util.NoSuchElementException;
           } else if (((EncodingFlags)encodingFlags).isEncryption()) {
             frameBody = readEncryptedBody(identifier, frameBodyBuffer, syncSize);
           } else {
-            frameBody = readBody(identifier, frameBodyBuffer, syncSize);
+            frameBody = readBodyKeepingOriginal(identifier, frameBodyBuffer, syncSize);
           }
           if (!(frameBody instanceof ID3v24FrameBody)) {
             LOG.log(DEBUG, "%s:Converted frame body with:%s to deprecated framebody", fileName, identifier);
@@ -388,6 +413,10 @@ import java.util.NoSuchElementException;
     }
   }
 
+  @Override AbstractID3v2FrameBody toVersionBody(final AbstractID3v2FrameBody frameBody) {
+    return frameBody instanceof ID3v24FrameBody ? frameBody : new FrameBodyDeprecated(frameBody);
+  }
+
   private void getFrameSize(Buffer buffer) throws InvalidFrameException, EOFException {
     //Read frame size as syncsafe integer
     frameSize = ID3SyncSafeInteger.peekBufferToValue(buffer);
@@ -538,10 +567,20 @@ import java.util.NoSuchElementException;
 
     //Write Frame Body Data to a new stream
     ByteArrayOutputStream bodyOutputStream = new ByteArrayOutputStream();
-    ((AbstractID3v2FrameBody)frameBody).write(bodyOutputStream);
+    writeBody(bodyOutputStream);
 
-    //Does it need unsynchronizing, and are we allowing unsychronizing
     byte[] bodyBuffer = bodyOutputStream.toByteArray();
+
+    //Compress if enabled, the data length indicator holds the decompressed size. Not done with encryption or grouping
+    final int decompressedSize = bodyBuffer.length;
+    final byte[] compressedBody = ((EncodingFlags)encodingFlags).isEncryption() || ((EncodingFlags)encodingFlags).isGrouping()
+                                  ? null
+                                  : compressBodyForWrite(bodyBuffer, FRAME_DATA_LENGTH_SIZE);
+    if (compressedBody != null) {
+      bodyBuffer = compressedBody;
+    }
+
+    //Does it need unsynchronizing, and are we allowing unsychronizing
     unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() &&
         ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
     if (unsynchronization) {
@@ -559,7 +598,7 @@ import java.util.NoSuchElementException;
 
     //Write Frame Size based on size of body buffer (if it has been unsynced then it size
     //will have increased accordingly
-    int size = bodyBuffer.length;
+    int size = compressedBody != null ? FRAME_DATA_LENGTH_SIZE + bodyBuffer.length : bodyBuffer.length;
     LOG.log(INFO, "Frame Size Is:" + size);
     headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
@@ -576,9 +615,14 @@ import java.util.NoSuchElementException;
     } else {
       ((ID3v24Frame.EncodingFlags)encodingFlags).unsetUnsynchronised();
     }
-    //These are not currently supported on write
-    ((ID3v24Frame.EncodingFlags)encodingFlags).unsetCompression();
-    ((ID3v24Frame.EncodingFlags)encodingFlags).unsetDataLengthIndicator();
+    //Previously compressed frames are decompressed on read, so only compressed if they are again
+    if (compressedBody != null) {
+      ((ID3v24Frame.EncodingFlags)encodingFlags).setCompression();
+      ((ID3v24Frame.EncodingFlags)encodingFlags).setDataLengthIndicator();
+    } else {
+      ((ID3v24Frame.EncodingFlags)encodingFlags).unsetCompression();
+      ((ID3v24Frame.EncodingFlags)encodingFlags).unsetDataLengthIndicator();
+    }
     headerBuffer.put(encodingFlags.getFlags());
 
     try {
@@ -593,6 +637,10 @@ import java.util.NoSuchElementException;
         tagBuffer.write(groupIdentifier);
       }
 
+      if (compressedBody != null) {
+        tagBuffer.write(ID3SyncSafeInteger.valueToBuffer(decompressedSize));
+      }
+
       //Add bodybuffer to the Byte Array Output Stream
       tagBuffer.write(bodyBuffer);
     } catch (IOException ioe) {
@@ -623,7 +671,7 @@ import java.util.NoSuchElementException;
     MP3File.getStructureFormatter().addElement(TYPE_FRAME_SIZE, frameSize);
     statusFlags.createStructure();
     encodingFlags.createStructure();
-    frameBody.createStructure();
+    peekBody().createStructure();
     MP3File.getStructureFormatter().closeHeadingElement(TYPE_FRAME);
   }
 
@@ -683,7 +731,7 @@ import java.util.NoSuchElementException;
    * @return int frame size
    */
   public int getSize() {
-    return frameBody.getSize() + ID3v24Frame.FRAME_HEADER_SIZE;
+    return getBodySize() + ID3v24Frame.FRAME_HEADER_SIZE;
   }
 
   public void read(ByteBuffer byteBuffer) throws InvalidFrameException, InvalidDataTypeException {
@@ -1167,10 +1215,10 @@ import java.util.NoSuchElementException;
       MP3File.getStructureFormatter().closeHeadingElement(TYPE_FLAGS);
     }
 
-//        public void setCompression() {
-//            flags |= MASK_COMPRESSION;
-//        }
-//
+    void setCompression() {
+      flags |= MASK_COMPRESSION;
+    }
+
 //        public void setEncryption() {
 //            flags |= MASK_ENCRYPTION;
 //        }
@@ -1183,9 +1231,9 @@ import java.util.NoSuchElementException;
       flags |= MASK_FRAME_UNSYNCHRONIZATION;
     }
 
-//        public void setDataLengthIndicator() {
-//            flags |= MASK_DATA_LENGTH_INDICATOR;
-//        }
+    void setDataLengthIndicator() {
+      flags |= MASK_DATA_LENGTH_INDICATOR;
+    }
 
     void unsetCompression() {
       flags &= (byte)~MASK_COMPRESSION;
@@ -135,11 +135,15 @@ public class ID3v24Frames extends ID3Frames {
     private volatile ImmutableMap<String, String> idToValue;
 
 
-    private static ID3v24Frames instance;
+    private static volatile ID3v24Frames instance;
 
     public static ID3v24Frames getInstanceOf() {
         if (instance == null) {
-            instance = new ID3v24Frames();
+            synchronized (ID3v24Frames.class) {
+                if (instance == null) {
+                    instance = new ID3v24Frames();
+                }
+            }
         }
         return instance;
     }
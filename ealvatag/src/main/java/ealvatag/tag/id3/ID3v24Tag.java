@@ -19,6 +19,9 @@ import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableSet;
 import com.ealva.ealvalog.java.JLogger;
 import com.ealva.ealvalog.java.JLoggers;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.TagWriteStatistics;
+import ealvatag.audio.io.FileOperator;
 import ealvatag.audio.mp3.MP3File;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
@@ -74,12 +77,14 @@ import static ealvatag.utils.Check.checkVarArg0NotNull;
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 
@@ -136,6 +141,16 @@ public class ID3v24Tag extends AbstractID3v2Tag {
    */
   private static final int MASK_V24_FOOTER_PRESENT = FileConstants.BIT4;
 
+  /**
+   * Identifies the footer ending a tag which has one, such as a tag appended to the end of a file
+   */
+  public static final byte[] FOOTER_ID = {'3', 'D', 'I'};
+
+  /**
+   * The footer is a copy of the header with a different identifier
+   */
+  public static final int TAG_FOOTER_LENGTH = TAG_HEADER_LENGTH;
+
   /**
    * ID3v2.4 Extended header bit mask
    */
@@ -614,9 +629,19 @@ public class ID3v24Tag extends AbstractID3v2Tag {
                    final Id3v2Header header,
                    final String loggingFilename,
                    final boolean ignoreArtwork) throws TagException {
+    this(Id3v2TagBody.of(buffer), header, loggingFilename, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  /**
+   * @param body the frames of the tag, with any artwork left in the file, see {@link Id3v2TagBody}
+   */
+  ID3v24Tag(final Id3v2TagBody body,
+            final Id3v2Header header,
+            final String loggingFilename,
+            final ReadOptions options) throws TagException {
     ensureFrameMapsAndClear();
     setLoggingFilename(loggingFilename);
-    read(buffer, header, ignoreArtwork);
+    read(body, header, options);
   }
 
   /**
@@ -707,7 +732,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     }
 
     if (footer) {
-      LOG.log(WARN, ErrorMessage.ID3_TAG_FOOTER, loggingFilename);
+      LOG.log(DEBUG, ErrorMessage.ID3_TAG_FOOTER, loggingFilename);
     }
   }
 
@@ -847,14 +872,20 @@ public class ID3v24Tag extends AbstractID3v2Tag {
   }
 
   public void read(final Buffer buffer, final Id3v2Header header, final boolean ignoreArtwork) throws TagException {
+    read(Id3v2TagBody.of(buffer), header, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+  }
+
+  private void read(final Id3v2TagBody body,
+                    final Id3v2Header header,
+                    final ReadOptions options) throws TagException {
     readHeaderFlags(header.getFlags());
 
     //Extended Header
     if (extended) {
-      readExtendedHeader(buffer);
+      readExtendedHeader(body.firstRun());
     }
 
-    readFrames(buffer, header.getTagSize(), ignoreArtwork);
+    readFrames(body, header.getTagSize(), frameReadOptions(options));
     LOG.log(DEBUG, "%s:Loaded Frames,there are:%s", loggingFilename, frameMap.keySet().size());
   }
 
@@ -908,17 +939,30 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     }
   }
 
-  private void readFrames(Buffer buffer, int size, final boolean ignoreArtwork) {
+  private void readFrames(Id3v2TagBody body, int size, final FrameReadOptions frameOptions) {
     ensureFrameMapsAndClear();
     fileReadSize = size;
+    for (int i = 0; i < body.runs.size(); i++) {
+      readFrames(body.runs.get(i), frameOptions);
+      if (i < body.lazyFrames.size()) {
+        addFrame(new ID3v24Frame(body.lazyFrames.get(i), loggingFilename), frameOptions);
+      }
+    }
+  }
+
+  private void addFrame(ID3v24Frame frame, final FrameReadOptions frameOptions) {
+    if (frameOptions.isSkipped(frame.getIdentifier())) {
+      setReadOnly();
+    } else {
+      loadFrameIntoMap(frame.getIdentifier(), frame);
+    }
+  }
+
+  private void readFrames(Buffer buffer, final FrameReadOptions frameOptions) {
     while (buffer.size() > 0) {
       try {
-        ID3v24Frame next = new ID3v24Frame(buffer, loggingFilename, ignoreArtwork);
-        if (ignoreArtwork && next.isArtworkFrame()) {
-          setReadOnly();
-        } else {
-          loadFrameIntoMap(next.getIdentifier(), next);
-        }
+        ID3v24Frame next = new ID3v24Frame(buffer, loggingFilename, frameOptions);
+        addFrame(next, frameOptions);
       } catch (PaddingException ex) {
         //Found Padding, no more frames
         LOG.log(DEBUG, "Found padding with %s remaining. %s", buffer.size(), loggingFilename);
@@ -954,10 +998,10 @@ public class ID3v24Tag extends AbstractID3v2Tag {
 
   private void ensureFrameMapsAndClear() {
     if (frameMap == null) {
-      frameMap = new LinkedHashMap<>();
+      frameMap = new FrameStore();
     }
     if (encryptedFrameMap == null) {
-      encryptedFrameMap = new LinkedHashMap<>();
+      encryptedFrameMap = new FrameStore();
     }
 
     frameMap.clear();
@@ -970,12 +1014,13 @@ public class ID3v24Tag extends AbstractID3v2Tag {
    * TODO Calculate the CYC Data Check
    * TODO Reintroduce Extended Header
    *
-   * @param padding is the size of the padding
+   * @param padding is the size of the padding, which must be 0 if there's a footer
    * @param size    is the size of the body data
+   * @param footer  true if the tag will be followed by a footer, see {@link #footerOf(ByteBuffer)}
    *
    * @return ByteBuffer
    */
-  private ByteBuffer writeHeaderToBuffer(int padding, int size) {
+  private ByteBuffer writeHeaderToBuffer(int padding, int size, boolean footer) {
     //This would only be set if every frame in tag has been unsynchronized, I only unsychronize frames
     //that need it, in any case I have been advised not to set it even then.
     unsynchronization = false;
@@ -985,7 +1030,7 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     // experimental and we never create extended header to keep things simple.
     extended = false;
     experimental = false;
-    footer = false;
+    this.footer = footer;
 
     // Create Header Buffer,allocate maximum possible size for the header
     ByteBuffer headerBuffer = ByteBuffer.allocate(TAG_HEADER_LENGTH);
@@ -1099,16 +1144,26 @@ public class ID3v24Tag extends AbstractID3v2Tag {
     LOG.log(DEBUG, "Writing tag to file:%s", loggingFilename);
 
     //Write Body Buffer
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+    TagBodyOutputStream body = writeFramesToBuffer();
+
+    //Append the tag rather than move the audio if it doesn't fit in front
+    if (body.size() + TAG_HEADER_LENGTH > audioStartLocation && TagOptionSingleton.getInstance().isId3v2AppendTagWhenNoRoom()) {
+      LOG.log(DEBUG, "%s:Appending tag:%s", loggingFilename, body.size());
+      // the audio stays where it is
+      TagWriteStatistics.recordInPlace(TagWriteStatistics.Kind.ID3V2);
+      appendToFile(file, writeHeaderToBuffer(0, body.size(), true), body, audioStartLocation);
+      appended = true;
+      return audioStartLocation;
+    }
 
     //Calculate Tag Size including Padding
-    int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int)audioStartLocation);
+    int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, (int)audioStartLocation);
 
     //Calculate padding bytes required
-    int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+    int padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
 
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
-    writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size(), false);
+    writeBufferToFile(file, headerBuffer, body, padding, sizeIncPadding, audioStartLocation);
     return sizeIncPadding;
   }
 
@@ -1119,19 +1174,153 @@ public class ID3v24Tag extends AbstractID3v2Tag {
   public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
     LOG.log(ERROR, "Writing tag to channel");
 
-    byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-
+    TagBodyOutputStream body = writeFramesToBuffer();
 
     int padding = 0;
     if (currentTagSize > 0) {
-      int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, currentTagSize);
-      padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
+      int sizeIncPadding = calculateTagSize(body.size() + TAG_HEADER_LENGTH, currentTagSize);
+      padding = sizeIncPadding - (body.size() + TAG_HEADER_LENGTH);
+    }
+    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, body.size(), false);
+
+    writeTag(channel, headerBuffer, body, padding);
+  }
+
+  /**
+   * Write the tag with a footer at the end of the file, before any ID3v1 tag and in place of any tag already appended, leaving the
+   * audio where it is. A tag in front of the audio is then replaced by an empty tag of the same size, so it isn't read instead.
+   */
+  private void appendToFile(File file, ByteBuffer headerBuffer, TagBodyOutputStream body, long audioStartLocation)
+      throws IOException {
+    final ByteBuffer footerBuffer = footerOf(headerBuffer);
+    FileChannel fc = null;
+    FileLock fileLock = null;
+    try {
+      fc = new RandomAccessFile(file, "rw").getChannel();
+      fileLock = getFileLockForWriting(fc, file.getPath());
+
+      final long appendedTagStart = findAppendedTag(new FileOperator(fc));
+      final ByteBuffer v1Tag = readV1Tag(fc);
+      final long tagStart = appendedTagStart >= 0 ? appendedTagStart : fc.size() - v1Tag.remaining();
+      fc.position(tagStart);
+      writeTag(fc, headerBuffer, body, 0);
+      writeFully(fc, new ByteBuffer[]{footerBuffer, v1Tag});
+      fc.truncate(fc.position());
+
+      // only once the new tag is in place, so there is always a complete tag to read
+      if (audioStartLocation >= TAG_HEADER_LENGTH && getV2Header(fc).isPresent()) {
+        final ByteBuffer emptyHeader = ByteBuffer.allocate(TAG_HEADER_LENGTH);
+        emptyHeader.put(TAG_ID)
+                   .put(MAJOR_VERSION)
+                   .put(REVISION)
+                   .put((byte)0)
+                   .put(ID3SyncSafeInteger.valueToBuffer((int)audioStartLocation - TAG_HEADER_LENGTH))
+                   .flip();
+        fc.position(0);
+        writeTag(fc, emptyHeader, new TagBodyOutputStream(), (int)audioStartLocation - TAG_HEADER_LENGTH);
+      }
+    } catch (IOException ioe) {
+      throw writeFailure(file, ioe);
+    } finally {
+      if (fc != null) {
+        if (fileLock != null) {
+          fileLock.release();
+        }
+        fc.close();
+      }
+    }
+  }
+
+  /**
+   * @return the footer for a tag with this header
+   */
+  private static ByteBuffer footerOf(ByteBuffer headerBuffer) {
+    final ByteBuffer footerBuffer = ByteBuffer.allocate(TAG_FOOTER_LENGTH);
+    final ByteBuffer header = headerBuffer.duplicate();
+    header.limit(header.position() + TAG_FOOTER_LENGTH);
+    footerBuffer.put(header);
+    footerBuffer.position(0);
+    footerBuffer.put(FOOTER_ID);
+    footerBuffer.position(0);
+    return footerBuffer;
+  }
+
+  /**
+   * Find a tag appended to the end of a file, which the ID3v2.4 spec allows for a tag with a footer. It's searched for from the end
+   * of the file, before any ID3v1 tag.
+   *
+   * @param fileOperator the file
+   *
+   * @return the position of the header of the appended tag, or -1 if there isn't one
+   *
+   * @throws IOException if there's a problem reading the file
+   */
+  public static long findAppendedTag(FileOperator fileOperator) throws IOException {
+    final long footerStart = fileOperator.getFileChannel().size()
+        - AbstractID3v1Tag.getTagSizeAtEnd(fileOperator)
+        - TAG_FOOTER_LENGTH;
+    if (footerStart < TAG_HEADER_LENGTH) {
+      return -1;
+    }
+    final Buffer buffer = new Buffer();
+    fileOperator.read(footerStart, buffer, TAG_FOOTER_LENGTH);
+    final Optional<Id3v2Header> footer = getHeader(buffer, FOOTER_ID);
+    if (!hasFooter(footer)) {
+      return -1;
+    }
+    final long tagStart = footerStart - footer.get().getTagSize() - TAG_HEADER_LENGTH;
+    if (tagStart < 0) {
+      return -1;
     }
-    ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
+    fileOperator.read(tagStart, buffer, TAG_HEADER_LENGTH);
+    final Optional<Id3v2Header> header = getHeader(buffer);
+    // the header must agree with the footer, so audio which happens to look like a footer isn't mistaken for one
+    return hasFooter(header) && header.get().getTagSize() == footer.get().getTagSize() ? tagStart : -1;
+  }
+
+  /**
+   * Remove any tag appended to the end of the file, keeping any ID3v1 tag
+   *
+   * @param fc the file, open for writing
+   *
+   * @throws IOException if there's a problem reading or writing the file
+   */
+  public static void removeAppendedTag(FileChannel fc) throws IOException {
+    final long appendedTagStart = findAppendedTag(new FileOperator(fc));
+    if (appendedTagStart >= 0) {
+      LOG.log(DEBUG, "Removing appended tag at:%s", appendedTagStart);
+      final ByteBuffer v1Tag = readV1Tag(fc);
+      fc.position(appendedTagStart);
+      writeFully(fc, new ByteBuffer[]{v1Tag});
+      fc.truncate(fc.position());
+    }
+  }
+
+  private static boolean hasFooter(Optional<Id3v2Header> header) {
+    return header.isPresent() &&
+        header.get().getMajorVersion() == MAJOR_VERSION &&
+        (header.get().getFlags() & MASK_V24_FOOTER_PRESENT) != 0;
+  }
+
+  /**
+   * @return any ID3v1 tag at the end of the file, empty if there isn't one
+   */
+  private static ByteBuffer readV1Tag(FileChannel fc) throws IOException {
+    final ByteBuffer v1Tag = ByteBuffer.allocate(AbstractID3v1Tag.getTagSizeAtEnd(fc));
+    final long v1TagStart = fc.size() - v1Tag.capacity();
+    while (v1Tag.hasRemaining()) {
+      if (fc.read(v1Tag, v1TagStart + v1Tag.position()) < 0) {
+        throw new EOFException();
+      }
+    }
+    v1Tag.flip();
+    return v1Tag;
+  }
 
-    channel.write(headerBuffer);
-    channel.write(ByteBuffer.wrap(bodyByteBuffer));
-    writePadding(channel, padding);
+  private static Optional<Id3v2Header> getV2Header(FileChannel fc) throws IOException {
+    final Buffer buffer = new Buffer();
+    new FileOperator(fc).read(0, buffer, TAG_HEADER_LENGTH);
+    return getHeader(buffer);
   }
 
   /**
@@ -1259,11 +1448,11 @@ public class ID3v24Tag extends AbstractID3v2Tag {
 
   public List<String> getAll(FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
     if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       List<String> convertedGenres = new ArrayList<>();
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
 
         for (String next : body.getValues()) {
           convertedGenres.add(FrameBodyTCON.convertID3v24GenreToGeneric(next));
@@ -1278,10 +1467,10 @@ public class ID3v24Tag extends AbstractID3v2Tag {
   @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     if (genericKey == FieldKey.GENRE) {
-      List<TagField> fields = getFields(genericKey);
+      List<TagField> fields = fieldsOf(genericKey);
       if (fields != null && fields.size() > 0) {
         AbstractID3v2Frame frame = (AbstractID3v2Frame)fields.get(0);
-        FrameBodyTCON body = (FrameBodyTCON)frame.getBody();
+        FrameBodyTCON body = (FrameBodyTCON)frame.peekBody();
         return Optional.of(FrameBodyTCON.convertID3v24GenreToGeneric(body.getValues().get(index)));
       }
       return Optional.absent();
@@ -1291,6 +1480,6 @@ public class ID3v24Tag extends AbstractID3v2Tag {
   }
 
   @Override public int getFieldCount(final Key genericKey) throws IllegalArgumentException, UnsupportedFieldException {
-    return getFields(genericKey.name()).size();
+    return fieldsOf(genericKey.name()).size();
   }
 }
@@ -56,35 +56,35 @@ import java.io.IOException;
         sink = delegate;
     }
 
+    /**
+     * Copies runs of bytes up to and including each $FF in bulk, dropping a $00 which follows an $FF
+     */
     @Override public void write(final Buffer source, final long byteCount) throws IOException {
-        for (int i = 0; i < byteCount; i++) {
-            final byte current = source.readByte();
+        long remaining = byteCount;
+        while (remaining > 0) {
             if (lastByteWasFF) {
-                sink.writeByte(FF);
                 lastByteWasFF = false;
-                if (ZERO != current) {
-                    if (FF != current) {
-                        lastByteWasFF = false;
-                        sink.writeByte(current);
-                    } else {
-                        lastByteWasFF = true;
-                    }
+                if (ZERO == source.getByte(0)) {
+                    source.skip(1);
+                    remaining--;
+                    continue;
                 }
+            }
+            final long ffIndex = source.indexOf(FF, 0, remaining);
+            if (ffIndex < 0) {
+                sink.write(source, remaining);
+                remaining = 0;
             } else {
-                if (FF == current) {
-                    lastByteWasFF = true;
-                } else {
-                    sink.writeByte(current);
-                }
+                sink.write(source, ffIndex + 1);
+                remaining -= ffIndex + 1;
+                lastByteWasFF = true;
             }
         }
     }
 
     @Override public void flush() throws IOException {
-        if (lastByteWasFF) {
-            sink.writeByte(0xFF);
-            lastByteWasFF = false;
-        }
+        // an $FF is written as soon as it's seen, only forget that it may be followed by a $00
+        lastByteWasFF = false;
         sink.flush();
     }
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+package ealvatag.tag.id3;
+
+import com.google.common.collect.ImmutableList;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.audio.io.FileRegion;
+import ealvatag.utils.Characters;
+import ealvatag.utils.StandardCharsets;
+import okio.Buffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The body of an ID3v2 tag, the frames following the tag header. When artwork is read lazily the body of each artwork frame is left
+ * in the file: the frame headers are walked and each artwork body is skipped over, so only the frames around it are read. The frames
+ * read are held as runs of bytes, and each run but the last is followed by one of the {@link #lazyFrames}.
+ */
+final class Id3v2TagBody {
+  /** After skipping over artwork in the file, the frames which follow are fetched with a single read of up to this many bytes */
+  private static final int FRAMES_WINDOW_SIZE = 16 * 1024;
+  private static final int TAG_FLAGS_NOT_LAZY = FileConstants.BIT7 | FileConstants.BIT6;
+  private static final int V22_FRAME_ID_SIZE = 3;
+  private static final int FRAME_ID_SIZE = 4;
+  private static final int NOT_SYNC_SAFE_BITS = 0x80808080;
+
+  /** Frames read into memory, each followed by the frame at the same index of {@link #lazyFrames} if there is one */
+  final List<Buffer> runs;
+  /** Frames whose body was left in the file */
+  final List<LazyFrame> lazyFrames;
+
+  private Id3v2TagBody(final List<Buffer> runs, final List<LazyFrame> lazyFrames) {
+    this.runs = runs;
+    this.lazyFrames = lazyFrames;
+  }
+
+  /**
+   * @return a body which was read in full into {@code buffer}
+   */
+  static Id3v2TagBody of(final Buffer buffer) {
+    return new Id3v2TagBody(ImmutableList.of(buffer), ImmutableList.<LazyFrame>of());
+  }
+
+  /**
+   * @return the whole body when it was read in full, or the first run of frames
+   */
+  Buffer firstRun() {
+    return runs.get(0);
+  }
+
+  /**
+   * Read the body of the tag with {@code header}
+   *
+   * @param bodyStart   where the body starts in the file
+   * @param bodyLength  the number of bytes of the body to read
+   * @param lazyArtwork true to leave the body of artwork frames in the file. Ignored if the tag is unsynchronized or has an extended
+   *                    header, which the frames must be found after, as then the tag is read in full
+   */
+  static Id3v2TagBody read(final FileOperator fileOperator,
+                           final File file,
+                           final long bodyStart,
+                           final long bodyLength,
+                           final Id3v2Header header,
+                           final boolean lazyArtwork) throws IOException {
+    if (!lazyArtwork || (header.getFlags() & TAG_FLAGS_NOT_LAZY) != 0) {
+      final Buffer buffer = new Buffer();
+      fileOperator.read(bodyStart, buffer, bodyLength);
+      return of(buffer);
+    }
+    return new Scanner(fileOperator, new FileRegion(file, bodyStart, bodyLength), header.getMajorVersion()).scan();
+  }
+
+  /**
+   * A frame whose header was read but whose body was left in the file
+   */
+  static final class LazyFrame {
+    final String identifier;
+    final int frameSize;
+    /** The status and encoding flags, v2.3 and v2.4 only */
+    final byte statusFlags;
+    final byte encodingFlags;
+    final FileRegion body;
+
+    private LazyFrame(final String identifier,
+                      final int frameSize,
+                      final byte statusFlags,
+                      final byte encodingFlags,
+                      final FileRegion body) {
+      this.identifier = identifier;
+      this.frameSize = frameSize;
+      this.statusFlags = statusFlags;
+      this.encodingFlags = encodingFlags;
+      this.body = body;
+    }
+  }
+
+  /**
+   * Walks the frame headers in the file. The walk stops at padding or at a frame the frame readers should decide what to do with,
+   * such as one with an invalid id or size, and the rest of the tag is then read as the last run.
+   */
+  private static final class Scanner {
+    private final FileOperator fileOperator;
+    private final FileRegion tagRegion;
+    private final boolean v22;
+    private final boolean v24;
+    private final int idSize;
+    private final int headerSize;
+    private final long end;
+    private final List<Buffer> runs = new ArrayList<>();
+    private final List<LazyFrame> lazyFrames = new ArrayList<>();
+
+    Scanner(final FileOperator fileOperator, final FileRegion tagRegion, final int majorVersion) {
+      this.fileOperator = fileOperator;
+      this.tagRegion = tagRegion;
+      v22 = majorVersion == ID3v22Tag.MAJOR_VERSION;
+      v24 = majorVersion == ID3v24Tag.MAJOR_VERSION;
+      idSize = v22 ? V22_FRAME_ID_SIZE : FRAME_ID_SIZE;
+      headerSize = v22 ? ID3v22Frame.FRAME_HEADER_SIZE : ID3v23Frame.FRAME_HEADER_SIZE;
+      end = tagRegion.getOffset() + tagRegion.getLength();
+    }
+
+    Id3v2TagBody scan() throws IOException {
+      long runStart = tagRegion.getOffset();
+      long runEnd = end;
+      long pos = runStart;
+      while (end - pos >= headerSize) {
+        final byte[] header = read(pos, headerSize);
+        if (isPadding(header)) {
+          // no more frames, so no need to read the padding
+          runEnd = pos;
+          break;
+        }
+        final String identifier = new String(header, 0, idSize, StandardCharsets.ISO_8859_1);
+        final int frameSize = frameSize(pos, header);
+        if (!isFrameId(header) || frameSize <= 0 || frameSize > end - pos - headerSize) {
+          break;
+        }
+        final long next = pos + headerSize + frameSize;
+        final byte statusFlags = v22 ? 0 : header[headerSize - 2];
+        final byte encodingFlags = v22 ? 0 : header[headerSize - 1];
+        if (AbstractID3v2Frame.isArtworkFrameId(identifier) && encodingFlags == 0) {
+          addRun(runStart, pos);
+          lazyFrames.add(new LazyFrame(identifier,
+                                       frameSize,
+                                       statusFlags,
+                                       encodingFlags,
+                                       tagRegion.slice(pos + headerSize - tagRegion.getOffset(), frameSize)));
+          runStart = next;
+          if (next < end && !fileOperator.isPrefetched(next, Math.min(headerSize, end - next))) {
+            fileOperator.prefetch(next, Math.min(FRAMES_WINDOW_SIZE, end - next));
+          }
+        }
+        pos = next;
+      }
+      addRun(runStart, Math.max(runStart, runEnd));
+      return new Id3v2TagBody(runs, lazyFrames);
+    }
+
+    private byte[] read(final long pos, final int byteCount) throws IOException {
+      final Buffer buffer = new Buffer();
+      fileOperator.read(pos, buffer, byteCount);
+      return buffer.readByteArray();
+    }
+
+    private void addRun(final long start, final long runEnd) throws IOException {
+      final Buffer run = new Buffer();
+      fileOperator.read(start, run, runEnd - start);
+      runs.add(run);
+    }
+
+    /**
+     * @return the size of the frame with {@code header} at {@code pos}, or -1 if it's ambiguous. A v2.4 size is read as
+     * {@link ID3v24Frame} reads it, except where that looks past the end of the frame and finds neither another frame nor padding
+     */
+    private int frameSize(final long pos, final byte[] header) throws IOException {
+      if (v22) {
+        return ((header[3] & 0xff) << 16) + ((header[4] & 0xff) << 8) + (header[5] & 0xff);
+      }
+      final int size = ((header[4] & 0xff) << 24) + ((header[5] & 0xff) << 16) + ((header[6] & 0xff) << 8) + (header[7] & 0xff);
+      if (!v24 || (size & NOT_SYNC_SAFE_BITS) != 0) {
+        return size;
+      }
+      // read as syncsafe, see ID3v24Frame.checkIfFrameSizeThatIsNotSyncSafe
+      final int syncSafeSize = ((header[4] & 0xff) << 21) + ((header[5] & 0xff) << 14) + ((header[6] & 0xff) << 7) + (header[7] & 0xff);
+      final long nextFrame = pos + headerSize + syncSafeSize;
+      if (syncSafeSize <= ID3SyncSafeInteger.MAX_SAFE_SIZE || end - nextFrame < idSize) {
+        return syncSafeSize;
+      }
+      final byte[] nextId = read(nextFrame, idSize);
+      return isFrameId(nextId) || ID3SyncSafeInteger.isBufferEmpty(nextId) ? syncSafeSize : -1;
+    }
+
+    private boolean isPadding(final byte[] header) {
+      for (int i = 0; i < idSize; i++) {
+        if (header[i] != 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean isFrameId(final byte[] header) {
+      if (!Characters.isUpperCaseEnglish((char)header[0])) {
+        return false;
+      }
+      for (int i = 1; i < idSize; i++) {
+        if (!Characters.isUpperCaseEnglishOrDigit((char)header[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
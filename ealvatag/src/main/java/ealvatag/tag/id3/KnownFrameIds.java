@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+package ealvatag.tag.id3;
+
+import okio.Buffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.EOFException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Every frame id this library knows, packed (see {@link PackedFrameId}) into a sorted table so a frame id can be read from a buffer as
+ * its constant without making a string
+ */
+final class KnownFrameIds {
+  /** Every known frame id packed, sorted for binary search */
+  private static final int[] PACKED_IDS;
+  /** The constant for each id in {@link #PACKED_IDS} */
+  private static final String[] FRAME_IDS;
+
+  static {
+    final TreeMap<Integer, String> knownIds = new TreeMap<>();
+    addKnownIds(knownIds, ID3v22Frames.getInstanceOf().getSupportedFrames());
+    addKnownIds(knownIds, ID3v23Frames.getInstanceOf().getSupportedFrames());
+    addKnownIds(knownIds, ID3v24Frames.getInstanceOf().getSupportedFrames());
+    addKnownIds(knownIds, ID3v2ChapterFrames.getInstanceOf().getSupportedFrames());
+    PACKED_IDS = new int[knownIds.size()];
+    FRAME_IDS = new String[knownIds.size()];
+    int i = 0;
+    for (Map.Entry<Integer, String> entry : knownIds.entrySet()) {
+      PACKED_IDS[i] = entry.getKey();
+      FRAME_IDS[i] = entry.getValue();
+      i++;
+    }
+  }
+
+  private KnownFrameIds() {
+  }
+
+  private static void addKnownIds(final TreeMap<Integer, String> knownIds, final Iterable<String> frameIds) {
+    for (String frameId : frameIds) {
+      final int packed = PackedFrameId.pack(frameId);
+      if (packed != PackedFrameId.NOT_PACKED && !knownIds.containsKey(packed)) {
+        knownIds.put(packed, frameId);
+      }
+    }
+  }
+
+  /**
+   * Reads the frame id at the head of {@code buffer} if it's one this library knows, returning the constant for the id so no string is
+   * made
+   *
+   * @param buffer      holds the frame header
+   * @param frameIdSize the frame id size, 3 for v2.2 and 4 otherwise
+   *
+   * @return the frame id, or null if it's not known, in which case nothing is consumed from {@code buffer}
+   *
+   * @throws EOFException if {@code buffer} is exhausted
+   */
+  static @Nullable String read(final Buffer buffer, final int frameIdSize) throws EOFException {
+    final int packed = PackedFrameId.pack(buffer, frameIdSize);
+    if (packed == PackedFrameId.NOT_PACKED) {
+      return null;
+    }
+    final int index = Arrays.binarySearch(PACKED_IDS, packed);
+    if (index < 0) {
+      return null;
+    }
+    buffer.skip(frameIdSize);
+    return FRAME_IDS[index];
+  }
+}
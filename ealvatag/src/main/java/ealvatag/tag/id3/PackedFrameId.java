@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import okio.Buffer;
+
+/**
+ * Frame ids packed into an int, one byte per character with the last character in the lowest byte. Ids are three (v2.2) or four
+ * (v2.3, v2.4) printable ASCII characters, so every id packs to a distinct int and none packs to {@link #NOT_PACKED}.
+ */
+final class PackedFrameId {
+  /**
+   * Returned for strings which aren't the length of a frame id or contain characters which can't be in one
+   */
+  static final int NOT_PACKED = 0;
+
+  private PackedFrameId() {
+  }
+
+  /**
+   * @return {@code id} packed into an int, or {@link #NOT_PACKED}
+   */
+  static int pack(final String id) {
+    final int length = id.length();
+    if (length < 3 || length > 4) {
+      return NOT_PACKED;
+    }
+    int packed = 0;
+    for (int i = 0; i < length; i++) {
+      final char c = id.charAt(i);
+      if (c < ' ' || c > '~') {
+        return NOT_PACKED;
+      }
+      packed = (packed << 8) | c;
+    }
+    return packed;
+  }
+
+  /**
+   * Packs the id at the head of {@code buffer} without consuming it or making a string
+   *
+   * @param length the frame id size, 3 for v2.2 and 4 otherwise
+   *
+   * @return the id packed into an int, or {@link #NOT_PACKED} if the buffer is too short or holds bytes which can't be in an id
+   */
+  static int pack(final Buffer buffer, final int length) {
+    if (length < 3 || length > 4 || buffer.size() < length) {
+      return NOT_PACKED;
+    }
+    int packed = 0;
+    for (int i = 0; i < length; i++) {
+      final int b = buffer.getByte(i) & 0xFF;
+      if (b < ' ' || b > '~') {
+        return NOT_PACKED;
+      }
+      packed = (packed << 8) | b;
+    }
+    return packed;
+  }
+}
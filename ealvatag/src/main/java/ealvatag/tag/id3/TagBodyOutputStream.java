@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.id3;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the frames of a tag as a list of buffers to be written with a single gathering write, see {@link #buffers()}, rather than
+ * one array which grows by copying and is copied again by {@link #toByteArray()}.
+ * <p>
+ * Small writes, such as frame headers, are copied into fixed size chunks. A large write, such as a frame body, is kept by reference so
+ * a picture isn't copied again on its way to the file. Frames write arrays they've just made and don't change afterwards, which is
+ * what makes this safe; it's not a general purpose stream.
+ * <p>
+ * This is a {@link ByteArrayOutputStream} so it can be passed to {@link AbstractID3v2Frame#write(ByteArrayOutputStream)}, but none of
+ * the superclass's buffer is used.
+ */
+final class TagBodyOutputStream extends ByteArrayOutputStream {
+  private static final int CHUNK_SIZE = 8 * 1024;
+  /** Writes at least this long are kept by reference */
+  private static final int REFERENCE_SIZE = 4 * 1024;
+
+  private final List<ByteBuffer> buffers = new ArrayList<>();
+  private byte[] chunk;
+  /** Where the next byte goes in {@link #chunk} */
+  private int chunkPosition;
+  /** Start of the bytes in {@link #chunk} not yet added to {@link #buffers} */
+  private int chunkMark;
+  private int size;
+
+  TagBodyOutputStream() {
+    super(0);
+  }
+
+  /**
+   * @return a stream holding {@code bytes} by reference
+   */
+  static TagBodyOutputStream of(final byte[] bytes) {
+    final TagBodyOutputStream stream = new TagBodyOutputStream();
+    stream.addBuffer(ByteBuffer.wrap(bytes));
+    return stream;
+  }
+
+  @Override public void write(final int b) {
+    ensureChunk();
+    chunk[chunkPosition++] = (byte)b;
+    size++;
+  }
+
+  @Override public void write(final byte[] b, int off, int len) {
+    if (off < 0 || len < 0 || off > b.length - len) {
+      throw new IndexOutOfBoundsException("off:" + off + " len:" + len + " length:" + b.length);
+    }
+    if (len >= REFERENCE_SIZE) {
+      addBuffer(ByteBuffer.wrap(b, off, len));
+      return;
+    }
+    while (len > 0) {
+      ensureChunk();
+      final int count = Math.min(len, chunk.length - chunkPosition);
+      System.arraycopy(b, off, chunk, chunkPosition, count);
+      chunkPosition += count;
+      off += count;
+      len -= count;
+      size += count;
+    }
+  }
+
+  @Override public int size() {
+    return size;
+  }
+
+  @Override public void reset() {
+    buffers.clear();
+    chunk = null;
+    chunkPosition = 0;
+    chunkMark = 0;
+    size = 0;
+  }
+
+  @Override public byte[] toByteArray() {
+    final byte[] result = new byte[size];
+    int position = 0;
+    for (ByteBuffer buffer : buffers()) {
+      final int count = buffer.remaining();
+      buffer.get(result, position, count);
+      position += count;
+    }
+    return result;
+  }
+
+  @Override public void writeTo(final OutputStream out) throws IOException {
+    for (ByteBuffer buffer : buffers()) {
+      out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+  }
+
+  @Override public String toString() {
+    return new String(toByteArray());
+  }
+
+  @Override public String toString(final String charsetName) throws UnsupportedEncodingException {
+    return new String(toByteArray(), charsetName);
+  }
+
+  /**
+   * @return the contents, in order, as buffers ready to be written. Each call returns new buffers over the same bytes
+   */
+  ByteBuffer[] buffers() {
+    addChunk();
+    final ByteBuffer[] result = new ByteBuffer[buffers.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buffers.get(i).duplicate();
+    }
+    return result;
+  }
+
+  private void addBuffer(final ByteBuffer buffer) {
+    addChunk();
+    buffers.add(buffer);
+    size += buffer.remaining();
+  }
+
+  /** Add bytes written to the current chunk since the last buffer was added */
+  private void addChunk() {
+    if (chunkPosition > chunkMark) {
+      buffers.add(ByteBuffer.wrap(chunk, chunkMark, chunkPosition - chunkMark));
+      chunkMark = chunkPosition;
+    }
+  }
+
+  private void ensureChunk() {
+    if (chunk == null || chunkPosition == chunk.length) {
+      addChunk();
+      chunk = new byte[CHUNK_SIZE];
+      chunkPosition = 0;
+      chunkMark = 0;
+    }
+  }
+}
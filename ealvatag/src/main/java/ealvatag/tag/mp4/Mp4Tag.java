@@ -56,7 +56,9 @@ import static ealvatag.utils.Check.checkVarArg0NotNull;
 
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * A Logical representation of Mp4Tag, i.e the meta information stored in an Mp4 file underneath the
@@ -263,7 +265,7 @@ public class Mp4Tag extends AbstractTag {
   }
 
   public boolean hasField(FieldKey genericKey) {
-    return getFields(genericKey).size() != 0;
+    return fieldsOf(genericKey).size() != 0;
   }
 
   public boolean hasField(Mp4FieldKey mp4FieldKey) {
@@ -273,18 +275,24 @@ public class Mp4Tag extends AbstractTag {
   public ImmutableList<TagField> getFields(FieldKey genericKey)
       throws IllegalArgumentException, UnsupportedFieldException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+    setFieldsHandedOut();
+    return fieldsOf(genericKey);
+  }
+
+  /** As {@link #getFields(FieldKey)} without marking the tag dirty, for reading values */
+  private ImmutableList<TagField> fieldsOf(FieldKey genericKey) throws UnsupportedFieldException {
     Mp4FieldKey mp4FieldKey = getMp4FieldKey(genericKey);
-    ImmutableList<TagField> list = getFields(mp4FieldKey.getFieldName());
+    ImmutableList<TagField> list = ImmutableList.copyOf(getFieldList(mp4FieldKey.getFieldName()));
     ImmutableList.Builder<TagField> filteredList = ImmutableList.builder();
 
     if (genericKey == FieldKey.KEY) {
       if (list.size() == 0) {
-        list = getFields(KEY_OLD.getFieldName());
+        list = ImmutableList.copyOf(getFieldList(KEY_OLD.getFieldName()));
       }
       return list;
     } else if (genericKey == FieldKey.GENRE) {
       if (list.size() == 0) {
-        list = getFields(GENRE_CUSTOM.getFieldName());
+        list = ImmutableList.copyOf(getFieldList(GENRE_CUSTOM.getFieldName()));
       }
       return list;
     } else if (genericKey == FieldKey.TRACK) {
@@ -333,8 +341,9 @@ public class Mp4Tag extends AbstractTag {
   }
 
   public List<String> getAll(FieldKey genericKey) throws IllegalArgumentException, UnsupportedFieldException {
+    checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     List<String> values = new ArrayList<>();
-    List<TagField> fields = getFields(genericKey);
+    List<TagField> fields = fieldsOf(genericKey);
     for (TagField tagfield : fields) {
       if (genericKey == FieldKey.TRACK) {
         values.add(((Mp4TrackField)tagfield).getTrackNo().toString());
@@ -353,11 +362,13 @@ public class Mp4Tag extends AbstractTag {
 
   public List<TagField> get(Mp4FieldKey mp4FieldKey) throws IllegalArgumentException {
     checkArgNotNull(mp4FieldKey, CANNOT_BE_NULL, "mp4FieldKey");
+    setFieldsHandedOut();
     return getFieldList(mp4FieldKey.getFieldName());
   }
 
   @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
-    List<TagField> fields = getFields(genericKey);
+    checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
+    List<TagField> fields = fieldsOf(genericKey);
     if (fields.size() > index) {
       TagField field = fields.get(index);
       switch (genericKey) {
@@ -694,6 +705,32 @@ public class Mp4Tag extends AbstractTag {
     setReadOnly();
   }
 
+  /**
+   * Get the ids of the ilst atoms to read when only {@code fields} are wanted. All reverse dns fields share the
+   * {@link Mp4TagReverseDnsField#IDENTIFIER} atom id, so they are all read if any are wanted
+   *
+   * @param fields the wanted fields
+   *
+   * @return the atom ids which may hold {@code fields}
+   */
+  public static Set<String> getAtomIdsForFields(final Set<FieldKey> fields) {
+    final Set<String> atomIds = new HashSet<>();
+    for (FieldKey fieldKey : fields) {
+      final Mp4FieldKey mp4FieldKey = tagFieldToMp4Field.get(fieldKey);
+      if (mp4FieldKey != null) {
+        if (mp4FieldKey.getSubClassFieldType() == Mp4TagFieldSubType.REVERSE_DNS) {
+          atomIds.add(Mp4TagReverseDnsField.IDENTIFIER);
+        } else {
+          atomIds.add(mp4FieldKey.getFieldName());
+        }
+        if (mp4FieldKey == GENRE) {
+          atomIds.add(GENRE_CUSTOM.getFieldName());
+        }
+      }
+    }
+    return atomIds;
+  }
+
   public static Mp4Tag makeEmpty() {
     return new Mp4Tag();
   }
@@ -81,7 +81,7 @@ public class Mp4TagCreator extends AbstractTagCreator {
         try {
             //Add metadata raw content
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            Iterator<TagField> it = tag.getFields();
+            Iterator<TagField> it = ((Mp4Tag) tag).fieldIterator();
             boolean processedArtwork = false;
             while (it.hasNext()) {
                 TagField frame = it.next();
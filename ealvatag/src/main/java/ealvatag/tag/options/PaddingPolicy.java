@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.options;
+
+import ealvatag.tag.TagOptionSingleton;
+
+/**
+ * Decides how much padding to leave after the metadata when it no longer fits in the space the file has for it and the audio has to be
+ * moved anyway. Padding lets later, larger, saves be written in place. Used for ID3v2 tags, FLAC metadata and the MP4 {@code ilst}
+ * atom, see {@link TagOptionSingleton#setPaddingPolicy(PaddingPolicy)}.
+ * <p>
+ * Implementations must be thread safe as one policy is shared by every write.
+ */
+public interface PaddingPolicy {
+  /**
+   * @param size bytes from the start of the file to the end of the new metadata, which is where the audio starts if there's no padding.
+   *             For an ID3v2 tag written in front of the audio this is the size of the tag
+   *
+   * @return bytes of padding to add after the metadata, 0 or more. A format may round up a value too small to hold the header of its
+   * padding block
+   */
+  int getPadding(long size);
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2017 Eric A. Snell
+ *
+ * This file is part of eAlvaTag.
+ *
+ * eAlvaTag is free software: you can redistribute it and/or modify it under the terms of the GNU Lesser
+ * General Public License as published by the Free Software Foundation, either version 3 of the License,
+ * or (at your option) any later version.
+ *
+ * eAlvaTag is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ * the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License along with eAlvaTag.  If not,
+ * see <http://www.gnu.org/licenses/>.
+ */
+
+package ealvatag.tag.options;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Padding proportional to the size of the metadata, so a file with a large picture gets room for a larger change, kept between a
+ * minimum and maximum. Optionally the padding is then increased so the audio starts on a multiple of a block size, such as the
+ * file system's, which keeps the audio block aligned and means a move copies whole blocks.
+ * <p>
+ * Rounding up to the block size can take the padding past the maximum by less than one block.
+ */
+public final class ProportionalPaddingPolicy implements PaddingPolicy {
+  private final int percent;
+  private final int minimum;
+  private final int maximum;
+  private final int blockSize;
+
+  private ProportionalPaddingPolicy(final Builder builder) {
+    percent = builder.percent;
+    minimum = builder.minimum;
+    maximum = builder.maximum;
+    blockSize = builder.blockSize;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override public int getPadding(final long size) {
+    long padding = Math.min(Math.max(size * percent / 100, minimum), maximum);
+    if (blockSize > 0) {
+      final long remainder = (size + padding) % blockSize;
+      if (remainder != 0) {
+        padding += blockSize - remainder;
+      }
+    }
+    return (int)Math.min(padding, Integer.MAX_VALUE);
+  }
+
+  @Override public String toString() {
+    return "ProportionalPaddingPolicy{percent=" + percent + ", minimum=" + minimum + ", maximum=" + maximum + ", blockSize=" +
+        blockSize + '}';
+  }
+
+  public static final class Builder {
+    private int percent = 10;
+    private int minimum = 1024;
+    private int maximum = 64 * 1024;
+    private int blockSize = 0;
+
+    private Builder() {
+    }
+
+    /**
+     * @param percent padding as a percentage of the size of the metadata. Defaults to 10
+     *
+     * @return this builder
+     */
+    public Builder percent(final int percent) {
+      Preconditions.checkArgument(percent >= 0, "percent must be >= 0");
+      this.percent = percent;
+      return this;
+    }
+
+    /**
+     * @param minimum the least padding, in bytes. Defaults to 1024
+     *
+     * @return this builder
+     */
+    public Builder minimum(final int minimum) {
+      Preconditions.checkArgument(minimum >= 0, "minimum must be >= 0");
+      this.minimum = minimum;
+      return this;
+    }
+
+    /**
+     * @param maximum the most padding, in bytes, before rounding to the block size. Defaults to 64K
+     *
+     * @return this builder
+     */
+    public Builder maximum(final int maximum) {
+      Preconditions.checkArgument(maximum >= 0, "maximum must be >= 0");
+      this.maximum = maximum;
+      return this;
+    }
+
+    /**
+     * @param blockSize if greater than 0 padding is increased so the audio starts on a multiple of this many bytes. Defaults to 0
+     *
+     * @return this builder
+     */
+    public Builder blockSize(final int blockSize) {
+      Preconditions.checkArgument(blockSize >= 0, "blockSize must be >= 0");
+      this.blockSize = blockSize;
+      return this;
+    }
+
+    public ProportionalPaddingPolicy build() {
+      Preconditions.checkArgument(minimum <= maximum, "minimum must be <= maximum");
+      return new ProportionalPaddingPolicy(this);
+    }
+  }
+}
@@ -62,7 +62,7 @@ public class VorbisCommentCreator extends AbstractTagCreator
             baos.write(Utils.getSizeLEInt32(listLength));
 
             //Add metadata raw content
-            Iterator<TagField> it = tag.getFields();
+            Iterator<TagField> it = ((VorbisCommentTag) tag).fieldIterator();
             while (it.hasNext())
             {
                 TagField frame = it.next();
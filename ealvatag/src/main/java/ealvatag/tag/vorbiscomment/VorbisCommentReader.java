@@ -30,8 +30,11 @@ import ealvatag.audio.exceptions.CannotReadException;
 import ealvatag.audio.ogg.util.VorbisHeader;
 import ealvatag.logging.ErrorMessage;
 import ealvatag.logging.EalvaTagLog;
+import ealvatag.tag.FieldKey;
+import ealvatag.utils.StandardCharsets;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * Create the VorbisCommentTag by reading from the raw packet data
@@ -77,8 +80,26 @@ public class VorbisCommentReader {
   }
 
   public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit) throws IOException, CannotReadException {
+    return read(rawdata, isFramingBit, null);
+  }
+
+  /**
+   * Read the tag, skipping any comment not holding one of {@code fields}. The id of each comment is checked in place so skipped
+   * comments are never copied or decoded. If any comment is skipped the tag is read-only.
+   *
+   * @param rawdata      the comment packet
+   * @param isFramingBit true if the packet ends with a framing bit, which is only within Ogg Vorbis
+   * @param fields       the fields to read, null for all
+   *
+   * @return the tag
+   *
+   * @throws IOException         if error creating a field
+   * @throws CannotReadException if the framing bit is missing
+   */
+  public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit, Set<FieldKey> fields) throws IOException, CannotReadException {
 
     VorbisCommentTag tag = new VorbisCommentTag();
+    final byte[][] fieldIds = fields == null ? null : toAscii(VorbisCommentTag.getFieldIdsForFields(fields));
 
     byte[] b = new byte[FIELD_VENDOR_LENGTH_LENGTH];
     System.arraycopy(rawdata, FIELD_VENDOR_LENGTH_POS, b, FIELD_VENDOR_LENGTH_POS, FIELD_VENDOR_LENGTH_LENGTH);
@@ -112,6 +133,9 @@ public class VorbisCommentReader {
       } else if (commentLength > rawdata.length) {
         LOG.log(WARN, ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER, commentLength, rawdata.length);
         break;
+      } else if (fieldIds != null && !idMatches(rawdata, pos, commentLength, fieldIds)) {
+        pos += commentLength;
+        tag.markReadOnly();
       } else {
         b = new byte[commentLength];
         System.arraycopy(rawdata, pos, b, 0, commentLength);
@@ -131,5 +155,36 @@ public class VorbisCommentReader {
     }
     return tag;
   }
+
+  private static byte[][] toAscii(final Set<String> ids) {
+    final byte[][] result = new byte[ids.size()][];
+    int i = 0;
+    for (String id : ids) {
+      result[i++] = id.getBytes(StandardCharsets.US_ASCII);
+    }
+    return result;
+  }
+
+  /**
+   * @return true if the comment starting at {@code pos} is "ID=value" where ID, ignoring case, is one of {@code ids}
+   */
+  private static boolean idMatches(final byte[] rawdata, final int pos, final int commentLength, final byte[][] ids) {
+    for (byte[] id : ids) {
+      if (id.length < commentLength && pos + id.length < rawdata.length && rawdata[pos + id.length] == '=') {
+        boolean matches = true;
+        for (int i = 0; i < id.length && matches; i++) {
+          byte c = rawdata[pos + i];
+          if (c >= 'a' && c <= 'z') {
+            c -= 'a' - 'A';
+          }
+          matches = c == id[i];
+        }
+        if (matches) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
 }
 
@@ -49,7 +49,9 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is the logical representation of  Vorbis Comment Data
@@ -255,6 +257,37 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
     return tagFieldToOggField.keySet();
   }
 
+  /**
+   * Get the ids of the comments to read when only {@code fields} are wanted
+   *
+   * @param fields the wanted fields
+   *
+   * @return the upper case comment ids which may hold {@code fields}
+   */
+  static Set<String> getFieldIdsForFields(final Set<FieldKey> fields) {
+    final Set<String> fieldIds = new HashSet<>();
+    for (FieldKey fieldKey : fields) {
+      final VorbisCommentFieldKey vorbisCommentFieldKey = tagFieldToOggField.get(fieldKey);
+      if (vorbisCommentFieldKey != null) {
+        fieldIds.add(vorbisCommentFieldKey.getFieldName());
+      }
+      if (fieldKey == FieldKey.ALBUM_ARTIST) {
+        fieldIds.add(VorbisCommentFieldKey.ALBUMARTIST_JRIVER.getFieldName());
+      } else if (fieldKey == FieldKey.COVER_ART) {
+        fieldIds.add(VorbisCommentFieldKey.COVERART.getFieldName());
+        fieldIds.add(VorbisCommentFieldKey.COVERARTMIME.getFieldName());
+      }
+    }
+    return fieldIds;
+  }
+
+  /**
+   * Fields were skipped when reading so this tag can't be saved without losing them
+   */
+  void markReadOnly() {
+    setReadOnly();
+  }
+
   @Override public Optional<String> getValue(final FieldKey genericKey, final int index) throws IllegalArgumentException {
     checkArgNotNull(genericKey, CANNOT_BE_NULL, "genericKey");
     if (genericKey == FieldKey.ALBUM_ARTIST) {
@@ -336,6 +369,7 @@ public class VorbisCommentTag extends AbstractTag implements ContainsVorbisComme
   }
 
   public List<TagField> get(VorbisCommentFieldKey vorbisCommentKey) throws IllegalArgumentException {
+    setFieldsHandedOut();
     return getFieldList(checkArgNotNull(vorbisCommentKey).getFieldName());
   }
 
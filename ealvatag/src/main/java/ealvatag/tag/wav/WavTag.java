@@ -69,6 +69,8 @@ public class WavTag implements TagFieldContainer, Id3SupportingTag {
   private WavInfoTag infoTag;
   private AbstractID3v2Tag id3Tag;
   private WavOptions wavOptions;
+  /** Set when {@link #infoTag} or {@link #id3Tag} is replaced */
+  private boolean dirty = true;
 
   public static AbstractID3v2Tag createDefaultID3Tag() {
     return TagOptionSingleton.createDefaultID3Tag();
@@ -78,6 +80,23 @@ public class WavTag implements TagFieldContainer, Id3SupportingTag {
     return getActiveTag().isReadOnly();
   }
 
+  /**
+   * Both tags are considered as either may be written, depending on the {@link WavOptions}
+   */
+  @Override public boolean isDirty() {
+    return dirty || (infoTag != null && infoTag.isDirty()) || (id3Tag != null && id3Tag.isDirty());
+  }
+
+  @Override public void setClean() {
+    dirty = false;
+    if (infoTag != null) {
+      infoTag.setClean();
+    }
+    if (id3Tag != null) {
+      id3Tag.setClean();
+    }
+  }
+
   public WavTag(WavOptions wavOptions) {
     this.wavOptions = wavOptions;
   }
@@ -100,6 +119,7 @@ public class WavTag implements TagFieldContainer, Id3SupportingTag {
 
   public void setInfoTag(WavInfoTag infoTag) {
     this.infoTag = infoTag;
+    dirty = true;
   }
 
   public AbstractID3v2Tag getID3Tag() {
@@ -115,6 +135,7 @@ public class WavTag implements TagFieldContainer, Id3SupportingTag {
    */
   public void setID3Tag(AbstractID3v2Tag t) {
     id3Tag = t;
+    dirty = true;
   }
 
   public boolean equals(Object obj) {
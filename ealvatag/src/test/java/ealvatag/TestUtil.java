@@ -15,8 +15,19 @@
  */
 package ealvatag;
 
+import com.google.common.base.Charsets;
 import com.google.common.base.Preconditions;
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.Files;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.AudioHeader;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.SupportedFileFormat;
 import ealvatag.audio.Utils;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagField;
+import org.junit.Assert;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -24,10 +35,17 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.TimeUnit;
 
 /**
  *
@@ -169,6 +187,99 @@ public final class TestUtil {
     }
   }
 
+  /**
+   * @return every file in the test data directory of a {@link SupportedFileFormat}
+   */
+  public static List<File> testDataFiles() {
+    final EnumSet<SupportedFileFormat> formats = EnumSet.allOf(SupportedFileFormat.class);
+    formats.remove(SupportedFileFormat.UNKNOWN);
+    return testDataFiles(formats);
+  }
+
+  /**
+   * @return every file in the test data directory of one of {@code formats}
+   */
+  public static List<File> testDataFiles(final Set<SupportedFileFormat> formats) {
+    final File[] files = new File(TEST_DATA_DIR).listFiles(new FileFilter() {
+      @Override public boolean accept(final File file) {
+        return file.isFile() && formats.contains(SupportedFileFormat.fromExtension(Files.getFileExtension(file.getName())));
+      }
+    });
+    Assert.assertNotNull(files);
+    Assert.assertTrue(files.length > 0);
+    return Arrays.asList(files);
+  }
+
+  /**
+   * @return a description of everything read from {@code file}, or of the failure, for comparing reads
+   */
+  public static String read(File file, ReadOptions options) {
+    try {
+      return describe(AudioFileIO.read(file, options));
+    } catch (Exception e) {
+      return describeFailure(e);
+    }
+  }
+
+  /**
+   * @return a description of the audio header and every tag field of {@code audioFile}, or of the failure reading the fields
+   */
+  public static String describe(AudioFile audioFile) {
+    final StringBuilder builder = new StringBuilder(describe(audioFile.getAudioHeader()));
+    if (audioFile.getTag().isPresent()) {
+      final Tag tag = audioFile.getTag().get();
+      builder.append(" readOnly=").append(tag.isReadOnly());
+      try {
+        final Iterator<TagField> fields = tag.getFields();
+        while (fields.hasNext()) {
+          final TagField field = fields.next();
+          // toString() of some fields, such as Mp4TagRawBinaryField, includes an identity hash so compare the content instead
+          builder.append('|').append(field.getId()).append('=').append(BaseEncoding.base16().encode(field.getRawContent()));
+        }
+      } catch (Exception e) {
+        return describeFailure(e);
+      }
+    }
+    return builder.toString();
+  }
+
+  public static String describe(AudioHeader header) {
+    return header.getEncodingType() + ',' +
+        header.getFormat() + ',' +
+        header.getBitRate() + ',' +
+        header.getSampleRate() + ',' +
+        header.getChannelCount() + ',' +
+        header.getBitsPerSample() + ',' +
+        header.isVariableBitRate() + ',' +
+        header.getNoOfSamples() + ',' +
+        header.getAudioDataStartPosition() + ',' +
+        header.getDuration(TimeUnit.NANOSECONDS, false);
+  }
+
+  public static String describeFailure(Exception e) {
+    return "failed:" + e.getClass().getName();
+  }
+
+  /**
+   * @return bytes this process has read via read system calls, or -1 if not available on this platform
+   */
+  public static long bytesRead() {
+    final File io = new File("/proc/self/io");
+    if (!io.canRead()) {
+      return -1;
+    }
+    try {
+      for (String line : Files.readLines(io, Charsets.US_ASCII)) {
+        if (line.startsWith("rchar:")) {
+          return Long.parseLong(line.substring("rchar:".length()).trim());
+        }
+      }
+    } catch (IOException | NumberFormatException e) {
+      return -1;
+    }
+    return -1;
+  }
+
   private TestUtil() {
   }
 }
@@ -0,0 +1,69 @@
+package ealvatag.audio;
+
+import com.google.common.base.Strings;
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * Tests for {@link AudioFileIO#hashAudio(File, String)}
+ */
+public class AudioHashTest {
+  private static final String[] FILES =
+      {"01.mp3", "test.flac", "test.m4a", "test.ogg", "test.wav", "test1.wma", "test119.aif", "test122.dsf"};
+  /** Tagged, unlike some of {@link #FILES}, so hashing the whole file differs from hashing the audio */
+  private static final String[] TAGGED_FILES =
+      {"testV1Cbr128ID3v1v2.mp3", "test.flac", "test.m4a", "test.ogg", "test1.wma", "test05.rm"};
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testHashUnchangedByRetagging() throws Exception {
+    for (String name : FILES) {
+      final File testFile = TestUtil.copyAudioToTmp(name, new File("audiohash." + Files.getFileExtension(name)));
+      final byte[] before = AudioFileIO.hashAudio(testFile, "SHA-256");
+      final long lengthBefore = testFile.length();
+
+      final AudioFile audioFile = AudioFileIO.read(testFile);
+      // long enough to outgrow any padding so the audio has to move
+      audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, Strings.repeat("audio hash ", 1000));
+      audioFile.save();
+      assertThat(name, testFile.length(), not(lengthBefore));
+
+      Assert.assertArrayEquals(name, before, AudioFileIO.hashAudio(testFile, "SHA-256"));
+    }
+  }
+
+  @Test public void testHashExcludesTag() throws Exception {
+    for (String name : TAGGED_FILES) {
+      final File file = new File("testdata", name);
+      final MessageDigest whole = MessageDigest.getInstance("MD5");
+      whole.update(Files.toByteArray(file));
+      final byte[] audio = AudioFileIO.hashAudio(file, "MD5");
+      assertThat(name, audio.length, is(16));
+      assertThat(name, Arrays.equals(whole.digest(), audio), is(false));
+    }
+  }
+
+  @Test public void testDigestCanBeReused() throws Exception {
+    final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+    for (String name : FILES) {
+      final File file = new File("testdata", name);
+      digest.reset();
+      AudioFileIO.digestAudio(file, digest);
+      Assert.assertArrayEquals(name, AudioFileIO.hashAudio(file, "SHA-1"), digest.digest());
+    }
+  }
+}
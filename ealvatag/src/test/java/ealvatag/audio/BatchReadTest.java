@@ -0,0 +1,119 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for {@link AudioFileIO#readAll(Iterable, Executor, ReadOptions, int)}
+ */
+public class BatchReadTest {
+  private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+  @Test public void testBatchMatchesSequentialReads() throws Exception {
+    final List<File> files = TestUtil.testDataFiles();
+    final Map<File, String> expected = new HashMap<>();
+    for (File file : files) {
+      expected.put(file, TestUtil.read(file, ReadOptions.DEFAULT));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(CORES);
+    try {
+      final Iterator<ReadResult> results = AudioFileIO.readAll(files, executor, ReadOptions.DEFAULT);
+      int count = 0;
+      while (results.hasNext()) {
+        final ReadResult result = results.next();
+        count++;
+        Assert.assertTrue(result.getFile().getName(), expected.containsKey(result.getFile()));
+        assertThat(result.getFile().getName(), describe(result), is(expected.get(result.getFile())));
+      }
+      assertThat(count, is(files.size()));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * Reads are submitted, and results consumed, on the calling thread, so counting both there gives the number in flight exactly. A
+   * count kept by the tasks themselves would lag, as a read's result can be consumed before its task has finished running.
+   */
+  @Test public void testMaxInFlightRespected() throws Exception {
+    final List<File> files = TestUtil.testDataFiles();
+    final int maxInFlight = 3;
+    final AtomicInteger submitted = new AtomicInteger();
+    final AtomicInteger consumed = new AtomicInteger();
+    final AtomicInteger maxOutstanding = new AtomicInteger();
+    final ExecutorService pool = Executors.newFixedThreadPool(maxInFlight * 4);
+    final Executor executor = new Executor() {
+      @Override public void execute(final Runnable command) {
+        final int outstanding = submitted.incrementAndGet() - consumed.get();
+        if (outstanding > maxOutstanding.get()) {
+          maxOutstanding.set(outstanding);
+        }
+        pool.execute(command);
+      }
+    };
+    try {
+      final Iterator<ReadResult> results = AudioFileIO.readAll(files, executor, ReadOptions.IGNORE_ARTWORK, maxInFlight);
+      while (results.hasNext()) {
+        results.next();
+        consumed.incrementAndGet();
+      }
+      assertThat(consumed.get(), is(files.size()));
+      assertThat(submitted.get(), is(files.size()));
+      assertThat(maxOutstanding.get(), is(maxInFlight));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test public void testFailuresReportedPerFile() throws Exception {
+    final File missing = new File("testdata", "doesNotExist.mp3");
+    final File unsupported = new File("testdata", "coverart.bmp");
+    final File good = new File("testdata", "testV1.mp3");
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Iterator<ReadResult> results = AudioFileIO.readAll(Arrays.asList(missing, unsupported, good),
+                                                               executor,
+                                                               ReadOptions.DEFAULT);
+      int failures = 0;
+      int successes = 0;
+      while (results.hasNext()) {
+        final ReadResult result = results.next();
+        if (result.isSuccess()) {
+          assertThat(result.getFile(), is(good));
+          successes++;
+        } else {
+          Assert.assertTrue(result.getFailure().isPresent());
+          Assert.assertFalse(result.getAudioFile().isPresent());
+          failures++;
+        }
+      }
+      assertThat(successes, is(1));
+      assertThat(failures, is(2));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static String describe(final ReadResult result) {
+    if (!result.isSuccess()) {
+      return TestUtil.describeFailure(result.getFailure().get());
+    }
+    return TestUtil.describe(result.getAudioFile().get());
+  }
+}
@@ -0,0 +1,100 @@
+package ealvatag.audio;
+
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress test reading every {@link SupportedFileFormat} from many threads at once. Readers are shared across threads by
+ * {@link CachingAudioFileReaderFactory}, so every concurrent read must produce exactly what a single threaded read produces.
+ */
+public class ConcurrentReadTest {
+  private static final int THREADS = 16;
+  private static final int ROUNDS = 5;
+
+  @Test public void testConcurrentReadsMatchSingleThreaded() throws Exception {
+    final List<File> files = TestUtil.testDataFiles();
+    final Set<SupportedFileFormat> formats = EnumSet.noneOf(SupportedFileFormat.class);
+    for (File file : files) {
+      formats.add(SupportedFileFormat.fromExtension(Files.getFileExtension(file.getName())));
+    }
+    for (SupportedFileFormat format : EnumSet.of(SupportedFileFormat.MP3,
+                                                 SupportedFileFormat.MP4,
+                                                 SupportedFileFormat.M4A,
+                                                 SupportedFileFormat.FLAC,
+                                                 SupportedFileFormat.OGG,
+                                                 SupportedFileFormat.WAV,
+                                                 SupportedFileFormat.WMA,
+                                                 SupportedFileFormat.AIF,
+                                                 SupportedFileFormat.AIFF,
+                                                 SupportedFileFormat.DSF,
+                                                 SupportedFileFormat.RA,
+                                                 SupportedFileFormat.RM)) {
+      Assert.assertTrue("No test data for " + format, formats.contains(format));
+    }
+
+    final Map<File, String> expected = new HashMap<>();
+    final Map<File, String> expectedIgnoreArtwork = new HashMap<>();
+    for (File file : files) {
+      expected.put(file, TestUtil.read(file, ReadOptions.DEFAULT));
+      expectedIgnoreArtwork.put(file, TestUtil.read(file, ReadOptions.IGNORE_ARTWORK));
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      final CountDownLatch start = new CountDownLatch(1);
+      final List<Future<List<String>>> futures = new ArrayList<>(THREADS);
+      for (int i = 0; i < THREADS; i++) {
+        final Random random = new Random(i);
+        futures.add(executor.submit(new Callable<List<String>>() {
+          @Override public List<String> call() throws Exception {
+            final List<String> mismatches = new ArrayList<>();
+            final List<File> shuffled = new ArrayList<>(files);
+            start.await();
+            for (int round = 0; round < ROUNDS; round++) {
+              Collections.shuffle(shuffled, random);
+              for (File file : shuffled) {
+                final boolean ignoreArtwork = random.nextBoolean();
+                final String actual = TestUtil.read(file, ignoreArtwork ? ReadOptions.IGNORE_ARTWORK : ReadOptions.DEFAULT);
+                final String wanted = ignoreArtwork ? expectedIgnoreArtwork.get(file) : expected.get(file);
+                if (!wanted.equals(actual)) {
+                  mismatches.add(file.getName() + " expected:" + wanted + " actual:" + actual);
+                }
+              }
+            }
+            return mismatches;
+          }
+        }));
+      }
+      start.countDown();
+
+      final List<String> mismatches = new ArrayList<>();
+      for (Future<List<String>> future : futures) {
+        mismatches.addAll(future.get(5, TimeUnit.MINUTES));
+      }
+      assertThat(mismatches.toString(), mismatches.isEmpty(), is(true));
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
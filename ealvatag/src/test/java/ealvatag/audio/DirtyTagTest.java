@@ -0,0 +1,108 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagTextField;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.framebody.AbstractFrameBodyTextInfo;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+
+/**
+ * Saving a file whose tag hasn't changed leaves the file alone
+ */
+public class DirtyTagTest {
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testMp3() throws Exception {
+    final File file = TestUtil.copyAudioToTmp("testV1.mp3", new File("dirtytag.mp3"));
+    AudioFile audioFile = AudioFileIO.read(file);
+    assertThat(audioFile.isDirty(), is(false));
+    final Tag newTag = audioFile.getTagOrSetNewDefault();
+    assertThat(audioFile.isDirty(), is(true));
+    newTag.setField(FieldKey.TITLE, "Title");
+    audioFile.save();
+    assertThat(audioFile.isDirty(), is(false));
+    assertThat(newTag.isDirty(), is(false));
+
+    audioFile = AudioFileIO.read(file);
+    final Tag tag = audioFile.getTag().get();
+    assertThat(tag.isDirty(), is(false));
+    assertThat(tag.getFirst(FieldKey.TITLE), is("Title"));
+    assertThat(tag.hasField(FieldKey.TITLE), is(true));
+    tag.getFieldCount();
+    assertUnchangedBySave(audioFile);
+
+    // a field which has been handed out is compared with the tag as read or last saved
+    final AbstractID3v2Frame title = (AbstractID3v2Frame)tag.getFirstField(FieldKey.TITLE).get();
+    assertUnchangedBySave(audioFile);
+    final AbstractFrameBodyTextInfo titleBody = (AbstractFrameBodyTextInfo)title.getBody();
+    assertUnchangedBySave(audioFile);
+    titleBody.setText("Changed");
+    assertThat(audioFile.isDirty(), is(true));
+    audioFile.save();
+    assertThat(audioFile.isDirty(), is(false));
+    assertThat(AudioFileIO.read(file).getTag().get().getFirst(FieldKey.TITLE), is("Changed"));
+    titleBody.setText("Title");
+    assertThat(audioFile.isDirty(), is(true));
+
+    tag.setField(FieldKey.ARTIST, "Artist");
+    assertThat(audioFile.isDirty(), is(true));
+    audioFile.save();
+    assertThat(AudioFileIO.read(file).getTag().get().getFirst(FieldKey.ARTIST), is("Artist"));
+
+    tag.deleteField(FieldKey.ARTIST);
+    assertThat(audioFile.isDirty(), is(true));
+    audioFile.save();
+    assertThat(AudioFileIO.read(file).getTag().get().hasField(FieldKey.ARTIST), is(false));
+  }
+
+  @Test public void testFlac() throws Exception {
+    final File file = TestUtil.copyAudioToTmp("test.flac", new File("dirtytag.flac"));
+    AudioFile audioFile = AudioFileIO.read(file);
+    final Tag tag = audioFile.getTag().get();
+    assertThat(tag.isDirty(), is(false));
+    tag.getFirst(FieldKey.ALBUM);
+    tag.getAll(FieldKey.ARTIST);
+    assertUnchangedBySave(audioFile);
+
+    tag.setField(FieldKey.ALBUM, "Album");
+    assertThat(tag.isDirty(), is(true));
+    audioFile.save();
+    assertThat(tag.isDirty(), is(false));
+    assertThat(AudioFileIO.read(file).getTag().get().getFirst(FieldKey.ALBUM), is("Album"));
+
+    final TagTextField album = (TagTextField)tag.getFirstField(FieldKey.ALBUM).get();
+    assertUnchangedBySave(audioFile);
+    album.setContent("Changed");
+    assertThat(tag.isDirty(), is(true));
+    audioFile.save();
+    assertThat(tag.isDirty(), is(false));
+    assertThat(AudioFileIO.read(file).getTag().get().getFirst(FieldKey.ALBUM), is("Changed"));
+
+    tag.deleteArtwork();
+    assertThat(audioFile.isDirty(), is(true));
+  }
+
+  private static void assertUnchangedBySave(final AudioFile audioFile) throws Exception {
+    final File file = audioFile.getFile();
+    final byte[] before = Files.readAllBytes(file.toPath());
+    final long lastModified = file.lastModified() - 10000;
+    Assert.assertTrue(file.setLastModified(lastModified));
+    audioFile.save();
+    assertThat(audioFile.isDirty(), is(false));
+    assertThat(file.lastModified(), is(lastModified));
+    assertThat(Files.readAllBytes(file.toPath()), is(before));
+  }
+}
@@ -0,0 +1,94 @@
+package ealvatag.audio;
+
+import com.google.common.collect.ImmutableSet;
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.UnsupportedFieldException;
+import ealvatag.tag.id3.ID3v1Tag;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.io.File;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Tests for {@link ReadOptions.Builder#fields(Set)}
+ */
+public class FieldProjectionReadTest {
+  private static final Set<FieldKey> INDEX_FIELDS = ImmutableSet.of(FieldKey.ARTIST,
+                                                                    FieldKey.ALBUM,
+                                                                    FieldKey.TITLE,
+                                                                    FieldKey.TRACK,
+                                                                    FieldKey.DISC_NO,
+                                                                    FieldKey.YEAR,
+                                                                    FieldKey.GENRE,
+                                                                    FieldKey.ALBUM_ARTIST);
+  private static final Set<SupportedFileFormat> PROJECTED_FORMATS = EnumSet.of(SupportedFileFormat.MP3,
+                                                                               SupportedFileFormat.MP4,
+                                                                               SupportedFileFormat.M4A,
+                                                                               SupportedFileFormat.FLAC,
+                                                                               SupportedFileFormat.OGG);
+
+  @Test public void testProjectedFieldsMatchFullRead() throws Exception {
+    final ReadOptions options = ReadOptions.builder().fields(INDEX_FIELDS).build();
+    int compared = 0;
+    for (File file : TestUtil.testDataFiles(PROJECTED_FORMATS)) {
+      final AudioFile full;
+      try {
+        full = AudioFileIO.read(file);
+      } catch (Exception e) {
+        continue; // testdata includes files which are deliberately corrupt
+      }
+      final AudioFile projected = AudioFileIO.read(file, options);
+      if (!full.getTag().isPresent()) {
+        Assert.assertFalse(file.getName(), projected.getTag().isPresent());
+        continue;
+      }
+      final Tag fullTag = full.getTag().get();
+      final Tag projectedTag = projected.getTag().get();
+      for (FieldKey fieldKey : INDEX_FIELDS) {
+        assertThat(file.getName() + " " + fieldKey, value(projectedTag, fieldKey), is(value(fullTag, fieldKey)));
+      }
+      assertThat(file.getName(), projectedTag.getFieldCount(), is(lessThanOrEqualTo(fullTag.getFieldCount())));
+      if (projectedTag.getFieldCount() < fullTag.getFieldCount()) {
+        Assert.assertTrue(file.getName() + " skipped fields but is not read-only", projectedTag.isReadOnly());
+      }
+      compared++;
+    }
+    Assert.assertTrue(compared > 0);
+  }
+
+  @Test public void testOnlyRequestedFieldsRead() throws Exception {
+    final ReadOptions options = ReadOptions.builder().fields(EnumSet.of(FieldKey.TITLE)).build();
+    for (File file : TestUtil.testDataFiles(PROJECTED_FORMATS)) {
+      final AudioFile full;
+      try {
+        full = AudioFileIO.read(file);
+      } catch (Exception e) {
+        continue;
+      }
+      final Tag fullTag = full.getTag().orNull();
+      // ID3v1 tags are fixed size and always read in full
+      if (fullTag != null && !(fullTag instanceof ID3v1Tag) && fullTag.hasField(FieldKey.ARTIST) && fullTag.hasField(FieldKey.TITLE)) {
+        final Tag projectedTag = AudioFileIO.read(file, options).getTag().get();
+        assertThat(file.getName(), projectedTag.hasField(FieldKey.ARTIST), is(false));
+        assertThat(file.getName(), projectedTag.getFirst(FieldKey.TITLE), is(fullTag.getFirst(FieldKey.TITLE)));
+        assertThat(file.getName(), projectedTag.isReadOnly(), is(true));
+      }
+    }
+  }
+
+  private static String value(final Tag tag, final FieldKey fieldKey) {
+    try {
+      return tag.getFirst(fieldKey);
+    } catch (UnsupportedFieldException e) {
+      return "unsupported";
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package ealvatag.audio;
+
+import com.google.common.base.Strings;
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+
+/**
+ * Tests for {@link AudioFileIO#readHeaderOnly(File)}
+ */
+public class HeaderOnlyReadTest {
+  @Test public void testHeaderOnlyMatchesFullRead() throws Exception {
+    for (File file : TestUtil.testDataFiles()) {
+      final String expected = readFull(file);
+      final String actual = readHeaderOnly(file);
+      if (!expected.startsWith("failed:")) {
+        assertThat(file.getName(), actual, is(expected));
+      }
+    }
+  }
+
+  /**
+   * Where the platform reports bytes read, a header only read of a file with a large tag reads less than a full read as it skips the
+   * tag
+   */
+  @Test public void testHeaderOnlyReadsLess() throws Exception {
+    try {
+      final File file = TestUtil.copyAudioToTmp("01.mp3", new File("headeronly.mp3"));
+      final AudioFile audioFile = AudioFileIO.read(file);
+      audioFile.getTagOrSetNewDefault().setField(FieldKey.COMMENT, Strings.repeat("header only ", 100000));
+      audioFile.save();
+      // warm up, so classes are loaded before counting
+      AudioFileIO.read(file);
+      AudioFileIO.readHeaderOnly(file);
+
+      final long fullBytesStart = TestUtil.bytesRead();
+      AudioFileIO.read(file);
+      final long fullBytes = TestUtil.bytesRead() - fullBytesStart;
+
+      final long headerBytesStart = TestUtil.bytesRead();
+      AudioFileIO.readHeaderOnly(file);
+      final long headerBytes = TestUtil.bytesRead() - headerBytesStart;
+
+      if (fullBytesStart >= 0) {
+        Assert.assertTrue("Header only read " + headerBytes + " bytes, full read " + fullBytes, headerBytes < fullBytes);
+      }
+    } finally {
+      TestUtil.deleteTestDataTemp();
+    }
+  }
+
+  private static String readFull(final File file) {
+    try {
+      return TestUtil.describe(AudioFileIO.read(file).getAudioHeader());
+    } catch (Exception e) {
+      return TestUtil.describeFailure(e);
+    }
+  }
+
+  private static String readHeaderOnly(final File file) {
+    try {
+      return TestUtil.describe(AudioFileIO.readHeaderOnly(file));
+    } catch (Exception e) {
+      return TestUtil.describeFailure(e);
+    }
+  }
+}
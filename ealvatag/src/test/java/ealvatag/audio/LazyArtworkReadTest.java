@@ -0,0 +1,146 @@
+package ealvatag.audio;
+
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.flac.metadatablock.MetadataBlockDataPicture;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.flac.FlacTag;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.images.Artwork;
+import ealvatag.tag.images.ArtworkFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tests for {@link ReadOptions.Builder#lazyArtwork(boolean)}
+ */
+public class LazyArtworkReadTest {
+  private static final Set<SupportedFileFormat> LAZY_FORMATS = EnumSet.of(SupportedFileFormat.MP3, SupportedFileFormat.FLAC);
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testLazyArtworkMatchesFullRead() throws Exception {
+    int lazy = 0;
+    for (File file : filesWithArtwork()) {
+      final Tag tag = AudioFileIO.read(file, ReadOptions.LAZY_ARTWORK).getTag().get();
+      assertThat(file.getName(), tag.isReadOnly(), is(false));
+      final int notLoaded = countNotLoaded(tag);
+      assertArtworkEquals(file.getName(), tag.getArtworkList(), AudioFileIO.read(file).getTag().get().getArtworkList());
+      assertThat(file.getName(), countNotLoaded(tag), is(0));
+      lazy += notLoaded;
+    }
+    Assert.assertTrue(lazy > 0);
+  }
+
+  @Test public void testSaveCopiesUnloadedArtwork() throws Exception {
+    final List<String> saved = new ArrayList<>();
+    for (File file : filesWithArtwork()) {
+      final String extension = Files.getFileExtension(file.getName());
+      if (saved.contains(extension) ||
+          countNotLoaded(AudioFileIO.read(file, ReadOptions.LAZY_ARTWORK).getTag().get()) == 0) {
+        continue;
+      }
+      final List<Artwork> expected = AudioFileIO.read(file).getTag().get().getArtworkList();
+
+      final File testFile = TestUtil.copyAudioToTmp(file.getName(), new File("lazyartwork." + extension));
+      final AudioFile audioFile = AudioFileIO.read(testFile, ReadOptions.LAZY_ARTWORK);
+      audioFile.getTag().get().setField(FieldKey.TITLE, "lazy artwork");
+      audioFile.save();
+      assertThat(file.getName(), countNotLoaded(audioFile.getTag().get()), is(0));
+
+      final Tag tag = AudioFileIO.read(testFile).getTag().get();
+      assertThat(file.getName(), tag.getFirst(FieldKey.TITLE), is("lazy artwork"));
+      assertArtworkEquals(file.getName(), tag.getArtworkList(), expected);
+      saved.add(extension);
+    }
+    Assert.assertFalse(saved.isEmpty());
+  }
+
+  /**
+   * Where the platform reports bytes read, a lazy read of an MP3 with large artwork reads less than a full read as it seeks past the
+   * artwork rather than reading the whole tag
+   */
+  @Test public void testLazyArtworkReadsLess() throws Exception {
+    final File file = TestUtil.copyAudioToTmp("01.mp3", new File("lazyartworkbytes.mp3"));
+    final AudioFile audioFile = AudioFileIO.read(file);
+    audioFile.getTagOrSetNewDefault().setArtwork(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart_large.jpg")));
+    audioFile.save();
+    // warm up, so classes are loaded before counting
+    AudioFileIO.read(file);
+    AudioFileIO.read(file, ReadOptions.LAZY_ARTWORK);
+
+    final long fullBytesStart = TestUtil.bytesRead();
+    AudioFileIO.read(file);
+    final long fullBytes = TestUtil.bytesRead() - fullBytesStart;
+
+    final long lazyBytesStart = TestUtil.bytesRead();
+    final Tag tag = AudioFileIO.read(file, ReadOptions.LAZY_ARTWORK).getTag().get();
+    final long lazyBytes = TestUtil.bytesRead() - lazyBytesStart;
+
+    assertThat(countNotLoaded(tag), is(1));
+    if (fullBytesStart >= 0) {
+      Assert.assertTrue("Lazy artwork read " + lazyBytes + " bytes, full read " + fullBytes, lazyBytes < fullBytes);
+    }
+  }
+
+  private static int countNotLoaded(final Tag tag) {
+    int count = 0;
+    if (tag instanceof AbstractID3v2Tag) {
+      for (String id : Arrays.asList("APIC", "PIC")) {
+        final Iterator<?> iterator = ((AbstractID3v2Tag)tag).getFrameOfType(id);
+        while (iterator.hasNext()) {
+          if (!((AbstractID3v2Frame)iterator.next()).isBodyLoaded()) {
+            count++;
+          }
+        }
+      }
+    } else if (tag instanceof FlacTag) {
+      for (MetadataBlockDataPicture picture : ((FlacTag)tag).getImages()) {
+        if (!picture.isImageDataLoaded()) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
+  private static void assertArtworkEquals(final String name, final List<Artwork> actual, final List<Artwork> expected) {
+    assertThat(name, actual.size(), is(expected.size()));
+    for (int i = 0; i < expected.size(); i++) {
+      Assert.assertArrayEquals(name, expected.get(i).getBinaryData(), actual.get(i).getBinaryData());
+      assertThat(name, actual.get(i).getMimeType(), is(expected.get(i).getMimeType()));
+      assertThat(name, actual.get(i).getPictureType(), is(expected.get(i).getPictureType()));
+    }
+  }
+
+  private static List<File> filesWithArtwork() {
+    final List<File> result = new ArrayList<>();
+    for (File file : TestUtil.testDataFiles(LAZY_FORMATS)) {
+      try {
+        final Tag tag = AudioFileIO.read(file).getTag().orNull();
+        if (tag != null && !tag.getArtworkList().isEmpty()) {
+          result.add(file);
+        }
+      } catch (Exception e) {
+        // testdata includes files which are deliberately corrupt or have no artwork support
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,109 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import ealvatag.tag.TagField;
+import ealvatag.tag.id3.AbstractID3v2Frame;
+import ealvatag.tag.id3.AbstractID3v2Tag;
+import ealvatag.tag.id3.ID3v22Tag;
+import ealvatag.tag.id3.ID3v23Tag;
+import ealvatag.tag.id3.ID3v24Tag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Tests for {@link ReadOptions.Builder#lazyFrames(boolean)}
+ */
+public class LazyFramesReadTest {
+  private static final ReadOptions LAZY_FRAMES = ReadOptions.builder().lazyFrames(true).build();
+  private static final List<FieldKey> KEYS =
+      Arrays.asList(FieldKey.TITLE, FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.COMPOSER, FieldKey.COMMENT);
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testLazyFramesMatchFullRead() throws Exception {
+    for (AbstractID3v2Tag tag : Arrays.asList(new ID3v22Tag(), new ID3v23Tag(), new ID3v24Tag())) {
+      final File testFile = writeTag(tag);
+      final String name = tag.getClass().getSimpleName();
+
+      final Tag lazy = AudioFileIO.read(testFile, LAZY_FRAMES).getTag().get();
+      assertThat(name, lazy.isReadOnly(), is(false));
+      assertThat(name, countNotLoaded(lazy), is(KEYS.size()));
+
+      final Tag full = AudioFileIO.read(testFile).getTag().get();
+      assertThat(name, lazy.getFirst(FieldKey.TITLE), is(full.getFirst(FieldKey.TITLE)));
+      assertThat(name, countNotLoaded(lazy), is(KEYS.size() - 1));
+      assertThat(name, fields(lazy), is(fields(full)));
+      assertThat(name, countNotLoaded(lazy), is(0));
+    }
+  }
+
+  @Test public void testSaveWritesUndecodedFramesUnchanged() throws Exception {
+    for (AbstractID3v2Tag tag : Arrays.asList(new ID3v22Tag(), new ID3v23Tag(), new ID3v24Tag())) {
+      final File testFile = writeTag(tag);
+      final String name = tag.getClass().getSimpleName();
+
+      final AudioFile audioFile = AudioFileIO.read(testFile, LAZY_FRAMES);
+      audioFile.getTag().get().setField(FieldKey.TITLE, "lazy frames");
+      audioFile.save();
+      assertThat(name, countNotLoaded(audioFile.getTag().get()), is(KEYS.size() - 1));
+
+      final Tag saved = AudioFileIO.read(testFile).getTag().get();
+      assertThat(name, saved.getFirst(FieldKey.TITLE), is("lazy frames"));
+      for (FieldKey key : KEYS.subList(1, KEYS.size())) {
+        assertThat(name + " " + key, saved.getFirst(key), is(valueOf(key)));
+      }
+    }
+  }
+
+  private static File writeTag(final AbstractID3v2Tag tag) throws Exception {
+    for (FieldKey key : KEYS) {
+      tag.setField(key, valueOf(key));
+    }
+    final File testFile = TestUtil.copyAudioToTmp("01.mp3", new File("lazyframes.mp3"));
+    final MP3File mp3File = (MP3File)AudioFileIO.read(testFile);
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+    return testFile;
+  }
+
+  private static String valueOf(final FieldKey key) {
+    return key.name().toLowerCase() + " value";
+  }
+
+  private static int countNotLoaded(final Tag tag) {
+    int count = 0;
+    final Iterator<TagField> iterator = tag.getFields();
+    while (iterator.hasNext()) {
+      final TagField field = iterator.next();
+      if (field instanceof AbstractID3v2Frame && !((AbstractID3v2Frame)field).isBodyLoaded()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static List<TagField> fields(final Tag tag) {
+    final List<TagField> fields = new ArrayList<>();
+    final Iterator<TagField> iterator = tag.getFields();
+    while (iterator.hasNext()) {
+      fields.add(iterator.next());
+    }
+    Assert.assertFalse(fields.isEmpty());
+    return fields;
+  }
+}
@@ -0,0 +1,135 @@
+package ealvatag.audio;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.exceptions.CannotWriteException;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.Tag;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for {@link ScanCache}
+ */
+public class ScanCacheTest {
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testHitReturnsCachedSnapshot() throws Exception {
+    final File file = tagged("01.mp3", "scancache1.mp3", "cached title");
+    final ScanCache scanCache = ScanCache.builder(TestUtil.getTestDataTmpFile("scancache.bin")).build();
+
+    final AudioFile read = scanCache.read(file);
+    assertThat(read.readOnly(), is(false));
+    assertThat(scanCache.getMissCount(), is(1L));
+
+    final AudioFile cached = scanCache.read(file);
+    assertThat(scanCache.getHitCount(), is(1L));
+    assertThat(cached.readOnly(), is(true));
+    final Tag tag = cached.getTag().get();
+    assertThat(tag.isReadOnly(), is(true));
+    assertThat(tag.getFirst(FieldKey.TITLE), is("cached title"));
+    assertThat(tag.getAll(FieldKey.ARTIST), is(read.getTag().get().getAll(FieldKey.ARTIST)));
+
+    final AudioHeader expected = read.getAudioHeader();
+    final AudioHeader actual = cached.getAudioHeader();
+    assertThat(actual.getEncodingType(), is(expected.getEncodingType()));
+    assertThat(actual.getBitRate(), is(expected.getBitRate()));
+    assertThat(actual.getSampleRate(), is(expected.getSampleRate()));
+    assertThat(actual.getChannelCount(), is(expected.getChannelCount()));
+    assertThat(actual.getAudioDataStartPosition(), is(expected.getAudioDataStartPosition()));
+    assertThat(actual.getDuration(TimeUnit.MILLISECONDS, true), is(expected.getDuration(TimeUnit.MILLISECONDS, true)));
+    assertThat(actual.getDurationAsDouble(), is(expected.getDurationAsDouble()));
+
+    try {
+      cached.save();
+      Assert.fail("Cached AudioFile should not be saved");
+    } catch (CannotWriteException e) {
+      // expected
+    }
+  }
+
+  @Test public void testChangedFileIsReread() throws Exception {
+    final File file = tagged("01.mp3", "scancache2.mp3", "before");
+    final ScanCache scanCache = ScanCache.builder(TestUtil.getTestDataTmpFile("scancache.bin")).build();
+    scanCache.read(file);
+
+    tagged(file, "after");
+    assertThat(scanCache.read(file).getTag().get().getFirst(FieldKey.TITLE), is("after"));
+    assertThat(scanCache.getStaleCount(), is(1L));
+    assertThat(scanCache.getMissCount(), is(2L));
+    assertThat(scanCache.read(file).getTag().get().getFirst(FieldKey.TITLE), is("after"));
+    assertThat(scanCache.getHitCount(), is(1L));
+  }
+
+  @Test public void testPersistsAcrossInstances() throws Exception {
+    final File file = tagged("test.flac", "scancache3.flac", "persisted");
+    final File store = TestUtil.getTestDataTmpFile("scancache.bin");
+    try (ScanCache scanCache = ScanCache.builder(store).build()) {
+      scanCache.read(file);
+    }
+    assertThat(store.exists(), is(true));
+
+    final ScanCache reloaded = ScanCache.builder(store).build();
+    assertThat(reloaded.size(), is(1L));
+    final AudioFile cached = reloaded.read(file);
+    assertThat(reloaded.getHitCount(), is(1L));
+    assertThat(cached.getTag().get().getFirst(FieldKey.TITLE), is("persisted"));
+    assertThat(cached.getAudioHeader().isLossless(), is(true));
+  }
+
+  @Test public void testFlushReplacesStore() throws Exception {
+    final File store = TestUtil.getTestDataTmpFile("scancache.bin");
+    try (ScanCache scanCache = ScanCache.builder(store).build()) {
+      scanCache.read(tagged("01.mp3", "scancache6.mp3", "first"));
+    }
+    try (ScanCache scanCache = ScanCache.builder(store).build()) {
+      scanCache.read(tagged("test.flac", "scancache7.flac", "second"));
+    }
+    assertThat(new File(store.getPath() + ".old").exists(), is(false));
+    assertThat(new File(store.getPath() + ".tmp").exists(), is(false));
+    final ScanCache reloaded = ScanCache.builder(store).build();
+    assertThat(reloaded.size(), is(2L));
+    assertThat(reloaded.read(TestUtil.getTestDataTmpFile("scancache6.mp3")).getTag().get().getFirst(FieldKey.TITLE), is("first"));
+    assertThat(reloaded.getHitCount(), is(1L));
+  }
+
+  @Test public void testMaximumSizeEvicts() throws Exception {
+    final ScanCache scanCache = ScanCache.builder(TestUtil.getTestDataTmpFile("scancache.bin")).maximumSize(1).build();
+    scanCache.read(tagged("01.mp3", "scancache4.mp3", "one"));
+    scanCache.read(tagged("test.flac", "scancache5.flac", "two"));
+    assertThat(scanCache.size(), is(1L));
+    assertThat(scanCache.getEvictionCount(), is(1L));
+  }
+
+  @Test public void testCorruptStoreIsIgnored() throws Exception {
+    final File store = TestUtil.getTestDataTmpFile("scancache.bin");
+    Assert.assertTrue(store.createNewFile());
+    final ScanCache scanCache = ScanCache.builder(store).build();
+    assertThat(scanCache.size(), is(0L));
+    scanCache.flush();
+    assertThat(ScanCache.builder(store).build().size(), is(0L));
+  }
+
+  private static File tagged(final String name, final String copyName, final String title) throws Exception {
+    return tagged(TestUtil.copyAudioToTmp(name, new File(copyName)), title);
+  }
+
+  private static File tagged(final File file, final String title) throws Exception {
+    final long lastModified = file.lastModified();
+    final AudioFile audioFile = AudioFileIO.read(file);
+    audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, title);
+    audioFile.save();
+    // file systems with coarse timestamps may not see the save as a modification
+    Assert.assertTrue(file.setLastModified(lastModified + 2000));
+    return file;
+  }
+}
@@ -160,6 +160,28 @@ public final class FileOperatorTest {
         assertEquals(data, snapshot());
     }
 
+    @Test public void prefetchedReadsDoNotTouchFile() throws Exception {
+        write(ByteString.encodeUtf8("Hello, World"));
+
+        FileOperator operator = new FileOperator(randomAccessFile.getChannel());
+        operator.prefetch(0, 5);
+        operator.prefetch(5, 100);
+        int prefetchReads = operator.getReadCount();
+
+        Buffer buffer = new Buffer();
+        operator.read(7, buffer, 5);
+        assertEquals("World", buffer.readUtf8());
+        operator.read(0, buffer, 12);
+        assertEquals("Hello, World", buffer.readUtf8());
+        assertEquals(prefetchReads, operator.getReadCount());
+
+        // overwriting drops what was prefetched
+        operator.write(7, new Buffer().writeUtf8("Earth"), 5);
+        operator.read(7, buffer, 5);
+        assertEquals("Earth", buffer.readUtf8());
+        assertEquals(prefetchReads + 1, operator.getReadCount());
+    }
+
     @Test public void readBounds() throws Exception {
         FileOperator operator = new FileOperator(randomAccessFile.getChannel());
         Buffer buffer = new Buffer();
@@ -15,6 +15,8 @@
  */
 package ealvatag.audio.mp3;
 
+import com.google.common.io.FileWriteMode;
+import com.google.common.io.Files;
 import ealvatag.TestUtil;
 import ealvatag.audio.Utils;
 import ealvatag.audio.exceptions.InvalidAudioFrameException;
@@ -31,6 +33,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 public class MP3AudioHeaderTest {
@@ -530,4 +533,28 @@ public class MP3AudioHeaderTest {
         Assert.assertEquals("Fraunhofer", mp3AudioHeader.getEncoder());
 
     }
+
+    @Test public void testSeekPastLeadingJunk() throws Exception {
+        final File original = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+        final MP3AudioHeader expected = new MP3File(original).getMP3AudioHeader();
+
+        // a megabyte with no sync bytes in it, long enough that the scan has to refill its window many times
+        final byte[] junk = new byte[1024 * 1024];
+        new Random(1).nextBytes(junk);
+        for (int i = 0; i < junk.length; i++) {
+            if (junk[i] == (byte)0xFF) {
+                junk[i] = 0;
+            }
+        }
+        final File testFile = TestUtil.getTestDataTmpFile("junkprefix.mp3");
+        Files.write(junk, testFile);
+        Files.asByteSink(testFile, FileWriteMode.APPEND).write(Files.toByteArray(original));
+
+        final MP3AudioHeader mp3AudioHeader = new MP3File(testFile).getMP3AudioHeader();
+        Assert.assertEquals(expected.getMp3StartByte() + junk.length, mp3AudioHeader.getMp3StartByte());
+        Assert.assertEquals(expected.getSampleRate(), mp3AudioHeader.getSampleRate());
+        Assert.assertEquals(expected.getBitRate(), mp3AudioHeader.getBitRate());
+        Assert.assertEquals(expected.getNumberOfFrames(), mp3AudioHeader.getNumberOfFrames());
+        Assert.assertTrue(mp3AudioHeader.isVariableBitRate());
+    }
 }
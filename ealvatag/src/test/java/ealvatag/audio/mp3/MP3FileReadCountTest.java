@@ -0,0 +1,41 @@
+package ealvatag.audio.mp3;
+
+import com.google.common.base.Strings;
+import ealvatag.TestUtil;
+import ealvatag.tag.FieldKey;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+
+/**
+ * Opening an MP3 should read the head and tail of the file once each, however many structures are parsed from them
+ */
+public class MP3FileReadCountTest {
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testHeadAndTailReadOnce() throws Exception {
+    final MP3File mp3File = new MP3File(TestUtil.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3"));
+    assertThat(mp3File.hasID3v2Tag(), is(true));
+    assertThat(mp3File.hasID3v1Tag(), is(true));
+    assertThat(mp3File.getReadCount(), is(2));
+  }
+
+  @Test public void testTagLargerThanHeadTakesOneMoreRead() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3", new File("readcount.mp3"));
+    MP3File mp3File = new MP3File(testFile);
+    mp3File.getID3v2Tag().setField(FieldKey.COMMENT, Strings.repeat("read count ", 10000));
+    mp3File.save();
+
+    mp3File = new MP3File(testFile);
+    assertThat(mp3File.getID3v2Tag().getFirst(FieldKey.COMMENT), is(Strings.repeat("read count ", 10000)));
+    assertThat(mp3File.hasID3v1Tag(), is(true));
+    assertThat(mp3File.getReadCount(), is(3));
+  }
+}
@@ -0,0 +1,75 @@
+package ealvatag.audio.mp3;
+
+import com.google.common.io.Files;
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ReadOptions;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Tests for {@link ReadOptions.Builder#exactDuration(boolean)} and {@link MP3FrameScanner}
+ */
+public class MP3FrameScannerTest {
+  private static final ReadOptions EXACT = ReadOptions.builder().exactDuration(true).build();
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testExactCountMatchesXingFrame() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+    final MP3AudioHeader xing = (MP3AudioHeader)AudioFileIO.read(testFile).getAudioHeader();
+    assertThat(xing.getFrameScan().isPresent(), is(false));
+
+    final MP3AudioHeader exact = (MP3AudioHeader)AudioFileIO.read(testFile, EXACT).getAudioHeader();
+    final MP3FrameScan frameScan = exact.getFrameScan().get();
+    assertThat(frameScan.getFrameCount(), is(xing.getNumberOfFrames()));
+    assertThat(exact.getNumberOfFrames(), is(xing.getNumberOfFrames()));
+    assertThat(exact.getDurationAsDouble(), is(xing.getDurationAsDouble()));
+    assertThat(frameScan.getSampleCount(), is(frameScan.getFrameCount() * 1152));
+    assertThat(exact.getBitRate(), is(frameScan.getAverageBitRate()));
+  }
+
+  @Test public void testVbrWithoutXingFrame() throws Exception {
+    final File original = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+    final MP3AudioHeader xing = (MP3AudioHeader)AudioFileIO.read(original).getAudioHeader();
+
+    // drop the Xing frame so the frame count has to be estimated
+    final byte[] bytes = Files.toByteArray(original);
+    final int firstAudioFrame = (int)xing.getMp3StartByte() + xing.mp3FrameHeader.getFrameLength();
+    final File testFile = TestUtil.getTestDataTmpFile("noxing.mp3");
+    Files.write(Arrays.copyOfRange(bytes, firstAudioFrame, bytes.length), testFile);
+
+    final MP3AudioHeader estimated = (MP3AudioHeader)AudioFileIO.read(testFile).getAudioHeader();
+    assertThat(estimated.getNumberOfFrames(), is(not(xing.getNumberOfFrames())));
+
+    final MP3AudioHeader exact = (MP3AudioHeader)AudioFileIO.read(testFile, EXACT).getAudioHeader();
+    assertThat(exact.getNumberOfFrames(), is(xing.getNumberOfFrames()));
+  }
+
+  @Test public void testRegionsMatchSingleWalk() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+    final MP3AudioHeader header = (MP3AudioHeader)AudioFileIO.read(testFile, EXACT).getAudioHeader();
+    final MP3FrameScan expected = header.getFrameScan().get();
+    final long start = header.getMp3StartByte() + header.mp3FrameHeader.getFrameLength();
+
+    try (FileChannel channel = new RandomAccessFile(testFile, "r").getChannel()) {
+      for (long regionSize : new long[]{1000, 4096, 12345}) {
+        final MP3FrameScan regions =
+            MP3FrameScanner.scan(channel, start, header.getAudioDataEndPosition(), header.mp3FrameHeader, 0.026, regionSize);
+        assertThat(regions.getFrameCount(), is(expected.getFrameCount()));
+        assertThat(regions.getAudioByteCount(), is(expected.getAudioByteCount()));
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package ealvatag.audio.mp3;
+
+import ealvatag.TestUtil;
+import okio.Buffer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+/**
+ * Tests for {@link MP3SeekIndex}
+ */
+public class MP3SeekIndexTest {
+
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testEntriesAreFrames() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+    final MP3AudioHeader header = MP3File.readAudioHeader(testFile);
+    final MP3SeekIndex index = MP3SeekIndex.build(testFile, 1000);
+
+    assertThat(index.getFrameCount(), is(header.getNumberOfFrames()));
+    // an entry for each whole second up to the start of the last frame
+    assertThat(index.getEntryCount(), is((int)Math.floor((index.getFrameCount() - 1) * header.getTimePerFrame()) + 1));
+    assertThat(index.getPosition(0L), is(header.getFirstAudioFrame()));
+
+    try (RandomAccessFile raf = new RandomAccessFile(testFile, "r")) {
+      for (int entry = 0; entry < index.getEntryCount(); entry++) {
+        assertThat(index.getEntryTimeMillis(entry), is(greaterThan(entry * 1000L - 1)));
+        assertThat(index.getEntryTimeMillis(entry), is(lessThanOrEqualTo(entry * 1000L + 27)));
+        raf.seek(index.getEntryPosition(entry));
+        assertThat(MPEGFrameHeader.forHeader(raf.readInt()), is(notNullValue()));
+      }
+    }
+  }
+
+  @Test public void testLookup() throws Exception {
+    final MP3SeekIndex index = MP3SeekIndex.build(TestUtil.copyAudioToTmp("testV1vbrNew0.mp3"), 500);
+    assertThat(index.getEntry(0L), is(0));
+    assertThat(index.getEntry(-10L), is(0));
+    assertThat(index.getEntry(499L), is(0));
+    assertThat(index.getEntry(index.getEntryTimeMillis(3) + 1), is(3));
+    assertThat(index.getEntry(index.getEntryTimeMillis(3) - 1), is(2));
+    assertThat(index.getEntry(Long.MAX_VALUE / 2), is(index.getEntryCount() - 1));
+    assertThat(index.getPosition(1700L), is(index.getEntryPosition(3)));
+  }
+
+  @Test public void testPersist() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1vbrNew0.mp3");
+    final MP3SeekIndex index = MP3SeekIndex.build(testFile, 250);
+    final Buffer buffer = new Buffer();
+    index.writeTo(buffer);
+    final MP3SeekIndex read = MP3SeekIndex.readFrom(buffer);
+
+    assertThat(read.getEntryCount(), is(index.getEntryCount()));
+    assertThat(read.getFrameCount(), is(index.getFrameCount()));
+    assertThat(read.getIntervalMillis(), is(250));
+    for (int entry = 0; entry < index.getEntryCount(); entry++) {
+      assertThat(read.getEntryPosition(entry), is(index.getEntryPosition(entry)));
+      assertThat(read.getEntryTimeMillis(entry), is(index.getEntryTimeMillis(entry)));
+    }
+    assertThat(read.isCurrent(testFile), is(true));
+    Assert.assertTrue(testFile.setLastModified(testFile.lastModified() + 2000));
+    assertThat(read.isCurrent(testFile), is(false));
+  }
+}
@@ -0,0 +1,60 @@
+package ealvatag.audio.mp3;
+
+import ealvatag.audio.exceptions.InvalidAudioFrameException;
+import okio.Buffer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.ByteBuffer;
+
+public class MPEGFrameHeaderTest {
+    private static final byte[] MPEG1_LAYER3_128K_JOINT_STEREO = {(byte)0xFF, (byte)0xFB, (byte)0x90, (byte)0x64};
+    private static final byte[] MPEG1_LAYER3_64K_MONO = {(byte)0xFF, (byte)0xFB, (byte)0x50, (byte)0xC4};
+
+    @Test public void testParsedHeadersAreIndependent() throws Exception {
+        MPEGFrameHeader first = MPEGFrameHeader.parseMPEGHeader(ByteBuffer.wrap(MPEG1_LAYER3_128K_JOINT_STEREO));
+        String firstDescription = first.toString();
+        MPEGFrameHeader second = MPEGFrameHeader.parseMPEGHeader(ByteBuffer.wrap(MPEG1_LAYER3_64K_MONO));
+
+        assertThat(first.toString(), is(firstDescription));
+        assertThat(first.getBitRate(), is(128));
+        assertThat(first.getNumberOfChannels(), is(2));
+        assertThat(second.getBitRate(), is(64));
+        assertThat(second.getNumberOfChannels(), is(1));
+    }
+
+    @Test public void testParseDoesNotMovePosition() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(MPEG1_LAYER3_128K_JOINT_STEREO);
+        MPEGFrameHeader.parseMPEGHeader(buffer);
+        assertThat(buffer.position(), is(0));
+    }
+
+    @Test public void testHeadersAreInterned() throws Exception {
+        MPEGFrameHeader first = MPEGFrameHeader.parseMPEGHeader(ByteBuffer.wrap(MPEG1_LAYER3_128K_JOINT_STEREO));
+        MPEGFrameHeader second = MPEGFrameHeader.parseMPEGHeader(new Buffer().write(MPEG1_LAYER3_128K_JOINT_STEREO));
+        assertThat(second, is(sameInstance(first)));
+        assertThat(first.getFrameLength(), is(417));
+        assertThat(first.getSamplingRate(), is(44100));
+        assertThat(first.getNoOfSamples(), is(1152));
+    }
+
+    @Test public void testInvalidHeaderIsRejected() throws Exception {
+        // bitrate index 15 is not allowed
+        assertThat(MPEGFrameHeader.forHeader(0xFFFBF064), is(nullValue()));
+        // sampling rate index 3 is reserved
+        assertThat(MPEGFrameHeader.forHeader(0xFFFB9C64), is(nullValue()));
+        // version 01 is reserved
+        assertThat(MPEGFrameHeader.forHeader(0xFFEB9064), is(nullValue()));
+        try {
+            MPEGFrameHeader.parseMPEGHeader(new Buffer().writeInt(0xFFFBF064));
+            Assert.fail("Invalid header should not parse");
+        } catch (InvalidAudioFrameException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package ealvatag.tag;
+
+import ealvatag.audio.ReadOptions;
+import ealvatag.tag.reference.ID3V2Version;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TagOptionSingletonTest {
+
+  @After public void tearDown() {
+    TagOptionSingleton.setThreadInstance(null);
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @Test public void testSnapshotIsIndependentOfLaterChanges() {
+    final TagOptionSingleton options = TagOptionSingleton.getInstance();
+    options.setID3V2Version(ID3V2Version.ID3_V24);
+    options.setPadNumbers(true);
+
+    final TagOptionSingleton snapshot = options.snapshot();
+    options.setID3V2Version(ID3V2Version.ID3_V22);
+    options.setPadNumbers(false);
+
+    assertThat(snapshot.isSnapshot(), is(true));
+    assertThat(snapshot.getID3V2Version(), is(ID3V2Version.ID3_V24));
+    assertThat(snapshot.isPadNumbers(), is(true));
+    assertThat(snapshot.snapshot(), sameInstance(snapshot));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSnapshotCannotBeModified() {
+    TagOptionSingleton.getInstance().snapshot().setPadNumbers(true);
+  }
+
+  @Test public void testThreadInstanceOnlyVisibleOnThread() throws Exception {
+    final TagOptionSingleton shared = TagOptionSingleton.getInstance();
+    final TagOptionSingleton snapshot = shared.snapshot();
+
+    final TagOptionSingleton previous = TagOptionSingleton.setThreadInstance(snapshot);
+    assertThat(previous, is(nullValue()));
+    assertThat(TagOptionSingleton.getInstance(), sameInstance(snapshot));
+
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final TagOptionSingleton other = executor.submit(new Callable<TagOptionSingleton>() {
+        @Override public TagOptionSingleton call() throws Exception {
+          return TagOptionSingleton.getInstance();
+        }
+      }).get();
+      assertThat(other, sameInstance(shared));
+    } finally {
+      executor.shutdown();
+    }
+
+    TagOptionSingleton.setThreadInstance(previous);
+    assertThat(TagOptionSingleton.getInstance(), sameInstance(shared));
+  }
+
+  @Test public void testConcurrentLookupReturnsSameInstance() throws Exception {
+    final int threads = 16;
+    final CountDownLatch start = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<TagOptionSingleton>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(new Callable<TagOptionSingleton>() {
+          @Override public TagOptionSingleton call() throws Exception {
+            start.await();
+            return TagOptionSingleton.getInstance("TagOptionSingletonTest");
+          }
+        }));
+      }
+      start.countDown();
+      final TagOptionSingleton first = futures.get(0).get();
+      for (Future<TagOptionSingleton> future : futures) {
+        assertThat(future.get(), sameInstance(first));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test public void testReadOptionsTakesSnapshot() {
+    final TagOptionSingleton options = TagOptionSingleton.getInstance();
+    options.setID3V2Version(ID3V2Version.ID3_V24);
+    final ReadOptions readOptions = ReadOptions.builder().tagOptions(options).build();
+    options.setID3V2Version(ID3V2Version.ID3_V23);
+
+    Assert.assertNotNull(readOptions.tagOptions());
+    assertThat(readOptions.tagOptions().isSnapshot(), is(true));
+    assertThat(readOptions.tagOptions().getID3V2Version(), is(ID3V2Version.ID3_V24));
+    assertThat(ReadOptions.DEFAULT.tagOptions(), is(nullValue()));
+  }
+}
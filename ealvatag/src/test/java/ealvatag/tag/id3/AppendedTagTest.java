@@ -0,0 +1,131 @@
+package ealvatag.tag.id3;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.io.FileOperator;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.framebody.FrameBodyPRIV;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * ID3v2.4 tags appended to the end of a file with a footer
+ */
+public class AppendedTagTest {
+  @Before public void setUp() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @After public void tearDown() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @Test public void testAppendReadAndMoveToFront() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("appendedtag.mp3"));
+    final byte[] original = Files.readAllBytes(testFile.toPath());
+    final byte[] privateData = new byte[100000];
+    new Random(1).nextBytes(privateData);
+
+    MP3File mp3File = new MP3File(testFile);
+    final long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+    final ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Title");
+    final ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_PRIVATE);
+    frame.setBody(new FrameBodyPRIV("owner", privateData));
+    tag.setFrame(frame);
+    mp3File.setID3v2Tag(tag);
+    final ID3v1Tag v1Tag = new ID3v1Tag();
+    v1Tag.setField(FieldKey.TITLE, "V1 Title");
+    mp3File.setID3v1Tag(v1Tag);
+    TagOptionSingleton.getInstance().setId3v2AppendTagWhenNoRoom(true);
+    mp3File.saveMp3();
+
+    // the audio hasn't moved, the tag follows it and the v1 tag is still last
+    final byte[] appended = Files.readAllBytes(testFile.toPath());
+    assertThat(Arrays.copyOfRange(appended, 0, original.length), is(original));
+    final long tagStart = findAppendedTag(testFile);
+    assertThat(tagStart, is((long)original.length));
+    final int footerStart = appended.length - ID3v1Tag.TAG_LENGTH - ID3v24Tag.TAG_FOOTER_LENGTH;
+    assertThat(Arrays.copyOfRange(appended, footerStart, footerStart + 3), is(ID3v24Tag.FOOTER_ID));
+
+    mp3File = new MP3File(testFile);
+    assertThat(mp3File.getMP3AudioHeader().getMp3StartByte(), is(audioStart));
+    assertThat(mp3File.getMP3AudioHeader().getAudioDataEndPosition(), is(tagStart));
+    AbstractID3v2Tag read = mp3File.getID3v2Tag();
+    assertThat(read instanceof ID3v24Tag, is(true));
+    assertThat(read.getFirst(FieldKey.TITLE), is("Title"));
+    assertThat(((FrameBodyPRIV)((AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_PRIVATE)).getBody()).getData(),
+               is(privateData));
+    assertThat(mp3File.getID3v1Tag().getFirst(FieldKey.TITLE), is("V1 Title"));
+
+    // appending again replaces the appended tag, here with one of the same size
+    read.setField(FieldKey.TITLE, "Eltit");
+    mp3File.saveMp3();
+    assertThat(Files.size(testFile.toPath()), is((long)appended.length));
+    assertThat(new MP3File(testFile).getID3v2Tag().getFirst(FieldKey.TITLE), is("Eltit"));
+
+    // written in front of the audio the appended tag is removed
+    TagOptionSingleton.getInstance().setId3v2AppendTagWhenNoRoom(false);
+    mp3File = new MP3File(testFile);
+    mp3File.getID3v2Tag().removeFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+    mp3File.saveMp3();
+    assertThat(findAppendedTag(testFile), is(-1L));
+    mp3File = new MP3File(testFile);
+    assertThat(mp3File.getID3v2Tag().getFirst(FieldKey.TITLE), is("Eltit"));
+    assertThat(mp3File.getID3v1Tag().getFirst(FieldKey.TITLE), is("V1 Title"));
+    final long newAudioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+    assertThat(Files.size(testFile.toPath()), is(original.length - audioStart + newAudioStart + ID3v1Tag.TAG_LENGTH));
+  }
+
+  @Test public void testAppendEmptiesTagInFront() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("appendedtagfront.mp3"));
+    MP3File mp3File = new MP3File(testFile);
+    ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Front");
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+    mp3File = new MP3File(testFile);
+    final long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+
+    TagOptionSingleton.getInstance().setId3v2AppendTagWhenNoRoom(true);
+    tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Appended");
+    final ID3v24Frame frame = new ID3v24Frame(ID3v24Frames.FRAME_ID_PRIVATE);
+    frame.setBody(new FrameBodyPRIV("owner", new byte[(int)audioStart * 2]));
+    tag.setFrame(frame);
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+    assertThat(tag.isAppended(), is(true));
+
+    final MP3File read = new MP3File(testFile);
+    assertThat(read.getMP3AudioHeader().getMp3StartByte(), is(audioStart));
+    assertThat(read.getID3v2Tag().getFirst(FieldKey.TITLE), is("Appended"));
+    assertThat(findAppendedTag(testFile) > audioStart, is(true));
+
+    // the file saved the appended tag, so knows to remove it once the tag is written in front of the audio
+    TagOptionSingleton.getInstance().setId3v2AppendTagWhenNoRoom(false);
+    tag.removeFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+    mp3File.saveMp3();
+    assertThat(tag.isAppended(), is(false));
+    assertThat(findAppendedTag(testFile), is(-1L));
+    assertThat(new MP3File(testFile).getID3v2Tag().getFirst(FieldKey.TITLE), is("Appended"));
+  }
+
+  private static long findAppendedTag(File file) throws Exception {
+    try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+      return ID3v24Tag.findAppendedTag(new FileOperator(channel));
+    }
+  }
+}
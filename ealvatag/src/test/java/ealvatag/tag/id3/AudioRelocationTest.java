@@ -0,0 +1,122 @@
+package ealvatag.tag.id3;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for {@link AudioRelocation}
+ */
+public class AudioRelocationTest {
+  private static final int TAG_SIZE = 100;
+  private static final int AUDIO_SIZE = 10000;
+
+  @Rule public final TemporaryFolder tempDir = new TemporaryFolder();
+
+  private File file;
+  private byte[] original;
+
+  @Before public void setUp() throws Exception {
+    TagOptionSingleton.getInstance().setToDefault();
+    // smaller than the audio so it's moved in several chunks, larger than the move so each chunk overlaps where it came from
+    TagOptionSingleton.getInstance().setWriteChunkSize(3000);
+
+    original = new byte[TAG_SIZE + AUDIO_SIZE];
+    new Random(1).nextBytes(original);
+    System.arraycopy(AbstractID3v2Tag.TAG_ID, 0, original, 0, AbstractID3v2Tag.TAG_ID.length);
+    original[3] = ID3v23Tag.MAJOR_VERSION;
+    original[4] = 0;
+    original[5] = 0;
+    System.arraycopy(ID3SyncSafeInteger.valueToBuffer(TAG_SIZE - AbstractID3v2Tag.TAG_HEADER_LENGTH), 0, original, 6, 4);
+    file = tempDir.newFile("test.mp3");
+    Files.write(file.toPath(), original);
+  }
+
+  @After public void tearDown() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @Test public void testMove() throws Exception {
+    final int newAudioStart = TAG_SIZE + 1234;
+    try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+      AudioRelocation.move(file, channel, TAG_SIZE, newAudioStart, false);
+    }
+
+    final byte[] moved = Files.readAllBytes(file.toPath());
+    assertThat(moved.length, is(newAudioStart + AUDIO_SIZE));
+    assertThat(Arrays.copyOfRange(moved, newAudioStart, moved.length), is(Arrays.copyOfRange(original, TAG_SIZE, original.length)));
+    assertThat(Arrays.copyOfRange(moved, 0, TAG_SIZE), is(Arrays.copyOfRange(original, 0, TAG_SIZE)));
+    assertThat(new File(file.getPath() + ".id3move").exists(), is(false));
+  }
+
+  @Test public void testRecoverBeforeTagWritten() throws Exception {
+    final int newAudioStart = TAG_SIZE + 10;
+    try (FileChannel channel = new RandomAccessFile(file, "rw").getChannel()) {
+      AudioRelocation.move(file, channel, TAG_SIZE, newAudioStart, true);
+    }
+    // the journal is kept until the new tag has been written
+    final File journal = new File(file.getPath() + ".id3move");
+    assertThat(journal.exists(), is(true));
+
+    assertThat(AudioRelocation.recover(file), is((long)newAudioStart));
+    assertThat(journal.exists(), is(false));
+
+    final byte[] recovered = Files.readAllBytes(file.toPath());
+    assertThat(recovered.length, is(newAudioStart + AUDIO_SIZE));
+    assertThat(Arrays.copyOfRange(recovered, newAudioStart, recovered.length),
+               is(Arrays.copyOfRange(original, TAG_SIZE, original.length)));
+    // the gap is padding of the original tag
+    assertThat(Arrays.copyOfRange(recovered, TAG_SIZE, newAudioStart), is(new byte[newAudioStart - TAG_SIZE]));
+    assertThat(ID3SyncSafeInteger.bufferToValue(Arrays.copyOfRange(recovered, 6, 10)),
+               is(newAudioStart - AbstractID3v2Tag.TAG_HEADER_LENGTH));
+    assertThat(Arrays.copyOfRange(recovered, 10, TAG_SIZE), is(Arrays.copyOfRange(original, 10, TAG_SIZE)));
+
+    assertThat(AudioRelocation.recover(file), is(-1L));
+  }
+
+  @Test public void testRecoverUnstartedMove() throws Exception {
+    final File journal = new File(file.getPath() + ".id3move");
+    Files.write(journal.toPath(), new byte[3]);
+
+    assertThat(AudioRelocation.recover(file), is(0L));
+    assertThat(journal.exists(), is(false));
+    assertThat(Files.readAllBytes(file.toPath()), is(original));
+  }
+
+  @Test public void testRecoveredBySaveNotRead() throws Exception {
+    try {
+      final File mp3 = TestUtil.copyAudioToTmp("testV1.mp3", new File("relocation.mp3"));
+      final byte[] before = Files.readAllBytes(mp3.toPath());
+      final File journal = new File(mp3.getPath() + ".id3move");
+      Files.write(journal.toPath(), new byte[3]);
+
+      final AudioFile audioFile = AudioFileIO.read(mp3);
+      assertThat(journal.exists(), is(true));
+      assertThat(Files.readAllBytes(mp3.toPath()), is(before));
+
+      audioFile.getTagOrSetNewDefault().setField(FieldKey.TITLE, "Title");
+      audioFile.save();
+      assertThat(journal.exists(), is(false));
+      assertThat(AudioFileIO.read(mp3).getTag().get().getFirst(FieldKey.TITLE), is("Title"));
+    } finally {
+      TestUtil.deleteTestDataTemp();
+    }
+  }
+}
@@ -2,9 +2,14 @@ package ealvatag.tag.id3;
 
 import ealvatag.TestUtil;
 import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.TagOptionSingleton;
 import ealvatag.tag.id3.framebody.FrameBodyAPIC;
 import ealvatag.tag.id3.framebody.FrameBodyCOMM;
+import ealvatag.tag.id3.framebody.FrameBodyPRIV;
 import ealvatag.tag.id3.framebody.FrameBodyTIT2;
+import ealvatag.tag.id3.framebody.FrameBodyUSLT;
+import ealvatag.tag.id3.valuepair.TextEncoding;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -84,4 +89,85 @@ public class CompressedTest {
         Assert.assertEquals(27, v24tag.getFieldCount());
     }
 
+    /**
+     * Large frames are compressed on write when enabled, except artwork, and read back unchanged
+     */
+    @Test public void testv23TagWriteCompressedFrames() throws Exception {
+        testWriteCompressedFrames(new ID3v23Tag(), false);
+    }
+
+    /**
+     * v2.4 frames are compressed and then unsynchronized, the data length indicator holding the decompressed size
+     */
+    @Test public void testv24TagWriteCompressedUnsynchronizedFrames() throws Exception {
+        testWriteCompressedFrames(new ID3v24Tag(), true);
+    }
+
+    private void testWriteCompressedFrames(AbstractID3v2Tag tag, boolean unsync) throws Exception {
+        final StringBuilder lyrics = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            lyrics.append("This is line ").append(i).append(" of a song with a chorus that repeats\n");
+        }
+        final byte[] privateData = new byte[8192];
+        for (int i = 0; i < privateData.length; i++) {
+            privateData[i] = (byte)(i % 16 == 0 ? 0xFF : 0xE0 + i % 16);
+        }
+        final byte[] picture = new byte[8192];
+
+        final boolean v24 = tag instanceof ID3v24Tag;
+        AbstractID3v2Frame frame = v24 ? new ID3v24Frame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS)
+                                       : new ID3v23Frame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS);
+        frame.setBody(new FrameBodyUSLT(TextEncoding.ISO_8859_1, "eng", "", lyrics.toString()));
+        tag.setFrame(frame);
+        frame = v24 ? new ID3v24Frame(ID3v24Frames.FRAME_ID_PRIVATE) : new ID3v23Frame(ID3v24Frames.FRAME_ID_PRIVATE);
+        frame.setBody(new FrameBodyPRIV("owner", privateData));
+        tag.setFrame(frame);
+        frame = v24 ? new ID3v24Frame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE)
+                    : new ID3v23Frame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+        frame.setBody(new FrameBodyAPIC(TextEncoding.ISO_8859_1, "image/png", (byte)3, "", picture));
+        tag.setFrame(frame);
+        tag.setField(FieldKey.TITLE, "Title");
+
+        File testFile = TestUtil.copyAudioToTmp("01.mp3", new File("compressedwrite.mp3"));
+        final int previousThreshold = TagOptionSingleton.getInstance().getId3v2FrameCompressionThreshold();
+        final boolean previousUnsync = TagOptionSingleton.getInstance().isUnsyncTags();
+        try {
+            TagOptionSingleton.getInstance().setId3v2FrameCompressionThreshold(1024);
+            TagOptionSingleton.getInstance().setUnsyncTags(unsync);
+            MP3File mp3File = new MP3File(testFile);
+            mp3File.setID3v2Tag(tag);
+            mp3File.saveMp3();
+        } finally {
+            TagOptionSingleton.getInstance().setId3v2FrameCompressionThreshold(previousThreshold);
+            TagOptionSingleton.getInstance().setUnsyncTags(previousUnsync);
+        }
+
+        AbstractID3v2Tag read = new MP3File(testFile).getID3v2Tag();
+        Assert.assertEquals(tag.getClass(), read.getClass());
+        AbstractID3v2Frame lyricsFrame = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS);
+        AbstractID3v2Frame privateFrame = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_PRIVATE);
+        AbstractID3v2Frame pictureFrame = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE);
+        AbstractID3v2Frame titleFrame = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_TITLE);
+        Assert.assertTrue(isCompression(lyricsFrame));
+        //The private data repeats, it compresses so well that a reader would take the frame to be corrupt
+        Assert.assertFalse(isCompression(privateFrame));
+        Assert.assertFalse(isCompression(pictureFrame));
+        Assert.assertFalse(isCompression(titleFrame));
+        Assert.assertEquals(lyrics.toString(), ((FrameBodyUSLT)lyricsFrame.getBody()).getLyric());
+        Assert.assertArrayEquals(privateData, ((FrameBodyPRIV)privateFrame.getBody()).getData());
+        Assert.assertArrayEquals(picture, ((FrameBodyAPIC)pictureFrame.getBody()).getImageData());
+        Assert.assertEquals("Title", read.getFirst(FieldKey.TITLE));
+
+        //Compressed frames read back are decompressed, and only compressed again if enabled
+        MP3File mp3File = new MP3File(testFile);
+        mp3File.saveMp3();
+        read = new MP3File(testFile).getID3v2Tag();
+        Assert.assertFalse(isCompression((AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_UNSYNC_LYRICS)));
+        Assert.assertEquals(lyrics.toString(), read.getFirst(FieldKey.LYRICS));
+    }
+
+    private static boolean isCompression(AbstractID3v2Frame frame) {
+        return frame instanceof ID3v24Frame ? ((ID3v24Frame.EncodingFlags)frame.getEncodingFlags()).isCompression()
+                                            : ((ID3v23Frame.EncodingFlags)frame.getEncodingFlags()).isCompression();
+    }
 }
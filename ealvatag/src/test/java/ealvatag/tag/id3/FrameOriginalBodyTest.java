@@ -0,0 +1,93 @@
+package ealvatag.tag.id3;
+
+import com.google.common.io.Files;
+import com.google.common.primitives.Bytes;
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.ReadOptions;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.id3.valuepair.TextEncoding;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+
+/**
+ * Tests for frames written from the bytes they were read from, see {@link AbstractID3v2Frame#hasOriginalBody()}
+ */
+public class FrameOriginalBodyTest {
+  @After public void tearDown() {
+    TestUtil.deleteTestDataTemp();
+  }
+
+  @Test public void testUntouchedFrameWrittenFromOriginalBytes() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("01.mp3", new File("originalbody.mp3"));
+    MP3File mp3File = (MP3File)AudioFileIO.read(testFile);
+    final ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Title");
+    tag.setField(FieldKey.ARTIST, "Artist");
+    tag.setField(FieldKey.ALBUM, "Album");
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+
+    mp3File = (MP3File)AudioFileIO.read(testFile);
+    final AbstractID3v2Tag read = mp3File.getID3v2Tag();
+    final AbstractID3v2Frame artist = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_ARTIST);
+    final AbstractID3v2Frame title = (AbstractID3v2Frame)read.getFrame(ID3v24Frames.FRAME_ID_TITLE);
+    assertThat(artist.hasOriginalBody(), is(true));
+    assertThat(title.hasOriginalBody(), is(true));
+
+    assertThat(read.getFirst(FieldKey.TITLE), is("Title"));
+    assertThat(title.hasOriginalBody(), is(true));
+    assertThat(title.getBody(), is(title.getBody()));
+    assertThat(title.hasOriginalBody(), is(false));
+    assertThat(artist.hasOriginalBody(), is(true));
+
+    final ByteArrayOutputStream artistBytes = new ByteArrayOutputStream();
+    artist.write(artistBytes);
+    read.setField(FieldKey.ALBUM, "Changed");
+    mp3File.saveMp3();
+    assertThat(artist.hasOriginalBody(), is(true));
+    assertThat(Bytes.indexOf(Files.toByteArray(testFile), artistBytes.toByteArray()) > 0, is(true));
+
+    final AbstractID3v2Tag saved = ((MP3File)AudioFileIO.read(testFile)).getID3v2Tag();
+    assertThat(saved.getFirst(FieldKey.TITLE), is("Title"));
+    assertThat(saved.getFirst(FieldKey.ARTIST), is("Artist"));
+    assertThat(saved.getFirst(FieldKey.ALBUM), is("Changed"));
+
+    final AbstractID3v2Tag lazy = ((MP3File)AudioFileIO.read(testFile, ReadOptions.builder().lazyFrames(true).build())).getID3v2Tag();
+    final AbstractID3v2Frame lazyTitle = (AbstractID3v2Frame)lazy.getFrame(ID3v24Frames.FRAME_ID_TITLE);
+    assertThat(lazyTitle.isBodyLoaded(), is(false));
+    assertThat(lazy.getFirst(FieldKey.TITLE), is("Title"));
+    assertThat(lazyTitle.isBodyLoaded(), is(true));
+    assertThat(lazyTitle.hasOriginalBody(), is(true));
+  }
+
+  @Test public void testUntouchedFrameWithInvalidEncodingIsEncodedAgain() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("Issue109.id3", "testV1.mp3");
+    MP3File mp3File = new MP3File(testFile);
+    final ID3v23Frame artist = (ID3v23Frame)mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_ARTIST);
+    assertThat(artist.hasOriginalBody(), is(true));
+    mp3File.saveMp3();
+
+    mp3File = new MP3File(testFile);
+    final ID3v23Frame saved = (ID3v23Frame)mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_ARTIST);
+    assertThat(saved.getBody().getTextEncoding(), not(TextEncoding.UTF_8));
+
+    final File lazyFile = TestUtil.copyAudioToTmp("Issue109.id3", "testV1.mp3");
+    mp3File = (MP3File)AudioFileIO.read(lazyFile, ReadOptions.builder().lazyFrames(true).build());
+    final ID3v23Frame lazyArtist = (ID3v23Frame)mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_ARTIST);
+    assertThat(lazyArtist.isBodyLoaded(), is(false));
+    mp3File.saveMp3();
+
+    mp3File = new MP3File(lazyFile);
+    final ID3v23Frame lazySaved = (ID3v23Frame)mp3File.getID3v2Tag().getFrame(ID3v23Frames.FRAME_ID_V3_ARTIST);
+    assertThat(lazySaved.getBody().getTextEncoding(), not(TextEncoding.UTF_8));
+  }
+}
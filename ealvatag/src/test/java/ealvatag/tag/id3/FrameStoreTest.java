@@ -0,0 +1,100 @@
+package ealvatag.tag.id3;
+
+import ealvatag.tag.FieldKey;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for {@link FrameStore}
+ */
+public class FrameStoreTest {
+  @Test public void testPackedIds() {
+    assertThat(PackedFrameId.pack("TIT2"), is(0x54495432));
+    assertThat(PackedFrameId.pack("TT2"), is(0x545432));
+    assertThat(PackedFrameId.pack("TCO"), not(PackedFrameId.pack("TCON")));
+    assertThat(PackedFrameId.pack(TyerTdatAggregatedFrame.ID_TYER_TDAT), is(PackedFrameId.NOT_PACKED));
+    assertThat(PackedFrameId.pack("TéT2"), is(PackedFrameId.NOT_PACKED));
+  }
+
+  @Test public void testBehavesAsLinkedHashMap() {
+    final FrameStore store = new FrameStore();
+    final Map<String, Object> expected = new LinkedHashMap<>();
+    for (String id : Arrays.asList("TIT2", "TPE1", "TT2", "TXXX", TyerTdatAggregatedFrame.ID_TYER_TDAT, "APIC", "TALB")) {
+      assertThat(store.put(id, id + 1), is(expected.put(id, id + 1)));
+    }
+    for (int i = 0; i < 40; i++) {
+      final String id = String.format("X%03d", i);
+      assertThat(store.put(id, i), is(expected.put(id, i)));
+    }
+    assertThat(store.put("TPE1", "replaced"), is(expected.put("TPE1", "replaced")));
+    assertThat(store.put(TyerTdatAggregatedFrame.ID_TYER_TDAT, "replaced"),
+               is(expected.put(TyerTdatAggregatedFrame.ID_TYER_TDAT, "replaced")));
+    assertThat(store.remove("TT2"), is(expected.remove("TT2")));
+    assertThat(store.remove("TT2"), nullValue());
+    assertThat(store.remove(7), nullValue());
+
+    assertThat(store.size(), is(expected.size()));
+    assertThat(new ArrayList<>(store.keySet()), is((List<String>)new ArrayList<>(expected.keySet())));
+    assertThat(new ArrayList<>(store.values()), is(new ArrayList<>(expected.values())));
+    assertThat(store.equals(expected), is(true));
+    assertThat(expected.equals(store), is(true));
+    assertThat(store.hashCode(), is(expected.hashCode()));
+    assertThat(store.get("TPE1"), is((Object)"replaced"));
+    assertThat(store.containsKey(TyerTdatAggregatedFrame.ID_TYER_TDAT), is(true));
+    assertThat(store.containsKey("TT2"), is(false));
+
+    store.clear();
+    assertThat(store.isEmpty(), is(true));
+    assertThat(store.get("TIT2"), nullValue());
+  }
+
+  @Test public void testIteratorRemove() {
+    final FrameStore store = new FrameStore();
+    store.put("TIT2", 1);
+    store.put("TPE1", 2);
+    store.put("TALB", 3);
+    final Iterator<String> iterator = store.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().startsWith("TP")) {
+        iterator.remove();
+      }
+    }
+    assertThat(new ArrayList<>(store.keySet()), is(Arrays.asList("TIT2", "TALB")));
+
+    final Iterator<Map.Entry<String, Object>> entries = store.entrySet().iterator();
+    entries.next().setValue(10);
+    assertThat(store.get("TIT2"), is((Object)10));
+  }
+
+  @Test(expected = ConcurrentModificationException.class) public void testModificationDuringIteration() {
+    final FrameStore store = new FrameStore();
+    store.put("TIT2", 1);
+    store.put("TPE1", 2);
+    for (String key : store.keySet()) {
+      store.remove(key);
+    }
+  }
+
+  @Test public void testTagFrameMap() throws Exception {
+    final ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Title");
+    final Map<String, Object> frames = tag.getFrameMap();
+    assertThat(frames.containsKey(ID3v24Frames.FRAME_ID_TITLE), is(true));
+    assertThat(frames.get(ID3v24Frames.FRAME_ID_TITLE), is(tag.getFrame(ID3v24Frames.FRAME_ID_TITLE)));
+
+    frames.remove(ID3v24Frames.FRAME_ID_TITLE);
+    assertThat(tag.hasFrame(ID3v24Frames.FRAME_ID_TITLE), is(false));
+  }
+}
@@ -26,6 +26,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.io.IOException;
+import java.util.Random;
 
 /**
  * Test synchronizing of unsynchronized {@link Buffer} of ID3 data
@@ -126,6 +127,46 @@ public class Id3SynchronizingSinkTest {
         testSynchronization(input, expected);
     }
 
+    @Test
+    public void transformAcrossWrites() throws Exception {
+        sourceBuffer.write(new byte[]{BLAH, FF});
+        syncSink.write(sourceBuffer, 2);
+        sourceBuffer.write(new byte[]{ZERO, BLAH, FF});
+        syncSink.write(sourceBuffer, 3);
+        sourceBuffer.write(new byte[]{FF, ZERO});
+        syncSink.write(sourceBuffer, 2);
+        syncSink.close();
+        assertThat(destBuffer.readByteArray(), is(equalTo(new byte[]{BLAH, FF, BLAH, FF, FF})));
+    }
+
+    @Test
+    public void synchronizeBufferKeepsTrailingFF() throws Exception {
+        final Buffer buffer = new Buffer().write(new byte[]{BLAH, FF, ZERO, FF});
+        assertThat(Id3SynchronizingSink.synchronizeBuffer(buffer).readByteArray(), is(equalTo(new byte[]{BLAH, FF, FF})));
+    }
+
+    @Test
+    public void unsynchronize() throws Exception {
+        final byte[] input = {FF, (byte)0xE0, BLAH, FF, ZERO, FF, BLAH, FF};
+        final byte[] expected = {FF, ZERO, (byte)0xE0, BLAH, FF, ZERO, ZERO, FF, BLAH, FF, ZERO};
+        assertThat(ID3Unsynchronization.unsynchronize(input), is(equalTo(expected)));
+        assertThat(ID3Unsynchronization.unsynchronize(new byte[0]), is(equalTo(new byte[0])));
+    }
+
+    @Test
+    public void roundTripLargeBuffer() throws Exception {
+        // larger than several okio segments with many $FF bytes
+        final byte[] input = new byte[100000];
+        new Random(1).nextBytes(input);
+        for (int i = 0; i < input.length; i += 7) {
+            input[i] = FF;
+        }
+        final byte[] unsynchronized = ID3Unsynchronization.unsynchronize(input);
+        assertThat(ID3Unsynchronization.requiresUnsynchronization(unsynchronized), is(false));
+        final Buffer synchronizedBuffer = Id3SynchronizingSink.synchronizeBuffer(new Buffer().write(unsynchronized));
+        assertThat(synchronizedBuffer.readByteArray(), is(equalTo(input)));
+    }
+
     private void testSynchronization(byte[] input, byte[] expectedOutput) throws IOException {
         sourceBuffer.write(input);
         sourceBuffer.readAll(syncSink);
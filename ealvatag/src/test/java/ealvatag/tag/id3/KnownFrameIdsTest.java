@@ -0,0 +1,45 @@
+package ealvatag.tag.id3;
+
+import okio.Buffer;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link KnownFrameIds}
+ */
+public class KnownFrameIdsTest {
+  @Test public void testKnownFrameIdReadAsConstant() throws Exception {
+    final Buffer buffer = new Buffer().writeUtf8("TIT2").writeInt(10);
+    assertThat(KnownFrameIds.read(buffer, 4), sameInstance(ID3v24Frames.FRAME_ID_TITLE));
+    assertThat(buffer.size(), is(4L));
+
+    final Buffer v22 = new Buffer().writeUtf8("TT2");
+    assertThat(KnownFrameIds.read(v22, 3), sameInstance(ID3v22Frames.FRAME_ID_V2_TITLE));
+    assertThat(v22.size(), is(0L));
+
+    final Buffer chapter = new Buffer().writeUtf8("CHAP");
+    assertThat(KnownFrameIds.read(chapter, 4), sameInstance(ID3v2ChapterFrames.FRAME_ID_CHAPTER));
+  }
+
+  @Test public void testUnknownFrameIdNotConsumed() throws Exception {
+    final Buffer buffer = new Buffer().writeUtf8("ZZZZ");
+    assertThat(KnownFrameIds.read(buffer, 4), nullValue());
+    assertThat(buffer.size(), is(4L));
+
+    final Buffer padding = new Buffer().write(new byte[4]);
+    assertThat(PackedFrameId.pack(padding, 4), is(PackedFrameId.NOT_PACKED));
+    assertThat(KnownFrameIds.read(padding, 4), nullValue());
+
+    final Buffer tooShort = new Buffer().writeUtf8("TI");
+    assertThat(KnownFrameIds.read(tooShort, 4), nullValue());
+  }
+
+  @Test public void testPackedBufferMatchesPackedString() throws Exception {
+    assertThat(PackedFrameId.pack(new Buffer().writeUtf8("APIC"), 4), is(PackedFrameId.pack(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE)));
+    assertThat(PackedFrameId.pack(new Buffer().writeUtf8("TIT2"), 3), is(PackedFrameId.pack("TIT")));
+  }
+}
@@ -0,0 +1,67 @@
+package ealvatag.tag.id3;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests for {@link TagBodyOutputStream}
+ */
+public class TagBodyOutputStreamTest {
+  @Test public void testMatchesByteArrayOutputStream() throws Exception {
+    final Random random = new Random(1);
+    final TagBodyOutputStream stream = new TagBodyOutputStream();
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    for (int length : new int[]{10, 1, 5000, 3, 8190, 70000, 0, 4095, 20}) {
+      final byte[] bytes = new byte[length + 4];
+      random.nextBytes(bytes);
+      stream.write(bytes, 2, length);
+      expected.write(bytes, 2, length);
+      stream.write(length);
+      expected.write(length);
+    }
+
+    assertThat(stream.size(), is(expected.size()));
+    assertThat(stream.toByteArray(), is(expected.toByteArray()));
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (ByteBuffer buffer : stream.buffers()) {
+      out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    assertThat(out.toByteArray(), is(expected.toByteArray()));
+
+    // buffers can be fetched again after being consumed
+    assertThat(stream.toByteArray(), is(expected.toByteArray()));
+
+    stream.reset();
+    assertThat(stream.size(), is(0));
+    assertThat(stream.toByteArray().length, is(0));
+  }
+
+  @Test public void testWriteTag() throws Exception {
+    final TagBodyOutputStream body = new TagBodyOutputStream();
+    final byte[] frame = new byte[10000];
+    Arrays.fill(frame, (byte)1);
+    body.write(new byte[]{2, 3});
+    body.write(frame);
+
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final WritableByteChannel channel = Channels.newChannel(out);
+    final int padding = 200 * 1024;
+    AbstractID3v2Tag.writeTag(channel, ByteBuffer.wrap(new byte[]{'I', 'D', '3'}), body, padding);
+
+    final byte[] written = out.toByteArray();
+    assertThat(written.length, is(3 + 2 + frame.length + padding));
+    assertThat(Arrays.copyOfRange(written, 0, 5), is(new byte[]{'I', 'D', '3', 2, 3}));
+    assertThat(Arrays.copyOfRange(written, 5, 5 + frame.length), is(frame));
+    assertThat(Arrays.copyOfRange(written, 5 + frame.length, written.length), is(new byte[padding]));
+  }
+}
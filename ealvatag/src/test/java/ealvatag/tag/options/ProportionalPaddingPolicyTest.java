@@ -0,0 +1,98 @@
+package ealvatag.tag.options;
+
+import ealvatag.TestUtil;
+import ealvatag.audio.AudioFile;
+import ealvatag.audio.AudioFileIO;
+import ealvatag.audio.TagWriteStatistics;
+import ealvatag.audio.mp3.MP3File;
+import ealvatag.tag.FieldKey;
+import ealvatag.tag.NullTag;
+import ealvatag.tag.TagOptionSingleton;
+import ealvatag.tag.id3.ID3v24Tag;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.File;
+
+/**
+ * Tests for {@link ProportionalPaddingPolicy}
+ */
+public class ProportionalPaddingPolicyTest {
+  @Before public void setUp() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @After public void tearDown() {
+    TagOptionSingleton.getInstance().setToDefault();
+  }
+
+  @Test public void testPadding() {
+    final PaddingPolicy policy = ProportionalPaddingPolicy.builder().percent(10).minimum(100).maximum(5000).build();
+    assertThat(policy.getPadding(0), is(100));
+    assertThat(policy.getPadding(20000), is(2000));
+    assertThat(policy.getPadding(1000000), is(5000));
+  }
+
+  @Test public void testPaddingRoundedToBlockSize() {
+    final PaddingPolicy policy = ProportionalPaddingPolicy.builder().percent(0).minimum(0).maximum(0).blockSize(4096).build();
+    assertThat(policy.getPadding(0), is(0));
+    assertThat(policy.getPadding(1), is(4095));
+    assertThat(policy.getPadding(4096), is(0));
+    assertThat(policy.getPadding(5000), is(8192 - 5000));
+
+    final PaddingPolicy withMinimum = ProportionalPaddingPolicy.builder().percent(0).minimum(1000).blockSize(4096).build();
+    assertThat(withMinimum.getPadding(4000), is(8192 - 4000));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testMinimumGreaterThanMaximum() {
+    ProportionalPaddingPolicy.builder().minimum(10).maximum(5).build();
+  }
+
+  @Test public void testId3v2AudioMovedToBlockBoundary() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("testV1.mp3", new File("paddingpolicy.mp3"));
+    TagOptionSingleton.getInstance().setPaddingPolicy(ProportionalPaddingPolicy.builder().blockSize(4096).build());
+    TagWriteStatistics.reset();
+
+    MP3File mp3File = new MP3File(testFile);
+    final ID3v24Tag tag = new ID3v24Tag();
+    tag.setField(FieldKey.TITLE, "Title");
+    mp3File.setID3v2Tag(tag);
+    mp3File.saveMp3();
+    assertThat(TagWriteStatistics.getMovedCount(TagWriteStatistics.Kind.ID3V2), is(1L));
+
+    mp3File = new MP3File(testFile);
+    final long audioStart = mp3File.getMP3AudioHeader().getMp3StartByte();
+    assertThat(audioStart % 4096, is(0L));
+    // at least the minimum padding was left so a slightly longer title fits in place
+    assertThat(audioStart >= 1024, is(true));
+
+    mp3File.getID3v2Tag().setField(FieldKey.TITLE, "A Longer Title");
+    mp3File.saveMp3();
+    assertThat(TagWriteStatistics.getMovedCount(TagWriteStatistics.Kind.ID3V2), is(1L));
+    assertThat(TagWriteStatistics.getInPlaceCount(TagWriteStatistics.Kind.ID3V2), is(1L));
+    assertThat(new MP3File(testFile).getMP3AudioHeader().getMp3StartByte(), is(audioStart));
+  }
+
+  @Test public void testMp4PaddingLeftWhenUdtaCreated() throws Exception {
+    final File testFile = TestUtil.copyAudioToTmp("test41.m4a", new File("paddingpolicy.m4a"));
+    TagOptionSingleton.getInstance().setPaddingPolicy(ProportionalPaddingPolicy.builder().minimum(1024).build());
+    TagWriteStatistics.reset();
+
+    AudioFile audioFile = AudioFileIO.read(testFile);
+    audioFile.getTag().or(NullTag.INSTANCE).setField(FieldKey.TITLE, "Title");
+    audioFile.save();
+    assertThat(TagWriteStatistics.getMovedCount(TagWriteStatistics.Kind.MP4), is(1L));
+
+    audioFile = AudioFileIO.read(testFile);
+    assertThat(audioFile.getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE), is("Title"));
+    audioFile.getTag().or(NullTag.INSTANCE).setField(FieldKey.TITLE, "A Longer Title");
+    audioFile.save();
+    assertThat(TagWriteStatistics.getMovedCount(TagWriteStatistics.Kind.MP4), is(1L));
+    assertThat(TagWriteStatistics.getInPlaceCount(TagWriteStatistics.Kind.MP4), is(1L));
+    assertThat(AudioFileIO.read(testFile).getTag().or(NullTag.INSTANCE).getFirst(FieldKey.TITLE), is("A Longer Title"));
+  }
+}